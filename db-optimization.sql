@@ -31,6 +31,32 @@ ON exchange_rate_history(currency_code, base_date DESC);
 CREATE INDEX idx_exchange_rates_latest
 ON exchange_rates(currency_code, created_at DESC);
 
+-- 통화/기준일 유니크 키 (일괄 upsert의 ON DUPLICATE KEY 기준)
+-- ⚠️ 애플리케이션 배포 전에 실행 (중복 행이 남아 있으면 유니크 키 추가가 실패하고 upsert가 행을 계속 추가함)
+-- 1) 통화/기준일이 같은 행 중 가장 최근에 저장된 행(id 최대)만 남기고 삭제
+DELETE older FROM exchange_rates older
+JOIN exchange_rates newer
+  ON newer.currency_code = older.currency_code
+ AND newer.base_date = older.base_date
+ AND newer.id > older.id;
+
+DELETE older FROM exchange_rate_history older
+JOIN exchange_rate_history newer
+  ON newer.currency_code = older.currency_code
+ AND newer.base_date = older.base_date
+ AND newer.id > older.id;
+
+-- 2) 유니크 키 추가 (엔티티의 uk_exchange_rates_currency_date, uk_history_currency_date와 같은 이름)
+ALTER TABLE exchange_rates
+  ADD CONSTRAINT uk_exchange_rates_currency_date UNIQUE (currency_code, base_date);
+
+ALTER TABLE exchange_rate_history
+  ADD CONSTRAINT uk_history_currency_date UNIQUE (currency_code, base_date);
+
+-- 3) 유니크 키와 컬럼이 같은 기존 인덱스 제거
+ALTER TABLE exchange_rates DROP INDEX idx_currency_date;
+ALTER TABLE exchange_rate_history DROP INDEX idx_currency_date;
+
 -- ========================================
 -- 3. 사용자 테이블 최적화
 -- ========================================
@@ -0,0 +1,113 @@
+package com.swyp.api_server.domain.rate.policy;
+
+import com.swyp.api_server.domain.rate.dto.request.ExchangeCalculationRequestDTO;
+import com.swyp.api_server.entity.BankExchangeInfo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 환전 계산 엔진 벤치마크 (은행 수 x 입력 금액 x 환전 방향)
+ * - bigDecimal: BigDecimal 기준 구현 (은행마다 스프레드/우대율/수수료 전체 계산)
+ * - fixedPoint: 고정소수점 계산 (long 범위 초과 시 BigDecimal 대체 포함)
+ * - preparedBigDecimal / preparedFixedPoint: 적용 환율표처럼 은행별 최종 환율을 미리 계산해 두고 수수료/금액만 계산
+ * - 가장 큰 금액은 고정소수점 계산 중 long 범위를 넘으므로 BigDecimal 대체 경로 비용 확인용
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ExchangeCalculationBenchmark {
+
+    @Param({"1", "8", "32"})
+    public int bankCount;
+
+    @Param({"1000", "1500000.50", "99999999999999.99"})
+    public String amount;
+
+    @Param({"KRW_TO_FOREIGN", "FOREIGN_TO_KRW"})
+    public ExchangeCalculationRequestDTO.ExchangeDirection direction;
+
+    private final BigDecimal baseRate = new BigDecimal("1385.5000");
+
+    private ExchangeCalculationPolicy bigDecimalPolicy;
+    private ExchangeCalculationPolicy fixedPointPolicy;
+    private BigDecimal inputAmount;
+    private List<BankExchangeInfo> banks;
+    private List<AppliedRateTable.AppliedRate> bigDecimalRates;
+    private List<AppliedRateTable.AppliedRate> fixedPointRates;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        bigDecimalPolicy = new ExchangeCalculationPolicy();
+        fixedPointPolicy = new ExchangeCalculationPolicy();
+        Field fixedPointEnabled = ExchangeCalculationPolicy.class.getDeclaredField("fixedPointEnabled");
+        fixedPointEnabled.setAccessible(true);
+        fixedPointEnabled.setBoolean(fixedPointPolicy, true);
+
+        inputAmount = new BigDecimal(amount);
+        Random random = new Random(42L);
+        banks = new ArrayList<>(bankCount);
+        bigDecimalRates = new ArrayList<>(bankCount);
+        fixedPointRates = new ArrayList<>(bankCount);
+        for (int i = 0; i < bankCount; i++) {
+            BankExchangeInfo bank = BankExchangeInfo.builder()
+                    .bankName("은행" + i)
+                    .bankCode("B" + i)
+                    .spreadRate(BigDecimal.valueOf(50 + random.nextInt(200), 2))
+                    .preferentialRate(BigDecimal.valueOf(random.nextInt(9_001), 2))
+                    .fixedFee(BigDecimal.valueOf(random.nextInt(500_001), 2))
+                    .feeRate(BigDecimal.valueOf(random.nextInt(51), 2))
+                    .minAmount(new BigDecimal("0.00"))
+                    .maxAmount(new BigDecimal("9999999999.99"))
+                    .isOnlineAvailable(true)
+                    .build();
+            banks.add(bank);
+
+            BigDecimal finalRate = bigDecimalPolicy.calculateFinalRate(baseRate, direction, bank);
+            bigDecimalRates.add(new AppliedRateTable.AppliedRate(bank, finalRate, null));
+            fixedPointRates.add(new AppliedRateTable.AppliedRate(bank, finalRate,
+                    FixedPointExchangeCalculator.prepare(baseRate, direction, bank)));
+        }
+    }
+
+    @Benchmark
+    public void bigDecimal(Blackhole blackhole) {
+        for (BankExchangeInfo bank : banks) {
+            blackhole.consume(bigDecimalPolicy.calculateWithBigDecimal(baseRate, inputAmount, direction, bank));
+        }
+    }
+
+    @Benchmark
+    public void fixedPoint(Blackhole blackhole) {
+        for (BankExchangeInfo bank : banks) {
+            blackhole.consume(fixedPointPolicy.calculate(baseRate, inputAmount, direction, bank));
+        }
+    }
+
+    @Benchmark
+    public void preparedBigDecimal(Blackhole blackhole) {
+        for (AppliedRateTable.AppliedRate appliedRate : bigDecimalRates) {
+            blackhole.consume(bigDecimalPolicy.calculate(appliedRate, inputAmount, direction));
+        }
+    }
+
+    @Benchmark
+    public void preparedFixedPoint(Blackhole blackhole) {
+        for (AppliedRateTable.AppliedRate appliedRate : fixedPointRates) {
+            blackhole.consume(fixedPointPolicy.calculate(appliedRate, inputAmount, direction));
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.swyp.api_server.domain.rate.provider;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.swyp.api_server.common.constants.Constants;
+import com.swyp.api_server.domain.rate.ExchangeList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 수출입은행 응답 파싱 벤치마크 (고시 응답과 같은 23개 항목, 지원 통화 12개 조회)
+ * - treeScan: 스트리밍 파싱 도입 전 방식 (readTree 후 통화마다 배열 전체 순회 + cur_unit 정규식 치환)
+ * - streamingIndex: KoreaEximResponse.parse 한 번으로 통화 단위 색인 생성 후 조회
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class KoreaEximParseBenchmark {
+
+    private static final String[][] ITEMS = {
+        {"AED", "377.88"}, {"AUD", "906.54"}, {"BHD", "3,681.47"}, {"BND", "1,081.93"}, {"CAD", "1,007.29"},
+        {"CHF", "1,727.35"}, {"CNH", "193.32"}, {"DKK", "216.79"}, {"EUR", "1,617.83"}, {"GBP", "1,866.4"},
+        {"HKD", "176.78"}, {"IDR(100)", "8.52"}, {"JPY(100)", "939.56"}, {"KRW", "1"}, {"KWD", "4,541.23"},
+        {"MYR", "328.76"}, {"NOK", "137.2"}, {"NZD", "826.13"}, {"SAR", "369.95"}, {"SEK", "145.02"},
+        {"SGD", "1,081.93"}, {"THB", "42.87"}, {"USD", "1,387.9"}
+    };
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private byte[] body;
+
+    @Setup
+    public void setUp() throws IOException {
+        ArrayNode items = objectMapper.createArrayNode();
+        for (String[] item : ITEMS) {
+            ObjectNode node = items.addObject();
+            node.put("result", 1);
+            node.put("cur_unit", item[0]);
+            node.put("ttb", item[1]);
+            node.put("tts", item[1]);
+            node.put("deal_bas_r", item[1]);
+            node.put("bkpr", item[1]);
+            node.put("yy_efee_r", "0");
+            node.put("ten_dd_efee_r", "0");
+            node.put("kftc_bkpr", item[1]);
+            node.put("kftc_deal_bas_r", item[1]);
+            node.put("cur_nm", item[0]);
+        }
+        body = objectMapper.writeValueAsBytes(items);
+    }
+
+    @Benchmark
+    public void treeScan(Blackhole blackhole) throws IOException {
+        JsonNode response = objectMapper.readTree(body);
+        for (ExchangeList.ExchangeType currency : ExchangeList.ExchangeType.values()) {
+            JsonNode item = findCurrency(response, toKoreaEximCode(currency.getCode()));
+            if (item != null) {
+                blackhole.consume(new BigDecimal(item.get("deal_bas_r").asText().replace(",", "")));
+            }
+        }
+    }
+
+    @Benchmark
+    public void streamingIndex(Blackhole blackhole) throws IOException {
+        KoreaEximResponse response = KoreaEximResponse.parse(objectMapper.getFactory(), new ByteArrayInputStream(body));
+        for (ExchangeList.ExchangeType currency : ExchangeList.ExchangeType.values()) {
+            blackhole.consume(response.rateOf(toKoreaEximCode(currency.getCode())));
+        }
+    }
+
+    /**
+     * 스트리밍 파싱 도입 전 통화 조회 (통화마다 배열 전체 순회)
+     */
+    private static JsonNode findCurrency(JsonNode response, String currencyCode) {
+        for (JsonNode item : response) {
+            String curUnit = item.get("cur_unit").asText().replaceAll("\\(.*\\)", "").trim();
+            if (curUnit.equalsIgnoreCase(currencyCode)) {
+                return item;
+            }
+        }
+        return null;
+    }
+
+    private static String toKoreaEximCode(String currencyCode) {
+        return "CNY".equals(currencyCode) ? Constants.Exchange.CNH_CODE : currencyCode;
+    }
+}
@@ -0,0 +1,157 @@
+package com.swyp.api_server.domain.rate.snapshot;
+
+import com.swyp.api_server.common.util.ContentHash;
+import com.swyp.api_server.domain.rate.ExchangeList;
+import com.swyp.api_server.domain.rate.dto.response.ExchangeChartResponseDTO;
+import com.swyp.api_server.domain.rate.entity.ExchangeRateHistory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 차트 시계열 재계산 벤치마크 (12개 통화 x 최근 1년 평일 히스토리)
+ * - entityWindows: 컬럼 저장소 도입 전 방식 (통화별 ExchangeRateHistory 엔티티 목록을 기간마다 순회 + 내용 해시)
+ * - columnWindows: 현재 방식 (ChartSeriesStore.buildWindows, 컬럼 이진 탐색)
+ * - columnsFromEntities: 전체 재적재 시 엔티티 → 컬럼 변환 비용
+ * - DB 조회/엔티티 생성(하이드레이션) 비용은 포함하지 않음 (두 방식 모두 메모리 목록에서 시작)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ChartSeriesBenchmark {
+
+    private static final int[] WINDOWS = {7, 30, 90, 180, 365};
+    private static final int FALLBACK_WINDOW = 7;
+    private static final DateTimeFormatter CHART_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private LocalDate today;
+    private Map<String, List<ExchangeRateHistory>> historiesByCurrency;
+    private Map<String, RateHistoryColumns> columnsByCurrency;
+
+    @Setup
+    public void setUp() {
+        today = LocalDate.now();
+        historiesByCurrency = new HashMap<>();
+        columnsByCurrency = new HashMap<>();
+
+        Random random = new Random(42L);
+        for (ExchangeList.ExchangeType type : ExchangeList.ExchangeType.values()) {
+            List<ExchangeRateHistory> histories = new ArrayList<>();
+            RateHistoryColumns.Builder builder = new RateHistoryColumns.Builder();
+            long rate = 10_000L + random.nextInt(20_000_000);
+            for (int offset = WINDOWS[WINDOWS.length - 1]; offset >= 1; offset--) {
+                LocalDate baseDate = today.minusDays(offset);
+                if (!isBusinessDay(baseDate)) {
+                    continue;
+                }
+                rate = Math.max(1L, rate + random.nextInt(20_001) - 10_000);
+                BigDecimal exchangeRate = BigDecimal.valueOf(rate, RateHistoryColumns.RATE_SCALE);
+                histories.add(ExchangeRateHistory.builder()
+                        .currencyCode(type.getCode())
+                        .currencyName(type.getLabel())
+                        .exchangeRate(exchangeRate)
+                        .baseDate(baseDate)
+                        .build());
+                builder.add((int) baseDate.toEpochDay(), RateHistoryColumns.toFixed(exchangeRate));
+            }
+            historiesByCurrency.put(type.getCode(), histories);
+            columnsByCurrency.put(type.getCode(), builder.build());
+        }
+    }
+
+    @Benchmark
+    public void entityWindows(Blackhole blackhole) {
+        long hash = ContentHash.update(ContentHash.start(), today.toString());
+        for (Map.Entry<String, List<ExchangeRateHistory>> entry : historiesByCurrency.entrySet()) {
+            blackhole.consume(buildEntityWindows(entry.getValue()));
+            hash = hashHistories(hash, entry.getKey(), entry.getValue());
+        }
+        blackhole.consume(ContentHash.finish(hash));
+    }
+
+    @Benchmark
+    public void columnWindows(Blackhole blackhole) {
+        for (RateHistoryColumns columns : columnsByCurrency.values()) {
+            blackhole.consume(ChartSeriesStore.buildWindows(columns, today));
+        }
+    }
+
+    @Benchmark
+    public void columnsFromEntities(Blackhole blackhole) {
+        for (List<ExchangeRateHistory> histories : historiesByCurrency.values()) {
+            RateHistoryColumns.Builder builder = new RateHistoryColumns.Builder();
+            for (ExchangeRateHistory history : histories) {
+                builder.add((int) history.getBaseDate().toEpochDay(), RateHistoryColumns.toFixed(history.getExchangeRate()));
+            }
+            blackhole.consume(builder.build());
+        }
+    }
+
+    /**
+     * 컬럼 저장소 도입 전 기간별 시계열 생성 (엔티티 목록을 기간마다 전체 순회)
+     */
+    private Map<Integer, List<ExchangeChartResponseDTO>> buildEntityWindows(List<ExchangeRateHistory> histories) {
+        Map<Integer, List<ExchangeChartResponseDTO>> raw = new HashMap<>();
+        for (int window : WINDOWS) {
+            raw.put(window, sliceEntityWindow(histories, window));
+        }
+
+        Map<Integer, List<ExchangeChartResponseDTO>> windows = new HashMap<>();
+        for (int window : WINDOWS) {
+            List<ExchangeChartResponseDTO> chartData = raw.get(window);
+            int expectedMinData = Math.max(7, (int) (window * 0.5));
+            if (chartData.size() < expectedMinData && window > FALLBACK_WINDOW) {
+                chartData = raw.get(FALLBACK_WINDOW);
+            }
+            windows.put(window, chartData);
+        }
+        return windows;
+    }
+
+    private List<ExchangeChartResponseDTO> sliceEntityWindow(List<ExchangeRateHistory> histories, int window) {
+        LocalDate startDate = today.minusDays(window);
+        List<ExchangeChartResponseDTO> chartData = new ArrayList<>();
+        for (ExchangeRateHistory history : histories) {
+            LocalDate baseDate = history.getBaseDate();
+            if (baseDate.isBefore(startDate) || !isBusinessDay(baseDate)) {
+                continue;
+            }
+            chartData.add(ExchangeChartResponseDTO.builder()
+                    .date(baseDate.format(CHART_DATE_FORMAT))
+                    .rate(history.getExchangeRate())
+                    .timestamp(baseDate.atStartOfDay())
+                    .build());
+        }
+        return List.copyOf(chartData);
+    }
+
+    private long hashHistories(long hash, String currencyCode, List<ExchangeRateHistory> histories) {
+        hash = ContentHash.update(hash, currencyCode);
+        for (ExchangeRateHistory history : histories) {
+            hash = ContentHash.update(hash, history.getBaseDate().toString());
+            hash = ContentHash.update(hash, history.getExchangeRate().stripTrailingZeros().toPlainString());
+        }
+        return hash;
+    }
+
+    private static boolean isBusinessDay(LocalDate date) {
+        DayOfWeek dayOfWeek = date.getDayOfWeek();
+        return dayOfWeek != DayOfWeek.SATURDAY && dayOfWeek != DayOfWeek.SUNDAY;
+    }
+}
@@ -24,6 +24,17 @@ public final class Constants {
         public static final String KOREA_EXIM_BASE_URL = "https://oapi.koreaexim.go.kr/site/program/financial/exchangeJSON";
         public static final String KOREA_EXIM_DATA_CODE = "AP01";
         public static final int KOREA_EXIM_DAILY_LIMIT = 1000;
+        public static final int KOREA_EXIM_LIVE_RESERVED_CALLS = 100;  // 백필이 건드리지 않는 실시간 수집용 호출 예산
+        public static final int KOREA_EXIM_BACKFILL_RESERVED_CALLS = 200;  // 관리자 수동 실행이 건드리지 않는 스케줄러 백필용 호출 예산
+        public static final String KOREA_EXIM_QUOTA_KEY_PREFIX = "exim:quota:";  // 일별 호출 장부 키 (exim:quota:yyyyMMdd)
+        public static final long KOREA_EXIM_QUOTA_TTL_SECONDS = 2 * 24 * 60 * 60;  // 장부 보관 기간 (2일)
+        public static final int KOREA_EXIM_LOOKBACK_DAYS = 7;  // 당일 고시가 없을 때 직전 영업일을 찾는 최대 일수 (연휴 포함)
+        
+        // 환율 제공자 (RateProvider) 장애 조치
+        public static final long RATE_PROVIDER_DEADLINE_MS = 30000;          // 수집 1회에서 제공자 응답을 기다리는 최대 시간
+        public static final int RATE_PROVIDER_FAILURE_THRESHOLD = 3;         // 연속 실패 시 비정상 처리 횟수
+        public static final long RATE_PROVIDER_COOLDOWN_MS = 10 * 60 * 1000;  // 비정상 제공자를 다시 시도하기까지의 시간
+        public static final double RATE_PROVIDER_HEALTH_ALPHA = 0.3;         // 건강 점수 지수 이동 평균 가중치
         
         private Api() {}
     }
@@ -34,12 +45,8 @@ public final class Constants {
     public static final class Cache {
         // TTL 시간 (분)
         public static final int DEFAULT_TTL_MINUTES = 5;
-        public static final int EXCHANGE_RATE_TTL_MINUTES = 5;
-        public static final int REALTIME_RATE_TTL_MINUTES = 5;
-        public static final int HISTORICAL_RATE_TTL_MINUTES = 10;
         public static final int NEWS_TTL_MINUTES = 30;
         public static final int BANK_INFO_TTL_MINUTES = 30;
-        public static final int EXCHANGE_CALCULATION_TTL_MINUTES = 2;
         
         // FCM 관련 캐시
         public static final int FCM_DUPLICATE_TTL_HOURS = 24;
@@ -48,15 +55,19 @@ public final class Constants {
         // 분산 락
         public static final int DISTRIBUTED_LOCK_TTL_MINUTES = 10;
         
+        // 로컬(L1) 캐시 설정 - Redis(L2) 앞단의 노드별 인메모리 캐시
+        // TTL은 pub/sub 무효화 메시지 유실에 대비해 L2보다 짧게 유지
+        public static final int L1_TTL_SECONDS = 60;
+        public static final int L1_NEWS_TTL_SECONDS = 300;
+        public static final int L1_DEFAULT_MAX_SIZE = 500;
+        public static final int L1_BANK_INFO_MAX_SIZE = 50;
+        public static final String INVALIDATION_CHANNEL = "cache:invalidation";  // 노드 간 L1 무효화 채널
+        public static final String BANK_REGISTRY_CHANNEL = "bank:registry";      // 노드 간 은행 레지스트리 갱신 채널
+        
         // 캐시 이름
-        public static final String EXCHANGE_RATES = "exchangeRates";
-        public static final String EXCHANGE_RATE = "exchange_rate";  // 개별 통화 캐시
-        public static final String REALTIME_RATE = "realtimeRate";
-        public static final String HISTORICAL_RATE = "historicalRate";
         public static final String EXCHANGE_NEWS = "exchangeNews";
         public static final String CURRENCY_NEWS = "currencyNews";
         public static final String NEWS = "news";
-        public static final String EXCHANGE_CALCULATION = "exchangeCalculation";
         public static final String BANK_EXCHANGE_INFO = "bankExchangeInfo";
         public static final String FCM_DUPLICATE = "fcmDuplicate";
         public static final String FCM_FAILED_TOKENS = "fcmFailedTokens";
@@ -98,8 +109,28 @@ public final class Constants {
     public static final class Exchange {
         public static final int CHART_DEFAULT_DAYS = 30;
         public static final int HISTORICAL_MAX_DAYS = 365;
+        public static final int HISTORY_RETENTION_DAYS = HISTORICAL_MAX_DAYS;  // 히스토리 보관 기간 (가장 긴 차트/백필 기간과 일치)
         public static final int DECIMAL_SCALE = 4;
         
+        // 차트 다운샘플링 (LTTB) - points 파라미터 허용 범위
+        public static final int CHART_MIN_POINTS = 3;       // 첫/마지막 점 + 최소 1개 버킷
+        public static final int CHART_MAX_POINTS = 365;
+        public static final int CHART_DOWNSAMPLE_CACHE_MAX_SIZE = 500;  // 시계열 버전별 (통화, 기간, 점 개수) 결과 캐시
+        
+        // 장중 틱 (통화별 고정 크기 링 버퍼, 크기 = 장중 시간 / 수집 간격 + 여유분)
+        public static final int INTRADAY_TICK_EXTRA_SLOTS = 16;  // 정기 수집(오전/오후/매시)과 수동 갱신으로 생기는 틱 여유분
+        
+        // 기간/해상도 지정 히스토리 조회 (/api/exchange/history)
+        public static final int HISTORY_QUERY_MAX_DAYS = 365 * 5;   // from~to 최대 기간 (달력 기준)
+        
+        // 일괄 환전 계산 (/api/exchange/calculate/batch)
+        public static final int CALCULATION_BATCH_MAX_ITEMS = 100;
+        
+        // 필요 금액 역산 (/api/exchange/calculate/reverse)
+        public static final int REVERSE_KRW_INPUT_SCALE = 0;        // 원화 입력 단위 (1원)
+        public static final int REVERSE_FOREIGN_INPUT_SCALE = 2;    // 외화 입력 단위 (0.01)
+        public static final int REVERSE_MAX_BRACKET_STEPS = 62;     // 추정값에서 탐색 구간을 넓히는 최대 횟수 (long 범위)
+        
         // 100 단위 통화 코드 (현재 사용하지 않음 - 한국수출입은행에서 미지원)
         
         // 통화 코드 매핑 (100단위 아님, 단순 코드 변환)
@@ -108,6 +139,82 @@ public final class Constants {
         private Exchange() {}
     }
     
+    /**
+     * 환율 수집 스케줄 관련 상수
+     */
+    public static final class Schedule {
+        public static final String ZONE = "Asia/Seoul";
+        public static final String MORNING_UPDATE_CRON = "0 30 9 * * MON-FRI";     // 월~금 오전 9시 30분 (환율 고시 후)
+        public static final String AFTERNOON_UPDATE_CRON = "0 0 15 * * MON-FRI";   // 월~금 오후 3시
+        public static final String HISTORY_INIT_CRON = "0 30 8 * * MON-FRI";       // 히스토리 자동 초기화 체크
+        public static final String HISTORY_EXPAND_CRON = "0 0 10 * * MON-FRI";     // 히스토리 자동 확장
+        public static final String HISTORY_CLEANUP_CRON = "0 0 18 * * MON-FRI";    // 오래된 히스토리 정리
+        public static final String DAY_CHANGE_CRON = "0 0 0 * * *";                // 차트 기간 기준일 변경 (자정)
+        public static final String HOURLY_UPDATE_CRON = "0 0 10-18 * * MON-FRI";   // 월~금 10~18시 매시 정각 (환율 보정 수집)
+        public static final int HOURLY_UPDATE_MIN_REMAINING_CALLS = 300;            // 매시 수집을 실행할 최소 남은 호출 예산
+        public static final String INTRADAY_TICK_INTERVAL = "${custom.intraday.interval-ms:600000}";  // 장중 틱 수집 간격 (기본 10분)
+        public static final int MARKET_OPEN_HOUR = 9;                               // 장중 틱 수집 시작 (평일 9시)
+        public static final int MARKET_CLOSE_HOUR = 18;                             // 장중 틱 수집 종료 (평일 18시 전까지)
+        public static final int INGEST_RECENT_RUNS = 20;                            // 수집 실행 기록 보관 개수 (actuator rateingest)
+        
+        // 환율 응답 HTTP 캐시 (Cache-Control)
+        public static final int INGEST_GRACE_SECONDS = 120;         // 수집 시작 후 DB 반영까지 여유 시간
+        public static final int MAX_RESPONSE_AGE_SECONDS = 6 * 60 * 60;  // 주말 등 다음 수집이 먼 경우 상한
+        
+        private Schedule() {}
+    }
+    
+    /**
+     * 실시간 환율 푸시(WebSocket/STOMP) 관련 상수
+     */
+    public static final class WebSocket {
+        public static final String RATE_ENDPOINT = "/ws/rates";
+        public static final String TOPIC_PREFIX = "/topic";
+        public static final String RATES_TOPIC = "/topic/rates";                // 전체 통화 변경분
+        public static final String RATE_TOPIC_PREFIX = "/topic/rates/";         // 통화별 변경분 (/topic/rates/USD)
+        public static final String RATE_DELTA_CHANNEL = "rates:delta";          // 노드 간 변경분 전파 Redis 채널
+        
+        public static final long HEARTBEAT_INTERVAL_MS = 25000;
+        public static final int MESSAGE_SIZE_LIMIT_BYTES = 8 * 1024;            // 클라이언트 수신 프레임 상한
+        public static final int SEND_BUFFER_SIZE_LIMIT_BYTES = 64 * 1024;       // 세션별 전송 버퍼 상한
+        public static final int SEND_TIME_LIMIT_MS = 10000;
+        public static final int TIME_TO_FIRST_MESSAGE_MS = 30000;
+        public static final int RECENT_DELTA_VERSIONS = 16;                     // 중복 전달 방지용 최근 변경분(버전 전환) 수
+        
+        private WebSocket() {}
+    }
+    
+    /**
+     * 환율/알림 SSE 스트림 관련 상수
+     */
+    public static final class Stream {
+        public static final int MAX_CONNECTIONS_PER_NODE = 5000;
+        public static final long EMITTER_TIMEOUT_MS = 30 * 60 * 1000L;          // 만료 시 클라이언트가 Last-Event-ID로 재연결
+        public static final long HEARTBEAT_INTERVAL_MS = 20000;
+        public static final long RECONNECT_DELAY_MS = 3000;                      // SSE retry 필드
+        public static final int RING_BUFFER_SIZE = 256;                          // 재연결 시 재전송 가능한 최근 이벤트 수
+        public static final int MAX_PENDING_EVENTS_PER_CONNECTION = 64;          // 초과 시 느린 클라이언트로 보고 연결 종료
+        public static final int SEND_THREADS = 4;
+        public static final int RETRY_AFTER_SECONDS = 30;                        // 연결 수 초과 시 Retry-After
+        public static final String ALERT_EVENT_CHANNEL = "stream:alerts";        // 노드 간 알림 이벤트 전파 Redis 채널
+        
+        private Stream() {}
+    }
+    
+    /**
+     * 환율 히스토리 백필 관련 상수
+     */
+    public static final class Backfill {
+        public static final int CHUNK_SIZE = 10;                    // 청크(트랜잭션) 하나에 저장하는 날짜 수
+        public static final int PARALLELISM = 3;                    // 동시에 호출하는 날짜 수
+        public static final int MAX_ATTEMPTS = 3;                   // 날짜별 최대 시도 횟수 (초과 시 다음 실행에서 제외)
+        public static final int MAX_CONSECUTIVE_FAILED_CHUNKS = 3;  // 전부 실패한 청크가 연속되면 중단
+        public static final long MAX_BUDGET_WAIT_SECONDS = 60;      // 호출 예산 대기 상한 (초과 시 일시 중지)
+        public static final long FETCH_TIMEOUT_SECONDS = 60;
+        
+        private Backfill() {}
+    }
+    
     /**
      * 이미지 관련 상수
      */
@@ -1,5 +1,6 @@
 package com.swyp.api_server.common.http;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.swyp.api_server.common.constants.Constants;
@@ -11,6 +12,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
@@ -118,7 +120,27 @@ public class CommonHttpClient {
      * @throws CustomException API 호출 실패 시
      */
     public String get(String url, Map<String, String> headers) {
-        return executeWithRetry(url, "GET", headers, null, 0);
+        return executeWithRetry(url, "GET", headers, null, ResponseBody::string, 0);
+    }
+    
+    /**
+     * GET 요청으로 응답 본문을 스트림으로 읽어 변환 (응답 문자열을 만들지 않음)
+     * @param url 요청 URL
+     * @param bodyReader 성공 응답 본문 변환 함수
+     * @param <T> 변환 결과 타입
+     * @return 변환 결과
+     * @throws CustomException API 호출 또는 본문 변환 실패 시
+     */
+    public <T> T getStreaming(String url, BodyReader<T> bodyReader) {
+        return executeWithRetry(url, "GET", Map.of(), null, body -> bodyReader.read(body.byteStream()), 0);
+    }
+    
+    /**
+     * 응답 본문 스트림 변환 함수
+     */
+    @FunctionalInterface
+    public interface BodyReader<T> {
+        T read(InputStream body) throws IOException;
     }
     
     /**
@@ -141,7 +163,7 @@ public class CommonHttpClient {
      * @throws CustomException API 호출 실패 시
      */
     public String post(String url, Map<String, String> headers, String requestBody) {
-        return executeWithRetry(url, "POST", headers, requestBody, 0);
+        return executeWithRetry(url, "POST", headers, requestBody, ResponseBody::string, 0);
     }
     
     /**
@@ -150,12 +172,13 @@ public class CommonHttpClient {
      * @param method HTTP 메서드
      * @param headers 요청 헤더
      * @param requestBody 요청 본문 (POST인 경우)
+     * @param successReader 성공 응답 본문 변환 함수
      * @param retryCount 현재 재시도 횟수
-     * @return 응답 문자열
+     * @return 변환된 응답
      * @throws CustomException API 호출 실패 시
      */
-    private String executeWithRetry(String url, String method, Map<String, String> headers, 
-                                  String requestBody, int retryCount) {
+    private <T> T executeWithRetry(String url, String method, Map<String, String> headers, 
+                                   String requestBody, SuccessReader<T> successReader, int retryCount) {
         try {
             Request.Builder requestBuilder = new Request.Builder().url(url);
             
@@ -180,20 +203,19 @@ public class CommonHttpClient {
             log.debug("HTTP 요청 시작: {} {}, 재시도={}", method, url, retryCount);
             
             try (Response response = httpClient.newCall(request).execute()) {
-                String responseBody = response.body() != null ? response.body().string() : "";
-                
                 if (response.isSuccessful()) {
                     log.debug("HTTP 요청 성공: {} {}, 응답길이={}", 
-                        method, url, responseBody.length());
-                    return responseBody;
+                        method, url, response.body() != null ? response.body().contentLength() : 0);
+                    return readSuccessBody(url, response, successReader);
                 }
                 
                 // HTTP 에러 상태 코드 처리
-                return handleHttpError(url, method, response, responseBody, retryCount);
+                String responseBody = response.body() != null ? response.body().string() : "";
+                return handleHttpError(url, method, response, responseBody, successReader, retryCount);
             }
             
         } catch (IOException e) {
-            return handleIOException(url, method, e, retryCount);
+            return handleIOException(url, method, e, successReader, retryCount);
         } catch (Exception e) {
             log.error("HTTP 요청 중 예상치 못한 오류: {} {}, 재시도={}", 
                 method, url, retryCount, e);
@@ -202,11 +224,26 @@ public class CommonHttpClient {
         }
     }
     
+    /**
+     * 성공 응답 본문 변환
+     * - JSON 형식 오류는 재시도하지 않음 (본문 읽기 중 네트워크 오류만 재시도 대상)
+     */
+    private <T> T readSuccessBody(String url, Response response, SuccessReader<T> successReader) throws IOException {
+        ResponseBody body = response.body() != null ? response.body() : ResponseBody.create(new byte[0], null);
+        try {
+            return successReader.read(body);
+        } catch (JsonProcessingException e) {
+            log.error("JSON 파싱 실패: url={}", url, e);
+            throw new CustomException(ErrorCode.EXCHANGE_RATE_API_ERROR, 
+                "API 응답 JSON 파싱 실패", e);
+        }
+    }
+    
     /**
      * HTTP 에러 응답 처리
      */
-    private String handleHttpError(String url, String method, Response response, 
-                                 String responseBody, int retryCount) {
+    private <T> T handleHttpError(String url, String method, Response response, 
+                                  String responseBody, SuccessReader<T> successReader, int retryCount) {
         int statusCode = response.code();
         
         log.warn("HTTP 요청 실패: {} {}, 상태코드={}, 응답={}, 재시도={}", 
@@ -226,7 +263,7 @@ public class CommonHttpClient {
                 Thread.currentThread().interrupt();
             }
             
-            return executeWithRetry(url, method, Map.of(), null, retryCount + 1);
+            return executeWithRetry(url, method, Map.of(), null, successReader, retryCount + 1);
         }
         
         // 재시도 불가능한 에러 또는 최대 재시도 횟수 도달
@@ -249,7 +286,8 @@ public class CommonHttpClient {
     /**
      * IO 예외 처리
      */
-    private String handleIOException(String url, String method, IOException e, int retryCount) {
+    private <T> T handleIOException(String url, String method, IOException e, 
+                                    SuccessReader<T> successReader, int retryCount) {
         log.warn("HTTP 요청 IO 오류: {} {}, 오류={}, 재시도={}", 
             method, url, e.getMessage(), retryCount);
         
@@ -264,7 +302,7 @@ public class CommonHttpClient {
                 Thread.currentThread().interrupt();
             }
             
-            return executeWithRetry(url, method, Map.of(), null, retryCount + 1);
+            return executeWithRetry(url, method, Map.of(), null, successReader, retryCount + 1);
         }
         
         // 최대 재시도 횟수 도달
@@ -272,6 +310,11 @@ public class CommonHttpClient {
             "네트워크 오류로 HTTP 요청 최종 실패: " + e.getMessage(), e);
     }
     
+    @FunctionalInterface
+    private interface SuccessReader<T> {
+        T read(ResponseBody body) throws IOException;
+    }
+    
     /**
      * URL 파라미터를 포함한 URL 생성
      * @param baseUrl 기본 URL
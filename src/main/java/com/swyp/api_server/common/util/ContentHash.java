@@ -0,0 +1,53 @@
+package com.swyp.api_server.common.util;
+
+/**
+ * 내용 기반 버전 계산 유틸리티 (FNV-1a 64bit)
+ * - 같은 데이터를 가진 노드는 같은 값을 계산하므로 ETag 등 노드 간 공유 버전으로 사용
+ * - 0은 "데이터 없음" 전용으로 남겨두고 계산 결과로는 반환하지 않음
+ */
+public final class ContentHash {
+
+    private static final long OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long PRIME = 0x100000001b3L;
+    private static final char FIELD_SEPARATOR = '|';
+
+    private ContentHash() {
+        // 유틸리티 클래스로 인스턴스 생성 방지
+    }
+
+    /**
+     * 해시 시작 값
+     */
+    public static long start() {
+        return OFFSET_BASIS;
+    }
+
+    /**
+     * 필드 하나를 해시에 반영 (필드 사이에 구분자 포함)
+     * @param value 반영할 값 (null은 빈 문자열로 취급)
+     */
+    public static long update(long hash, String value) {
+        if (value != null) {
+            for (int i = 0; i < value.length(); i++) {
+                hash ^= value.charAt(i);
+                hash *= PRIME;
+            }
+        }
+        hash ^= FIELD_SEPARATOR;
+        return hash * PRIME;
+    }
+
+    /**
+     * 최종 버전 값 (0은 빈 데이터 전용이므로 1로 대체)
+     */
+    public static long finish(long hash) {
+        return hash == 0L ? 1L : hash;
+    }
+
+    /**
+     * ETag 등에 사용할 16진수 표현
+     */
+    public static String toHex(long version) {
+        return Long.toHexString(version);
+    }
+}
@@ -0,0 +1,77 @@
+package com.swyp.api_server.common.util;
+
+/**
+ * Largest-Triangle-Three-Buckets 다운샘플링 유틸리티
+ * - 첫/마지막 점은 항상 유지하고, 나머지는 버킷마다 삼각형 면적이 가장 큰 점 하나를 선택
+ * - 면적 기준으로 고르므로 급등/급락 같은 극값이 잘 보존됨
+ * - x는 오름차순이어야 함 (차트에서는 기준일의 epochDay 사용)
+ */
+public final class LttbDownsampler {
+
+    private LttbDownsampler() {
+        // 유틸리티 클래스로 인스턴스 생성 방지
+    }
+
+    /**
+     * 유지할 점의 인덱스 선택
+     * @param x x 좌표 (오름차순)
+     * @param y y 좌표
+     * @param threshold 남길 점 개수 (3 미만이거나 원본 이상이면 전체 유지)
+     * @return 유지할 점의 인덱스 (오름차순)
+     */
+    public static int[] select(double[] x, double[] y, int threshold) {
+        int size = x.length;
+        if (threshold >= size || threshold < 3) {
+            int[] all = new int[size];
+            for (int i = 0; i < size; i++) {
+                all[i] = i;
+            }
+            return all;
+        }
+
+        int[] selected = new int[threshold];
+        int count = 0;
+        selected[count++] = 0;
+
+        // 첫/마지막 점을 제외한 나머지를 threshold - 2개 버킷으로 분할
+        double bucketSize = (double) (size - 2) / (threshold - 2);
+        int a = 0;
+        for (int bucket = 0; bucket < threshold - 2; bucket++) {
+            // 다음 버킷의 평균점 (마지막 버킷이면 마지막 점)
+            int nextStart = (int) Math.floor((bucket + 1) * bucketSize) + 1;
+            int nextEnd = Math.min((int) Math.floor((bucket + 2) * bucketSize) + 1, size);
+            double avgX = 0;
+            double avgY = 0;
+            for (int i = nextStart; i < nextEnd; i++) {
+                avgX += x[i];
+                avgY += y[i];
+            }
+            int nextLength = nextEnd - nextStart;
+            if (nextLength > 0) {
+                avgX /= nextLength;
+                avgY /= nextLength;
+            } else {
+                avgX = x[size - 1];
+                avgY = y[size - 1];
+            }
+
+            // 현재 버킷에서 이전 선택점(a)과 다음 버킷 평균점으로 만든 삼각형 면적이 가장 큰 점 선택
+            int start = (int) Math.floor(bucket * bucketSize) + 1;
+            int end = (int) Math.floor((bucket + 1) * bucketSize) + 1;
+            double maxArea = -1;
+            int maxIndex = start;
+            for (int i = start; i < end; i++) {
+                double area = Math.abs((x[a] - avgX) * (y[i] - y[a]) - (x[a] - x[i]) * (avgY - y[a]));
+                if (area > maxArea) {
+                    maxArea = area;
+                    maxIndex = i;
+                }
+            }
+            selected[count++] = maxIndex;
+            a = maxIndex;
+        }
+
+        selected[count] = size - 1;
+        return selected;
+    }
+}
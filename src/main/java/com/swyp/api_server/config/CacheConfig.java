@@ -2,6 +2,9 @@ package com.swyp.api_server.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.swyp.api_server.common.constants.Constants;
+import com.swyp.api_server.config.cache.CacheInvalidationPublisher;
+import com.swyp.api_server.config.cache.TwoTierCacheManager;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.Cache;
@@ -15,6 +18,9 @@ import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
@@ -25,7 +31,8 @@ import java.util.Map;
 
 /**
  * Redis 캐시 설정 클래스
- * - 환율 데이터를 Redis에 캐싱하여 API 호출 최적화
+ * - 뉴스/은행 정보 등을 Redis에 캐싱하여 외부 API/DB 호출 최적화 (환율 조회는 메모리 스냅샷 사용)
+ * - 노드별 로컬(L1) 캐시를 Redis(L2) 앞단에 두고 pub/sub으로 무효화 전파
  * - 캐시별 TTL 설정으로 세밀한 만료 시간 제어
  * - JSON 직렬화로 가독성 향상
  * - 캐시 오류 시 원본 메소드 실행으로 안정성 보장
@@ -39,12 +46,18 @@ public class CacheConfig implements CachingConfigurer {
     private ObjectMapper objectMapper;
 
     /**
-     * Redis 기반 캐시 매니저 설정
+     * 2단계 캐시 매니저 설정 (L1 로컬 Caffeine + L2 Redis)
      * @param redisConnectionFactory Redis 연결 팩토리
-     * @return RedisCacheManager 인스턴스
+     * @param stringRedisTemplate L1 무효화 메시지 발행용
+     * @param listenerContainer L1 무효화 메시지 구독용
+     * @param meterRegistry 계층별 캐시 메트릭 등록용
+     * @return TwoTierCacheManager 인스턴스
      */
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory redisConnectionFactory) {
+    public CacheManager cacheManager(RedisConnectionFactory redisConnectionFactory,
+                                     StringRedisTemplate stringRedisTemplate,
+                                     RedisMessageListenerContainer listenerContainer,
+                                     MeterRegistry meterRegistry) {
         
         // 타입 정보 포함하는 완전한 ObjectMapper 생성 (Entity 직렬화용)
         ObjectMapper cacheMapper = new ObjectMapper();
@@ -77,18 +90,6 @@ public class CacheConfig implements CachingConfigurer {
         // 캐시별 개별 TTL 설정
         Map<String, RedisCacheConfiguration> cacheConfigurations = new HashMap<>();
         
-        // 전체 환율 목록: 5분 캐시 (수출입은행 API 제한 고려 - 1000회/일)
-        cacheConfigurations.put(Constants.Cache.EXCHANGE_RATES, 
-            defaultCacheConfig.entryTtl(Duration.ofMinutes(Constants.Cache.EXCHANGE_RATE_TTL_MINUTES)));
-        
-        // 실시간 환율: 5분 캐시 (수출입은행 API 제한 고려)
-        cacheConfigurations.put(Constants.Cache.REALTIME_RATE, 
-            defaultCacheConfig.entryTtl(Duration.ofMinutes(Constants.Cache.REALTIME_RATE_TTL_MINUTES)));
-        
-        // 과거 환율 데이터: 10분 캐시 (변동이 적으므로 오래 캐싱)
-        cacheConfigurations.put(Constants.Cache.HISTORICAL_RATE, 
-            defaultCacheConfig.entryTtl(Duration.ofMinutes(Constants.Cache.HISTORICAL_RATE_TTL_MINUTES)));
-        
         // 뉴스 데이터: 30분 캐시 (뉴스는 실시간성이 상대적으로 덜 중요)
         cacheConfigurations.put(Constants.Cache.EXCHANGE_NEWS, 
             defaultCacheConfig.entryTtl(Duration.ofMinutes(Constants.Cache.NEWS_TTL_MINUTES)));
@@ -97,10 +98,6 @@ public class CacheConfig implements CachingConfigurer {
         cacheConfigurations.put(Constants.Cache.NEWS, 
             defaultCacheConfig.entryTtl(Duration.ofMinutes(Constants.Cache.NEWS_TTL_MINUTES)));
         
-        // 환전 계산 데이터: 2분 캐시 (실시간 환율 반영하되 계산 부하 줄임)
-        cacheConfigurations.put(Constants.Cache.EXCHANGE_CALCULATION, 
-            defaultCacheConfig.entryTtl(Duration.ofMinutes(Constants.Cache.EXCHANGE_CALCULATION_TTL_MINUTES)));
-        
         // 은행 정보 데이터: 30분 캐시 (자주 변경되지 않는 설정 정보)
         cacheConfigurations.put(Constants.Cache.BANK_EXCHANGE_INFO, 
             defaultCacheConfig.entryTtl(Duration.ofMinutes(Constants.Cache.BANK_INFO_TTL_MINUTES)));
@@ -115,17 +112,48 @@ public class CacheConfig implements CachingConfigurer {
         cacheConfigurations.put(Constants.Cache.DISTRIBUTED_LOCK, 
             defaultCacheConfig.entryTtl(Duration.ofMinutes(Constants.Cache.DISTRIBUTED_LOCK_TTL_MINUTES)));
         
-        RedisCacheManager cacheManager = RedisCacheManager.builder(redisConnectionFactory)
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(redisConnectionFactory)
                 .cacheDefaults(defaultCacheConfig)
                 .withInitialCacheConfigurations(cacheConfigurations)
                 .build();
         
         // 캐시 에러 핸들러 설정 (캐시 오류 시 원본 메소드 실행)
-        cacheManager.setTransactionAware(false);
+        redisCacheManager.setTransactionAware(false);
+        // 빈으로 등록하지 않으므로 캐시별 설정 로딩을 직접 수행
+        redisCacheManager.afterPropertiesSet();
+        
+        // L1(로컬) 캐시 설정: 노드 간 일관성이 중요한 FCM/분산 락 캐시는 제외
+        Duration localTtl = Duration.ofSeconds(Constants.Cache.L1_TTL_SECONDS);
+        Duration localNewsTtl = Duration.ofSeconds(Constants.Cache.L1_NEWS_TTL_SECONDS);
+        Map<String, TwoTierCacheManager.LocalCacheSpec> localCacheSpecs = new HashMap<>();
+        localCacheSpecs.put(Constants.Cache.EXCHANGE_NEWS, 
+            new TwoTierCacheManager.LocalCacheSpec(Constants.Cache.L1_DEFAULT_MAX_SIZE, localNewsTtl));
+        localCacheSpecs.put(Constants.Cache.CURRENCY_NEWS, 
+            new TwoTierCacheManager.LocalCacheSpec(Constants.Cache.L1_DEFAULT_MAX_SIZE, localNewsTtl));
+        localCacheSpecs.put(Constants.Cache.NEWS, 
+            new TwoTierCacheManager.LocalCacheSpec(Constants.Cache.L1_DEFAULT_MAX_SIZE, localNewsTtl));
+        localCacheSpecs.put(Constants.Cache.BANK_EXCHANGE_INFO, 
+            new TwoTierCacheManager.LocalCacheSpec(Constants.Cache.L1_BANK_INFO_MAX_SIZE, localTtl));
+        
+        TwoTierCacheManager cacheManager = new TwoTierCacheManager(
+                redisCacheManager, localCacheSpecs, new CacheInvalidationPublisher(stringRedisTemplate), meterRegistry);
+        
+        // 다른 노드의 L1 무효화 메시지 구독
+        listenerContainer.addMessageListener(cacheManager, new ChannelTopic(Constants.Cache.INVALIDATION_CHANNEL));
         
         return cacheManager;
     }
     
+    /**
+     * Redis pub/sub 메시지 리스너 컨테이너
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory redisConnectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        return container;
+    }
+    
     /**
      * RedisTemplate 설정 - GenericJackson2JsonRedisSerializer 사용
      */
@@ -1,5 +1,6 @@
 package com.swyp.api_server.config;
 
+import com.swyp.api_server.config.cache.TwoTierCacheManager;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tags;
 import lombok.RequiredArgsConstructor;
@@ -30,9 +31,15 @@ public class RedisCacheMonitoringConfig {
      */
     @EventListener(ApplicationReadyEvent.class)
     public void registerCacheMetrics() {
-        if (cacheManager instanceof RedisCacheManager) {
-            RedisCacheManager redisCacheManager = (RedisCacheManager) cacheManager;
-            
+        // 2단계 캐시인 경우 L2(Redis) 캐시 매니저 기준으로 등록 (계층별 메트릭은 TwoTierCache에서 기록)
+        RedisCacheManager redisCacheManager = null;
+        if (cacheManager instanceof TwoTierCacheManager twoTierCacheManager) {
+            redisCacheManager = twoTierCacheManager.getRedisCacheManager();
+        } else if (cacheManager instanceof RedisCacheManager) {
+            redisCacheManager = (RedisCacheManager) cacheManager;
+        }
+        
+        if (redisCacheManager != null) {
             log.info("Redis 캐시 모니터링 시작...");
             
             // 캐시 개수 게이지 등록
@@ -0,0 +1,48 @@
+package com.swyp.api_server.config.cache;
+
+import com.swyp.api_server.common.constants.Constants;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.UUID;
+
+/**
+ * L1 캐시 무효화 메시지 발행기 (Redis pub/sub)
+ * - 메시지 형식: {노드ID}|{캐시명}|{E:키 삭제, C:전체 삭제}|{키}
+ * - 자기 노드가 보낸 메시지는 수신 측에서 무시
+ */
+@Slf4j
+public class CacheInvalidationPublisher {
+
+    static final String SEPARATOR = "|";
+    static final String OP_EVICT = "E";
+    static final String OP_CLEAR = "C";
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Getter
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public CacheInvalidationPublisher(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    public void publishEvict(String cacheName, String key) {
+        publish(cacheName, OP_EVICT, key);
+    }
+
+    public void publishClear(String cacheName) {
+        publish(cacheName, OP_CLEAR, "");
+    }
+
+    private void publish(String cacheName, String op, String key) {
+        try {
+            String message = nodeId + SEPARATOR + cacheName + SEPARATOR + op + SEPARATOR + key;
+            redisTemplate.convertAndSend(Constants.Cache.INVALIDATION_CHANNEL, message);
+        } catch (Exception e) {
+            // 전파 실패 시 다른 노드의 L1은 TTL 만료로 정리됨
+            log.warn("L1 캐시 무효화 메시지 발행 실패: cache={}, key={}, error={}", cacheName, key, e.getMessage());
+        }
+    }
+}
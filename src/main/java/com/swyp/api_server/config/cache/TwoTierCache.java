@@ -0,0 +1,186 @@
+package com.swyp.api_server.config.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 2단계 캐시 (L1: 노드 로컬 Caffeine, L2: Redis)
+ * - 조회: L1 → L2 순서, L2 적중 시 L1에 적재
+ * - 저장/삭제: L2 반영 후 L1 갱신, 다른 노드에는 무효화 메시지 전파
+ * - 계층별 적중/미스 카운터와 조회 지연 타이머 기록
+ */
+public class TwoTierCache implements Cache {
+
+    private final Cache redisCache;
+    private final com.github.benmanes.caffeine.cache.Cache<String, ValueWrapper> localCache;
+    private final CacheInvalidationPublisher invalidationPublisher;
+
+    private final Counter l1Hit;
+    private final Counter l1Miss;
+    private final Counter l2Hit;
+    private final Counter l2Miss;
+    private final Timer l1Latency;
+    private final Timer l2Latency;
+
+    public TwoTierCache(Cache redisCache,
+                        com.github.benmanes.caffeine.cache.Cache<String, ValueWrapper> localCache,
+                        CacheInvalidationPublisher invalidationPublisher,
+                        MeterRegistry meterRegistry) {
+        this.redisCache = redisCache;
+        this.localCache = localCache;
+        this.invalidationPublisher = invalidationPublisher;
+
+        String name = redisCache.getName();
+        this.l1Hit = counter(meterRegistry, name, "l1", "hit");
+        this.l1Miss = counter(meterRegistry, name, "l1", "miss");
+        this.l2Hit = counter(meterRegistry, name, "l2", "hit");
+        this.l2Miss = counter(meterRegistry, name, "l2", "miss");
+        this.l1Latency = timer(meterRegistry, name, "l1");
+        this.l2Latency = timer(meterRegistry, name, "l2");
+
+        Gauge.builder("cache.tier.size", localCache, com.github.benmanes.caffeine.cache.Cache::estimatedSize)
+                .description("로컬(L1) 캐시 항목 수")
+                .tag("cache", name)
+                .tag("tier", "l1")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return redisCache.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return redisCache.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = toLocalKey(key);
+
+        long start = System.nanoTime();
+        ValueWrapper local = localCache.getIfPresent(localKey);
+        l1Latency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        if (local != null) {
+            l1Hit.increment();
+            return local;
+        }
+        l1Miss.increment();
+
+        start = System.nanoTime();
+        ValueWrapper remote = redisCache.get(key);
+        l2Latency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        if (remote != null) {
+            l2Hit.increment();
+            localCache.put(localKey, new SimpleValueWrapper(remote.get()));
+        } else {
+            l2Miss.increment();
+        }
+        return remote;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper == null) {
+            return null;
+        }
+        Object value = wrapper.get();
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("캐시 값 타입 불일치: " + type.getName() + " <- " + value.getClass().getName());
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+        T value = redisCache.get(key, valueLoader);
+        localCache.put(toLocalKey(key), new SimpleValueWrapper(value));
+        invalidationPublisher.publishEvict(getName(), toLocalKey(key));
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        redisCache.put(key, value);
+        localCache.put(toLocalKey(key), new SimpleValueWrapper(value));
+        invalidationPublisher.publishEvict(getName(), toLocalKey(key));
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = redisCache.putIfAbsent(key, value);
+        if (existing == null) {
+            localCache.put(toLocalKey(key), new SimpleValueWrapper(value));
+            invalidationPublisher.publishEvict(getName(), toLocalKey(key));
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        redisCache.evict(key);
+        localCache.invalidate(toLocalKey(key));
+        invalidationPublisher.publishEvict(getName(), toLocalKey(key));
+    }
+
+    @Override
+    public void clear() {
+        redisCache.clear();
+        localCache.invalidateAll();
+        invalidationPublisher.publishClear(getName());
+    }
+
+    /**
+     * 다른 노드의 무효화 메시지 반영 (L1만 삭제)
+     */
+    void evictLocal(String localKey) {
+        localCache.invalidate(localKey);
+    }
+
+    /**
+     * 다른 노드의 전체 삭제 메시지 반영 (L1만 삭제)
+     */
+    void clearLocal() {
+        localCache.invalidateAll();
+    }
+
+    /**
+     * L1 키는 Redis 키와 같은 문자열 표현 사용 (노드 간 무효화 메시지와 일치)
+     */
+    static String toLocalKey(Object key) {
+        return String.valueOf(key);
+    }
+
+    private static Counter counter(MeterRegistry registry, String cacheName, String tier, String result) {
+        return Counter.builder("cache.tier.gets")
+                .description("계층별 캐시 조회 결과")
+                .tag("cache", cacheName)
+                .tag("tier", tier)
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private static Timer timer(MeterRegistry registry, String cacheName, String tier) {
+        return Timer.builder("cache.tier.latency")
+                .description("계층별 캐시 조회 지연")
+                .tag("cache", cacheName)
+                .tag("tier", tier)
+                .publishPercentiles(0.5, 0.99)
+                .register(registry);
+    }
+}
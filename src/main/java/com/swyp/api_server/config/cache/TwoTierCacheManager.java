@@ -0,0 +1,114 @@
+package com.swyp.api_server.config.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 2단계 캐시 매니저 (L1 로컬 + L2 Redis)
+ * - L1 설정이 있는 캐시만 TwoTierCache로 감싸고, 나머지는 Redis 캐시를 그대로 사용
+ *   (FCM 중복 방지, 분산 락 등 노드 간 일관성이 중요한 캐시는 L1 미사용)
+ * - Redis pub/sub 무효화 메시지를 받아 자기 노드의 L1 항목 삭제
+ */
+@Slf4j
+public class TwoTierCacheManager implements CacheManager, MessageListener {
+
+    @Getter
+    private final RedisCacheManager redisCacheManager;
+    private final Map<String, LocalCacheSpec> localCacheSpecs;
+    private final CacheInvalidationPublisher invalidationPublisher;
+    private final MeterRegistry meterRegistry;
+
+    private final ConcurrentMap<String, Cache> caches = new ConcurrentHashMap<>();
+
+    public TwoTierCacheManager(RedisCacheManager redisCacheManager,
+                               Map<String, LocalCacheSpec> localCacheSpecs,
+                               CacheInvalidationPublisher invalidationPublisher,
+                               MeterRegistry meterRegistry) {
+        this.redisCacheManager = redisCacheManager;
+        this.localCacheSpecs = Map.copyOf(localCacheSpecs);
+        this.invalidationPublisher = invalidationPublisher;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return redisCacheManager.getCacheNames();
+    }
+
+    private Cache createCache(String name) {
+        Cache redisCache = redisCacheManager.getCache(name);
+        LocalCacheSpec spec = localCacheSpecs.get(name);
+        if (redisCache == null || spec == null) {
+            return redisCache;
+        }
+
+        com.github.benmanes.caffeine.cache.Cache<String, Cache.ValueWrapper> localCache = Caffeine.newBuilder()
+                .maximumSize(spec.getMaxSize())
+                .expireAfterWrite(spec.getTtl())
+                .build();
+
+        log.info("2단계 캐시 생성: {} (L1 최대 {}개, TTL {}초)", name, spec.getMaxSize(), spec.getTtl().toSeconds());
+        return new TwoTierCache(redisCache, localCache, invalidationPublisher, meterRegistry);
+    }
+
+    /**
+     * 다른 노드가 보낸 L1 무효화 메시지 처리
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] parts = body.split("\\" + CacheInvalidationPublisher.SEPARATOR, 4);
+        if (parts.length < 4 || invalidationPublisher.getNodeId().equals(parts[0])) {
+            return;
+        }
+
+        Cache cache = caches.get(parts[1]);
+        if (!(cache instanceof TwoTierCache twoTierCache)) {
+            return;
+        }
+
+        if (CacheInvalidationPublisher.OP_CLEAR.equals(parts[2])) {
+            twoTierCache.clearLocal();
+        } else {
+            twoTierCache.evictLocal(parts[3]);
+        }
+        log.debug("원격 L1 캐시 무효화 반영: cache={}, op={}, key={}", parts[1], parts[2], parts[3]);
+    }
+
+    /**
+     * 캐시별 L1 설정 (최대 항목 수, TTL)
+     */
+    @Getter
+    public static class LocalCacheSpec {
+        private final long maxSize;
+        private final Duration ttl;
+
+        public LocalCacheSpec(long maxSize, Duration ttl) {
+            this.maxSize = maxSize;
+            this.ttl = ttl;
+        }
+    }
+}
@@ -1,18 +1,26 @@
 package com.swyp.api_server.config.scheduler;
 
+import com.swyp.api_server.common.constants.Constants;
+import com.swyp.api_server.domain.common.service.DistributedLockService;
+import com.swyp.api_server.domain.rate.monitoring.RateIngestMetrics;
+import com.swyp.api_server.domain.rate.policy.ExchangeApiCallBudget;
+import com.swyp.api_server.domain.rate.provider.KoreaEximRateProvider;
+import com.swyp.api_server.domain.rate.provider.RateProviderFailover;
+import com.swyp.api_server.domain.rate.repository.ExchangeRateBulkWriter;
 import com.swyp.api_server.domain.rate.service.ExchangeRateHistoryService;
-import com.swyp.api_server.domain.rate.service.ExchangeRateService;
-import com.swyp.api_server.domain.rate.service.ExchangeRateServiceImpl;
 import com.swyp.api_server.domain.rate.service.ExchangeRateStorageService;
 import com.swyp.api_server.domain.rate.service.ExchangeRateHistoryInitService;
 import com.swyp.api_server.domain.rate.service.ServiceStartTracker;
-import com.swyp.api_server.domain.rate.dto.response.ExchangeResponseDTO;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
+import java.time.DayOfWeek;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.UUID;
 
 /**
  * 환율 관련 스케줄러
@@ -24,24 +32,31 @@ import java.util.List;
 @Slf4j
 public class ExchangeRateScheduler {
 
-    private final ExchangeRateService exchangeRateService;
+    private final RateProviderFailover rateProviderFailover;
     private final ExchangeRateHistoryService historyService;
     private final ExchangeRateStorageService storageService;
     private final ExchangeRateHistoryInitService initService;
     private final ServiceStartTracker serviceStartTracker;
+    private final ExchangeApiCallBudget callBudget;
+    private final DistributedLockService distributedLockService;
+    private final KoreaEximRateProvider koreaEximProvider;
+    private final RateIngestMetrics ingestMetrics;
+
+    @Value("${custom.intraday.enabled:false}")
+    private boolean intradayEnabled;
 
     /**
      * 평일 오전 9시 30분에 환율 데이터 갱신 및 히스토리 저장
-     * - 한국수출입은행 API 호출 후 최신 환율 업데이트
+     * - 환율 제공자(우선순위/장애 조치) 조회 후 최신 환율 업데이트
      * - 현재 환율을 히스토리 테이블에 저장 (변동률 계산용)
      * 
      * 크론 표현식: "초 분 시 일 월 요일"
      * 0 30 9 * * MON-FRI : 월~금 오전 9시 30분 (환율 고시 후)
      */
-    @Scheduled(cron = "0 30 9 * * MON-FRI", zone = "Asia/Seoul")
+    @Scheduled(cron = Constants.Schedule.MORNING_UPDATE_CRON, zone = Constants.Schedule.ZONE)
     public void morningExchangeRateUpdate() {
         log.info("========== [오전] 환율 데이터 갱신 및 히스토리 저장 시작 ==========");
-        updateExchangeRatesInternal("오전");
+        updateExchangeRatesInternal("오전", "morning");
     }
 
     /**
@@ -51,26 +66,30 @@ public class ExchangeRateScheduler {
      * 
      * 크론 표현식: 0 0 15 * * MON-FRI : 월~금 오후 3시
      */
-    @Scheduled(cron = "0 0 15 * * MON-FRI", zone = "Asia/Seoul")
+    @Scheduled(cron = Constants.Schedule.AFTERNOON_UPDATE_CRON, zone = Constants.Schedule.ZONE)
     public void afternoonExchangeRateUpdate() {
         log.info("========== [오후] 환율 데이터 갱신 및 히스토리 저장 시작 ==========");
-        updateExchangeRatesInternal("오후");
+        updateExchangeRatesInternal("오후", "afternoon");
     }
 
     /**
      * 환율 데이터 갱신 공통 로직
+     * - 실행 결과/단계별 소요 시간은 RateIngestMetrics에 기록 (actuator rateingest, exchange.ingest.* 메트릭)
+     * - 히스토리 저장까지 끝난 뒤 실행 기록 종료 (히스토리 저장 실패도 실행 실패로 기록, 저장된 환율 수는 유지)
      */
-    private void updateExchangeRatesInternal(String schedule) {
+    private void updateExchangeRatesInternal(String schedule, String trigger) {
+        RateIngestMetrics.Run run = ingestMetrics.startRun(trigger);
+        RateProviderFailover.Result fetched = null;
+        ExchangeRateBulkWriter.Result saved = null;
         try {
-            // 1. 최신 환율 데이터 갱신 (한국수출입은행 API 호출 - 스케줄러 전용)
-            log.info("1. [{}] 수출입은행 API 직접 호출 중...", schedule);
-            ExchangeRateServiceImpl serviceImpl = (ExchangeRateServiceImpl) exchangeRateService;
-            List<ExchangeResponseDTO> latestRates = serviceImpl.getExchangeRatesFromKoreaEximForScheduler();
-            log.info("✓ [{}] API에서 환율 데이터 수집 완료: {}개 통화", schedule, latestRates.size());
+            // 1. 최신 환율 데이터 갱신 (환율 제공자 동시 조회, 기한 내 우선순위가 가장 높은 결과 사용)
+            log.info("1. [{}] 환율 제공자 조회 중...", schedule);
+            fetched = rateProviderFailover.fetchLatestRates();
+            log.info("✓ [{}] {}에서 환율 데이터 수집 완료: {}개 통화", schedule, fetched.getProviderName(), fetched.getRates().size());
 
             // 2. 환율 데이터를 DB에 저장
             log.info("2. [{}] 환율 데이터 DB 저장 중...", schedule);
-            storageService.saveExchangeRates(latestRates, "KOREA_EXIM");
+            saved = storageService.saveExchangeRates(fetched.getRates(), fetched.getProviderName());
             log.info("✓ [{}] 환율 데이터 DB 저장 완료", schedule);
 
             // 3. 현재 환율을 히스토리 테이블에 저장
@@ -79,49 +98,146 @@ public class ExchangeRateScheduler {
             log.info("✓ [{}] 환율 히스토리 저장 완료", schedule);
 
             log.info("========== [{}] 환율 데이터 갱신 및 히스토리 저장 완료 ==========", schedule);
+            finishRun(run, fetched, saved, null);
             
         } catch (Exception e) {
             log.error("[{}] 환율 데이터 갱신 중 오류 발생", schedule, e);
-            // TODO: 알림 시스템 연동 (슬랙, 이메일 등)
-            // 스케줄러 실패 시 담당자에게 즉시 알림
+            // 실패 알림은 exchange.ingest.run{outcome=failure}, exchange.rate.data.age 메트릭 기준으로 설정
+            finishRun(run, fetched, saved, e);
         }
     }
 
     /**
-     * 매시간 정각에 환율 데이터 갱신 (실시간성 확보) - API 한도 절약을 위해 비활성화
-     * - 장중에는 자주 갱신하여 실시간성 확보
+     * 수집 실행 기록 종료
+     * @param saved 저장 결과 (저장 전에 실패하면 null)
+     * @param error 실패 원인 (성공 시 null)
+     */
+    private void finishRun(RateIngestMetrics.Run run, RateProviderFailover.Result fetched,
+                           ExchangeRateBulkWriter.Result saved, Exception error) {
+        RateIngestMetrics.Outcome outcome = error != null ? RateIngestMetrics.Outcome.FAILURE
+                : saved != null && saved.getApplied() > 0 ? RateIngestMetrics.Outcome.SUCCESS
+                : RateIngestMetrics.Outcome.NO_CHANGE;
+        ingestMetrics.finishRun(run, outcome,
+                fetched != null ? fetched.getProviderName() : null,
+                fetched != null ? fetched.getRates().size() : 0,
+                saved != null ? saved.getApplied() : 0,
+                error);
+    }
+
+    /**
+     * 평일 업무 시간 매시 정각에 환율 데이터 갱신 (실시간성 확보)
+     * - 고시가 없는 야간/주말에는 실행하지 않음
+     * - 클러스터 공용 호출 장부의 남은 예산이 기준 이상일 때만 실행 (오전/오후 정기 수집 예산 보호)
+     * - 분산 락으로 한 인스턴스만 API 호출
+     * - 장중 틱 수집이 켜져 있으면 실행하지 않음 (장중 틱 수집이 더 짧은 간격으로 대신 수집)
      * 
-     * 크론 표현식: 0 0 * * * * : 매시간 정각
+     * 크론 표현식: 0 0 10-18 * * MON-FRI : 월~금 10시~18시 매시 정각
      */
-    // @Scheduled(cron = "0 0 * * * *", zone = "Asia/Seoul") // API 한도 절약을 위해 비활성화
+    @Scheduled(cron = Constants.Schedule.HOURLY_UPDATE_CRON, zone = Constants.Schedule.ZONE)
     public void hourlyUpdateExchangeRates() {
-        log.info("시간별 환율 데이터 갱신 시작");
+        if (intradayEnabled) {
+            return;
+        }
+        long remaining = callBudget.getRemaining(ExchangeApiCallBudget.Purpose.LIVE);
+        if (remaining < Constants.Schedule.HOURLY_UPDATE_MIN_REMAINING_CALLS) {
+            log.info("시간별 환율 데이터 갱신 건너뜀 - 남은 API 호출 예산 부족: {}", remaining);
+            return;
+        }
+        
+        String instanceId = UUID.randomUUID().toString();
+        if (!distributedLockService.trySchedulerLock("hourlyExchangeRateUpdate", instanceId)) {
+            log.debug("시간별 환율 갱신 스케줄러가 다른 인스턴스에서 실행 중입니다.");
+            return;
+        }
         
+        log.info("시간별 환율 데이터 갱신 시작 (남은 API 호출 예산: {})", remaining);
+        RateIngestMetrics.Run run = ingestMetrics.startRun("hourly");
+        RateProviderFailover.Result fetched = null;
         try {
-            List<ExchangeResponseDTO> latestRates = exchangeRateService.getAllExchangeRates();
-            if (!latestRates.isEmpty()) {
-                storageService.saveExchangeRates(latestRates, "KOREA_EXIM");
-                log.info("✓ 시간별 환율 데이터 갱신 및 저장 완료: {}개 통화", latestRates.size());
+            fetched = rateProviderFailover.fetchLatestRates();
+            ExchangeRateBulkWriter.Result saved = null;
+            if (!fetched.getRates().isEmpty()) {
+                saved = storageService.saveExchangeRates(fetched.getRates(), fetched.getProviderName());
+                log.info("✓ 시간별 환율 데이터 갱신 및 저장 완료 ({}): {}개 통화", fetched.getProviderName(), fetched.getRates().size());
             }
+            finishRun(run, fetched, saved, null);
             
         } catch (Exception e) {
             log.warn("시간별 환율 데이터 갱신 중 오류 발생: {}", e.getMessage());
             // 시간별 갱신 실패는 경고 레벨로 처리 (치명적이지 않음)
+            finishRun(run, fetched, null, e);
+        } finally {
+            distributedLockService.releaseSchedulerLock("hourlyExchangeRateUpdate", instanceId);
+        }
+    }
+
+    /**
+     * 장중 틱 수집 (custom.intraday.enabled=true 일 때만, 기본 10분 간격)
+     * - 평일 장중(MARKET_OPEN_HOUR~MARKET_CLOSE_HOUR, 한국 시간)에만 수집 (야간/주말에는 새 고시가 없음)
+     * - 공휴일에는 제공자가 직전 영업일 기준일로 응답하므로 저장되는 변경이 없음
+     * - 환율 제공자 조회 후 최신 환율 저장 → 환율이 바뀌면 스냅샷 교체와 함께 모든 구독자(장중 틱 저장소 등)에 반영
+     * - 수출입은행 제공자가 활성화된 경우 시간별 갱신과 같은 남은 호출 예산 기준 적용 (로컬 제공자만 쓰면 예산 무관)
+     * - 분산 락으로 한 인스턴스만 수집
+     */
+    @Scheduled(fixedDelayString = Constants.Schedule.INTRADAY_TICK_INTERVAL,
+               initialDelayString = Constants.Schedule.INTRADAY_TICK_INTERVAL)
+    public void collectIntradayTick() {
+        if (!intradayEnabled || !isMarketHours()) {
+            return;
+        }
+        if (koreaEximProvider.isEnabled()) {
+            long remaining = callBudget.getRemaining(ExchangeApiCallBudget.Purpose.LIVE);
+            if (remaining < Constants.Schedule.HOURLY_UPDATE_MIN_REMAINING_CALLS) {
+                log.debug("장중 틱 수집 건너뜀 - 남은 API 호출 예산 부족: {}", remaining);
+                return;
+            }
         }
+        
+        String instanceId = UUID.randomUUID().toString();
+        if (!distributedLockService.trySchedulerLock("intradayTick", instanceId)) {
+            log.debug("장중 틱 수집이 다른 인스턴스에서 실행 중입니다.");
+            return;
+        }
+        
+        RateIngestMetrics.Run run = ingestMetrics.startRun("intraday");
+        RateProviderFailover.Result fetched = null;
+        try {
+            fetched = rateProviderFailover.fetchLatestRates();
+            ExchangeRateBulkWriter.Result saved = null;
+            if (!fetched.getRates().isEmpty()) {
+                saved = storageService.saveExchangeRates(fetched.getRates(), fetched.getProviderName());
+                log.debug("장중 틱 수집 완료 ({}): {}개 통화", fetched.getProviderName(), fetched.getRates().size());
+            }
+            finishRun(run, fetched, saved, null);
+        } catch (Exception e) {
+            log.warn("장중 틱 수집 중 오류 발생: {}", e.getMessage());
+            finishRun(run, fetched, null, e);
+        } finally {
+            distributedLockService.releaseSchedulerLock("intradayTick", instanceId);
+        }
+    }
+
+    private static boolean isMarketHours() {
+        ZonedDateTime now = ZonedDateTime.now(ZoneId.of(Constants.Schedule.ZONE));
+        DayOfWeek dayOfWeek = now.getDayOfWeek();
+        return dayOfWeek != DayOfWeek.SATURDAY && dayOfWeek != DayOfWeek.SUNDAY
+                && now.getHour() >= Constants.Schedule.MARKET_OPEN_HOUR
+                && now.getHour() < Constants.Schedule.MARKET_CLOSE_HOUR;
     }
 
     /**
      * 매일 오후 6시에 환율 히스토리 정리 (선택사항)
      * - 오래된 히스토리 데이터 정리
-     * - 90일 이상 된 데이터 삭제 (DB 용량 관리)
+     * - 보관 기간(가장 긴 차트/백필 기간인 365일)보다 오래된 데이터 삭제 (DB 용량 관리)
+     * - 보관 기간이 백필 범위보다 짧으면 확장 백필이 매일 지워진 날짜를 다시 수집하므로 두 기간을 맞춤
      */
-    @Scheduled(cron = "0 0 18 * * MON-FRI", zone = "Asia/Seoul")
+    @Scheduled(cron = Constants.Schedule.HISTORY_CLEANUP_CRON, zone = Constants.Schedule.ZONE)
     public void cleanupOldHistory() {
         log.info("========== 오래된 환율 히스토리 정리 시작 ==========");
         
         try {
-            // 90일 이상 된 히스토리 데이터 삭제
-            int deletedCount = historyService.deleteOldHistory(90);
+            // 보관 기간이 지난 히스토리 데이터 삭제
+            int deletedCount = historyService.deleteOldHistory(Constants.Exchange.HISTORY_RETENTION_DAYS);
             
             if (deletedCount > 0) {
                 log.info("✓ 환율 히스토리 정리 완료: {} 건 삭제", deletedCount);
@@ -142,14 +258,14 @@ public class ExchangeRateScheduler {
      * 서비스 시작 후 7일차에 히스토리 데이터를 90일로 확장
      * - 매일 오전 10시에 체크하여 조건 만족 시 실행
      */
-    @Scheduled(cron = "0 0 10 * * MON-FRI", zone = "Asia/Seoul")
+    @Scheduled(cron = Constants.Schedule.HISTORY_EXPAND_CRON, zone = Constants.Schedule.ZONE)
     public void autoExpandTo90Days() {
         try {
             // ServiceStartTracker로 확장 조건 체크
             if (shouldExpandTo90Days()) {
                 log.info("========== 자동 히스토리 확장 시작 (90일) ==========");
-                initService.expandHistoricalData(90);
-                log.info("========== 자동 히스토리 확장 완료 (90일) ==========");
+                initService.expandHistoricalData(90, ExchangeApiCallBudget.Purpose.BACKFILL);
+                log.info("========== 자동 히스토리 확장 요청 완료 (90일, 백그라운드 진행) ==========");
             }
         } catch (Exception e) {
             log.error("90일 히스토리 자동 확장 중 오류 발생", e);
@@ -159,13 +275,13 @@ public class ExchangeRateScheduler {
     /**
      * 서비스 시작 후 30일차에 히스토리 데이터를 180일로 확장
      */
-    @Scheduled(cron = "0 0 10 * * MON-FRI", zone = "Asia/Seoul")
+    @Scheduled(cron = Constants.Schedule.HISTORY_EXPAND_CRON, zone = Constants.Schedule.ZONE)
     public void autoExpandTo180Days() {
         try {
             if (shouldExpandTo180Days()) {
                 log.info("========== 자동 히스토리 확장 시작 (180일) ==========");
-                initService.expandHistoricalData(180);
-                log.info("========== 자동 히스토리 확장 완료 (180일) ==========");
+                initService.expandHistoricalData(180, ExchangeApiCallBudget.Purpose.BACKFILL);
+                log.info("========== 자동 히스토리 확장 요청 완료 (180일, 백그라운드 진행) ==========");
             }
         } catch (Exception e) {
             log.error("180일 히스토리 자동 확장 중 오류 발생", e);
@@ -175,13 +291,13 @@ public class ExchangeRateScheduler {
     /**
      * 서비스 시작 후 90일차에 히스토리 데이터를 365일로 확장
      */
-    @Scheduled(cron = "0 0 10 * * MON-FRI", zone = "Asia/Seoul")
+    @Scheduled(cron = Constants.Schedule.HISTORY_EXPAND_CRON, zone = Constants.Schedule.ZONE)
     public void autoExpandTo365Days() {
         try {
             if (shouldExpandTo365Days()) {
                 log.info("========== 자동 히스토리 확장 시작 (365일) ==========");
-                initService.expandHistoricalData(365);
-                log.info("========== 자동 히스토리 확장 완료 (365일) ==========");
+                initService.expandHistoricalData(365, ExchangeApiCallBudget.Purpose.BACKFILL);
+                log.info("========== 자동 히스토리 확장 요청 완료 (365일, 백그라운드 진행) ==========");
             }
         } catch (Exception e) {
             log.error("365일 히스토리 자동 확장 중 오류 발생", e);
@@ -191,13 +307,13 @@ public class ExchangeRateScheduler {
     /**
      * 매일 자동 초기화 체크 (서비스 시작 시 30일 데이터 확보)
      */
-    @Scheduled(cron = "0 30 8 * * MON-FRI", zone = "Asia/Seoul")
+    @Scheduled(cron = Constants.Schedule.HISTORY_INIT_CRON, zone = Constants.Schedule.ZONE)
     public void autoInitializeIfNeeded() {
         try {
             if (initService.needsInitialization()) {
                 log.info("========== 자동 초기화 시작 (30일) ==========");
-                initService.initializeHistoricalData();
-                log.info("========== 자동 초기화 완료 (30일) ==========");
+                initService.initializeHistoricalData(ExchangeApiCallBudget.Purpose.BACKFILL);
+                log.info("========== 자동 초기화 요청 완료 (30일, 백그라운드 진행) ==========");
             }
         } catch (Exception e) {
             log.error("자동 초기화 중 오류 발생", e);
@@ -64,13 +64,19 @@ public class SecurityConfig {
                         .requestMatchers("/api/exchangeList").permitAll()
                         .requestMatchers("/api/exchange/realtime").permitAll()
                         .requestMatchers("/api/exchange/chart").permitAll()
+                        .requestMatchers("/api/exchange/intraday").permitAll()
                         .requestMatchers("/api/exchange/weekly").permitAll()
                         .requestMatchers("/api/exchange/monthly").permitAll()
                         .requestMatchers("/api/exchange/3months").permitAll()
                         .requestMatchers("/api/exchange/6months").permitAll()
                         .requestMatchers("/api/exchange/yearly").permitAll()
+                        .requestMatchers("/api/exchange/history").permitAll()
                         .requestMatchers("/api/exchange/calculate/**").permitAll()
                         .requestMatchers("/api/exchange/news/**").permitAll()
+                        .requestMatchers("/api/exchange/stream").permitAll()
+                        .requestMatchers("/api/service/rate-snapshot").permitAll()
+                        // 실시간 환율 푸시 (WebSocket/STOMP, 구독 전용)
+                        .requestMatchers("/ws/rates/**").permitAll()
                         // 피드백 유형 조회는 공개
                         .requestMatchers("/api/feedback/types").permitAll()
                         // FCM 테스트 API (테스트/개발 환경에서만)
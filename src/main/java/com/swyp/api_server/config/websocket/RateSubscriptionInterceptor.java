@@ -0,0 +1,57 @@
+package com.swyp.api_server.config.websocket;
+
+import com.swyp.api_server.common.constants.Constants;
+import com.swyp.api_server.domain.rate.ExchangeList;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 환율 푸시 채널 인바운드 검증
+ * - 클라이언트는 구독만 가능 (SEND 거부)
+ * - 구독 대상은 /topic/rates 또는 지원 통화의 /topic/rates/{통화코드}로 제한
+ *   (임의 토픽 구독으로 브로커 메모리가 늘어나는 것을 방지)
+ */
+@Component
+public class RateSubscriptionInterceptor implements ChannelInterceptor {
+
+    private static final Set<String> ALLOWED_DESTINATIONS = Arrays.stream(ExchangeList.ExchangeType.values())
+            .map(type -> Constants.WebSocket.RATE_TOPIC_PREFIX + type.getCode())
+            .collect(Collectors.collectingAndThen(Collectors.toSet(), set -> {
+                set.add(Constants.WebSocket.RATES_TOPIC);
+                return Set.copyOf(set);
+            }));
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+
+        StompCommand command = accessor.getCommand();
+        if (command == StompCommand.SEND) {
+            throw new MessageDeliveryException("환율 푸시 채널은 구독 전용입니다.");
+        }
+        if (command == StompCommand.SUBSCRIBE && !isAllowedDestination(accessor.getDestination())) {
+            throw new MessageDeliveryException("지원하지 않는 구독 대상입니다: " + accessor.getDestination());
+        }
+        return message;
+    }
+
+    /**
+     * 구독 가능한 환율 토픽 여부
+     */
+    public static boolean isAllowedDestination(String destination) {
+        return destination != null && ALLOWED_DESTINATIONS.contains(destination);
+    }
+}
@@ -0,0 +1,66 @@
+package com.swyp.api_server.config.websocket;
+
+import com.swyp.api_server.common.constants.Constants;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+
+/**
+ * 실시간 환율 푸시 WebSocket(STOMP) 설정
+ * - 엔드포인트: /ws/rates (인증 불필요, 조회 전용)
+ * - 구독: /topic/rates (전체 통화), /topic/rates/{통화코드} (단일 통화)
+ * - 유휴 구독자를 많이 유지할 수 있도록 프레임/전송 버퍼 크기를 작게 제한
+ */
+@Configuration
+@EnableWebSocketMessageBroker
+@RequiredArgsConstructor
+public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+
+    private final RateSubscriptionInterceptor rateSubscriptionInterceptor;
+
+    private TaskScheduler heartbeatScheduler;
+
+    /**
+     * 하트비트용 스케줄러 (STOMP 설정이 생성하는 messageBrokerTaskScheduler 재사용)
+     */
+    @Autowired
+    public void setHeartbeatScheduler(@Lazy @Qualifier("messageBrokerTaskScheduler") TaskScheduler heartbeatScheduler) {
+        this.heartbeatScheduler = heartbeatScheduler;
+    }
+
+    @Override
+    public void registerStompEndpoints(StompEndpointRegistry registry) {
+        registry.addEndpoint(Constants.WebSocket.RATE_ENDPOINT)
+                .setAllowedOriginPatterns("*");
+    }
+
+    @Override
+    public void configureMessageBroker(MessageBrokerRegistry registry) {
+        long heartbeat = Constants.WebSocket.HEARTBEAT_INTERVAL_MS;
+        registry.enableSimpleBroker(Constants.WebSocket.TOPIC_PREFIX)
+                .setHeartbeatValue(new long[]{heartbeat, heartbeat})
+                .setTaskScheduler(heartbeatScheduler);
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(rateSubscriptionInterceptor);
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setMessageSizeLimit(Constants.WebSocket.MESSAGE_SIZE_LIMIT_BYTES)
+                .setSendBufferSizeLimit(Constants.WebSocket.SEND_BUFFER_SIZE_LIMIT_BYTES)
+                .setSendTimeLimit(Constants.WebSocket.SEND_TIME_LIMIT_MS)
+                .setTimeToFirstMessage(Constants.WebSocket.TIME_TO_FIRST_MESSAGE_MS);
+    }
+}
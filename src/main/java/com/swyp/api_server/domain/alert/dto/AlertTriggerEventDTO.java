@@ -0,0 +1,40 @@
+package com.swyp.api_server.domain.alert.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 알림 발송 이벤트 (SSE 스트림 전달용)
+ * - 목표 환율 달성 / 오늘의 환율 알림이 발송된 알림 설정 정보
+ */
+@Schema(description = "알림 발송 이벤트")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AlertTriggerEventDTO {
+
+    @Schema(description = "알림 설정 ID", example = "12")
+    private Long alertId;
+
+    @Schema(description = "알림 종류 (TARGET_RATE_ACHIEVED, DAILY_RATE_ALERT)", example = "TARGET_RATE_ACHIEVED")
+    private String alertType;
+
+    @Schema(description = "통화 코드", example = "USD")
+    private String currencyCode;
+
+    @Schema(description = "목표 환율 (오늘의 환율 알림은 null)", example = "1350.00")
+    private BigDecimal targetPrice;
+
+    @Schema(description = "발송 시점 환율", example = "1348.50")
+    private BigDecimal currentRate;
+
+    @Schema(description = "발송 시각")
+    private LocalDateTime triggeredAt;
+}
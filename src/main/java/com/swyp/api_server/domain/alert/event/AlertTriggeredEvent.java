@@ -0,0 +1,43 @@
+package com.swyp.api_server.domain.alert.event;
+
+import com.swyp.api_server.common.constants.Constants;
+import com.swyp.api_server.domain.alert.dto.AlertTriggerEventDTO;
+import com.swyp.api_server.entity.AlertSetting;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 알림 발송 이벤트
+ * - 알림 스케줄러가 푸시 발송 후 알림 설정을 갱신하는 트랜잭션에서 발행
+ * - SSE 스트림 등은 커밋 이후 이 이벤트를 받아 해당 사용자에게 전달
+ */
+@Getter
+@RequiredArgsConstructor
+public class AlertTriggeredEvent {
+
+    private final String userEmail;
+    private final AlertTriggerEventDTO payload;
+
+    public static AlertTriggeredEvent targetAchieved(AlertSetting alert, BigDecimal currentRate) {
+        return of(alert, Constants.Fcm.TARGET_RATE_ACHIEVED, alert.getTargetPrice(), currentRate);
+    }
+
+    public static AlertTriggeredEvent dailyAlert(AlertSetting alert, BigDecimal currentRate) {
+        return of(alert, Constants.Fcm.DAILY_RATE_ALERT, null, currentRate);
+    }
+
+    private static AlertTriggeredEvent of(AlertSetting alert, String alertType, BigDecimal targetPrice, BigDecimal currentRate) {
+        AlertTriggerEventDTO payload = AlertTriggerEventDTO.builder()
+                .alertId(alert.getId())
+                .alertType(alertType)
+                .currencyCode(alert.getCurrencyCode())
+                .targetPrice(targetPrice)
+                .currentRate(currentRate)
+                .triggeredAt(LocalDateTime.now())
+                .build();
+        return new AlertTriggeredEvent(alert.getUser().getEmail(), payload);
+    }
+}
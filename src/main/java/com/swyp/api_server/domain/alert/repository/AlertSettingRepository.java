@@ -8,6 +8,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -40,6 +41,14 @@ public interface AlertSettingRepository extends JpaRepository<AlertSetting, Long
            "AND a.targetAchieved = false AND u.fcmToken IS NOT NULL AND u.fcmToken != ''")
     List<AlertSetting> findActiveTargetPriceAlertsWithValidTokens();
     
+    /**
+     * 특정 통화들의 목표 환율 알림이 활성화된 설정들 조회 (유효한 FCM 토큰 보유자만)
+     */
+    @Query("SELECT a FROM AlertSetting a JOIN a.user u WHERE a.isActive = true AND a.targetPricePush = true " +
+           "AND a.targetAchieved = false AND u.fcmToken IS NOT NULL AND u.fcmToken != '' " +
+           "AND a.currencyCode IN :currencyCodes")
+    List<AlertSetting> findActiveTargetPriceAlertsWithValidTokensByCurrencyCodeIn(@Param("currencyCodes") Collection<String> currencyCodes);
+    
     /**
      * 특정 시간대의 오늘의 환율 알림 설정 조회
      */
@@ -7,8 +7,12 @@ import com.swyp.api_server.domain.alert.dto.AlertTargetRequestDTO;
 import com.swyp.api_server.domain.alert.dto.AlertTargetResponseDTO;
 import com.swyp.api_server.domain.alert.dto.AlertDailyRequestDTO;
 import com.swyp.api_server.domain.alert.dto.AlertDailyResponseDTO;
+import com.swyp.api_server.domain.alert.event.AlertTriggeredEvent;
 import com.swyp.api_server.domain.alert.repository.AlertSettingRepository;
 import com.swyp.api_server.domain.rate.ExchangeList;
+import com.swyp.api_server.domain.rate.dto.response.ExchangeResponseDTO;
+import com.swyp.api_server.domain.rate.event.RateChangeSetEvent;
+import com.swyp.api_server.domain.rate.monitoring.RateIngestMetrics;
 import com.swyp.api_server.domain.rate.service.ExchangeRateService;
 import com.swyp.api_server.domain.user.repository.UserRepository;
 import com.swyp.api_server.domain.notification.service.FCMService;
@@ -21,14 +25,20 @@ import com.swyp.api_server.exception.CustomException;
 import com.swyp.api_server.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.math.BigDecimal;
 import java.time.LocalTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -46,6 +56,11 @@ public class AlertSettingServiceImpl implements AlertSettingService {
     private final FCMService fcmService;
     private final FCMDuplicatePreventionService fcmDuplicatePreventionService;
     private final DistributedLockService distributedLockService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RateIngestMetrics ingestMetrics;
+    
+    /** 이 노드에서 마지막으로 목표 환율을 평가한 통화별 환율 */
+    private final Map<String, BigDecimal> lastEvaluatedRates = new ConcurrentHashMap<>();
     
     @Override
     public void saveAlertSettings(String userEmail, List<AlertSettingRequestDTO> alertSettings) {
@@ -79,9 +94,48 @@ public class AlertSettingServiceImpl implements AlertSettingService {
     }
     
     
+    /**
+     * 주기적 목표 환율 체크 (수집 이벤트를 받지 못한 노드, 재시작 직후 보완용)
+     * - 이 노드에서 마지막으로 평가한 환율과 현재 스냅샷을 비교해 바뀐 통화만 평가 (변경이 없으면 DB 조회 없음)
+     */
     @Override
     @Scheduled(fixedRate = 300000) // 5분마다 실행
     public void checkTargetPriceAchievement() {
+        Map<String, BigDecimal> changedRates = new HashMap<>();
+        for (ExchangeResponseDTO rate : exchangeRateService.getAllExchangeRates()) {
+            if (rate.getExchangeRate() == null) {
+                continue;
+            }
+            BigDecimal evaluated = lastEvaluatedRates.get(rate.getCurrencyCode());
+            if (evaluated == null || evaluated.compareTo(rate.getExchangeRate()) != 0) {
+                changedRates.put(rate.getCurrencyCode(), rate.getExchangeRate());
+            }
+        }
+        
+        if (changedRates.isEmpty()) {
+            log.debug("환율 변경 없음 - 목표 환율 체크 건너뜀");
+            return;
+        }
+        ingestMetrics.timeStage(RateIngestMetrics.Stage.ALERT, () -> evaluateTargetPrices(changedRates));
+    }
+    
+    /**
+     * 환율 수집 커밋 후 환율이 바뀐 통화만 즉시 목표 환율 체크
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onRateChangeSet(RateChangeSetEvent event) {
+        Map<String, BigDecimal> changedRates = event.getChangedRates();
+        if (!changedRates.isEmpty()) {
+            ingestMetrics.timeStage(RateIngestMetrics.Stage.ALERT, () -> evaluateTargetPrices(changedRates));
+        }
+    }
+    
+    /**
+     * 변경된 통화의 목표 환율 달성 체크 및 알림 발송
+     * @param changedRates 통화 코드 → 현재 환율
+     */
+    private void evaluateTargetPrices(Map<String, BigDecimal> changedRates) {
         // 분산 락으로 중복 실행 방지
         String instanceId = java.util.UUID.randomUUID().toString();
         if (!distributedLockService.trySchedulerLock("targetPriceCheck", instanceId)) {
@@ -90,10 +144,12 @@ public class AlertSettingServiceImpl implements AlertSettingService {
         }
         
         try {
-        List<AlertSetting> targetAlerts = alertSettingRepository.findActiveTargetPriceAlertsWithValidTokens();
+        List<AlertSetting> targetAlerts = alertSettingRepository
+                .findActiveTargetPriceAlertsWithValidTokensByCurrencyCodeIn(changedRates.keySet());
         
         if (targetAlerts.isEmpty()) {
             log.debug("목표 환율 알림 대상이 없습니다.");
+            lastEvaluatedRates.putAll(changedRates);
             return;
         }
         
@@ -110,9 +166,8 @@ public class AlertSettingServiceImpl implements AlertSettingService {
                     continue;
                 }
                 
-                // 현재 환율 조회
-                var currentRate = exchangeRateService.getRealtimeExchangeRate(alert.getCurrencyCode());
-                BigDecimal currentPrice = currentRate.getCurrentRate();
+                // 변경된 현재 환율
+                BigDecimal currentPrice = changedRates.get(alert.getCurrencyCode());
                 
                 // 목표 환율 달성 체크
                 if (currentPrice.compareTo(alert.getTargetPrice()) <= 0) {
@@ -121,6 +176,7 @@ public class AlertSettingServiceImpl implements AlertSettingService {
                     if (sent) {
                         alert.markTargetAchieved();
                         alertSettingRepository.save(alert);
+                        eventPublisher.publishEvent(AlertTriggeredEvent.targetAchieved(alert, currentPrice));
                         successCount++;
                         log.info("목표 환율 알림 발송 성공: 사용자={}, 통화={}, 목표={}, 현재={}", 
                                 alert.getUser().getEmail(), alert.getCurrencyCode(), 
@@ -142,6 +198,8 @@ public class AlertSettingServiceImpl implements AlertSettingService {
             log.info("목표 환율 체크 완료: 성공={}, 실패={}", successCount, failCount);
         }
         
+        lastEvaluatedRates.putAll(changedRates);
+        
         } finally {
             // 스케줄러 락 해제
             distributedLockService.releaseSchedulerLock("targetPriceCheck", instanceId);
@@ -187,6 +245,7 @@ public class AlertSettingServiceImpl implements AlertSettingService {
                 if (sent) {
                     alert.updateLastDailyAlertSent();
                     alertSettingRepository.save(alert);
+                    eventPublisher.publishEvent(AlertTriggeredEvent.dailyAlert(alert, currentRate.getCurrentRate()));
                     successCount++;
                     log.info("일일 환율 알림 발송 성공: 사용자={}, 통화={}", 
                             alert.getUser().getEmail(), alert.getCurrencyCode());
@@ -0,0 +1,44 @@
+package com.swyp.api_server.domain.rate;
+
+import com.swyp.api_server.exception.CustomException;
+import com.swyp.api_server.exception.ErrorCode;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+
+/**
+ * 환율 히스토리 조회 해상도
+ * - DAY: 일별 (기준일 그대로)
+ * - WEEK: 주별 (월요일 시작), MONTH: 월별 (1일 시작) - 구간 내 시가/고가/저가/종가로 집계
+ */
+public enum HistoryResolution {
+    DAY,
+    WEEK,
+    MONTH;
+
+    /**
+     * 기준일이 속한 구간의 시작일
+     */
+    public LocalDate bucketStart(LocalDate date) {
+        return switch (this) {
+            case DAY -> date;
+            case WEEK -> date.with(DayOfWeek.MONDAY);
+            case MONTH -> date.withDayOfMonth(1);
+        };
+    }
+
+    /**
+     * 요청 파라미터 변환 (대소문자 무시, 생략 시 DAY)
+     */
+    public static HistoryResolution from(String value) {
+        if (value == null || value.isBlank()) {
+            return DAY;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST,
+                "지원하지 않는 resolution입니다 (day, week, month): " + value);
+        }
+    }
+}
@@ -0,0 +1,370 @@
+package com.swyp.api_server.domain.rate.backfill;
+
+import com.swyp.api_server.common.constants.Constants;
+import com.swyp.api_server.domain.rate.dto.response.ExchangeResponseDTO;
+import com.swyp.api_server.domain.rate.entity.ExchangeRateHistory;
+import com.swyp.api_server.domain.rate.entity.HistoryBackfillCheckpoint;
+import com.swyp.api_server.domain.rate.event.ExchangeRateDataChangedEvent;
+import com.swyp.api_server.domain.rate.policy.ExchangeApiCallBudget;
+import com.swyp.api_server.domain.rate.provider.KoreaEximRateProvider;
+import com.swyp.api_server.domain.rate.repository.ExchangeRateBulkWriter;
+import com.swyp.api_server.domain.rate.repository.ExchangeRateHistoryRepository;
+import com.swyp.api_server.domain.rate.repository.HistoryBackfillCheckpointRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * 환율 히스토리 백필 엔진
+ * - 요청 스레드/스케줄러 스레드와 분리된 전용 스레드에서 실행 (한 번에 하나의 실행만 허용)
+ * - 최근 날짜부터 청크 단위로 처리하고, 청크마다 별도 트랜잭션으로 히스토리와 날짜별 체크포인트를 저장
+ * - 중단되거나 재시작해도 체크포인트에 처리된 날짜는 다시 호출하지 않음 (실패한 날짜만 최대 시도 횟수까지 재시도)
+ * - 청크 내 날짜는 제한된 병렬도로 동시에 호출하며, 호출마다 실시간 수집과 공유하는 호출 예산을 확보
+ * - 예산이 부족하면 대기하고, 대기 상한을 넘으면 일시 중지 (다시 요청하면 이어서 실행)
+ */
+@Slf4j
+@Component
+public class HistoryBackfillEngine {
+
+    private static final DateTimeFormatter API_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private final ExchangeRateHistoryRepository historyRepository;
+    private final HistoryBackfillCheckpointRepository checkpointRepository;
+    private final ExchangeRateBulkWriter bulkWriter;
+    private final KoreaEximRateProvider koreaEximProvider;
+    private final ExchangeApiCallBudget callBudget;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final ExecutorService runner;
+    private final ExecutorService fetchExecutor;
+    private final AtomicReference<HistoryBackfillProgress> progress =
+            new AtomicReference<>(HistoryBackfillProgress.IDLE);
+
+    public HistoryBackfillEngine(ExchangeRateHistoryRepository historyRepository,
+                                 HistoryBackfillCheckpointRepository checkpointRepository,
+                                 ExchangeRateBulkWriter bulkWriter,
+                                 KoreaEximRateProvider koreaEximProvider,
+                                 ExchangeApiCallBudget callBudget,
+                                 TransactionTemplate transactionTemplate,
+                                 ApplicationEventPublisher eventPublisher) {
+        this.historyRepository = historyRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.bulkWriter = bulkWriter;
+        this.koreaEximProvider = koreaEximProvider;
+        this.callBudget = callBudget;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+
+        this.runner = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "HistoryBackfill");
+            thread.setDaemon(true);
+            return thread;
+        });
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.fetchExecutor = Executors.newFixedThreadPool(Constants.Backfill.PARALLELISM, runnable -> {
+            Thread thread = new Thread(runnable, "HistoryBackfill-Fetch-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 진행 중인 청크는 버려지고 다음 실행에서 체크포인트 기준으로 이어서 처리
+        runner.shutdownNow();
+        fetchExecutor.shutdownNow();
+    }
+
+    /**
+     * 현재 진행 상황 조회
+     */
+    public HistoryBackfillProgress getProgress() {
+        return progress.get();
+    }
+
+    /**
+     * 백필 시작 (비동기)
+     * @param fromDate 시작일 (포함)
+     * @param toDate 종료일 (포함)
+     * @param phase 요청 구분 (로그/진행 상황 표시용)
+     * @param purpose 호출 예산 목적 (우선순위가 낮을수록 더 많은 예산을 남기고 중지)
+     * @return 시작 직후 진행 상황 (이미 실행 중이면 기존 실행의 진행 상황)
+     */
+    public synchronized HistoryBackfillProgress start(LocalDate fromDate, LocalDate toDate, String phase,
+                                                 ExchangeApiCallBudget.Purpose purpose) {
+        HistoryBackfillProgress current = progress.get();
+        if (current.isRunning()) {
+            log.info("[{}] 히스토리 백필이 이미 실행 중 ({}) - 요청 무시", phase, current.getPhase());
+            return current;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        HistoryBackfillProgress started = HistoryBackfillProgress.builder()
+                .state(HistoryBackfillProgress.State.RUNNING)
+                .phase(phase)
+                .purpose(purpose)
+                .fromDate(fromDate)
+                .toDate(toDate)
+                .startedAt(now)
+                .updatedAt(now)
+                .message("대상 날짜 확인 중")
+                .build();
+        progress.set(started);
+        runner.execute(() -> run(started));
+        return started;
+    }
+
+    private void run(HistoryBackfillProgress started) {
+        String phase = started.getPhase();
+        try {
+            List<LocalDate> dates = plan(started.getFromDate(), started.getToDate());
+            update(p -> p.toBuilder().totalDates(dates.size()).message("수집 중"));
+            log.info("[{}] 히스토리 백필 시작: {} ~ {}, 대상 {} 일", phase,
+                    started.getFromDate(), started.getToDate(), dates.size());
+
+            int consecutiveFailedChunks = 0;
+            for (int start = 0; start < dates.size(); start += Constants.Backfill.CHUNK_SIZE) {
+                List<LocalDate> chunk = dates.subList(start, Math.min(start + Constants.Backfill.CHUNK_SIZE, dates.size()));
+                List<LocalDate> permitted = acquireBudget(chunk, started.getPurpose());
+                if (!permitted.isEmpty()) {
+                    ChunkOutcome outcome = persist(fetch(permitted));
+                    update(p -> p.toBuilder()
+                            .processedDates(p.getProcessedDates() + permitted.size())
+                            .savedDates(p.getSavedDates() + outcome.saved)
+                            .emptyDates(p.getEmptyDates() + outcome.empty)
+                            .failedDates(p.getFailedDates() + outcome.failed));
+                    log.info("[{}] 히스토리 백필 청크 완료: 저장 {}, 데이터 없음 {}, 실패 {} ({}/{})", phase,
+                            outcome.saved, outcome.empty, outcome.failed, progress.get().getProcessedDates(), dates.size());
+
+                    consecutiveFailedChunks = outcome.failed == permitted.size() ? consecutiveFailedChunks + 1 : 0;
+                    if (consecutiveFailedChunks >= Constants.Backfill.MAX_CONSECUTIVE_FAILED_CHUNKS) {
+                        finish(HistoryBackfillProgress.State.FAILED, "연속 실패로 중단 - 다시 요청하면 실패한 날짜부터 재시도");
+                        return;
+                    }
+                }
+                if (permitted.size() < chunk.size()) {
+                    finish(HistoryBackfillProgress.State.PAUSED, "API 호출 예산 부족으로 일시 중지 - 다시 요청하면 이어서 실행");
+                    return;
+                }
+            }
+            finish(HistoryBackfillProgress.State.COMPLETED, "완료");
+
+        } catch (Exception e) {
+            log.error("[{}] 히스토리 백필 중 오류 발생", phase, e);
+            finish(HistoryBackfillProgress.State.FAILED, "오류로 중단: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 호출 대상 날짜 (최근 날짜부터)
+     * - 평일 중 히스토리가 없고, 체크포인트상 데이터 없음/재시도 한도 초과가 아닌 날짜
+     * - 완료(DONE) 체크포인트는 히스토리 존재 여부로만 판단 (보관 기간 정리로 지워진 날짜는 다시 수집)
+     * - 보관 기간보다 오래된 날짜는 제외 (수집해도 당일 정리에서 다시 삭제됨)
+     */
+    private List<LocalDate> plan(LocalDate fromDate, LocalDate toDate) {
+        LocalDate retentionStart = LocalDate.now().minusDays(Constants.Exchange.HISTORY_RETENTION_DAYS);
+        if (fromDate.isBefore(retentionStart)) {
+            fromDate = retentionStart;
+        }
+        Set<LocalDate> skip = new HashSet<>(historyRepository.findDistinctBaseDatesBetween(fromDate, toDate));
+        for (HistoryBackfillCheckpoint checkpoint : checkpointRepository.findByBaseDateBetween(fromDate, toDate)) {
+            if (checkpoint.getStatus() != HistoryBackfillCheckpoint.Status.DONE
+                    && !checkpoint.needsRetry(Constants.Backfill.MAX_ATTEMPTS)) {
+                skip.add(checkpoint.getBaseDate());
+            }
+        }
+
+        List<LocalDate> dates = new ArrayList<>();
+        for (LocalDate date = toDate; !date.isBefore(fromDate); date = date.minusDays(1)) {
+            if (isBusinessDay(date) && !skip.contains(date)) {
+                dates.add(date);
+            }
+        }
+        return dates;
+    }
+
+    /**
+     * 청크 날짜별 호출 예산 확보 (부족하면 대기 상한까지 기다림)
+     * @return 예산을 확보한 날짜 (앞에서부터, 상한을 넘으면 그 이전 날짜까지만)
+     */
+    private List<LocalDate> acquireBudget(List<LocalDate> chunk, ExchangeApiCallBudget.Purpose purpose) {
+        List<LocalDate> permitted = new ArrayList<>(chunk.size());
+        for (LocalDate date : chunk) {
+            while (!callBudget.tryAcquire(purpose)) {
+                long waitNanos = callBudget.nanosUntilAvailable(purpose);
+                if (waitNanos > TimeUnit.SECONDS.toNanos(Constants.Backfill.MAX_BUDGET_WAIT_SECONDS)) {
+                    return permitted;
+                }
+                try {
+                    TimeUnit.NANOSECONDS.sleep(Math.max(waitNanos, TimeUnit.MILLISECONDS.toNanos(1)));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return permitted;
+                }
+            }
+            permitted.add(date);
+        }
+        return permitted;
+    }
+
+    /**
+     * 날짜별 API 호출 (제한된 병렬도)
+     */
+    private List<FetchResult> fetch(List<LocalDate> dates) throws InterruptedException {
+        List<Future<List<ExchangeResponseDTO>>> futures = new ArrayList<>(dates.size());
+        for (LocalDate date : dates) {
+            futures.add(fetchExecutor.submit(
+                    () -> koreaEximProvider.fetchRatesForDate(date.format(API_DATE_FORMAT))));
+        }
+
+        List<FetchResult> results = new ArrayList<>(dates.size());
+        for (int i = 0; i < dates.size(); i++) {
+            LocalDate date = dates.get(i);
+            try {
+                results.add(FetchResult.success(date,
+                        futures.get(i).get(Constants.Backfill.FETCH_TIMEOUT_SECONDS, TimeUnit.SECONDS)));
+            } catch (ExecutionException e) {
+                log.warn("날짜 {} 환율 데이터 호출 실패: {}", date, e.getCause().getMessage());
+                results.add(FetchResult.failure(date, e.getCause().getMessage()));
+            } catch (TimeoutException e) {
+                futures.get(i).cancel(true);
+                log.warn("날짜 {} 환율 데이터 호출 시간 초과", date);
+                results.add(FetchResult.failure(date, "호출 시간 초과"));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * 청크 저장 (청크마다 별도 트랜잭션: 히스토리 + 체크포인트)
+     */
+    private ChunkOutcome persist(List<FetchResult> results) {
+        return transactionTemplate.execute(status -> {
+            LocalDate min = results.get(0).date;
+            LocalDate max = results.get(0).date;
+            for (FetchResult result : results) {
+                min = result.date.isBefore(min) ? result.date : min;
+                max = result.date.isAfter(max) ? result.date : max;
+            }
+            Map<LocalDate, HistoryBackfillCheckpoint> checkpoints = new HashMap<>();
+            for (HistoryBackfillCheckpoint checkpoint : checkpointRepository.findByBaseDateBetween(min, max)) {
+                checkpoints.put(checkpoint.getBaseDate(), checkpoint);
+            }
+
+            ChunkOutcome outcome = new ChunkOutcome();
+            List<HistoryBackfillCheckpoint> touched = new ArrayList<>(results.size());
+            for (FetchResult result : results) {
+                HistoryBackfillCheckpoint checkpoint = checkpoints.computeIfAbsent(result.date, HistoryBackfillCheckpoint::new);
+                if (result.error != null) {
+                    checkpoint.markFailed(result.error);
+                    outcome.failed++;
+                } else if (result.rates.isEmpty()) {
+                    checkpoint.markEmpty();
+                    outcome.empty++;
+                } else {
+                    ExchangeRateBulkWriter.Result saved = bulkWriter.insertHistories(toHistories(result.date, result.rates));
+                    checkpoint.markDone(saved.getApplied());
+                    outcome.saved++;
+                }
+                touched.add(checkpoint);
+            }
+            checkpointRepository.saveAll(touched);
+
+            if (outcome.saved > 0) {
+                // 커밋 후 스냅샷/히스토리 컬럼 재구성
+                eventPublisher.publishEvent(ExchangeRateDataChangedEvent.history());
+            }
+            return outcome;
+        });
+    }
+
+    /**
+     * 수집한 환율을 히스토리 엔티티로 변환 (실시간 수집과 겹친 통화는 저장 시 유니크 키로 건너뜀)
+     */
+    private List<ExchangeRateHistory> toHistories(LocalDate date, List<ExchangeResponseDTO> rates) {
+        List<ExchangeRateHistory> histories = new ArrayList<>(rates.size());
+        for (ExchangeResponseDTO rate : rates) {
+            histories.add(ExchangeRateHistory.builder()
+                    .currencyCode(rate.getCurrencyCode())
+                    .currencyName(rate.getCurrencyName())
+                    .exchangeRate(rate.getExchangeRate())
+                    .baseDate(date)
+                    .build());
+        }
+        return histories;
+    }
+
+    private void update(Function<HistoryBackfillProgress, HistoryBackfillProgress.HistoryBackfillProgressBuilder> change) {
+        progress.updateAndGet(p -> change.apply(p).updatedAt(LocalDateTime.now()).build());
+    }
+
+    private void finish(HistoryBackfillProgress.State state, String message) {
+        update(p -> p.toBuilder().state(state).message(message));
+        HistoryBackfillProgress finished = progress.get();
+        log.info("[{}] 히스토리 백필 종료: {} - 저장 {}, 데이터 없음 {}, 실패 {} (전체 {} 일)", finished.getPhase(), state,
+                finished.getSavedDates(), finished.getEmptyDates(), finished.getFailedDates(), finished.getTotalDates());
+    }
+
+    /**
+     * 평일 여부 확인 (토, 일 제외)
+     */
+    private boolean isBusinessDay(LocalDate date) {
+        DayOfWeek dayOfWeek = date.getDayOfWeek();
+        return dayOfWeek != DayOfWeek.SATURDAY && dayOfWeek != DayOfWeek.SUNDAY;
+    }
+
+    /**
+     * 날짜별 호출 결과
+     */
+    private static final class FetchResult {
+        private final LocalDate date;
+        private final List<ExchangeResponseDTO> rates;
+        private final String error;
+
+        private FetchResult(LocalDate date, List<ExchangeResponseDTO> rates, String error) {
+            this.date = date;
+            this.rates = rates;
+            this.error = error;
+        }
+
+        static FetchResult success(LocalDate date, List<ExchangeResponseDTO> rates) {
+            return new FetchResult(date, rates, null);
+        }
+
+        static FetchResult failure(LocalDate date, String error) {
+            return new FetchResult(date, List.of(), error != null ? error : "알 수 없는 오류");
+        }
+    }
+
+    /**
+     * 청크 처리 결과 (날짜 수)
+     */
+    private static final class ChunkOutcome {
+        private int saved;
+        private int empty;
+        private int failed;
+    }
+}
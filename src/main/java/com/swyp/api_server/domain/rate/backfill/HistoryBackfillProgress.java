@@ -0,0 +1,59 @@
+package com.swyp.api_server.domain.rate.backfill;
+
+import com.swyp.api_server.domain.rate.policy.ExchangeApiCallBudget;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 환율 히스토리 백필 진행 상황 (불변)
+ */
+@Getter
+@Builder(toBuilder = true)
+public class HistoryBackfillProgress {
+
+    /**
+     * 실행 상태
+     */
+    public enum State {
+        IDLE,       // 실행한 적 없음
+        RUNNING,
+        PAUSED,     // 호출 예산 부족으로 일시 중지 (다시 요청하면 체크포인트부터 이어서 실행)
+        COMPLETED,
+        FAILED      // 연속 실패로 중단
+    }
+
+    static final HistoryBackfillProgress IDLE = HistoryBackfillProgress.builder().state(State.IDLE).build();
+
+    private final State state;
+    private final String phase;             // 초기화/확장 등 요청 구분
+    private final ExchangeApiCallBudget.Purpose purpose;    // 호출 예산 목적 (스케줄러: BACKFILL, 관리자: MANUAL)
+    private final LocalDate fromDate;
+    private final LocalDate toDate;
+    private final int totalDates;           // 이번 실행에서 호출할 날짜 수 (이미 처리된 날짜 제외)
+    private final int processedDates;
+    private final int savedDates;
+    private final int emptyDates;           // 데이터 없음 (공휴일 등)
+    private final int failedDates;
+    private final LocalDateTime startedAt;
+    private final LocalDateTime updatedAt;
+    private final String message;
+
+    /**
+     * 남은 예상 시간 (초, 처리한 날짜가 없거나 실행 중이 아니면 null)
+     */
+    public Long getEtaSeconds() {
+        if (state != State.RUNNING || processedDates == 0 || startedAt == null || updatedAt == null) {
+            return null;
+        }
+        long elapsedMillis = Duration.between(startedAt, updatedAt).toMillis();
+        return elapsedMillis * (totalDates - processedDates) / processedDates / 1000;
+    }
+
+    public boolean isRunning() {
+        return state == State.RUNNING;
+    }
+}
@@ -7,6 +7,7 @@ package com.swyp.api_server.domain.rate.controller;
  */
 import com.swyp.api_server.domain.rate.dto.request.BankExchangeInfoRequestDTO;
 import com.swyp.api_server.domain.rate.dto.response.BankExchangeInfoResponseDTO;
+import com.swyp.api_server.domain.rate.policy.RateResponseCachePolicy;
 import com.swyp.api_server.domain.rate.service.BankExchangeInfoService;
 import com.swyp.api_server.common.dto.ErrorResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -20,6 +21,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -30,9 +32,11 @@ import java.util.List;
 public class BankExchangeInfoController {
     
     private final BankExchangeInfoService bankInfoService;
+    private final RateResponseCachePolicy cachePolicy;
     
     /**
      * 모든 은행 정보 조회
+     * - 은행 정보 버전이 같으면 304 응답 (ETag)
      */
     @Operation(
         summary = "모든 은행 정보 조회",
@@ -65,10 +69,17 @@ public class BankExchangeInfoController {
                             "]"
                 )
             )
+        ),
+        @ApiResponse(
+            responseCode = "304", 
+            description = "클라이언트가 가진 은행 정보가 최신임 (본문 없음)"
         )
     })
     @GetMapping
-    public ResponseEntity<List<BankExchangeInfoResponseDTO>> getAllBanks() {
+    public ResponseEntity<List<BankExchangeInfoResponseDTO>> getAllBanks(WebRequest webRequest) {
+        if (cachePolicy.checkBankInfoNotModified(webRequest)) {
+            return null;
+        }
         List<BankExchangeInfoResponseDTO> banks = bankInfoService.getAllActiveBanks();
         return ResponseEntity.ok(banks);
     }
@@ -3,6 +3,8 @@ package com.swyp.api_server.domain.rate.controller;
 import com.swyp.api_server.common.dto.ErrorResponse;
 import com.swyp.api_server.domain.rate.dto.request.ExchangeRequestDTO;
 import com.swyp.api_server.domain.rate.dto.response.*;
+import com.swyp.api_server.domain.rate.policy.RateResponseCachePolicy;
+import com.swyp.api_server.domain.rate.service.ExchangeHistoryQueryService;
 import com.swyp.api_server.domain.rate.service.ExchangeRateService;
 import com.swyp.api_server.domain.rate.service.ExchangeRateHistoryService;
 import com.swyp.api_server.domain.rate.service.NewsService;
@@ -18,6 +20,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -35,7 +38,9 @@ public class ExchangeDetailViewController {
     
     private final ExchangeRateService exchangeRateService;
     private final ExchangeRateHistoryService historyService;
+    private final ExchangeHistoryQueryService historyQueryService;
     private final NewsService newsService;
+    private final RateResponseCachePolicy cachePolicy;
 
     /**
      * 특정 통화의 실시간 환율 및 변동률 조회 (변동률 포함)
@@ -53,6 +58,10 @@ public class ExchangeDetailViewController {
             description = "성공적으로 실시간 환율을 조회함",
             content = @Content(schema = @Schema(implementation = ExchangeRateWithChangeDto.class))
         ),
+        @ApiResponse(
+            responseCode = "304", 
+            description = "클라이언트가 가진 데이터가 최신임 (본문 없음)"
+        ),
         @ApiResponse(
             responseCode = "400", 
             description = "지원하지 않는 통화 코드입니다",
@@ -71,7 +80,12 @@ public class ExchangeDetailViewController {
     })
     public ResponseEntity<List<ExchangeRateWithChangeDto>> getRealtimeExchange(
             @Parameter(description = "통화 코드", example = "USD", required = true)
-            @RequestParam String currencyCode) {
+            @RequestParam String currencyCode,
+            WebRequest webRequest) {
+        
+        if (cachePolicy.checkRatesNotModified(webRequest)) {
+            return null;
+        }
         
         ExchangeRateWithChangeDto realtimeData = historyService.getRateWithChange(currencyCode);
         if (realtimeData == null) {
@@ -96,6 +110,10 @@ public class ExchangeDetailViewController {
             description = "성공적으로 차트 데이터를 조회함",
             content = @Content(schema = @Schema(implementation = ExchangeChartResponseDTO.class))
         ),
+        @ApiResponse(
+            responseCode = "304", 
+            description = "클라이언트가 가진 데이터가 최신임 (본문 없음)"
+        ),
         @ApiResponse(
             responseCode = "400", 
             description = "지원하지 않는 통화 코드입니다",
@@ -114,9 +132,16 @@ public class ExchangeDetailViewController {
     })
     public ResponseEntity<List<ExchangeChartResponseDTO>> getExchangeChart(
             @Parameter(description = "통화 코드", example = "USD", required = true)
-            @RequestParam String currencyCode) {
+            @RequestParam String currencyCode,
+            @Parameter(description = "남길 점 개수 (3~365, 생략 시 전체). 지정하면 LTTB 다운샘플링으로 극값을 보존하며 점 개수를 줄임", example = "60")
+            @RequestParam(required = false) Integer points,
+            WebRequest webRequest) {
+        
+        if (cachePolicy.checkChartNotModified(webRequest)) {
+            return null;
+        }
         
-        List<ExchangeChartResponseDTO> chartData = exchangeRateService.getExchangeChartData(currencyCode);
+        List<ExchangeChartResponseDTO> chartData = exchangeRateService.getHistoricalExchangeRate(currencyCode, 30, points);
         
         // 차트 데이터가 없는 경우에도 200 응답하되, 로그에 상세 정보 기록
         if (chartData.isEmpty()) {
@@ -126,6 +151,43 @@ public class ExchangeDetailViewController {
         return ResponseEntity.ok(chartData);
     }
 
+    /**
+     * 특정 통화의 장중 차트 조회
+     * @param currencyCode 통화 코드
+     * @param limit 최근 틱 수 (생략 시 보관 중인 전체)
+     * @return 전일 종가와 장중 틱
+     */
+    @GetMapping("/exchange/intraday")
+    @Operation(summary = "장중 환율 차트 조회",
+               description = "당일 수집된 환율 변동(틱)을 메모리에서 조회합니다. " +
+                          "환율이 바뀐 시점만 기록되며, 통화별로 장중 하루치(수집 간격 기준)까지 보관합니다. " +
+                          "전일 종가를 함께 제공하여 장중 등락을 계산할 수 있습니다.")
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200", 
+            description = "성공적으로 장중 차트를 조회함",
+            content = @Content(schema = @Schema(implementation = IntradayChartResponseDTO.class))
+        ),
+        @ApiResponse(
+            responseCode = "400", 
+            description = "지원하지 않는 통화 코드이거나 limit 범위 오류",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "404", 
+            description = "해당 통화의 장중 환율 데이터가 없습니다",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        )
+    })
+    public ResponseEntity<IntradayChartResponseDTO> getIntradayChart(
+            @Parameter(description = "통화 코드", example = "USD", required = true)
+            @RequestParam String currencyCode,
+            @Parameter(description = "최근 틱 수 (1~통화별 보관 틱 수, 생략 시 전체)", example = "30")
+            @RequestParam(required = false) Integer limit) {
+        
+        return ResponseEntity.ok(exchangeRateService.getIntradayChart(currencyCode, limit));
+    }
+
     /**
      * 특정 통화의 최근 1주일 환율 변동 조회 (평일 기준)
      * @param currencyCode 통화 코드
@@ -140,6 +202,10 @@ public class ExchangeDetailViewController {
             description = "성공적으로 주간 환율 데이터를 조회함",
             content = @Content(schema = @Schema(implementation = ExchangeChartResponseDTO.class))
         ),
+        @ApiResponse(
+            responseCode = "304", 
+            description = "클라이언트가 가진 데이터가 최신임 (본문 없음)"
+        ),
         @ApiResponse(
             responseCode = "400", 
             description = "지원하지 않는 통화 코드입니다",
@@ -158,9 +224,16 @@ public class ExchangeDetailViewController {
     })
     public ResponseEntity<List<ExchangeChartResponseDTO>> getWeeklyExchange(
             @Parameter(description = "통화 코드", example = "USD", required = true)
-            @RequestParam String currencyCode) {
+            @RequestParam String currencyCode,
+            @Parameter(description = "남길 점 개수 (3~365, 생략 시 전체). 지정하면 LTTB 다운샘플링으로 극값을 보존하며 점 개수를 줄임", example = "60")
+            @RequestParam(required = false) Integer points,
+            WebRequest webRequest) {
         
-        List<ExchangeChartResponseDTO> weeklyData = exchangeRateService.getHistoricalExchangeRate(currencyCode, 7);
+        if (cachePolicy.checkChartNotModified(webRequest)) {
+            return null;
+        }
+        
+        List<ExchangeChartResponseDTO> weeklyData = exchangeRateService.getHistoricalExchangeRate(currencyCode, 7, points);
         return ResponseEntity.ok(weeklyData);
     }
 
@@ -178,6 +251,10 @@ public class ExchangeDetailViewController {
             description = "성공적으로 월간 환율 데이터를 조회함",
             content = @Content(schema = @Schema(implementation = ExchangeChartResponseDTO.class))
         ),
+        @ApiResponse(
+            responseCode = "304", 
+            description = "클라이언트가 가진 데이터가 최신임 (본문 없음)"
+        ),
         @ApiResponse(
             responseCode = "400", 
             description = "지원하지 않는 통화 코드입니다",
@@ -196,9 +273,16 @@ public class ExchangeDetailViewController {
     })
     public ResponseEntity<List<ExchangeChartResponseDTO>> getMonthlyExchange(
             @Parameter(description = "통화 코드", example = "USD", required = true)
-            @RequestParam String currencyCode) {
+            @RequestParam String currencyCode,
+            @Parameter(description = "남길 점 개수 (3~365, 생략 시 전체). 지정하면 LTTB 다운샘플링으로 극값을 보존하며 점 개수를 줄임", example = "60")
+            @RequestParam(required = false) Integer points,
+            WebRequest webRequest) {
         
-        List<ExchangeChartResponseDTO> monthlyData = exchangeRateService.getHistoricalExchangeRate(currencyCode, 30);
+        if (cachePolicy.checkChartNotModified(webRequest)) {
+            return null;
+        }
+        
+        List<ExchangeChartResponseDTO> monthlyData = exchangeRateService.getHistoricalExchangeRate(currencyCode, 30, points);
         return ResponseEntity.ok(monthlyData);
     }
 
@@ -216,6 +300,10 @@ public class ExchangeDetailViewController {
             description = "성공적으로 3개월 환율 데이터를 조회함",
             content = @Content(schema = @Schema(implementation = ExchangeChartResponseDTO.class))
         ),
+        @ApiResponse(
+            responseCode = "304", 
+            description = "클라이언트가 가진 데이터가 최신임 (본문 없음)"
+        ),
         @ApiResponse(
             responseCode = "400", 
             description = "지원하지 않는 통화 코드입니다",
@@ -234,9 +322,16 @@ public class ExchangeDetailViewController {
     })
     public ResponseEntity<List<ExchangeChartResponseDTO>> get3MonthsExchange(
             @Parameter(description = "통화 코드", example = "USD", required = true)
-            @RequestParam String currencyCode) {
+            @RequestParam String currencyCode,
+            @Parameter(description = "남길 점 개수 (3~365, 생략 시 전체). 지정하면 LTTB 다운샘플링으로 극값을 보존하며 점 개수를 줄임", example = "60")
+            @RequestParam(required = false) Integer points,
+            WebRequest webRequest) {
         
-        List<ExchangeChartResponseDTO> quarterlyData = exchangeRateService.getHistoricalExchangeRate(currencyCode, 90);
+        if (cachePolicy.checkChartNotModified(webRequest)) {
+            return null;
+        }
+        
+        List<ExchangeChartResponseDTO> quarterlyData = exchangeRateService.getHistoricalExchangeRate(currencyCode, 90, points);
         return ResponseEntity.ok(quarterlyData);
     }
 
@@ -254,6 +349,10 @@ public class ExchangeDetailViewController {
             description = "성공적으로 6개월 환율 데이터를 조회함",
             content = @Content(schema = @Schema(implementation = ExchangeChartResponseDTO.class))
         ),
+        @ApiResponse(
+            responseCode = "304", 
+            description = "클라이언트가 가진 데이터가 최신임 (본문 없음)"
+        ),
         @ApiResponse(
             responseCode = "400", 
             description = "지원하지 않는 통화 코드입니다",
@@ -272,9 +371,16 @@ public class ExchangeDetailViewController {
     })
     public ResponseEntity<List<ExchangeChartResponseDTO>> get6MonthsExchange(
             @Parameter(description = "통화 코드", example = "USD", required = true)
-            @RequestParam String currencyCode) {
+            @RequestParam String currencyCode,
+            @Parameter(description = "남길 점 개수 (3~365, 생략 시 전체). 지정하면 LTTB 다운샘플링으로 극값을 보존하며 점 개수를 줄임", example = "60")
+            @RequestParam(required = false) Integer points,
+            WebRequest webRequest) {
         
-        List<ExchangeChartResponseDTO> biannualData = exchangeRateService.getHistoricalExchangeRate(currencyCode, 180);
+        if (cachePolicy.checkChartNotModified(webRequest)) {
+            return null;
+        }
+        
+        List<ExchangeChartResponseDTO> biannualData = exchangeRateService.getHistoricalExchangeRate(currencyCode, 180, points);
         return ResponseEntity.ok(biannualData);
     }
 
@@ -292,6 +398,10 @@ public class ExchangeDetailViewController {
             description = "성공적으로 1년 환율 데이터를 조회함",
             content = @Content(schema = @Schema(implementation = ExchangeChartResponseDTO.class))
         ),
+        @ApiResponse(
+            responseCode = "304", 
+            description = "클라이언트가 가진 데이터가 최신임 (본문 없음)"
+        ),
         @ApiResponse(
             responseCode = "400", 
             description = "지원하지 않는 통화 코드입니다",
@@ -310,12 +420,66 @@ public class ExchangeDetailViewController {
     })
     public ResponseEntity<List<ExchangeChartResponseDTO>> getYearlyExchange(
             @Parameter(description = "통화 코드", example = "USD", required = true)
-            @RequestParam String currencyCode) {
+            @RequestParam String currencyCode,
+            @Parameter(description = "남길 점 개수 (3~365, 생략 시 전체). 지정하면 LTTB 다운샘플링으로 극값을 보존하며 점 개수를 줄임", example = "60")
+            @RequestParam(required = false) Integer points,
+            WebRequest webRequest) {
         
-        List<ExchangeChartResponseDTO> yearlyData = exchangeRateService.getHistoricalExchangeRate(currencyCode, 365);
+        if (cachePolicy.checkChartNotModified(webRequest)) {
+            return null;
+        }
+        
+        List<ExchangeChartResponseDTO> yearlyData = exchangeRateService.getHistoricalExchangeRate(currencyCode, 365, points);
         return ResponseEntity.ok(yearlyData);
     }
 
+    /**
+     * 특정 통화의 기간/해상도 지정 환율 히스토리 조회
+     * @param currencyCode 통화 코드
+     * @param from 조회 시작일 (yyyyMMdd)
+     * @param to 조회 종료일 (yyyyMMdd)
+     * @param resolution 해상도 (day, week, month)
+     * @return 구간별 시가/고가/저가/종가
+     */
+    @GetMapping("/exchange/history")
+    @Operation(summary = "기간/해상도 지정 환율 히스토리 조회 (평일 기준)",
+               description = "원하는 기간(from~to)의 환율을 일별/주별/월별로 조회합니다. " +
+                          "주별/월별은 구간 내 평일 환율의 시가/고가/저가/종가로 집계되며, 일별은 네 값이 모두 같습니다. " +
+                          "메모리에 적재된 히스토리에서 응답하며, 적재 범위(최근 1년)보다 오래된 기간은 DB에서 조회합니다.")
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200", 
+            description = "성공적으로 환율 히스토리를 조회함",
+            content = @Content(schema = @Schema(implementation = ExchangeHistoryResponseDTO.class))
+        ),
+        @ApiResponse(
+            responseCode = "304", 
+            description = "클라이언트가 가진 데이터가 최신임 (본문 없음)"
+        ),
+        @ApiResponse(
+            responseCode = "400", 
+            description = "지원하지 않는 통화 코드이거나 기간/해상도가 올바르지 않습니다",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        )
+    })
+    public ResponseEntity<ExchangeHistoryResponseDTO> getExchangeHistory(
+            @Parameter(description = "통화 코드", example = "USD", required = true)
+            @RequestParam String currencyCode,
+            @Parameter(description = "조회 시작일 (yyyyMMdd, 생략 시 종료일 30일 전)", example = "20250101")
+            @RequestParam(required = false) String from,
+            @Parameter(description = "조회 종료일 (yyyyMMdd, 생략 시 어제)", example = "20250331")
+            @RequestParam(required = false) String to,
+            @Parameter(description = "해상도 (day, week, month, 생략 시 day)", example = "week")
+            @RequestParam(required = false) String resolution,
+            WebRequest webRequest) {
+        
+        if (cachePolicy.checkChartNotModified(webRequest)) {
+            return null;
+        }
+        
+        return ResponseEntity.ok(historyQueryService.getHistory(currencyCode, from, to, resolution));
+    }
+
     // /**
     //  * 환율 관련 최신 뉴스 조회
     //  * @return 환율 관련 뉴스 리스트
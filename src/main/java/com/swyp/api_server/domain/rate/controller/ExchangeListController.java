@@ -1,5 +1,6 @@
 package com.swyp.api_server.domain.rate.controller;
 
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -9,15 +10,21 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import com.swyp.api_server.common.dto.ErrorResponse;
 import com.swyp.api_server.domain.rate.dto.response.ExchangeResponseDTO;
 import com.swyp.api_server.domain.rate.dto.ExchangeRateWithChangeDto;
+import com.swyp.api_server.domain.rate.policy.RateResponseCachePolicy;
 import com.swyp.api_server.domain.rate.service.ExchangeRateService;
 import com.swyp.api_server.domain.rate.service.ExchangeRateHistoryService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.nio.ByteBuffer;
 
-import java.util.List;
 /**
  * 환율 목록 조회 컨트롤러
  * - 12개국 통화의 실시간 환율 정보 제공
@@ -30,9 +37,11 @@ public class ExchangeListController {
     
     private final ExchangeRateService exchangeRateService;
     private final ExchangeRateHistoryService historyService;
+    private final RateResponseCachePolicy cachePolicy;
 
     /**
      * 12개국 통화의 실시간 환율 목록 조회
+     * - 클라이언트가 가진 데이터가 최신이면 304 응답 (ETag)
      * @return 12개국 환율 정보 리스트
      */
     @GetMapping("/exchangeList")
@@ -46,6 +55,10 @@ public class ExchangeListController {
             description = "성공적으로 환율 목록을 조회함",
             content = @Content(schema = @Schema(implementation = ExchangeRateWithChangeDto.class))
         ),
+        @ApiResponse(
+            responseCode = "304", 
+            description = "클라이언트가 가진 환율 목록이 최신임 (본문 없음)"
+        ),
         @ApiResponse(
             responseCode = "503", 
             description = "환율 데이터베이스 서비스가 일시적으로 이용할 수 없습니다",
@@ -57,9 +70,16 @@ public class ExchangeListController {
             content = @Content(schema = @Schema(implementation = ErrorResponse.class))
         )
     })
-    public ResponseEntity<List<ExchangeRateWithChangeDto>> getExchangeList() {
-        // ExchangeRateHistoryService를 통해 변동률이 포함된 환율 데이터 조회
-        List<ExchangeRateWithChangeDto> exchangeRates = historyService.getRatesWithChange();
-        return ResponseEntity.ok(exchangeRates);
+    public ResponseEntity<Resource> getExchangeList(WebRequest webRequest) {
+        if (cachePolicy.checkRatesNotModified(webRequest)) {
+            return null;
+        }
+        
+        // 수집 시점에 미리 직렬화된 환율 목록(변동률 포함)을 복사 없이 응답 스트림으로 전송
+        ByteBuffer body = historyService.getRatesWithChangeJson();
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .contentLength(body.remaining())
+                .body(new InputStreamResource(new ByteBufferBackedInputStream(body)));
     }
 }
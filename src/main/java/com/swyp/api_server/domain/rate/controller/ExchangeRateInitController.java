@@ -1,5 +1,7 @@
 package com.swyp.api_server.domain.rate.controller;
 
+import com.swyp.api_server.domain.rate.backfill.HistoryBackfillProgress;
+import com.swyp.api_server.domain.rate.policy.ExchangeApiCallBudget;
 import com.swyp.api_server.domain.rate.service.ExchangeRateHistoryInitService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -8,6 +10,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
@@ -23,6 +27,7 @@ import java.util.Map;
 public class ExchangeRateInitController {
 
     private final ExchangeRateHistoryInitService initService;
+    private final ExchangeApiCallBudget callBudget;
 
     /**
      * 1년치 환율 히스토리 데이터 초기화
@@ -30,7 +35,7 @@ public class ExchangeRateInitController {
      * - 서비스 초기 구동 시 사용
      */
     @Operation(summary = "환율 히스토리 초기화", 
-               description = "과거 1년치 평일 환율 데이터를 수집하여 히스토리 테이블에 저장합니다. " +
+               description = "최근 30 평일 환율 데이터 수집을 시작합니다 (백그라운드 진행, /backfill-status로 진행 상황 확인). " +
                            "기존 데이터가 있으면 건너뜁니다.")
     @PostMapping("/init-history")
     public ResponseEntity<Map<String, Object>> initializeHistoricalData() {
@@ -47,15 +52,11 @@ public class ExchangeRateInitController {
                 ));
             }
 
-            // 초기화 실행
-            initService.initializeHistoricalData();
+            // 초기화 시작 (백그라운드)
+            HistoryBackfillProgress progress = initService.initializeHistoricalData(ExchangeApiCallBudget.Purpose.MANUAL);
             
-            log.info("환율 히스토리 초기화 완료");
-            return ResponseEntity.ok(Map.of(
-                "success", true,
-                "message", "1년치 환율 히스토리 데이터 초기화가 완료되었습니다.",
-                "action", "completed"
-            ));
+            log.info("환율 히스토리 초기화 요청 완료");
+            return ResponseEntity.ok(backfillResponse("환율 히스토리 데이터 수집을 시작했습니다.", "started", progress));
             
         } catch (Exception e) {
             log.error("환율 히스토리 초기화 실패", e);
@@ -72,21 +73,18 @@ public class ExchangeRateInitController {
      * - 주의: 기존 히스토리 데이터가 모두 삭제됩니다
      */
     @Operation(summary = "환율 히스토리 강제 재초기화", 
-               description = "기존 히스토리 데이터를 삭제하고 1년치 데이터를 재수집합니다. " +
+               description = "기존 히스토리 데이터와 백필 체크포인트를 삭제하고 최근 30 평일 데이터를 재수집합니다 (백그라운드 진행). " +
                            "주의: 기존 데이터가 모두 삭제됩니다.")
     @PostMapping("/force-reinit-history")
     public ResponseEntity<Map<String, Object>> forceReinitializeHistoricalData() {
         try {
             log.warn("환율 히스토리 강제 재초기화 요청 받음");
             
-            initService.forceReinitialize();
+            HistoryBackfillProgress progress = initService.forceReinitialize();
             
-            log.info("환율 히스토리 강제 재초기화 완료");
-            return ResponseEntity.ok(Map.of(
-                "success", true,
-                "message", "환율 히스토리 데이터 강제 재초기화가 완료되었습니다.",
-                "action", "force_completed"
-            ));
+            log.info("환율 히스토리 강제 재초기화 요청 완료");
+            return ResponseEntity.ok(backfillResponse("기존 데이터를 삭제하고 환율 히스토리 재수집을 시작했습니다.",
+                "force_started", progress));
             
         } catch (Exception e) {
             log.error("환율 히스토리 강제 재초기화 실패", e);
@@ -102,7 +100,9 @@ public class ExchangeRateInitController {
      * 히스토리 데이터 확장 (3개월, 6개월, 1년)
      */
     @Operation(summary = "환율 히스토리 확장", 
-               description = "기존 데이터를 3개월/6개월/1년으로 확장합니다. (API 호출 최적화)")
+               description = "기존 데이터를 3개월/6개월/1년으로 확장합니다. " +
+                           "청크 단위로 저장하며 백그라운드에서 진행됩니다 (/backfill-status로 진행 상황과 남은 시간 확인). " +
+                           "API 호출 예산이 부족하면 일시 중지되고, 다시 요청하면 처리된 날짜 이후부터 이어서 수집합니다.")
     @PostMapping("/expand-history/{days}")
     public ResponseEntity<Map<String, Object>> expandHistoricalData(@PathVariable int days) {
         try {
@@ -114,13 +114,13 @@ public class ExchangeRateInitController {
             }
 
             log.info("환율 히스토리 확장 요청: {} 일", days);
-            initService.expandHistoricalData(days);
+            HistoryBackfillProgress progress = initService.expandHistoricalData(days, ExchangeApiCallBudget.Purpose.MANUAL);
             
-            return ResponseEntity.ok(Map.of(
-                "success", true,
-                "message", days + "일치 환율 히스토리 확장이 완료되었습니다.",
-                "expandedDays", days
-            ));
+            Map<String, Object> response = backfillResponse(
+                progress != null ? days + "일치 환율 히스토리 확장을 시작했습니다." : "이미 " + days + "일치 데이터가 존재합니다.",
+                progress != null ? "started" : "skipped", progress);
+            response.put("expandedDays", days);
+            return ResponseEntity.ok(response);
             
         } catch (Exception e) {
             log.error("환율 히스토리 확장 실패: {} 일", days, e);
@@ -131,6 +131,49 @@ public class ExchangeRateInitController {
         }
     }
 
+    /**
+     * 히스토리 백필 진행 상황 조회
+     */
+    @Operation(summary = "히스토리 백필 진행 상황", 
+               description = "초기화/확장 백필의 상태(RUNNING, PAUSED, COMPLETED, FAILED), 처리한 날짜 수와 남은 예상 시간(etaSeconds)을 조회합니다.")
+    @GetMapping("/backfill-status")
+    public ResponseEntity<Map<String, Object>> getBackfillStatus() {
+        HistoryBackfillProgress progress = initService.getBackfillProgress();
+        return ResponseEntity.ok(backfillResponse(progress.getMessage(), progress.getState().name().toLowerCase(), progress));
+    }
+
+    /**
+     * 수출입은행 API 당일 호출 장부 조회
+     */
+    @Operation(summary = "API 호출 예산 조회", 
+               description = "클러스터 전체의 당일 수출입은행 API 호출 수와 남은 예산을 조회합니다. " +
+                           "목적별(LIVE: 정기 수집, BACKFILL: 자동 백필, MANUAL: 관리자 실행) 호출 수와 사용 가능한 남은 호출 수를 함께 반환합니다.")
+    @GetMapping("/api-quota")
+    public ResponseEntity<Map<String, Object>> getApiQuota() {
+        ExchangeApiCallBudget.Usage usage = callBudget.getUsage();
+        Map<String, Long> availableByPurpose = new LinkedHashMap<>();
+        for (ExchangeApiCallBudget.Purpose purpose : ExchangeApiCallBudget.Purpose.values()) {
+            availableByPurpose.put(purpose.name(), Math.max(0, purpose.ceiling() - usage.getUsed()));
+        }
+        
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("usage", usage);
+        response.put("availableByPurpose", availableByPurpose);
+        return ResponseEntity.ok(response);
+    }
+
+    private Map<String, Object> backfillResponse(String message, String action, HistoryBackfillProgress progress) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("message", message);
+        response.put("action", action);
+        if (progress != null) {
+            response.put("progress", progress);
+        }
+        return response;
+    }
+
     /**
      * 초기화 상태 확인
      */
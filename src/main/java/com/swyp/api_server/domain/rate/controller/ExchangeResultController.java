@@ -7,18 +7,27 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.swyp.api_server.common.dto.ErrorResponse;
 
+import com.swyp.api_server.domain.rate.dto.request.ExchangeCalculationBatchRequestDTO;
 import com.swyp.api_server.domain.rate.dto.request.ExchangeCalculationRequestDTO;
+import com.swyp.api_server.domain.rate.dto.request.ExchangeReverseCalculationRequestDTO;
+import com.swyp.api_server.domain.rate.dto.response.ExchangeCalculationBatchItemResponseDTO;
 import com.swyp.api_server.domain.rate.dto.response.ExchangeResultResponseDTO;
 import com.swyp.api_server.domain.rate.service.ExchangeCalculationService;
 import com.swyp.api_server.domain.rate.service.ExchangeCalculationServiceImpl;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
 import java.util.List;
 
@@ -35,6 +44,7 @@ import java.util.List;
 public class ExchangeResultController {
     
     private final ExchangeCalculationService exchangeCalculationService;
+    private final ObjectMapper objectMapper;
 
     /**
      * 은행별 환전 예상 금액 비교
@@ -133,6 +143,92 @@ public class ExchangeResultController {
         return ResponseEntity.ok(results);
     }
 
+    /**
+     * 일괄 환전 계산 (여러 통화/금액 조합)
+     */
+    @Operation(
+        summary = "일괄 환전 계산 (여러 통화/금액 한 번에)",
+        description = "여러 (통화, 금액, 방향, 은행) 조합을 한 번의 요청으로 계산합니다. " +
+                      "모든 항목은 같은 환율/은행 정보로 계산되며, 결과는 항목 순서대로 JSON 배열로 스트리밍됩니다. " +
+                      "항목 하나가 실패해도 나머지 항목은 계산되고, 실패한 항목은 error에 사유가 담깁니다. " +
+                      "한 번에 최대 100개 항목까지 요청할 수 있습니다."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200", 
+            description = "항목별 환전 결과 배열 (스트리밍)",
+            content = @Content(schema = @Schema(implementation = ExchangeCalculationBatchItemResponseDTO.class))
+        ),
+        @ApiResponse(
+            responseCode = "400", 
+            description = "잘못된 요청 (빈 목록, 최대 항목 수 초과, 항목 형식 오류)",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        )
+    })
+    @PostMapping("/exchange/calculate/batch")
+    public ResponseEntity<StreamingResponseBody> calculateExchangeRatesBatch(
+            @Valid @RequestBody ExchangeCalculationBatchRequestDTO request) {
+        
+        List<ExchangeCalculationRequestDTO> items = request.getItems();
+        log.info("일괄 환전 계산 요청: {}개 항목", items.size());
+        
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.writeStartArray();
+                exchangeCalculationService.calculateExchangeRatesBatch(items, item -> {
+                    try {
+                        generator.writeObject(item);
+                        generator.flush();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                generator.writeEndArray();
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    /**
+     * 필요 금액 역산 (목표 수령액 기준)
+     */
+    @Operation(
+        summary = "필요 금액 역산 (목표 수령액 기준)",
+        description = "받고 싶은 금액을 입력하면 은행별로 필요한 금액을 계산합니다. " +
+                      "원화→외화: 목표 외화 금액에 필요한 원화(1원 단위), 외화→원화: 목표 원화 금액에 필요한 외화(0.01 단위). " +
+                      "각 은행의 스프레드/우대율/수수료를 모두 반영하며, 결과의 inputAmount가 필요 금액이고 finalAmount는 그 금액으로 실제 받는 금액(목표 이상)입니다. " +
+                      "필요 금액이 적은 은행 순으로 정렬되며, 수수료율 때문에 목표에 도달할 수 없는 은행은 제외됩니다."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200", 
+            description = "은행별 필요 금액을 반환함",
+            content = @Content(schema = @Schema(implementation = ExchangeResultResponseDTO.class))
+        ),
+        @ApiResponse(
+            responseCode = "400", 
+            description = "잘못된 요청 (유효하지 않은 통화 코드, 목표 금액 또는 지원하지 않는 은행)",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "500", 
+            description = "서버에서 예상치 못한 오류가 발생했습니다",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        )
+    })
+    @PostMapping("/exchange/calculate/reverse")
+    public ResponseEntity<List<ExchangeResultResponseDTO>> calculateRequiredAmounts(
+            @Valid @RequestBody ExchangeReverseCalculationRequestDTO request) {
+        
+        log.info("필요 금액 역산 요청: currencyCode={}, targetAmount={}, direction={}", 
+                request.getCurrencyCode(), request.getTargetAmount(), request.getDirection());
+        
+        List<ExchangeResultResponseDTO> results = exchangeCalculationService.calculateRequiredAmounts(request);
+        return ResponseEntity.ok(results);
+    }
+
     /**
      * 간편 환전 계산 (GET 방식)
      */
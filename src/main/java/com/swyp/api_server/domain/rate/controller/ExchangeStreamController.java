@@ -0,0 +1,84 @@
+package com.swyp.api_server.domain.rate.controller;
+
+import com.swyp.api_server.common.constants.Constants;
+import com.swyp.api_server.common.util.AuthUtil;
+import com.swyp.api_server.domain.rate.stream.ExchangeStreamHub;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 환율/알림 실시간 스트림 컨트롤러 (Server-Sent Events)
+ * - WebSocket을 사용할 수 없는 환경(프록시 등)을 위한 푸시 채널
+ * - 실시간 환율/알림 API 폴링을 대체
+ */
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+@Tag(name = "Exchange Rate Stream API", description = "환율/알림 실시간 스트림 API (SSE)")
+public class ExchangeStreamController {
+
+    private final ExchangeStreamHub streamHub;
+    private final AuthUtil authUtil;
+
+    /**
+     * 환율 변경 및 알림 발송 이벤트 스트림
+     * @param lastEventId 재연결 시 마지막으로 받은 이벤트 ID
+     * @return SSE 스트림
+     */
+    @GetMapping("/exchange/stream")
+    @Operation(summary = "환율/알림 실시간 스트림 (SSE)",
+               description = "환율이 갱신되면 rate 이벤트(변경된 통화만 포함)를 전송합니다. " +
+                          "Authorization 헤더로 로그인한 경우 본인의 알림 설정이 발송될 때 alert 이벤트도 전송합니다. " +
+                          "재연결 시 Last-Event-ID 헤더를 보내면 놓친 이벤트를 재전송하며, " +
+                          "재전송할 수 없는 경우 resync 이벤트를 보내므로 클라이언트는 환율 목록을 다시 조회해야 합니다.")
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200", 
+            description = "스트림 연결 성공 (text/event-stream)"
+        ),
+        @ApiResponse(
+            responseCode = "401", 
+            description = "Authorization 헤더의 토큰이 유효하지 않음"
+        ),
+        @ApiResponse(
+            responseCode = "503", 
+            description = "서버의 스트림 연결 수가 가득 참 (Retry-After 이후 재시도)"
+        )
+    })
+    public ResponseEntity<SseEmitter> stream(
+            @Parameter(description = "마지막으로 받은 이벤트 ID (재연결 시)")
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+            HttpServletRequest request) {
+        
+        // 토큰이 있으면 알림 이벤트도 수신, 없으면 환율 이벤트만 수신
+        String userEmail = StringUtils.hasText(request.getHeader(HttpHeaders.AUTHORIZATION))
+                ? authUtil.extractUserEmail(request) : null;
+        
+        SseEmitter emitter = streamHub.connect(userEmail, lastEventId);
+        if (emitter == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(Constants.Stream.RETRY_AFTER_SECONDS))
+                    .build();
+        }
+        
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .header("X-Accel-Buffering", "no")  // 프록시(nginx) 응답 버퍼링 비활성화
+                .body(emitter);
+    }
+}
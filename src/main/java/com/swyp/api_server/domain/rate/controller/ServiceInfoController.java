@@ -1,6 +1,8 @@
 package com.swyp.api_server.domain.rate.controller;
 
 import com.swyp.api_server.domain.rate.service.ServiceStartTracker;
+import com.swyp.api_server.domain.rate.snapshot.RateSnapshot;
+import com.swyp.api_server.domain.rate.snapshot.RateSnapshotHolder;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -9,6 +11,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.HashMap;
 import java.util.Map;
 
 /**
@@ -22,6 +25,7 @@ import java.util.Map;
 public class ServiceInfoController {
 
     private final ServiceStartTracker serviceStartTracker;
+    private final RateSnapshotHolder rateSnapshotHolder;
 
     /**
      * 현재 히스토리 데이터 확장 단계 조회
@@ -100,4 +104,22 @@ public class ServiceInfoController {
             "updateSchedule", "평일 오전 9:30, 오후 3:00"
         ));
     }
-}
\ No newline at end of file
+
+    /**
+     * 현재 환율 스냅샷 버전 조회 (데이터 갱신 여부 확인용)
+     */
+    @Operation(summary = "환율 스냅샷 버전 조회", 
+               description = "서버 메모리에 로딩된 환율 스냅샷의 버전과 기준일을 조회합니다. " +
+                           "버전이 이전 값과 같으면 환율 데이터가 변경되지 않은 것입니다.")
+    @GetMapping("/service/rate-snapshot")
+    public ResponseEntity<Map<String, Object>> getRateSnapshotInfo() {
+        RateSnapshot snapshot = rateSnapshotHolder.current();
+        
+        Map<String, Object> response = new HashMap<>();
+        response.put("version", Long.toHexString(snapshot.getVersion()));
+        response.put("baseDate", snapshot.getBaseDate());
+        response.put("builtAt", snapshot.getBuiltAt() != null ? snapshot.getBuiltAt().toString() : null);
+        response.put("currencyCount", snapshot.getRates().size());
+        return ResponseEntity.ok(response);
+    }
+}
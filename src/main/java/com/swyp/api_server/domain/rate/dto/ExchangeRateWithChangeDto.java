@@ -58,23 +58,33 @@ public class ExchangeRateWithChangeDto {
      * 현재 환율과 전일 환율로부터 변동률 계산하여 DTO 생성
      */
     public static ExchangeRateWithChangeDto of(ExchangeRate current, ExchangeRateHistory previous) {
+        return of(current.getCurrencyCode(), current.getCurrencyName(), current.getExchangeRate(),
+                current.getBaseDate(), previous != null ? previous.getExchangeRate() : null);
+    }
+    
+    /**
+     * 현재 환율 값과 전일 환율 값으로부터 변동률 계산하여 DTO 생성
+     * @param previousRate 전일 환율 (없으면 null)
+     */
+    public static ExchangeRateWithChangeDto of(String currencyCode, String currencyName, BigDecimal currentRate,
+                                               String baseDate, BigDecimal previousRate) {
         ExchangeRateWithChangeDto dto = new ExchangeRateWithChangeDto();
         
         // 기본 환율 정보
-        dto.currencyCode = current.getCurrencyCode();
-        dto.currencyName = current.getCurrencyName();
-        dto.flagImageUrl = getFlagImageUrl(current.getCurrencyCode());
-        dto.exchangeRate = current.getExchangeRate();
-        dto.baseDate = current.getBaseDate();
+        dto.currencyCode = currencyCode;
+        dto.currencyName = currencyName;
+        dto.flagImageUrl = getFlagImageUrl(currencyCode);
+        dto.exchangeRate = currentRate;
+        dto.baseDate = baseDate;
         
         // 변동률 계산
-        if (previous != null) {
+        if (previousRate != null) {
             // 변동 금액 계산
-            dto.changeAmount = current.getExchangeRate().subtract(previous.getExchangeRate())
+            dto.changeAmount = currentRate.subtract(previousRate)
                     .setScale(2, RoundingMode.HALF_UP);
             
             // 변동 퍼센트 계산 ((현재값 - 이전값) / 이전값 * 100)
-            BigDecimal changeRatio = dto.changeAmount.divide(previous.getExchangeRate(), 6, RoundingMode.HALF_UP);
+            BigDecimal changeRatio = dto.changeAmount.divide(previousRate, 6, RoundingMode.HALF_UP);
             dto.changePercent = changeRatio.multiply(BigDecimal.valueOf(100))
                     .setScale(2, RoundingMode.HALF_UP);
             
@@ -0,0 +1,34 @@
+package com.swyp.api_server.domain.rate.dto.request;
+
+import com.swyp.api_server.common.constants.Constants;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 일괄 환전 계산 요청 DTO
+ * - 여러 (통화, 금액, 방향, 은행) 조합을 한 번에 계산
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(name = "ExchangeCalculationBatchRequest", description = "일괄 환전 계산 요청")
+public class ExchangeCalculationBatchRequestDTO {
+
+    @Valid
+    @NotEmpty(message = "계산할 항목은 1개 이상이어야 합니다.")
+    @Size(max = Constants.Exchange.CALCULATION_BATCH_MAX_ITEMS,
+          message = "한 번에 계산할 수 있는 항목은 최대 " + Constants.Exchange.CALCULATION_BATCH_MAX_ITEMS + "개입니다.")
+    @Schema(description = "계산할 항목 목록 (최대 100개)", required = true)
+    private List<ExchangeCalculationRequestDTO> items;
+}
@@ -0,0 +1,44 @@
+package com.swyp.api_server.domain.rate.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+
+/**
+ * 필요 금액 역산 요청 DTO
+ * - 목표 수령액을 받기 위해 은행별로 얼마를 내야 하는지 계산
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(name = "ExchangeReverseCalculationRequest", description = "필요 금액 역산 요청")
+public class ExchangeReverseCalculationRequestDTO {
+    
+    @NotBlank(message = "통화 코드는 필수입니다.")
+    @Schema(description = "환전할 통화 코드", example = "USD", required = true)
+    private String currencyCode;
+    
+    @NotNull(message = "목표 수령액은 필수입니다.")
+    @DecimalMin(value = "0.01", message = "목표 수령액은 0.01 이상이어야 합니다.")
+    @Schema(description = "받고 싶은 금액 (원화→외화: 외화 기준, 외화→원화: 원화 기준)", example = "1000.00", required = true)
+    private BigDecimal targetAmount;
+    
+    @Schema(description = "환전 방향 (KRW_TO_FOREIGN: 원화→외화, FOREIGN_TO_KRW: 외화→원화)", 
+            example = "KRW_TO_FOREIGN", defaultValue = "KRW_TO_FOREIGN")
+    @Builder.Default
+    private ExchangeCalculationRequestDTO.ExchangeDirection direction =
+            ExchangeCalculationRequestDTO.ExchangeDirection.KRW_TO_FOREIGN;
+    
+    @Schema(description = "특정 은행만 조회 (선택사항)", example = "KB국민은행")
+    private String specificBank;
+}
@@ -0,0 +1,56 @@
+package com.swyp.api_server.domain.rate.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.swyp.api_server.domain.rate.dto.request.ExchangeCalculationRequestDTO;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 일괄 환전 계산 항목별 결과
+ * - 항목 하나가 실패해도 나머지 항목은 계산되며, 실패한 항목은 error에 사유를 담음
+ */
+@Schema(name = "ExchangeCalculationBatchItemResponse", description = "일괄 환전 계산 항목별 결과")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ExchangeCalculationBatchItemResponseDTO {
+
+    @Schema(description = "요청 목록에서의 순번 (0부터)", example = "0")
+    private int index;
+
+    @Schema(description = "통화 코드", example = "USD")
+    private String currencyCode;
+
+    @Schema(description = "환전할 금액", example = "1000.00")
+    private BigDecimal amount;
+
+    @Schema(description = "환전 방향", example = "FOREIGN_TO_KRW")
+    private ExchangeCalculationRequestDTO.ExchangeDirection direction;
+
+    @Schema(description = "은행별 환전 결과 (최종 금액 내림차순, 실패 시 없음)")
+    private List<ExchangeResultResponseDTO> results;
+
+    @Schema(description = "실패 사유 (성공 시 없음)")
+    private ItemError error;
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ItemError {
+
+        @Schema(description = "에러 코드", example = "RATE_003")
+        private String code;
+
+        @Schema(description = "에러 메시지", example = "지원하지 않는 통화 코드입니다.")
+        private String message;
+
+        @Schema(description = "상세 정보", example = "지원하지 않는 은행입니다: OO은행")
+        private String detail;
+    }
+}
@@ -0,0 +1,59 @@
+package com.swyp.api_server.domain.rate.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 기간/해상도 지정 환율 히스토리 응답
+ * - 일별은 시가/고가/저가/종가가 모두 같은 값
+ */
+@Schema(name = "ExchangeHistoryResponse", description = "기간/해상도 지정 환율 히스토리 응답")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExchangeHistoryResponseDTO {
+
+    @Schema(description = "통화 코드", example = "USD")
+    private String currencyCode;
+
+    @Schema(description = "해상도 (DAY, WEEK, MONTH)", example = "WEEK")
+    private String resolution;
+
+    @Schema(description = "조회 시작일 (yyyyMMdd)", example = "20250101")
+    private String from;
+
+    @Schema(description = "조회 종료일 (yyyyMMdd)", example = "20250131")
+    private String to;
+
+    @Schema(description = "구간별 환율 (시작일 오름차순, 평일 데이터만 집계)")
+    private List<Candle> candles;
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Candle {
+
+        @Schema(description = "구간 시작일 (yyyyMMdd, 주별은 월요일, 월별은 1일)", example = "20250106")
+        private String date;
+
+        @Schema(description = "구간 첫 영업일 환율", example = "1465.20")
+        private BigDecimal open;
+
+        @Schema(description = "구간 최고 환율", example = "1472.80")
+        private BigDecimal high;
+
+        @Schema(description = "구간 최저 환율", example = "1458.10")
+        private BigDecimal low;
+
+        @Schema(description = "구간 마지막 영업일 환율", example = "1460.50")
+        private BigDecimal close;
+
+        @Schema(description = "구간 내 데이터 개수", example = "5")
+        private int count;
+    }
+}
@@ -0,0 +1,27 @@
+package com.swyp.api_server.domain.rate.dto.response;
+
+import java.math.BigDecimal;
+import java.util.List;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+@Schema(name = "IntradayChartResponse", description = "장중 환율 차트 응답")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IntradayChartResponseDTO {
+
+    @Schema(description = "통화 코드", example = "USD")
+    private String currencyCode;
+
+    @Schema(description = "장 기준일 (YYYYMMDD)", example = "20240115")
+    private String baseDate;
+
+    @Schema(description = "전일 종가 (없으면 null)", example = "1380.50")
+    private BigDecimal previousClose;
+
+    @Schema(description = "장중 틱 (오래된 순, 환율이 바뀐 시점만 포함)")
+    private List<ExchangeChartResponseDTO> ticks;
+}
@@ -0,0 +1,67 @@
+package com.swyp.api_server.domain.rate.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 실시간 환율 변경분 푸시 메시지
+ * - 직전 스냅샷 대비 값이 바뀐 통화만 포함
+ * - (previousVersion, version) 쌍이 변경분 식별자 (같은 버전으로 되돌아가는 변경도 구분)
+ */
+@Schema(name = "RateDeltaMessage", description = "실시간 환율 변경분 푸시 메시지")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RateDeltaMessageDTO {
+
+    @Schema(description = "환율 스냅샷 버전 (ETag와 동일한 값)", example = "9f3c1a2b4d5e6f70")
+    private String version;
+
+    @Schema(description = "직전 환율 스냅샷 버전 (이 변경분이 적용되기 전 버전)", example = "4b7e0c9d1a2f3e58")
+    private String previousVersion;
+
+    @Schema(description = "환율 기준일 (yyyyMMdd)", example = "20250115")
+    private String baseDate;
+
+    @Schema(description = "변경된 통화 목록")
+    private List<RateChange> changes;
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RateChange {
+
+        @Schema(description = "통화 코드", example = "USD")
+        private String currencyCode;
+
+        @Schema(description = "현재 환율", example = "1385.50")
+        private BigDecimal rate;
+
+        @Schema(description = "전일 대비 변동 금액", example = "5.20")
+        private BigDecimal changeAmount;
+
+        @Schema(description = "전일 대비 변동률 (%)", example = "0.38")
+        private BigDecimal changeRate;
+    }
+
+    /**
+     * 변경분 식별자 (직전 버전 → 현재 버전)
+     */
+    @JsonIgnore
+    public String getTransitionId() {
+        return previousVersion + "-" + version;
+    }
+
+    /**
+     * 단일 통화 토픽용 메시지
+     */
+    public RateDeltaMessageDTO only(RateChange change) {
+        return new RateDeltaMessageDTO(version, previousVersion, baseDate, List.of(change));
+    }
+}
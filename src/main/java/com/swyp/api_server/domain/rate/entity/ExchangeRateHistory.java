@@ -21,8 +21,8 @@ import java.time.format.DateTimeFormatter;
  */
 @Entity
 @Table(name = "exchange_rate_history",
+       uniqueConstraints = @UniqueConstraint(name = "uk_history_currency_date", columnNames = {"currency_code", "base_date"}),
        indexes = {
-           @Index(name = "idx_currency_date", columnList = "currency_code,base_date"),
            @Index(name = "idx_base_date", columnList = "base_date")
        })
 @Getter
@@ -0,0 +1,101 @@
+package com.swyp.api_server.domain.rate.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 환율 히스토리 백필 체크포인트 엔티티
+ * - 기준일별 백필 결과를 저장하여 중단/재시작 시 이미 처리한 날짜를 다시 호출하지 않음
+ * - 실패한 날짜는 최대 시도 횟수까지 다음 실행에서 재시도
+ */
+@Entity
+@Table(name = "history_backfill_checkpoint",
+       uniqueConstraints = @UniqueConstraint(name = "uk_backfill_base_date", columnNames = "base_date"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(AuditingEntityListener.class)
+public class HistoryBackfillCheckpoint {
+
+    /**
+     * 기준일 처리 결과
+     */
+    public enum Status {
+        DONE,   // 저장 완료
+        EMPTY,  // API에 데이터 없음 (공휴일 등)
+        FAILED  // 호출/저장 실패 (재시도 대상)
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 기준일
+     */
+    @Column(name = "base_date", nullable = false)
+    private LocalDate baseDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 10)
+    private Status status;
+
+    /**
+     * 시도 횟수
+     */
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    /**
+     * 저장한 통화 수
+     */
+    @Column(name = "saved_count", nullable = false)
+    private int savedCount;
+
+    /**
+     * 마지막 실패 사유
+     */
+    @Column(name = "last_error", length = 255)
+    private String lastError;
+
+    @LastModifiedDate
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public HistoryBackfillCheckpoint(LocalDate baseDate) {
+        this.baseDate = baseDate;
+        this.status = Status.FAILED;
+    }
+
+    public void markDone(int savedCount) {
+        this.status = Status.DONE;
+        this.attempts++;
+        this.savedCount = savedCount;
+        this.lastError = null;
+    }
+
+    public void markEmpty() {
+        this.status = Status.EMPTY;
+        this.attempts++;
+        this.lastError = null;
+    }
+
+    public void markFailed(String error) {
+        this.status = Status.FAILED;
+        this.attempts++;
+        this.lastError = error != null && error.length() > 255 ? error.substring(0, 255) : error;
+    }
+
+    /**
+     * 다음 백필 실행에서 다시 호출할 필요가 있는지
+     */
+    public boolean needsRetry(int maxAttempts) {
+        return status == Status.FAILED && attempts < maxAttempts;
+    }
+}
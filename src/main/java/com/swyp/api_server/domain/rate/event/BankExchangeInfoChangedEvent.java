@@ -0,0 +1,9 @@
+package com.swyp.api_server.domain.rate.event;
+
+/**
+ * 은행 환전 정보 변경 이벤트
+ * - 관리자 등록/수정/상태 변경/삭제 트랜잭션(또는 캐시 수동 무효화)에서 발행
+ * - 은행 레지스트리는 커밋 이후 이 이벤트를 받아 DB에서 다시 로딩
+ */
+public class BankExchangeInfoChangedEvent {
+}
@@ -0,0 +1,17 @@
+package com.swyp.api_server.domain.rate.event;
+
+import com.swyp.api_server.domain.rate.snapshot.BankRegistry;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 은행 레지스트리 교체 이벤트
+ * - BankRegistry가 내용이 다른 새 은행 목록으로 교체한 직후 발행 (다른 노드의 변경 전파 포함)
+ */
+@Getter
+@RequiredArgsConstructor
+public class BankRegistryChangedEvent {
+
+    private final BankRegistry.Banks previous;
+    private final BankRegistry.Banks current;
+}
@@ -0,0 +1,42 @@
+package com.swyp.api_server.domain.rate.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 환율 데이터 변경 이벤트
+ * - 최신 환율(exchange_rates) 또는 히스토리(exchange_rate_history) 저장 트랜잭션에서 발행
+ * - 메모리 스냅샷 등 파생 데이터는 커밋 이후 이 이벤트를 받아 재구성
+ */
+@Getter
+@RequiredArgsConstructor
+public class ExchangeRateDataChangedEvent {
+
+    /**
+     * 변경된 데이터 종류
+     */
+    public enum Source {
+        CURRENT_RATES,  // 최신 환율 저장
+        HISTORY         // 히스토리 저장/초기화/확장
+    }
+
+    private final Source source;
+    private final LocalDate appendedDate;   // 특정 기준일 히스토리만 새로 추가된 경우 그 날짜 (그 외 null)
+
+    public static ExchangeRateDataChangedEvent currentRates() {
+        return new ExchangeRateDataChangedEvent(Source.CURRENT_RATES, null);
+    }
+
+    public static ExchangeRateDataChangedEvent history() {
+        return new ExchangeRateDataChangedEvent(Source.HISTORY, null);
+    }
+
+    /**
+     * 하루치 히스토리 추가/갱신 (증분 반영 가능)
+     */
+    public static ExchangeRateDataChangedEvent historyAppended(LocalDate baseDate) {
+        return new ExchangeRateDataChangedEvent(Source.HISTORY, baseDate);
+    }
+}
@@ -0,0 +1,50 @@
+package com.swyp.api_server.domain.rate.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 환율 수집 변경분 이벤트
+ * - 최신 환율 저장 트랜잭션에서 실제로 저장한 통화만 담아 발행 (변경이 없으면 발행하지 않음)
+ * - 알림 평가 등은 커밋 이후 이 이벤트의 통화만 처리
+ */
+@Getter
+@RequiredArgsConstructor
+public class RateChangeSetEvent {
+
+    private final String baseDate;          // 저장한 기준일 (yyyyMMdd)
+    private final List<Change> changes;     // 저장한 통화 (입력 순서)
+
+    /**
+     * 환율이 바뀐 통화의 현재 환율 (기준일만 바뀌고 환율이 같은 통화는 제외)
+     */
+    public Map<String, BigDecimal> getChangedRates() {
+        Map<String, BigDecimal> rates = new LinkedHashMap<>();
+        for (Change change : changes) {
+            if (change.isRateChanged()) {
+                rates.put(change.getCurrencyCode(), change.getCurrentRate());
+            }
+        }
+        return rates;
+    }
+
+    /**
+     * 통화 하나의 변경분
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class Change {
+        private final String currencyCode;
+        private final BigDecimal previousRate;  // 저장 전 최신 환율 (처음 수집한 통화면 null)
+        private final BigDecimal currentRate;
+
+        public boolean isRateChanged() {
+            return previousRate == null || previousRate.compareTo(currentRate) != 0;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.swyp.api_server.domain.rate.event;
+
+import com.swyp.api_server.domain.rate.dto.response.RateDeltaMessageDTO;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 환율 변경분 전달 이벤트
+ * - RatePushService가 노드 간 중복을 제거한 뒤 변경분을 전달할 때 발행
+ * - 모든 노드에서 Redis 수신 순서대로, 버전당 한 번씩 발행됨
+ */
+@Getter
+@RequiredArgsConstructor
+public class RateDeltaDeliveredEvent {
+
+    private final RateDeltaMessageDTO delta;
+}
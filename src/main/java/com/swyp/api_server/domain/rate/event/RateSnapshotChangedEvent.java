@@ -0,0 +1,18 @@
+package com.swyp.api_server.domain.rate.event;
+
+import com.swyp.api_server.domain.rate.snapshot.RateSnapshot;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 환율 스냅샷 교체 이벤트
+ * - RateSnapshotHolder가 내용이 다른 새 스냅샷으로 교체한 직후 발행
+ * - 이전/현재 스냅샷을 함께 전달하여 구독자가 변경분만 계산할 수 있도록 함
+ */
+@Getter
+@RequiredArgsConstructor
+public class RateSnapshotChangedEvent {
+
+    private final RateSnapshot previous;
+    private final RateSnapshot current;
+}
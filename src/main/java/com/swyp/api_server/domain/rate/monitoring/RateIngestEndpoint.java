@@ -0,0 +1,53 @@
+package com.swyp.api_server.domain.rate.monitoring;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 환율 수집 상태 actuator 엔드포인트 (/actuator/rateingest)
+ * - 데이터 나이, 마지막 성공 수집, 진행 중인 실행, 최근 실행 기록 (이 노드 기준)
+ * - 웹 노출은 management.endpoints.web.exposure.include 설정에 rateingest 추가 필요
+ */
+@Component
+@Endpoint(id = "rateingest")
+@RequiredArgsConstructor
+public class RateIngestEndpoint {
+
+    private final RateIngestMetrics ingestMetrics;
+
+    @ReadOperation
+    public Map<String, Object> ingest() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("latestBaseDate", Objects.toString(ingestMetrics.getLatestBaseDate(), null));
+        status.put("dataAgeSeconds", ingestMetrics.getDataAgeSeconds());
+        status.put("lastSuccessAt", Objects.toString(ingestMetrics.getLastSuccessAt(), null));
+        status.put("lastSuccessAgeSeconds", ingestMetrics.getLastSuccessAgeSeconds());
+        status.put("activeRun", ingestMetrics.getActiveTrigger());
+        status.put("recentRuns", toView(ingestMetrics.getRecentRuns()));
+        return status;
+    }
+
+    private List<Map<String, Object>> toView(List<RateIngestMetrics.RunRecord> runs) {
+        return runs.stream().map(run -> {
+            Map<String, Object> view = new LinkedHashMap<>();
+            view.put("trigger", run.getTrigger());
+            view.put("startedAt", run.getStartedAt().toString());
+            view.put("finishedAt", run.getFinishedAt().toString());
+            view.put("durationMs", run.getDurationMs());
+            view.put("outcome", run.getOutcome());
+            view.put("provider", run.getProvider());
+            view.put("fetchedCurrencies", run.getFetchedCurrencies());
+            view.put("savedCurrencies", run.getSavedCurrencies());
+            view.put("stageMillis", run.getStageMillis());
+            view.put("error", run.getError());
+            return view;
+        }).toList();
+    }
+}
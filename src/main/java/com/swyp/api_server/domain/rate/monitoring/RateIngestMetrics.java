@@ -0,0 +1,299 @@
+package com.swyp.api_server.domain.rate.monitoring;
+
+import com.swyp.api_server.common.constants.Constants;
+import com.swyp.api_server.domain.rate.event.RateSnapshotChangedEvent;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * 환율 수집 파이프라인 계측
+ * - 단계별 타이머 (exchange.ingest.stage: fetch, parse, upsert, history, refresh, alert / 결과별)
+ * - 제공자별 응답 크기 (exchange.ingest.fetch.bytes)
+ * - 수집 실행별 소요 시간/결과 (exchange.ingest.run) 와 최근 실행 기록 (actuator rateingest)
+ * - 데이터 나이 게이지: 현재 시각 - 최신 기준일 (exchange.rate.data.age), 마지막 성공 수집 이후 시간 (exchange.ingest.last.success.age)
+ * - 실행 중에 기록된 단계는 스레드와 무관하게 진행 중인 실행 기록에도 합산 (히스토리 저장도 실행 안에서 동기로 기록)
+ */
+@Slf4j
+@Component
+public class RateIngestMetrics {
+
+    /**
+     * 수집 단계
+     */
+    public enum Stage {
+        FETCH,      // 제공자 조회 (장애 조치 포함)
+        PARSE,      // 응답 본문 읽기/파싱 (스트리밍이라 본문 수신 시간 포함)
+        UPSERT,     // 최신 환율 일괄 저장
+        HISTORY,    // 오늘 히스토리 저장
+        REFRESH,    // 스냅샷(메모리 캐시) 재구성
+        ALERT       // 목표 환율 알림 평가/발송
+    }
+
+    /**
+     * 수집 실행 결과
+     */
+    public enum Outcome {
+        SUCCESS,    // 변경된 환율 저장
+        NO_CHANGE,  // 수집했지만 변경 없음 (또는 데이터 없음)
+        FAILURE
+    }
+
+    private static final ZoneId ZONE = ZoneId.of(Constants.Schedule.ZONE);
+    private static final DateTimeFormatter BASE_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Stage, Timer> successTimers = new EnumMap<>(Stage.class);
+    private final Map<Stage, Timer> failureTimers = new EnumMap<>(Stage.class);
+
+    private final AtomicReference<Run> activeRun = new AtomicReference<>();
+    private final Deque<RunRecord> recentRuns = new ArrayDeque<>();
+    private final AtomicReference<LocalDate> latestBaseDate = new AtomicReference<>();
+    private volatile LocalDateTime lastSuccessAt;
+
+    public RateIngestMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        for (Stage stage : Stage.values()) {
+            successTimers.put(stage, stageTimer(stage, "success"));
+            failureTimers.put(stage, stageTimer(stage, "failure"));
+        }
+        Gauge.builder("exchange.rate.data.age", this, RateIngestMetrics::getDataAgeSeconds)
+                .description("최신 환율 기준일 이후 경과 시간 (기준일 0시, 한국 시간 기준)")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("exchange.ingest.last.success.age", this, RateIngestMetrics::getLastSuccessAgeSeconds)
+                .description("마지막 성공 수집 이후 경과 시간 (이 노드 기준)")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    private Timer stageTimer(Stage stage, String result) {
+        return Timer.builder("exchange.ingest.stage")
+                .description("환율 수집 단계별 소요 시간")
+                .tag("stage", stage.name().toLowerCase())
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 단계 실행 시간 기록 (예외는 실패로 기록 후 그대로 전파)
+     */
+    public <T> T timeStage(Stage stage, Supplier<T> action) {
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            T result = action.get();
+            success = true;
+            return result;
+        } finally {
+            recordStage(stage, System.nanoTime() - start, success);
+        }
+    }
+
+    /**
+     * 단계 실행 시간 기록 (반환값 없음)
+     */
+    public void timeStage(Stage stage, Runnable action) {
+        timeStage(stage, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * 단계 실행 시간 기록
+     */
+    public void recordStage(Stage stage, long nanos, boolean success) {
+        (success ? successTimers : failureTimers).get(stage).record(nanos, TimeUnit.NANOSECONDS);
+        Run run = activeRun.get();
+        if (run != null) {
+            run.stageNanos.addAndGet(stage.ordinal(), nanos);
+        }
+    }
+
+    /**
+     * 제공자 응답 크기 기록
+     */
+    public void recordFetchedBytes(String provider, long bytes) {
+        DistributionSummary.builder("exchange.ingest.fetch.bytes")
+                .description("환율 제공자 응답 크기")
+                .baseUnit("bytes")
+                .tag("provider", provider)
+                .register(meterRegistry)
+                .record(bytes);
+    }
+
+    /**
+     * 수집 실행 시작
+     * @param trigger 실행 구분 (morning, afternoon, hourly, intraday)
+     */
+    public Run startRun(String trigger) {
+        Run run = new Run(trigger);
+        Run previous = activeRun.getAndSet(run);
+        if (previous != null) {
+            log.warn("이전 수집 실행({})이 끝나기 전에 새 실행({}) 시작", previous.trigger, trigger);
+        }
+        return run;
+    }
+
+    /**
+     * 수집 실행 종료 (실행 타이머 기록, 최근 실행 기록 추가)
+     * @param provider 결과를 준 제공자 (조회 전에 실패하면 null)
+     * @param fetched 조회한 통화 수
+     * @param saved 저장한(변경된) 통화 수
+     * @param error 실패 원인 (성공이면 null)
+     */
+    public void finishRun(Run run, Outcome outcome, String provider, int fetched, int saved, Throwable error) {
+        activeRun.compareAndSet(run, null);
+        long durationNanos = System.nanoTime() - run.startNanos;
+        Timer.builder("exchange.ingest.run")
+                .description("환율 수집 실행 소요 시간")
+                .tag("trigger", run.trigger)
+                .tag("outcome", outcome.name().toLowerCase())
+                .register(meterRegistry)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+
+        Map<String, Long> stageMillis = new LinkedHashMap<>();
+        for (Stage stage : Stage.values()) {
+            long nanos = run.stageNanos.get(stage.ordinal());
+            if (nanos > 0) {
+                stageMillis.put(stage.name().toLowerCase(), TimeUnit.NANOSECONDS.toMillis(nanos));
+            }
+        }
+        LocalDateTime finishedAt = LocalDateTime.now();
+        RunRecord record = new RunRecord(run.trigger, run.startedAt, finishedAt,
+                TimeUnit.NANOSECONDS.toMillis(durationNanos), outcome, provider, fetched, saved, stageMillis,
+                error != null ? error.getMessage() : null);
+        synchronized (recentRuns) {
+            recentRuns.addFirst(record);
+            while (recentRuns.size() > Constants.Schedule.INGEST_RECENT_RUNS) {
+                recentRuns.removeLast();
+            }
+        }
+        if (outcome != Outcome.FAILURE) {
+            lastSuccessAt = finishedAt;
+        }
+    }
+
+    /**
+     * 스냅샷 교체 시 최신 기준일 갱신 (데이터 나이 게이지)
+     */
+    @EventListener
+    public void onRateSnapshotChanged(RateSnapshotChangedEvent event) {
+        String baseDate = event.getCurrent().getBaseDate();
+        latestBaseDate.set(baseDate != null ? LocalDate.parse(baseDate, BASE_DATE_FORMAT) : null);
+    }
+
+    /**
+     * 최신 기준일 이후 경과 시간 (초, 데이터가 없으면 NaN)
+     */
+    public double getDataAgeSeconds() {
+        LocalDate baseDate = latestBaseDate.get();
+        if (baseDate == null) {
+            return Double.NaN;
+        }
+        return Duration.between(baseDate.atStartOfDay(ZONE), ZonedDateTime.now(ZONE)).getSeconds();
+    }
+
+    /**
+     * 마지막 성공 수집 이후 경과 시간 (초, 성공 기록이 없으면 NaN)
+     */
+    public double getLastSuccessAgeSeconds() {
+        LocalDateTime successAt = lastSuccessAt;
+        return successAt != null ? Duration.between(successAt, LocalDateTime.now()).getSeconds() : Double.NaN;
+    }
+
+    public LocalDate getLatestBaseDate() {
+        return latestBaseDate.get();
+    }
+
+    public LocalDateTime getLastSuccessAt() {
+        return lastSuccessAt;
+    }
+
+    /**
+     * 진행 중인 실행 구분 (없으면 null)
+     */
+    public String getActiveTrigger() {
+        Run run = activeRun.get();
+        return run != null ? run.trigger : null;
+    }
+
+    /**
+     * 최근 수집 실행 기록 (최신 순)
+     */
+    public List<RunRecord> getRecentRuns() {
+        synchronized (recentRuns) {
+            return new ArrayList<>(recentRuns);
+        }
+    }
+
+    /**
+     * 진행 중인 수집 실행
+     */
+    public static final class Run {
+        private final String trigger;
+        private final long startNanos = System.nanoTime();
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final AtomicLongArray stageNanos = new AtomicLongArray(Stage.values().length);
+
+        private Run(String trigger) {
+            this.trigger = trigger;
+        }
+    }
+
+    /**
+     * 수집 실행 기록
+     */
+    @Getter
+    public static final class RunRecord {
+        private final String trigger;
+        private final LocalDateTime startedAt;
+        private final LocalDateTime finishedAt;
+        private final long durationMs;
+        private final Outcome outcome;
+        private final String provider;
+        private final int fetchedCurrencies;
+        private final int savedCurrencies;
+        private final Map<String, Long> stageMillis;    // 실행 중 기록된 단계별 소요 시간
+        private final String error;
+
+        private RunRecord(String trigger, LocalDateTime startedAt, LocalDateTime finishedAt, long durationMs,
+                          Outcome outcome, String provider, int fetchedCurrencies, int savedCurrencies,
+                          Map<String, Long> stageMillis, String error) {
+            this.trigger = trigger;
+            this.startedAt = startedAt;
+            this.finishedAt = finishedAt;
+            this.durationMs = durationMs;
+            this.outcome = outcome;
+            this.provider = provider;
+            this.fetchedCurrencies = fetchedCurrencies;
+            this.savedCurrencies = savedCurrencies;
+            this.stageMillis = stageMillis;
+            this.error = error;
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package com.swyp.api_server.domain.rate.policy;
+
+import com.swyp.api_server.domain.rate.dto.request.ExchangeCalculationRequestDTO;
+import com.swyp.api_server.domain.rate.event.BankRegistryChangedEvent;
+import com.swyp.api_server.domain.rate.event.RateSnapshotChangedEvent;
+import com.swyp.api_server.domain.rate.service.BankExchangeInfoService;
+import com.swyp.api_server.domain.rate.snapshot.RateSnapshot;
+import com.swyp.api_server.domain.rate.snapshot.RateSnapshotHolder;
+import com.swyp.api_server.entity.BankExchangeInfo;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 은행별 적용 환율표
+ * - 통화 x 환전 방향 x 은행별로 스프레드/우대율을 적용한 최종 환율과 수수료 파라미터를 미리 계산
+ * - 기준 환율과 은행 정보는 수집/관리자 수정 시에만 바뀌므로 요청마다 다시 계산하지 않음
+ * - 환율 스냅샷/은행 레지스트리 교체 시 즉시 재계산 (조회 시에도 버전 비교로 한 번 더 확인)
+ * - 금액과 무관한 입력만 보관하므로 크기는 통화 x 방향 x 은행 수로 고정 (금액별 계산은 요청마다 메모리에서 수행)
+ * - 조회 결과(hit: 현재 표 사용, rebuild: 재계산 후 사용, miss: 표 없음)와 재계산 시간을 메트릭으로 기록
+ */
+@Slf4j
+@Component
+public class AppliedRateTable {
+
+    private final RateSnapshotHolder rateSnapshotHolder;
+    private final BankExchangeInfoService bankInfoService;
+    private final ExchangeCalculationPolicy calculationPolicy;
+
+    private final Counter hitCounter;
+    private final Counter rebuildCounter;
+    private final Counter missCounter;
+    private final Timer rebuildTimer;
+
+    private final AtomicReference<Table> current = new AtomicReference<>(Table.EMPTY);
+
+    public AppliedRateTable(RateSnapshotHolder rateSnapshotHolder,
+                            BankExchangeInfoService bankInfoService,
+                            ExchangeCalculationPolicy calculationPolicy,
+                            MeterRegistry meterRegistry) {
+        this.rateSnapshotHolder = rateSnapshotHolder;
+        this.bankInfoService = bankInfoService;
+        this.calculationPolicy = calculationPolicy;
+        this.hitCounter = lookupCounter(meterRegistry, "hit");
+        this.rebuildCounter = lookupCounter(meterRegistry, "rebuild");
+        this.missCounter = lookupCounter(meterRegistry, "miss");
+        this.rebuildTimer = Timer.builder("exchange.applied_rate_table.rebuild")
+                .description("은행별 적용 환율표 재계산 시간")
+                .register(meterRegistry);
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("exchange.applied_rate_table.lookups")
+                .description("환전 계산 시 적용 환율표 조회 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 통화/방향별 은행 적용 환율 조회
+     * @return 적용 환율 목록 (은행 표시 순서, 스냅샷 로딩 전이거나 지원하지 않는 통화면 null)
+     */
+    public Quote get(String currencyCode, ExchangeCalculationRequestDTO.ExchangeDirection direction) {
+        Quote quote = current().get(currencyCode, direction);
+        if (quote == null) {
+            missCounter.increment();
+        }
+        return quote;
+    }
+
+    /**
+     * 현재 적용 환율표 (일괄 계산처럼 여러 항목을 같은 환율/은행 정보로 계산할 때 사용)
+     * @return 적용 환율표 (스냅샷 로딩 전이면 빈 표)
+     */
+    public Table current() {
+        Table table = current.get();
+        if (table.isCurrent(rateSnapshotHolder.current().getVersion(), bankInfoService.getBankInfoVersion())) {
+            hitCounter.increment();
+            return table;
+        }
+        rebuildCounter.increment();
+        return rebuildIfStale();
+    }
+
+    /**
+     * 환율 스냅샷 교체 시 재계산 (첫 계산 요청이 재계산 비용을 부담하지 않도록)
+     */
+    @EventListener
+    public void onRateSnapshotChanged(RateSnapshotChangedEvent event) {
+        rebuildAfterChange();
+    }
+
+    /**
+     * 은행 레지스트리 교체 시 재계산 (관리자 수정 직후 첫 계산 요청이 재계산 비용을 부담하지 않도록)
+     */
+    @EventListener
+    public void onBankRegistryChanged(BankRegistryChangedEvent event) {
+        rebuildAfterChange();
+    }
+
+    private void rebuildAfterChange() {
+        try {
+            rebuildIfStale();
+        } catch (Exception e) {
+            log.warn("적용 환율표 재계산 실패 - 다음 계산 요청 시 재시도: {}", e.getMessage());
+        }
+    }
+
+    private synchronized Table rebuildIfStale() {
+        RateSnapshot snapshot = rateSnapshotHolder.current();
+        String bankVersion = bankInfoService.getBankInfoVersion();
+        Table table = current.get();
+        if (table.isCurrent(snapshot.getVersion(), bankVersion)) {
+            return table;
+        }
+        if (snapshot.isEmpty()) {
+            // 스냅샷 로딩 전 (요청마다 직접 계산으로 대체)
+            return Table.EMPTY;
+        }
+
+        Timer.Sample sample = Timer.start();
+        table = build(snapshot, bankVersion, bankInfoService.getAllActiveBankEntities());
+        sample.stop(rebuildTimer);
+        current.set(table);
+        return table;
+    }
+
+    private Table build(RateSnapshot snapshot, String bankVersion, List<BankExchangeInfo> banks) {
+        Map<String, Map<ExchangeCalculationRequestDTO.ExchangeDirection, Quote>> byCurrency = new HashMap<>();
+        int fallbackCount = 0;
+        for (RateSnapshot.RateEntry entry : snapshot.getRates().values()) {
+            Map<ExchangeCalculationRequestDTO.ExchangeDirection, Quote> quotes =
+                    new EnumMap<>(ExchangeCalculationRequestDTO.ExchangeDirection.class);
+            for (ExchangeCalculationRequestDTO.ExchangeDirection direction
+                    : ExchangeCalculationRequestDTO.ExchangeDirection.values()) {
+                List<AppliedRate> rates = new ArrayList<>(banks.size());
+                for (BankExchangeInfo bank : banks) {
+                    AppliedRate appliedRate = prepare(entry.getCurrentRate(), direction, bank);
+                    if (appliedRate.prepared == null) {
+                        fallbackCount++;
+                    }
+                    rates.add(appliedRate);
+                }
+                quotes.put(direction, new Quote(entry.getCurrentRate(), entry.getBaseDate(), List.copyOf(rates)));
+            }
+            byCurrency.put(entry.getCurrencyCode(), quotes);
+        }
+
+        log.info("적용 환율표 재계산 완료: {}개 통화 x {}개 은행 (BigDecimal 대체: {}건)",
+                byCurrency.size(), banks.size(), fallbackCount);
+        return new Table(snapshot.getVersion(), bankVersion, byCurrency);
+    }
+
+    /**
+     * 적용 환율표 없이 주어진 기준 환율/은행 목록으로 적용 환율 계산 (스냅샷 로딩 전 대체 경로, 표에 저장하지 않음)
+     */
+    public Quote quoteOf(BigDecimal baseRate, String baseDate, ExchangeCalculationRequestDTO.ExchangeDirection direction,
+                         List<BankExchangeInfo> banks) {
+        List<AppliedRate> rates = new ArrayList<>(banks.size());
+        for (BankExchangeInfo bank : banks) {
+            rates.add(prepare(baseRate, direction, bank));
+        }
+        return new Quote(baseRate, baseDate, List.copyOf(rates));
+    }
+
+    private AppliedRate prepare(BigDecimal baseRate, ExchangeCalculationRequestDTO.ExchangeDirection direction,
+                                BankExchangeInfo bank) {
+        BigDecimal finalRate = calculationPolicy.calculateFinalRate(baseRate, direction, bank);
+        FixedPointExchangeCalculator.PreparedRate prepared;
+        try {
+            prepared = FixedPointExchangeCalculator.prepare(baseRate, direction, bank);
+        } catch (ArithmeticException e) {
+            prepared = null;
+        }
+        return new AppliedRate(bank, finalRate, prepared);
+    }
+
+    /**
+     * 통화/방향별 적용 환율 목록
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static final class Quote {
+        private final BigDecimal baseRate;      // 기준 환율
+        private final String baseDate;          // 기준일 (yyyyMMdd)
+        private final List<AppliedRate> rates;  // 은행 표시 순서
+    }
+
+    /**
+     * 은행 하나의 적용 환율 (불변)
+     */
+    @Getter
+    public static final class AppliedRate {
+        private final BankExchangeInfo bank;
+        private final BigDecimal finalRate;                                 // 스프레드/우대율 적용 최종 환율
+        private final FixedPointExchangeCalculator.PreparedRate prepared;   // 고정소수점 계산용 (범위 초과 시 null)
+
+        AppliedRate(BankExchangeInfo bank, BigDecimal finalRate, FixedPointExchangeCalculator.PreparedRate prepared) {
+            this.bank = bank;
+            this.finalRate = finalRate;
+            this.prepared = prepared;
+        }
+
+        FixedPointExchangeCalculator.PreparedRate getPrepared() {
+            return prepared;
+        }
+    }
+
+    /**
+     * 특정 스냅샷/은행 정보 버전 기준으로 계산된 적용 환율표 (불변)
+     */
+    public static final class Table {
+        static final Table EMPTY = new Table(0L, null, Map.of());
+
+        final long snapshotVersion;
+        final String bankVersion;
+        final Map<String, Map<ExchangeCalculationRequestDTO.ExchangeDirection, Quote>> byCurrency;
+
+        Table(long snapshotVersion, String bankVersion,
+              Map<String, Map<ExchangeCalculationRequestDTO.ExchangeDirection, Quote>> byCurrency) {
+            this.snapshotVersion = snapshotVersion;
+            this.bankVersion = bankVersion;
+            this.byCurrency = byCurrency;
+        }
+
+        /**
+         * 통화/방향별 은행 적용 환율 조회
+         * @return 적용 환율 목록 (없으면 null)
+         */
+        public Quote get(String currencyCode, ExchangeCalculationRequestDTO.ExchangeDirection direction) {
+            Map<ExchangeCalculationRequestDTO.ExchangeDirection, Quote> quotes =
+                    byCurrency.get(currencyCode.toUpperCase());
+            return quotes != null && direction != null ? quotes.get(direction) : null;
+        }
+
+        boolean isCurrent(long currentSnapshotVersion, String currentBankVersion) {
+            return snapshotVersion != 0L && snapshotVersion == currentSnapshotVersion
+                    && Objects.equals(bankVersion, currentBankVersion);
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package com.swyp.api_server.domain.rate.policy;
+
+import com.swyp.api_server.common.constants.Constants;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 한국수출입은행 API 호출 예산 (클러스터 공용 일별 호출 장부)
+ * - 모든 노드의 호출을 Redis 일별 키(한국 시간 기준)에 Lua 스크립트로 원자적으로 기록 (확인 + 증가)
+ * - 호출 전에 예산을 확보하므로 한도를 넘는 호출은 실제로 보내지 않음
+ * - 목적별 우선순위: 실시간 수집(LIVE) > 백필(BACKFILL) > 관리자 수동 실행(MANUAL)
+ *   (하위 목적은 상위 목적용 예약분을 남기고만 사용)
+ * - API가 한도 초과(result=4)를 응답하면 당일 장부를 소진 처리
+ * - Redis 장애 시 노드별 토큰 버킷으로 대체 (하루 한도를 하루에 걸쳐 보충)
+ */
+@Slf4j
+@Component
+public class ExchangeApiCallBudget {
+
+    /**
+     * 호출 목적 (선언 순서가 우선순위)
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public enum Purpose {
+        LIVE(0),                                                    // 스케줄러 실시간 수집
+        BACKFILL(Constants.Api.KOREA_EXIM_LIVE_RESERVED_CALLS),     // 스케줄러 히스토리 백필
+        MANUAL(Constants.Api.KOREA_EXIM_LIVE_RESERVED_CALLS
+                + Constants.Api.KOREA_EXIM_BACKFILL_RESERVED_CALLS); // 관리자 수동 실행
+
+        private final int reserved;   // 상위 목적을 위해 남겨 두는 호출 수
+
+        /**
+         * 이 목적이 사용할 수 있는 당일 누적 호출 상한
+         */
+        public int ceiling() {
+            return Constants.Api.KOREA_EXIM_DAILY_LIMIT - reserved;
+        }
+    }
+
+    private static final ZoneId QUOTA_ZONE = ZoneId.of(Constants.Schedule.ZONE);
+    private static final DateTimeFormatter KEY_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final String TOTAL_FIELD = "total";
+
+    // 상한 미만이면 전체/목적별 카운터 증가 후 전체 호출 수 반환, 상한 이상이면 -(전체 호출 수 + 1) 반환
+    private static final String ACQUIRE_SCRIPT =
+            "local used = tonumber(redis.call('HGET', KEYS[1], 'total') or '0') " +
+            "if used >= tonumber(ARGV[1]) then return -(used + 1) end " +
+            "local total = redis.call('HINCRBY', KEYS[1], 'total', 1) " +
+            "redis.call('HINCRBY', KEYS[1], ARGV[2], 1) " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[3]) " +
+            "return total";
+
+    // 전체 호출 수를 한도로 설정하고 보관 기간 지정 (당일 첫 기록이어도 키가 만료되도록)
+    private static final String EXHAUST_SCRIPT =
+            "redis.call('HSET', KEYS[1], 'total', ARGV[1]) " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[2]) " +
+            "return 1";
+
+    private static final double FALLBACK_CAPACITY = Constants.Api.KOREA_EXIM_DAILY_LIMIT;
+    private static final double FALLBACK_REFILL_PER_NANO = FALLBACK_CAPACITY / TimeUnit.DAYS.toNanos(1);
+
+    private final StringRedisTemplate redisTemplate;
+    private final DefaultRedisScript<Long> acquireScript = new DefaultRedisScript<>(ACQUIRE_SCRIPT, Long.class);
+    private final DefaultRedisScript<Long> exhaustScript = new DefaultRedisScript<>(EXHAUST_SCRIPT, Long.class);
+
+    private final Map<Purpose, Counter> grantedCounters = new EnumMap<>(Purpose.class);
+    private final Map<Purpose, Counter> deniedCounters = new EnumMap<>(Purpose.class);
+    private final Counter fallbackCounter;
+
+    /** 마지막으로 확인한 당일 클러스터 전체 호출 수 (메트릭용) */
+    private final AtomicLong lastKnownUsed = new AtomicLong();
+
+    /** 마지막 예산 요청 시 Redis 장부 사용 가능 여부 */
+    private volatile boolean ledgerAvailable = true;
+
+    // Redis 장애 시 노드별 토큰 버킷
+    private double fallbackTokens = FALLBACK_CAPACITY;
+    private long fallbackLastRefillNanos = System.nanoTime();
+
+    public ExchangeApiCallBudget(StringRedisTemplate redisTemplate, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        for (Purpose purpose : Purpose.values()) {
+            grantedCounters.put(purpose, acquireCounter(meterRegistry, purpose, "granted"));
+            deniedCounters.put(purpose, acquireCounter(meterRegistry, purpose, "denied"));
+        }
+        this.fallbackCounter = Counter.builder("exchange.api.budget.fallback")
+                .description("Redis 장애로 노드별 호출 예산을 사용한 횟수")
+                .register(meterRegistry);
+        Gauge.builder("exchange.api.budget.used", lastKnownUsed, AtomicLong::get)
+                .description("당일 수출입은행 API 호출 수 (클러스터 전체, 마지막 확인 값)")
+                .register(meterRegistry);
+        Gauge.builder("exchange.api.budget.remaining", lastKnownUsed,
+                        used -> Math.max(0, Constants.Api.KOREA_EXIM_DAILY_LIMIT - used.get()))
+                .description("당일 남은 수출입은행 API 호출 예산 (클러스터 전체, 마지막 확인 값)")
+                .register(meterRegistry);
+    }
+
+    private static Counter acquireCounter(MeterRegistry meterRegistry, Purpose purpose, String result) {
+        return Counter.builder("exchange.api.budget.acquire")
+                .description("수출입은행 API 호출 예산 요청 결과")
+                .tag("purpose", purpose.name().toLowerCase())
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 호출 1회분 예산 확보
+     * @return 확보 여부 (실패 시 호출하지 말 것)
+     */
+    public boolean tryAcquire(Purpose purpose) {
+        boolean granted;
+        try {
+            Long result = redisTemplate.execute(acquireScript, List.of(currentKey()),
+                    String.valueOf(purpose.ceiling()), purpose.name(), String.valueOf(Constants.Api.KOREA_EXIM_QUOTA_TTL_SECONDS));
+            if (result == null) {
+                throw new IllegalStateException("호출 장부 스크립트 결과 없음");
+            }
+            granted = result > 0;
+            lastKnownUsed.set(granted ? result : -result - 1);
+            ledgerAvailable = true;
+        } catch (Exception e) {
+            ledgerAvailable = false;
+            log.warn("API 호출 장부 사용 불가 - 노드별 예산으로 대체: {}", e.getMessage());
+            fallbackCounter.increment();
+            granted = tryAcquireFallback(purpose);
+        }
+
+        (granted ? grantedCounters : deniedCounters).get(purpose).increment();
+        if (!granted) {
+            log.debug("API 호출 예산 부족: purpose={}, 당일 사용 {}/{}", purpose, lastKnownUsed.get(), purpose.ceiling());
+        }
+        return granted;
+    }
+
+    /**
+     * 호출 1회분 예산이 생길 때까지 남은 시간
+     * - 장부는 하루 단위이므로 당일 예산이 없으면 다음 날(한국 시간 자정)까지
+     * - Redis 장애 중에는 노드별 토큰 버킷 보충 시간
+     * @return 대기 시간 (나노초, 지금 가능하면 0)
+     */
+    public long nanosUntilAvailable(Purpose purpose) {
+        if (!ledgerAvailable) {
+            return fallbackNanosUntilAvailable(purpose);
+        }
+        if (getRemaining(purpose) > 0) {
+            return 0L;
+        }
+        ZonedDateTime now = ZonedDateTime.now(QUOTA_ZONE);
+        ZonedDateTime nextDay = now.toLocalDate().plusDays(1).atStartOfDay(QUOTA_ZONE);
+        return Duration.between(now, nextDay).toNanos();
+    }
+
+    /**
+     * 목적별 당일 남은 호출 수
+     */
+    public long getRemaining(Purpose purpose) {
+        return Math.max(0, purpose.ceiling() - getUsage().getUsed());
+    }
+
+    /**
+     * 당일 호출 장부 조회 (관리자/모니터링용)
+     */
+    public Usage getUsage() {
+        LocalDate today = LocalDate.now(QUOTA_ZONE);
+        Map<Purpose, Long> byPurpose = new EnumMap<>(Purpose.class);
+        try {
+            Map<Object, Object> entries = redisTemplate.opsForHash().entries(keyOf(today));
+            for (Purpose purpose : Purpose.values()) {
+                Object count = entries.get(purpose.name());
+                byPurpose.put(purpose, count != null ? Long.parseLong(count.toString()) : 0L);
+            }
+            Object total = entries.get(TOTAL_FIELD);
+            lastKnownUsed.set(total != null ? Long.parseLong(total.toString()) : 0L);
+        } catch (Exception e) {
+            log.warn("API 호출 장부 조회 실패 - 마지막 확인 값 사용: {}", e.getMessage());
+        }
+        return new Usage(today, lastKnownUsed.get(), Constants.Api.KOREA_EXIM_DAILY_LIMIT, byPurpose);
+    }
+
+    /**
+     * API가 한도 초과를 응답한 경우 당일 장부를 소진 처리 (모든 노드가 더 이상 호출하지 않도록)
+     */
+    public void markExhausted() {
+        try {
+            redisTemplate.execute(exhaustScript, List.of(currentKey()),
+                    String.valueOf(Constants.Api.KOREA_EXIM_DAILY_LIMIT), String.valueOf(Constants.Api.KOREA_EXIM_QUOTA_TTL_SECONDS));
+        } catch (Exception e) {
+            log.warn("API 호출 장부 소진 처리 실패: {}", e.getMessage());
+        }
+        lastKnownUsed.set(Constants.Api.KOREA_EXIM_DAILY_LIMIT);
+        synchronized (this) {
+            fallbackTokens = 0;
+        }
+    }
+
+    private synchronized boolean tryAcquireFallback(Purpose purpose) {
+        long now = System.nanoTime();
+        fallbackTokens = Math.min(FALLBACK_CAPACITY, fallbackTokens + (now - fallbackLastRefillNanos) * FALLBACK_REFILL_PER_NANO);
+        fallbackLastRefillNanos = now;
+        if (fallbackTokens - 1 < purpose.getReserved()) {
+            return false;
+        }
+        fallbackTokens -= 1;
+        return true;
+    }
+
+    private synchronized long fallbackNanosUntilAvailable(Purpose purpose) {
+        double missing = purpose.getReserved() + 1 - fallbackTokens;
+        return missing <= 0 ? 0L : (long) Math.ceil(missing / FALLBACK_REFILL_PER_NANO);
+    }
+
+    private String currentKey() {
+        return keyOf(LocalDate.now(QUOTA_ZONE));
+    }
+
+    private static String keyOf(LocalDate date) {
+        return Constants.Api.KOREA_EXIM_QUOTA_KEY_PREFIX + date.format(KEY_DATE_FORMAT);
+    }
+
+    /**
+     * 당일 호출 장부
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class Usage {
+        private final LocalDate date;                 // 장부 기준일 (한국 시간)
+        private final long used;                      // 클러스터 전체 호출 수
+        private final long limit;                     // 일일 한도
+        private final Map<Purpose, Long> byPurpose;   // 목적별 호출 수
+
+        public long getRemaining() {
+            return Math.max(0, limit - used);
+        }
+    }
+}
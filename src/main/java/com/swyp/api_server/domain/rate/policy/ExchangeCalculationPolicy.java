@@ -1,25 +1,38 @@
 package com.swyp.api_server.domain.rate.policy;
 
+import com.swyp.api_server.common.constants.Constants;
 import com.swyp.api_server.domain.rate.dto.request.ExchangeCalculationRequestDTO;
 import com.swyp.api_server.domain.rate.dto.response.ExchangeResultResponseDTO;
 import com.swyp.api_server.entity.BankExchangeInfo;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
+import java.math.MathContext;
 import java.math.RoundingMode;
 
 /**
  * 환율 계산 정책 클래스
  * - 복잡한 환전 계산 로직을 명확한 비즈니스 규칙으로 분리
  * - 스프레드, 우대율, 수수료 적용 로직 캡슐화
+ * - 기본은 고정소수점(long) 계산기로 계산하고, long 범위를 넘는 입력은 BigDecimal 계산으로 대체
+ *   (두 계산은 같은 단계/반올림/소수 자릿수를 사용하므로 결과가 동일)
+ * - 목표 수령액에 필요한 입력 금액 역산 (수수료/환율 식의 닫힌 해로 추정 후 정방향 계산으로 확정)
  */
 @Slf4j
 @Component
 public class ExchangeCalculationPolicy {
     
+    static final String FEE_EXCEEDS_INPUT_MESSAGE = "수수료가 입력금액을 초과";
+    static final String FEE_EXCEEDS_EXCHANGED_MESSAGE = "수수료가 환전금액을 초과";
+    
+    @Value("${custom.exchange-calculation.fixed-point-enabled:true}")
+    private boolean fixedPointEnabled;
+    
     /**
      * 환전 계산 결과
      */
@@ -35,6 +48,16 @@ public class ExchangeCalculationPolicy {
         private final String warningMessage;     // 경고 메시지 (선택사항)
     }
     
+    /**
+     * 필요 금액 역산 결과
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class ReverseSolution {
+        private final BigDecimal requiredAmount;    // 목표 수령액을 받기 위한 최소 입력 금액
+        private final CalculationResult result;     // 해당 입력 금액의 정방향 계산 결과 (finalAmount >= 목표)
+    }
+    
     /**
      * 환전 계산 실행
      * @param baseRate 기준 환율
@@ -47,16 +70,169 @@ public class ExchangeCalculationPolicy {
                                      ExchangeCalculationRequestDTO.ExchangeDirection direction,
                                      BankExchangeInfo bankInfo) {
         
-        // 1단계: 스프레드 적용 환율 계산
-        BigDecimal spreadAppliedRate = calculateSpreadAppliedRate(baseRate, direction, bankInfo);
+        if (fixedPointEnabled) {
+            try {
+                return FixedPointExchangeCalculator.calculate(baseRate, inputAmount, direction, bankInfo);
+            } catch (ArithmeticException e) {
+                log.debug("고정소수점 환전 계산 범위 초과, BigDecimal 계산으로 대체: {} ({})", inputAmount, e.getMessage());
+            }
+        }
+        return calculateWithBigDecimal(baseRate, inputAmount, direction, bankInfo);
+    }
+    
+    /**
+     * 적용 환율표 항목으로 환전 계산 실행 (스프레드/우대율 단계 생략)
+     * @param appliedRate 미리 계산된 은행별 적용 환율
+     * @param inputAmount 입력 금액
+     * @param direction 환전 방향
+     * @return 계산 결과 (calculate와 동일)
+     */
+    public CalculationResult calculate(AppliedRateTable.AppliedRate appliedRate, BigDecimal inputAmount,
+                                     ExchangeCalculationRequestDTO.ExchangeDirection direction) {
         
-        // 2단계: 우대율 적용 최종 환율 계산  
-        BigDecimal finalRate = calculatePreferentialRate(spreadAppliedRate, direction, bankInfo);
+        if (fixedPointEnabled && appliedRate.getPrepared() != null) {
+            try {
+                return FixedPointExchangeCalculator.settle(appliedRate.getPrepared(), inputAmount, direction,
+                        appliedRate.getBank());
+            } catch (ArithmeticException e) {
+                log.debug("고정소수점 환전 계산 범위 초과, BigDecimal 계산으로 대체: {} ({})", inputAmount, e.getMessage());
+            }
+        }
+        return calculateByDirection(inputAmount, appliedRate.getFinalRate(), direction, appliedRate.getBank());
+    }
+    
+    /**
+     * 목표 수령액에 필요한 최소 입력 금액 역산
+     * - 원화 → 외화: 목표 외화 금액을 받기 위한 원화 (1원 단위)
+     * - 외화 → 원화: 목표 원화 금액을 받기 위한 외화 (0.01 단위)
+     * - 반올림이 없다고 보고 수수료/환율 식을 풀어 추정한 뒤, 정방향 계산으로 추정값 주변을 이진 탐색하여
+     *   "정방향 결과 >= 목표"를 만족하는 최소 금액을 확정 (반올림과 고정 수수료 때문에 닫힌 해만으로는 1단위 오차 가능)
+     * - 정방향 결과는 입력 금액에 대해 단조 증가하므로 탐색 결과가 최소값
+     * @param appliedRate 미리 계산된 은행별 적용 환율
+     * @param targetAmount 목표 수령액
+     * @param direction 환전 방향
+     * @return 역산 결과 (수수료율 때문에 목표에 도달할 수 없으면 null)
+     */
+    public ReverseSolution solveRequiredInput(AppliedRateTable.AppliedRate appliedRate, BigDecimal targetAmount,
+                                              ExchangeCalculationRequestDTO.ExchangeDirection direction) {
+        
+        BigDecimal estimate = estimateRequiredInput(appliedRate.getFinalRate(), targetAmount, direction,
+                appliedRate.getBank());
+        if (estimate == null) {
+            return null;
+        }
+        int scale = direction == ExchangeCalculationRequestDTO.ExchangeDirection.KRW_TO_FOREIGN
+                ? Constants.Exchange.REVERSE_KRW_INPUT_SCALE
+                : Constants.Exchange.REVERSE_FOREIGN_INPUT_SCALE;
+        
+        try {
+            long guess = Math.max(1L, estimate.setScale(scale, RoundingMode.CEILING).unscaledValue().longValueExact());
+            
+            // 1단계: 추정값에서 간격을 두 배씩 넓혀 (lo: 미달, hi: 도달) 구간 확보 (0은 항상 미달)
+            long lo;
+            long hi;
+            if (reaches(appliedRate, guess, scale, targetAmount, direction)) {
+                hi = guess;
+                lo = guess - 1;
+                for (int step = 1; lo > 0 && reaches(appliedRate, lo, scale, targetAmount, direction); ) {
+                    if (step > Constants.Exchange.REVERSE_MAX_BRACKET_STEPS) {
+                        return null;
+                    }
+                    hi = lo;
+                    lo = Math.max(0L, hi - (1L << step++));
+                }
+            } else {
+                lo = guess;
+                hi = Math.addExact(guess, 1L);
+                for (int step = 1; !reaches(appliedRate, hi, scale, targetAmount, direction); ) {
+                    if (step > Constants.Exchange.REVERSE_MAX_BRACKET_STEPS) {
+                        return null;
+                    }
+                    lo = hi;
+                    hi = Math.addExact(lo, 1L << step++);
+                }
+            }
+            
+            // 2단계: 구간 내 이진 탐색 (보통 추정값 1~2단위 안에서 끝남)
+            while (hi - lo > 1) {
+                long mid = lo + (hi - lo) / 2;
+                if (reaches(appliedRate, mid, scale, targetAmount, direction)) {
+                    hi = mid;
+                } else {
+                    lo = mid;
+                }
+            }
+            
+            BigDecimal requiredAmount = BigDecimal.valueOf(hi, scale);
+            return new ReverseSolution(requiredAmount, calculate(appliedRate, requiredAmount, direction));
+        } catch (ArithmeticException e) {
+            log.debug("필요 금액 역산 범위 초과: {} {} ({})", appliedRate.getBank().getBankName(), targetAmount,
+                    e.getMessage());
+            return null;
+        }
+    }
+    
+    /**
+     * 반올림을 무시한 닫힌 해로 필요 입력 금액 추정 (R: 최종 환율, F: 고정 수수료, f: 수수료율 %, N: 목표)
+     * - 원화 → 외화: N = (x - F - (x / R) * f / 100) / R  →  x = (N * R + F) / (1 - f / (100 * R))
+     * - 외화 → 원화: N = x * R * (1 - f / 100) - F         →  x = (N + F) / (R * (1 - f / 100))
+     * @return 추정 금액 (분모가 0 이하라 입력을 늘려도 수령액이 늘지 않으면 null)
+     */
+    private BigDecimal estimateRequiredInput(BigDecimal finalRate, BigDecimal targetAmount,
+                                             ExchangeCalculationRequestDTO.ExchangeDirection direction,
+                                             BankExchangeInfo bankInfo) {
+        if (finalRate.signum() <= 0) {
+            return null;
+        }
+        MathContext mc = MathContext.DECIMAL64;
+        BigDecimal feeRatio = bankInfo.getFeeRate().divide(BigDecimal.valueOf(100), mc);
+        
+        if (direction == ExchangeCalculationRequestDTO.ExchangeDirection.KRW_TO_FOREIGN) {
+            BigDecimal denominator = BigDecimal.ONE.subtract(feeRatio.divide(finalRate, mc));
+            if (denominator.signum() <= 0) {
+                return null;
+            }
+            return targetAmount.multiply(finalRate).add(bankInfo.getFixedFee()).divide(denominator, mc);
+        }
+        BigDecimal denominator = finalRate.multiply(BigDecimal.ONE.subtract(feeRatio));
+        if (denominator.signum() <= 0) {
+            return null;
+        }
+        return targetAmount.add(bankInfo.getFixedFee()).divide(denominator, mc);
+    }
+    
+    /**
+     * 입력 금액(unscaled x 10^-scale)으로 목표 수령액에 도달하는지 정방향 계산으로 확인
+     */
+    private boolean reaches(AppliedRateTable.AppliedRate appliedRate, long unscaledInput, int scale,
+                            BigDecimal targetAmount, ExchangeCalculationRequestDTO.ExchangeDirection direction) {
+        CalculationResult result = calculate(appliedRate, BigDecimal.valueOf(unscaledInput, scale), direction);
+        return result.isViable() && result.getFinalAmount().compareTo(targetAmount) >= 0;
+    }
+    
+    /**
+     * BigDecimal 환전 계산 (기준 구현, 고정소수점 계산 대체 경로)
+     */
+    public CalculationResult calculateWithBigDecimal(BigDecimal baseRate, BigDecimal inputAmount, 
+                                                   ExchangeCalculationRequestDTO.ExchangeDirection direction,
+                                                   BankExchangeInfo bankInfo) {
+        
+        // 1~2단계: 스프레드, 우대율 적용 최종 환율 계산
+        BigDecimal finalRate = calculateFinalRate(baseRate, direction, bankInfo);
         
         // 3단계: 환전 방향에 따른 수수료 및 최종 금액 계산
         return calculateByDirection(inputAmount, finalRate, direction, bankInfo);
     }
     
+    /**
+     * 스프레드와 우대율을 적용한 최종 환율 계산 (입력 금액과 무관)
+     */
+    BigDecimal calculateFinalRate(BigDecimal baseRate, ExchangeCalculationRequestDTO.ExchangeDirection direction,
+                                  BankExchangeInfo bankInfo) {
+        BigDecimal spreadAppliedRate = calculateSpreadAppliedRate(baseRate, direction, bankInfo);
+        return calculatePreferentialRate(spreadAppliedRate, direction, bankInfo);
+    }
+    
     /**
      * 환전 방향에 따른 수수료 및 최종 금액 계산
      */
@@ -95,7 +271,7 @@ public class ExchangeCalculationPolicy {
                 .feeDetail(feeDetail)
                 .finalAmount(BigDecimal.ZERO)
                 .isViable(false)
-                .warningMessage("수수료가 입력금액을 초과")
+                .warningMessage(FEE_EXCEEDS_INPUT_MESSAGE)
                 .build();
         }
         
@@ -137,7 +313,7 @@ public class ExchangeCalculationPolicy {
                 .feeDetail(feeDetail)
                 .finalAmount(BigDecimal.ZERO)
                 .isViable(false)
-                .warningMessage("수수료가 환전금액을 초과")
+                .warningMessage(FEE_EXCEEDS_EXCHANGED_MESSAGE)
                 .build();
         }
         
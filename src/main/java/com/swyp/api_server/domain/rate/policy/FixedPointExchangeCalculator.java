@@ -0,0 +1,278 @@
+package com.swyp.api_server.domain.rate.policy;
+
+import com.swyp.api_server.domain.rate.dto.request.ExchangeCalculationRequestDTO;
+import com.swyp.api_server.domain.rate.dto.response.ExchangeResultResponseDTO;
+import com.swyp.api_server.entity.BankExchangeInfo;
+
+import java.math.BigDecimal;
+
+/**
+ * 고정소수점(long) 환전 계산기
+ * - ExchangeCalculationPolicy의 BigDecimal 계산과 같은 단계/같은 반올림(HALF_UP)/같은 소수 자릿수로 계산
+ * - 값마다 (unscaled long, scale) 쌍으로 다루며 scale 규칙도 BigDecimal과 동일하게 유지
+ *   (덧셈/뺄셈: 큰 쪽 scale, 곱셈: scale 합, 나눗셈: 지정 scale)
+ * - 결과를 BigDecimal.valueOf(unscaled, scale)로 변환하므로 BigDecimal 계산 결과와 값/scale 모두 동일
+ * - long 범위를 넘거나 지원하지 않는 scale이면 ArithmeticException → 호출 측에서 BigDecimal 계산으로 대체
+ */
+final class FixedPointExchangeCalculator {
+
+    private static final long[] POW10 = {
+        1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L, 1_000_000_000L,
+        10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L, 10_000_000_000_000L, 100_000_000_000_000L,
+        1_000_000_000_000_000L, 10_000_000_000_000_000L, 100_000_000_000_000_000L, 1_000_000_000_000_000_000L
+    };
+
+    /** 환율 계산 중간값 소수 자릿수 (BigDecimal 경로의 divide scale과 동일) */
+    private static final int RATE_SCALE = 4;
+    /** 수수료 소수 자릿수 */
+    private static final int FEE_SCALE = 2;
+    /** 퍼센트 나눗수 (scale 0) */
+    private static final long PERCENT = 100L;
+
+    private FixedPointExchangeCalculator() {
+        // 유틸리티 클래스로 인스턴스 생성 방지
+    }
+
+    /**
+     * 환전 계산 실행 (ExchangeCalculationPolicy.calculateWithBigDecimal과 동일한 결과)
+     * @throws ArithmeticException long 범위 초과, 지원하지 않는 scale, 0으로 나누기
+     */
+    static ExchangeCalculationPolicy.CalculationResult calculate(BigDecimal baseRate, BigDecimal inputAmount,
+                                                                 ExchangeCalculationRequestDTO.ExchangeDirection direction,
+                                                                 BankExchangeInfo bankInfo) {
+        return settle(prepare(baseRate, direction, bankInfo), inputAmount, direction, bankInfo);
+    }
+
+    /**
+     * 기준 환율 + 은행 정보로 최종 적용 환율과 수수료 파라미터 계산 (입력 금액과 무관한 부분)
+     * @throws ArithmeticException long 범위 초과, 지원하지 않는 scale
+     */
+    static PreparedRate prepare(BigDecimal baseRate, ExchangeCalculationRequestDTO.ExchangeDirection direction,
+                                BankExchangeInfo bankInfo) {
+        boolean foreignToKrw = direction == ExchangeCalculationRequestDTO.ExchangeDirection.FOREIGN_TO_KRW;
+
+        long base = unscaled(baseRate);
+        int baseScale = baseRate.scale();
+        long spread = unscaled(bankInfo.getSpreadRate());
+        int spreadScale = bankInfo.getSpreadRate().scale();
+        long preferential = unscaled(bankInfo.getPreferentialRate());
+        int preferentialScale = bankInfo.getPreferentialRate().scale();
+
+        // 1단계: 스프레드 적용 환율 (기준환율 ∓ 기준환율 x 스프레드율 / 100)
+        long spreadAmount = percentOf(base, baseScale, spread, spreadScale, RATE_SCALE);
+        int spreadAppliedScale = Math.max(baseScale, RATE_SCALE);
+        long spreadApplied = foreignToKrw
+                ? subtract(base, baseScale, spreadAmount, RATE_SCALE)
+                : add(base, baseScale, spreadAmount, RATE_SCALE);
+
+        // 2단계: 우대율 적용 최종 환율 (스프레드 적용 환율 ± 스프레드 금액 x 우대율 / 100)
+        long appliedSpreadAmount = percentOf(spreadApplied, spreadAppliedScale, spread, spreadScale, RATE_SCALE);
+        long discount = percentOf(appliedSpreadAmount, RATE_SCALE, preferential, preferentialScale, RATE_SCALE);
+        int finalRateScale = Math.max(spreadAppliedScale, RATE_SCALE);
+        long finalRate = foreignToKrw
+                ? add(spreadApplied, spreadAppliedScale, discount, RATE_SCALE)
+                : subtract(spreadApplied, spreadAppliedScale, discount, RATE_SCALE);
+
+        return new PreparedRate(finalRate, finalRateScale,
+                unscaled(bankInfo.getFixedFee()), bankInfo.getFixedFee().scale(),
+                unscaled(bankInfo.getFeeRate()), bankInfo.getFeeRate().scale());
+    }
+
+    /**
+     * 최종 적용 환율로 입력 금액의 수수료/최종 금액 계산
+     * @throws ArithmeticException long 범위 초과, 지원하지 않는 scale, 0으로 나누기
+     */
+    static ExchangeCalculationPolicy.CalculationResult settle(PreparedRate rate, BigDecimal inputAmount,
+                                                              ExchangeCalculationRequestDTO.ExchangeDirection direction,
+                                                              BankExchangeInfo bankInfo) {
+        long input = unscaled(inputAmount);
+        int inputScale = inputAmount.scale();
+        return direction == ExchangeCalculationRequestDTO.ExchangeDirection.FOREIGN_TO_KRW
+                ? calculateForeignToKrw(input, inputScale, rate, bankInfo)
+                : calculateKrwToForeign(input, inputScale, rate, bankInfo);
+    }
+
+    /**
+     * 원화 → 외화: 수수료를 먼저 차감한 후 환전
+     */
+    private static ExchangeCalculationPolicy.CalculationResult calculateKrwToForeign(long input, int inputScale,
+                                                                                     PreparedRate rate,
+                                                                                     BankExchangeInfo bankInfo) {
+        long estimated = divideHalfUp(input, inputScale, rate.finalRate, rate.finalRateScale, RATE_SCALE);
+        long rateBasedFee = percentOf(estimated, RATE_SCALE, rate.feeRate, rate.feeRateScale, FEE_SCALE);
+        long totalFee = add(rate.fixedFee, rate.fixedFeeScale, rateBasedFee, FEE_SCALE);
+        int totalFeeScale = Math.max(rate.fixedFeeScale, FEE_SCALE);
+
+        ExchangeResultResponseDTO.FeeDetail feeDetail = feeDetail(bankInfo, rateBasedFee);
+        BigDecimal appliedRate = BigDecimal.valueOf(rate.finalRate, rate.finalRateScale);
+        BigDecimal totalFeeValue = BigDecimal.valueOf(totalFee, totalFeeScale);
+
+        long amountAfterFee = subtract(input, inputScale, totalFee, totalFeeScale);
+        if (amountAfterFee <= 0) {
+            return ExchangeCalculationPolicy.CalculationResult.builder()
+                .appliedRate(appliedRate)
+                .exchangedAmount(BigDecimal.ZERO)
+                .totalFee(totalFeeValue)
+                .feeDetail(feeDetail)
+                .finalAmount(BigDecimal.ZERO)
+                .isViable(false)
+                .warningMessage(ExchangeCalculationPolicy.FEE_EXCEEDS_INPUT_MESSAGE)
+                .build();
+        }
+
+        int amountAfterFeeScale = Math.max(inputScale, totalFeeScale);
+        BigDecimal finalAmount = BigDecimal.valueOf(
+                divideHalfUp(amountAfterFee, amountAfterFeeScale, rate.finalRate, rate.finalRateScale, RATE_SCALE),
+                RATE_SCALE);
+        return ExchangeCalculationPolicy.CalculationResult.builder()
+            .appliedRate(appliedRate)
+            .exchangedAmount(finalAmount)
+            .totalFee(totalFeeValue)
+            .feeDetail(feeDetail)
+            .finalAmount(finalAmount)
+            .isViable(true)
+            .warningMessage(null)
+            .build();
+    }
+
+    /**
+     * 외화 → 원화: 환전 후 수수료 차감
+     */
+    private static ExchangeCalculationPolicy.CalculationResult calculateForeignToKrw(long input, int inputScale,
+                                                                                     PreparedRate rate,
+                                                                                     BankExchangeInfo bankInfo) {
+        long exchanged = Math.multiplyExact(input, rate.finalRate);
+        int exchangedScale = inputScale + rate.finalRateScale;
+        long rateBasedFee = percentOf(exchanged, exchangedScale, rate.feeRate, rate.feeRateScale, FEE_SCALE);
+        long totalFee = add(rate.fixedFee, rate.fixedFeeScale, rateBasedFee, FEE_SCALE);
+        int totalFeeScale = Math.max(rate.fixedFeeScale, FEE_SCALE);
+
+        ExchangeResultResponseDTO.FeeDetail feeDetail = feeDetail(bankInfo, rateBasedFee);
+        BigDecimal appliedRate = BigDecimal.valueOf(rate.finalRate, rate.finalRateScale);
+        BigDecimal exchangedAmount = BigDecimal.valueOf(exchanged, exchangedScale);
+        BigDecimal totalFeeValue = BigDecimal.valueOf(totalFee, totalFeeScale);
+
+        long finalAmount = subtract(exchanged, exchangedScale, totalFee, totalFeeScale);
+        if (finalAmount <= 0) {
+            return ExchangeCalculationPolicy.CalculationResult.builder()
+                .appliedRate(appliedRate)
+                .exchangedAmount(exchangedAmount)
+                .totalFee(totalFeeValue)
+                .feeDetail(feeDetail)
+                .finalAmount(BigDecimal.ZERO)
+                .isViable(false)
+                .warningMessage(ExchangeCalculationPolicy.FEE_EXCEEDS_EXCHANGED_MESSAGE)
+                .build();
+        }
+
+        return ExchangeCalculationPolicy.CalculationResult.builder()
+            .appliedRate(appliedRate)
+            .exchangedAmount(exchangedAmount)
+            .totalFee(totalFeeValue)
+            .feeDetail(feeDetail)
+            .finalAmount(BigDecimal.valueOf(finalAmount, Math.max(exchangedScale, totalFeeScale)))
+            .isViable(true)
+            .warningMessage(null)
+            .build();
+    }
+
+    private static ExchangeResultResponseDTO.FeeDetail feeDetail(BankExchangeInfo bankInfo, long rateBasedFee) {
+        return ExchangeResultResponseDTO.FeeDetail.builder()
+            .fixedFee(bankInfo.getFixedFee())
+            .feeRate(bankInfo.getFeeRate())
+            .rateBasedFee(BigDecimal.valueOf(rateBasedFee, FEE_SCALE))
+            .build();
+    }
+
+    /**
+     * value x rate / 100 을 targetScale 자리에서 HALF_UP 반올림
+     * (BigDecimal: value.multiply(rate).divide(100, targetScale, HALF_UP))
+     */
+    private static long percentOf(long value, int valueScale, long rate, int rateScale, int targetScale) {
+        return divideHalfUp(Math.multiplyExact(value, rate), valueScale + rateScale, PERCENT, 0, targetScale);
+    }
+
+    /**
+     * 나눗셈 결과를 targetScale 자리에서 HALF_UP 반올림한 unscaled 값
+     * (BigDecimal: dividend.divide(divisor, targetScale, HALF_UP))
+     */
+    static long divideHalfUp(long dividend, int dividendScale, long divisor, int divisorScale, int targetScale) {
+        if (divisor == 0) {
+            throw new ArithmeticException("Division by zero");
+        }
+        // 결과 unscaled = dividend x 10^(targetScale + divisorScale - dividendScale) / divisor
+        int exponent = targetScale + divisorScale - dividendScale;
+        long numerator = dividend;
+        long denominator = divisor;
+        if (exponent >= 0) {
+            numerator = Math.multiplyExact(dividend, pow10(exponent));
+        } else {
+            denominator = Math.multiplyExact(divisor, pow10(-exponent));
+        }
+
+        long quotient = numerator / denominator;
+        long remainder = numerator % denominator;
+        if (remainder != 0) {
+            long absRemainder = Math.absExact(remainder);
+            long absDenominator = Math.absExact(denominator);
+            // |나머지| >= |나눗수| / 2 이면 0에서 먼 쪽으로 올림 (HALF_UP)
+            if (absRemainder >= absDenominator - absRemainder) {
+                quotient += (numerator < 0) == (denominator < 0) ? 1 : -1;
+            }
+        }
+        return quotient;
+    }
+
+    private static long add(long left, int leftScale, long right, int rightScale) {
+        int scale = Math.max(leftScale, rightScale);
+        return Math.addExact(rescale(left, leftScale, scale), rescale(right, rightScale, scale));
+    }
+
+    private static long subtract(long left, int leftScale, long right, int rightScale) {
+        int scale = Math.max(leftScale, rightScale);
+        return Math.subtractExact(rescale(left, leftScale, scale), rescale(right, rightScale, scale));
+    }
+
+    private static long rescale(long value, int fromScale, int toScale) {
+        return fromScale == toScale ? value : Math.multiplyExact(value, pow10(toScale - fromScale));
+    }
+
+    private static long pow10(int exponent) {
+        if (exponent < 0 || exponent >= POW10.length) {
+            throw new ArithmeticException("Unsupported scale difference: " + exponent);
+        }
+        return POW10[exponent];
+    }
+
+    /**
+     * BigDecimal → unscaled long (음수 scale, 큰 scale, long 범위 초과 값은 지원하지 않음)
+     */
+    private static long unscaled(BigDecimal value) {
+        if (value.scale() < 0 || value.scale() >= POW10.length) {
+            throw new ArithmeticException("Unsupported scale: " + value.scale());
+        }
+        return value.unscaledValue().longValueExact();
+    }
+
+    /**
+     * 입력 금액과 무관하게 미리 계산해 둘 수 있는 값 (최종 적용 환율, 수수료 파라미터)
+     */
+    static final class PreparedRate {
+        final long finalRate;
+        final int finalRateScale;
+        final long fixedFee;
+        final int fixedFeeScale;
+        final long feeRate;
+        final int feeRateScale;
+
+        PreparedRate(long finalRate, int finalRateScale, long fixedFee, int fixedFeeScale,
+                     long feeRate, int feeRateScale) {
+            this.finalRate = finalRate;
+            this.finalRateScale = finalRateScale;
+            this.fixedFee = fixedFee;
+            this.fixedFeeScale = fixedFeeScale;
+            this.feeRate = feeRate;
+            this.feeRateScale = feeRateScale;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.swyp.api_server.domain.rate.policy;
+
+import com.swyp.api_server.common.constants.Constants;
+import com.swyp.api_server.common.util.ContentHash;
+import com.swyp.api_server.domain.rate.service.BankExchangeInfoService;
+import com.swyp.api_server.domain.rate.snapshot.ChartSeriesStore;
+import com.swyp.api_server.domain.rate.snapshot.RateSnapshot;
+import com.swyp.api_server.domain.rate.snapshot.RateSnapshotHolder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.scheduling.support.CronExpression;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 환율 응답 HTTP 캐시 정책
+ * - 환율 스냅샷 / 차트 시계열 / 은행 정보 버전으로 강한 ETag 생성
+ * - If-None-Match를 서비스 호출 전에 확인하여 변경이 없으면 304 응답
+ * - Last-Modified는 보내지 않음 (스냅샷 생성 시각은 노드마다 다르고 내용이 같아도 바뀌므로
+ *   로드 밸런서 뒤에서 If-Modified-Since만 보내는 클라이언트가 잘못된 304/불필요한 200을 받을 수 있음)
+ * - Cache-Control max-age는 다음 수집 스케줄 시각까지로 설정
+ *   (매시 보정 수집 포함, 장중 틱 수집이 켜져 있으면 장중에는 틱 간격 이하)
+ */
+@Component
+@RequiredArgsConstructor
+public class RateResponseCachePolicy {
+
+    private static final ZoneId SCHEDULE_ZONE = ZoneId.of(Constants.Schedule.ZONE);
+
+    /** 현재 환율이 바뀌는 스케줄 (장중 틱 수집은 간격 기준이라 별도 처리) */
+    private static final List<CronExpression> RATE_SCHEDULES = List.of(
+            CronExpression.parse(Constants.Schedule.MORNING_UPDATE_CRON),
+            CronExpression.parse(Constants.Schedule.AFTERNOON_UPDATE_CRON),
+            CronExpression.parse(Constants.Schedule.HOURLY_UPDATE_CRON));
+
+    /** 차트 시계열이 바뀌는 스케줄 (환율 수집 + 히스토리 초기화/확장/정리 + 날짜 변경) */
+    private static final List<CronExpression> CHART_SCHEDULES = List.of(
+            CronExpression.parse(Constants.Schedule.MORNING_UPDATE_CRON),
+            CronExpression.parse(Constants.Schedule.AFTERNOON_UPDATE_CRON),
+            CronExpression.parse(Constants.Schedule.HISTORY_INIT_CRON),
+            CronExpression.parse(Constants.Schedule.HISTORY_EXPAND_CRON),
+            CronExpression.parse(Constants.Schedule.HISTORY_CLEANUP_CRON),
+            CronExpression.parse(Constants.Schedule.DAY_CHANGE_CRON));
+
+    private final RateSnapshotHolder rateSnapshotHolder;
+    private final ChartSeriesStore chartSeriesStore;
+    private final BankExchangeInfoService bankInfoService;
+
+    @Value("${custom.intraday.enabled:false}")
+    private boolean intradayEnabled;
+
+    @Value("${custom.intraday.interval-ms:600000}")
+    private long intradayIntervalMs;
+
+    /**
+     * 환율 목록/실시간 환율 응답의 조건부 요청 처리
+     * @return 클라이언트 데이터가 최신이면 true (304 응답 준비 완료, 본문 생성 불필요)
+     */
+    public boolean checkRatesNotModified(WebRequest request) {
+        RateSnapshot snapshot = rateSnapshotHolder.current();
+        if (snapshot.isEmpty()) {
+            // 스냅샷 로딩 전 DB 조회 응답은 캐시하지 않음
+            applyCacheControl(request, CacheControl.noCache());
+            return false;
+        }
+        applyCacheControl(request, untilNextSchedule(RATE_SCHEDULES, rateMaxAgeCap()));
+        return request.checkNotModified(etag("rates", ContentHash.toHex(snapshot.getVersion())));
+    }
+
+    /**
+     * 차트 응답의 조건부 요청 처리
+     * @return 클라이언트 데이터가 최신이면 true
+     */
+    public boolean checkChartNotModified(WebRequest request) {
+        long version = chartSeriesStore.getVersion();
+        if (version == 0L) {
+            applyCacheControl(request, CacheControl.noCache());
+            return false;
+        }
+        applyCacheControl(request, untilNextSchedule(CHART_SCHEDULES, Constants.Schedule.MAX_RESPONSE_AGE_SECONDS));
+        return request.checkNotModified(etag("chart", ContentHash.toHex(version)));
+    }
+
+    /**
+     * 은행 정보 응답의 조건부 요청 처리
+     * - 관리자가 언제든 수정할 수 있으므로 max-age 없이 매번 재검증
+     * @return 클라이언트 데이터가 최신이면 true
+     */
+    public boolean checkBankInfoNotModified(WebRequest request) {
+        applyCacheControl(request, CacheControl.noCache().cachePrivate());
+        return request.checkNotModified(etag("bank", bankInfoService.getBankInfoVersion()));
+    }
+
+    /**
+     * 현재 환율 응답 max-age 상한
+     * - 장중 틱 수집이 켜져 있고 장중이면 틱 간격 (다음 틱 시각은 직전 수집 종료 시각에 따라 달라짐)
+     */
+    private long rateMaxAgeCap() {
+        ZonedDateTime now = ZonedDateTime.now(SCHEDULE_ZONE);
+        DayOfWeek dayOfWeek = now.getDayOfWeek();
+        boolean marketHours = dayOfWeek != DayOfWeek.SATURDAY && dayOfWeek != DayOfWeek.SUNDAY
+                && now.getHour() >= Constants.Schedule.MARKET_OPEN_HOUR
+                && now.getHour() < Constants.Schedule.MARKET_CLOSE_HOUR;
+        if (intradayEnabled && marketHours) {
+            return Math.min(Constants.Schedule.MAX_RESPONSE_AGE_SECONDS, TimeUnit.MILLISECONDS.toSeconds(intradayIntervalMs));
+        }
+        return Constants.Schedule.MAX_RESPONSE_AGE_SECONDS;
+    }
+
+    /**
+     * 다음 스케줄 시각(+ DB 반영 여유 시간)까지의 max-age
+     * - 스케줄 직후 여유 시간 안이면 아직 반영 전일 수 있으므로 여유 시간 종료까지만 허용
+     * @param maxAgeCap max-age 상한 (초)
+     */
+    private CacheControl untilNextSchedule(List<CronExpression> schedules, long maxAgeCap) {
+        ZonedDateTime now = ZonedDateTime.now(SCHEDULE_ZONE);
+        ZonedDateTime from = now.minusSeconds(Constants.Schedule.INGEST_GRACE_SECONDS);
+        long maxAge = maxAgeCap;
+        for (CronExpression schedule : schedules) {
+            ZonedDateTime next = schedule.next(from);
+            if (next != null) {
+                long seconds = Duration.between(now, next).getSeconds() + Constants.Schedule.INGEST_GRACE_SECONDS;
+                maxAge = Math.min(maxAge, Math.max(0L, seconds));
+            }
+        }
+        return CacheControl.maxAge(maxAge, TimeUnit.SECONDS).cachePublic();
+    }
+
+    private void applyCacheControl(WebRequest request, CacheControl cacheControl) {
+        if (request instanceof ServletWebRequest servletRequest && servletRequest.getResponse() != null) {
+            servletRequest.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+        }
+    }
+
+    private static String etag(String prefix, String version) {
+        return "\"" + prefix + "-" + version + "\"";
+    }
+}
@@ -0,0 +1,244 @@
+package com.swyp.api_server.domain.rate.provider;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.swyp.api_server.common.constants.Constants;
+import com.swyp.api_server.common.http.CommonHttpClient;
+import com.swyp.api_server.domain.rate.ExchangeList;
+import com.swyp.api_server.domain.rate.dto.response.ExchangeResponseDTO;
+import com.swyp.api_server.domain.rate.monitoring.RateIngestMetrics;
+import com.swyp.api_server.domain.rate.policy.ExchangeApiCallBudget;
+import com.swyp.api_server.exception.CustomException;
+import com.swyp.api_server.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 한국수출입은행 환율 제공자
+ * - 공식 매매기준율 (하루 1000회 호출 제한, 클러스터 공용 호출 예산 사용)
+ * - 실시간 수집은 LIVE 예산으로, 특정 날짜 조회(백필)는 호출 측에서 확보한 예산으로 호출
+ * - custom.rate-provider.korea-exim.enabled=false 이면 실시간 수집 대상에서 제외 (로컬 제공자만 사용하는 환경)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KoreaEximRateProvider implements RateProvider {
+
+    public static final String NAME = "KOREA_EXIM";
+
+    private static final DateTimeFormatter API_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    @Value("${custom.koreaexim-api-key:SAMPLE_API_KEY}")
+    private String apiKey;
+
+    @Value("${custom.rate-provider.korea-exim.enabled:true}")
+    private boolean enabled;
+
+    private final CommonHttpClient httpClient;
+    private final ExchangeApiCallBudget callBudget;
+    private final ObjectMapper objectMapper;
+    private final RateIngestMetrics ingestMetrics;
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public int getPriority() {
+        return 0;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 최신 환율 조회 (당일 데이터가 없으면 직전 영업일 데이터)
+     * - 기준일은 실제로 데이터를 받은 조회일 (전일 데이터를 당일로 저장하지 않도록)
+     * - 주말은 고시가 없으므로 호출하지 않고 건너뜀
+     */
+    @Override
+    public List<ExchangeResponseDTO> fetchLatestRates() throws Exception {
+        LocalDate searchDate = LocalDate.now();
+        for (int attempt = 0; attempt <= Constants.Api.KOREA_EXIM_LOOKBACK_DAYS; attempt++) {
+            if (!isWeekend(searchDate)) {
+                String baseDate = searchDate.format(API_DATE_FORMAT);
+                KoreaEximResponse responseData = tryApiCall(baseDate);
+                if (hasValidData(responseData)) {
+                    return toExchangeRates(responseData, baseDate);
+                }
+                log.info("{} 환율 데이터 없음, 이전 영업일 조회 시도", baseDate);
+            }
+            searchDate = searchDate.minusDays(1);
+        }
+        log.warn("최근 {}일간 환율 데이터 없음", Constants.Api.KOREA_EXIM_LOOKBACK_DAYS);
+        return new ArrayList<>();
+    }
+
+    /**
+     * 특정 날짜의 환율 조회 (히스토리 백필 전용)
+     * 과거 날짜의 환율 데이터를 수집할 때 사용 (호출 예산은 호출 측에서 BACKFILL 목적으로 미리 확보)
+     */
+    public List<ExchangeResponseDTO> fetchRatesForDate(String searchDate) throws Exception {
+        KoreaEximResponse responseData = callKoreaExim(searchDate);
+
+        if (!hasValidData(responseData)) {
+            log.warn("날짜 {} 환율 데이터 없음", searchDate);
+            return new ArrayList<>();
+        }
+
+        return toExchangeRates(responseData, searchDate);
+    }
+
+    /**
+     * 응답 데이터에서 지원 통화 환율 추출 (파싱 시 만든 통화 단위 색인 조회)
+     */
+    static List<ExchangeResponseDTO> toExchangeRates(KoreaEximResponse responseData, String baseDate) {
+        List<ExchangeResponseDTO> exchangeRates = new ArrayList<>();
+
+        for (ExchangeList.ExchangeType currency : ExchangeList.ExchangeType.values()) {
+            // 고시 단위 기준 환율 (100 단위 통화도 저장 데이터와 같은 100단위 기준, 0/빈 값은 색인에서 제외)
+            BigDecimal exchangeRate = responseData.rateOf(mapToKoreaEximCurrencyCode(currency.getCode()));
+            if (exchangeRate == null) {
+                log.warn("수출입은행에서 환율 정보를 찾을 수 없습니다: {}", currency.getCode());
+                continue;
+            }
+
+            exchangeRates.add(ExchangeResponseDTO.builder()
+                    .currencyCode(currency.getCode())
+                    .currencyName(currency.getLabel())
+                    .flagImageUrl(currency.getFlagImageUrl())
+                    .exchangeRate(exchangeRate)
+                    .baseDate(baseDate)
+                    .build());
+        }
+
+        return exchangeRates;
+    }
+
+    /**
+     * 응답 데이터 유효성 확인
+     */
+    private boolean hasValidData(KoreaEximResponse responseData) {
+        return responseData != null && responseData.hasData();
+    }
+
+    private static boolean isWeekend(LocalDate date) {
+        DayOfWeek dayOfWeek = date.getDayOfWeek();
+        return dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY;
+    }
+
+    /**
+     * 실시간 수집용 API 호출 (호출 예산 확보 후 호출)
+     * - 한 번의 수집 실행에서 날짜별로 한 번만 호출
+     */
+    private KoreaEximResponse tryApiCall(String searchDate) throws Exception {
+        if (!callBudget.tryAcquire(ExchangeApiCallBudget.Purpose.LIVE)) {
+            throw new CustomException(ErrorCode.EXCHANGE_RATE_API_LIMIT_EXCEEDED,
+                "API 호출 예산 소진 - DB 데이터 사용 필요");
+        }
+        return callKoreaExim(searchDate);
+    }
+
+    /**
+     * 응답 본문 파싱 (파싱 단계 시간, 응답 크기 기록)
+     */
+    private KoreaEximResponse parseCounted(InputStream body) throws IOException {
+        CountingInputStream counting = new CountingInputStream(body);
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            KoreaEximResponse responseData = KoreaEximResponse.parse(objectMapper.getFactory(), counting);
+            success = true;
+            return responseData;
+        } finally {
+            ingestMetrics.recordStage(RateIngestMetrics.Stage.PARSE, System.nanoTime() - start, success);
+            ingestMetrics.recordFetchedBytes(NAME, counting.getCount());
+        }
+    }
+
+    /**
+     * 수출입은행 API 호출 (응답 본문을 스트리밍 파싱해 통화 단위 색인 생성)
+     * - 본문 읽기/파싱 시간과 응답 크기 기록
+     */
+    private KoreaEximResponse callKoreaExim(String searchDate) throws Exception {
+        Map<String, String> params = Map.of(
+            "authkey", apiKey,
+            "searchdate", searchDate,
+            "data", Constants.Api.KOREA_EXIM_DATA_CODE
+        );
+
+        String url = httpClient.buildUrl(Constants.Api.KOREA_EXIM_BASE_URL, params);
+        log.info("수출입은행 API 호출: {}", url);
+
+        KoreaEximResponse responseData = httpClient.getStreaming(url, this::parseCounted);
+        log.info("API 응답 건수: {}", responseData.getItemCount());
+        log.debug("수출입은행 API 응답 환율: {}", responseData.getRatesByUnit());
+
+        // 수출입은행 API 에러 응답 처리 (빈 배열은 여기서 처리하지 않음)
+        boolean isRateLimitExceeded = handleKoreaEximApiResponse(responseData);
+        if (isRateLimitExceeded) {
+            throw new CustomException(ErrorCode.EXCHANGE_RATE_API_LIMIT_EXCEEDED,
+                "API 호출 한도 초과 - DB 데이터 사용 필요");
+        }
+
+        return responseData;
+    }
+
+    /**
+     * 수출입은행 통화 코드 매핑
+     * (수출입은행 응답 예시에 따른 실제 매핑)
+     */
+    private static String mapToKoreaEximCurrencyCode(String standardCode) {
+        return switch (standardCode.toUpperCase()) {
+            case "CNY" -> Constants.Exchange.CNH_CODE;       // 중국 위안 (수출입은행에서는 CNH 사용)
+            default -> standardCode;
+        };
+    }
+
+    /**
+     * 수출입은행 API 응답 에러 처리
+     * @return API 한도 초과 여부
+     */
+    private boolean handleKoreaEximApiResponse(KoreaEximResponse responseData) {
+        // 배열 응답에서 첫 아이템의 result 체크 (에러 응답만 처리)
+        if (responseData.hasData() && responseData.getResult() != null) {
+            int result = responseData.getResult();
+
+            switch (result) {
+                case 1 -> {
+                    log.debug("수출입은행 API 정상 응답");  // 성공
+                    return false;
+                }
+                case 2 -> throw new CustomException(ErrorCode.INVALID_REQUEST,
+                    "DATA 코드 오류 (" + Constants.Api.KOREA_EXIM_DATA_CODE + " 확인)");
+                case 3 -> throw new CustomException(ErrorCode.INVALID_REQUEST,
+                    "인증키 오류. 발급받은 인증키를 확인해주세요.");
+                case 4 -> {
+                    log.warn("일일 호출 한도({})를 초과했습니다. DB 데이터로 폴백합니다.", Constants.Api.KOREA_EXIM_DAILY_LIMIT);
+                    callBudget.markExhausted(); // 다른 노드도 당일 추가 호출 중단
+                    return true; // 한도 초과
+                }
+                default -> {
+                    log.warn("알 수 없는 수출입은행 API 응답: {}", result);
+                    return false;
+                }
+            }
+        }
+        // 빈 배열은 여기서 예외를 던지지 않음 - 호출하는 곳에서 fallback 처리
+        return false;
+    }
+}
@@ -0,0 +1,158 @@
+package com.swyp.api_server.domain.rate.provider;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 수출입은행 환율 API 응답 (스트리밍 파싱 결과, 불변)
+ * - 응답 본문을 JsonParser로 한 번만 읽고 트리(JsonNode)를 만들지 않음
+ * - 정규화된 통화 단위(cur_unit에서 "(100)" 등 단위 표기 제거, 대문자) → 고시 매매기준율 색인
+ * - "JPY(100)"처럼 단위가 붙은 통화도 고시 단위 그대로 보관 (저장된 환율/히스토리/알림 목표 환율과 같은 100단위 기준)
+ *   단위는 unitOf로 따로 제공하여 1단위 환산이 필요한 계산에서만 적용
+ * - 필요한 필드(result, cur_unit, deal_bas_r)만 읽고 나머지 값은 건너뜀
+ */
+@Getter
+public final class KoreaEximResponse {
+
+    /** 빈 응답 (배열이 아니거나 항목 없음) */
+    static final KoreaEximResponse EMPTY = new KoreaEximResponse(null, 0, Map.of(), Map.of());
+
+    private final Integer result;              // 첫 항목의 result 코드 (없으면 null)
+    private final int itemCount;               // 응답 배열 항목 수
+    private final Map<String, BigDecimal> ratesByUnit;   // 정규화된 통화 단위 → 고시 단위 기준 매매기준율
+    private final Map<String, Integer> quoteUnits;       // 1이 아닌 고시 단위 (예: JPY → 100)
+
+    private KoreaEximResponse(Integer result, int itemCount, Map<String, BigDecimal> ratesByUnit,
+                              Map<String, Integer> quoteUnits) {
+        this.result = result;
+        this.itemCount = itemCount;
+        this.ratesByUnit = ratesByUnit;
+        this.quoteUnits = quoteUnits;
+    }
+
+    /**
+     * 응답 본문 스트리밍 파싱
+     * @throws IOException JSON 형식 오류 또는 본문 읽기 실패
+     */
+    public static KoreaEximResponse parse(JsonFactory jsonFactory, InputStream body) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                return EMPTY;
+            }
+
+            Integer result = null;
+            int itemCount = 0;
+            Map<String, BigDecimal> ratesByUnit = new HashMap<>();
+            Map<String, Integer> quoteUnits = new HashMap<>();
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+                if (token != JsonToken.START_OBJECT) {
+                    parser.skipChildren();
+                    continue;
+                }
+
+                Integer itemResult = null;
+                String curUnit = null;
+                String dealBasR = null;
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.currentName();
+                    JsonToken value = parser.nextToken();
+                    switch (field) {
+                        case "result" -> itemResult = value.isNumeric() ? parser.getIntValue() : parseIntOrNull(parser.getValueAsString());
+                        case "cur_unit" -> curUnit = parser.getValueAsString();
+                        case "deal_bas_r" -> dealBasR = parser.getValueAsString();
+                        default -> parser.skipChildren();
+                    }
+                }
+
+                if (itemCount == 0) {
+                    result = itemResult;
+                }
+                itemCount++;
+                index(ratesByUnit, quoteUnits, curUnit, dealBasR);
+            }
+            return new KoreaEximResponse(result, itemCount, Collections.unmodifiableMap(ratesByUnit),
+                    Collections.unmodifiableMap(quoteUnits));
+        }
+    }
+
+    /**
+     * 통화 단위의 고시 매매기준율 (JPY/IDR은 100단위 기준)
+     * @param curUnit 수출입은행 통화 단위 (대소문자 무관, 단위 표기 없이)
+     * @return 매매기준율 (없거나 0이면 null)
+     */
+    public BigDecimal rateOf(String curUnit) {
+        return ratesByUnit.get(curUnit.toUpperCase());
+    }
+
+    /**
+     * 통화 단위의 고시 단위 (rateOf 값이 몇 단위 기준인지)
+     * @param curUnit 수출입은행 통화 단위 (대소문자 무관, 단위 표기 없이)
+     * @return 고시 단위 (단위 표기가 없으면 1)
+     */
+    public int unitOf(String curUnit) {
+        return quoteUnits.getOrDefault(curUnit.toUpperCase(), 1);
+    }
+
+    public boolean hasData() {
+        return itemCount > 0;
+    }
+
+    private static void index(Map<String, BigDecimal> ratesByUnit, Map<String, Integer> quoteUnits,
+                              String curUnit, String dealBasR) {
+        if (curUnit == null || dealBasR == null) {
+            return;
+        }
+        String amount = dealBasR.replace(",", "").trim();
+        if (amount.isEmpty()) {
+            return;
+        }
+        BigDecimal rate;
+        try {
+            rate = new BigDecimal(amount);
+        } catch (NumberFormatException e) {
+            return;
+        }
+        if (rate.signum() == 0) {
+            return;
+        }
+
+        // "JPY(100)" → 통화 "JPY", 단위 100
+        String code = curUnit;
+        int unit = 1;
+        int open = curUnit.indexOf('(');
+        if (open >= 0) {
+            code = curUnit.substring(0, open);
+            int close = curUnit.indexOf(')', open);
+            Integer parsedUnit = parseIntOrNull(curUnit.substring(open + 1, close > open ? close : curUnit.length()));
+            if (parsedUnit != null && parsedUnit > 0) {
+                unit = parsedUnit;
+            }
+        }
+        String normalized = code.trim().toUpperCase();
+        ratesByUnit.put(normalized, rate);
+        if (unit != 1) {
+            quoteUnits.put(normalized, unit);
+        }
+    }
+
+    private static Integer parseIntOrNull(String text) {
+        if (text == null) {
+            return null;
+        }
+        try {
+            return Integer.parseInt(text.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
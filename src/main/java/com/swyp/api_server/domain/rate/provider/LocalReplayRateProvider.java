@@ -0,0 +1,117 @@
+package com.swyp.api_server.domain.rate.provider;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.swyp.api_server.domain.rate.dto.response.ExchangeResponseDTO;
+import com.swyp.api_server.domain.rate.monitoring.RateIngestMetrics;
+import com.swyp.api_server.exception.CustomException;
+import com.swyp.api_server.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * 로컬 재생 환율 제공자 (테스트/벤치마크/로컬 개발용)
+ * - 수출입은행 응답 형식으로 저장한 JSON 파일을 읽어 오늘 날짜 환율로 제공 (외부 호출, 호출 예산 사용 없음)
+ * - 경로가 디렉터리면 파일 이름 순으로 조회마다 다음 파일을 순환 재생 (환율 변동 재현)
+ * - latency-ms로 응답 지연을 흉내 내 장애 조치/기한 동작 확인 가능
+ * - custom.rate-provider.local.enabled=true 일 때만 등록 (기본 우선순위는 수출입은행 다음)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "custom.rate-provider.local.enabled", havingValue = "true")
+public class LocalReplayRateProvider implements RateProvider {
+
+    public static final String NAME = "LOCAL_REPLAY";
+
+    private static final DateTimeFormatter BASE_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private final ObjectMapper objectMapper;
+    private final RateIngestMetrics ingestMetrics;
+    private final Path path;
+    private final int priority;
+    private final long latencyMs;
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    public LocalReplayRateProvider(ObjectMapper objectMapper,
+                                   RateIngestMetrics ingestMetrics,
+                                   @Value("${custom.rate-provider.local.path:rates/replay}") String path,
+                                   @Value("${custom.rate-provider.local.priority:100}") int priority,
+                                   @Value("${custom.rate-provider.local.latency-ms:0}") long latencyMs) {
+        this.objectMapper = objectMapper;
+        this.ingestMetrics = ingestMetrics;
+        this.path = Paths.get(path);
+        this.priority = priority;
+        this.latencyMs = latencyMs;
+        log.info("로컬 재생 환율 제공자 등록: path={}, priority={}, latency={}ms", this.path.toAbsolutePath(), priority, latencyMs);
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public int getPriority() {
+        return priority;
+    }
+
+    @Override
+    public List<ExchangeResponseDTO> fetchLatestRates() throws Exception {
+        if (latencyMs > 0) {
+            Thread.sleep(latencyMs);
+        }
+
+        Path file = nextFile();
+        log.debug("로컬 재생 환율 파일 조회: {}", file);
+        try (CountingInputStream body = new CountingInputStream(Files.newInputStream(file))) {
+            KoreaEximResponse responseData = ingestMetrics.timeStage(RateIngestMetrics.Stage.PARSE,
+                    () -> parse(body));
+            ingestMetrics.recordFetchedBytes(NAME, body.getCount());
+            return KoreaEximRateProvider.toExchangeRates(responseData, LocalDate.now().format(BASE_DATE_FORMAT));
+        }
+    }
+
+    private KoreaEximResponse parse(InputStream body) {
+        try {
+            return KoreaEximResponse.parse(objectMapper.getFactory(), body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 이번 조회에 사용할 파일 (디렉터리면 파일 이름 순 순환)
+     */
+    private Path nextFile() throws IOException {
+        if (!Files.isDirectory(path)) {
+            if (!Files.isRegularFile(path)) {
+                throw new CustomException(ErrorCode.EXCHANGE_RATE_API_ERROR, "로컬 환율 파일이 없습니다: " + path);
+            }
+            return path;
+        }
+
+        List<Path> files;
+        try (Stream<Path> entries = Files.list(path)) {
+            files = entries.filter(entry -> entry.getFileName().toString().endsWith(".json"))
+                    .sorted()
+                    .toList();
+        }
+        if (files.isEmpty()) {
+            throw new CustomException(ErrorCode.EXCHANGE_RATE_API_ERROR, "로컬 환율 파일이 없습니다: " + path);
+        }
+        return files.get(Math.floorMod(cursor.getAndIncrement(), files.size()));
+    }
+}
@@ -0,0 +1,37 @@
+package com.swyp.api_server.domain.rate.provider;
+
+import com.swyp.api_server.domain.rate.dto.response.ExchangeResponseDTO;
+
+import java.util.List;
+
+/**
+ * 환율 제공자 (수집 소스 SPI)
+ * - 스케줄러는 제공자를 직접 호출하지 않고 RateProviderFailover를 통해 우선순위/건강 상태에 따라 조회
+ * - 구현체는 스프링 빈으로 등록하면 자동으로 장애 조치 대상에 포함됨
+ */
+public interface RateProvider {
+
+    /**
+     * 제공자 이름 (환율 저장 시 source_api로 기록)
+     */
+    String getName();
+
+    /**
+     * 우선순위 (작을수록 먼저 사용)
+     */
+    int getPriority();
+
+    /**
+     * 실시간 수집 대상 여부 (설정으로 끌 수 있는 제공자용)
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * 지원 통화의 최신 환율 조회
+     * - 호출 스레드가 인터럽트되면 가능한 한 빨리 중단할 것 (기한 초과 시 취소됨)
+     * @return 통화별 환율 (데이터가 없으면 빈 목록)
+     */
+    List<ExchangeResponseDTO> fetchLatestRates() throws Exception;
+}
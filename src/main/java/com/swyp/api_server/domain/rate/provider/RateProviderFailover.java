@@ -0,0 +1,273 @@
+package com.swyp.api_server.domain.rate.provider;
+
+import com.swyp.api_server.common.constants.Constants;
+import com.swyp.api_server.domain.rate.dto.response.ExchangeResponseDTO;
+import com.swyp.api_server.domain.rate.monitoring.RateIngestMetrics;
+import com.swyp.api_server.exception.CustomException;
+import com.swyp.api_server.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 환율 제공자 장애 조치
+ * - 사용 가능한 제공자를 전용 스레드에서 동시에 조회하고, 기한 안에 데이터를 준 제공자 중 우선순위가 가장 높은 결과 사용
+ * - 우선순위가 높은 제공자가 먼저 응답하면 나머지를 기다리지 않고 취소 (느린 제공자 하나가 수집 전체를 붙잡지 않음)
+ * - 제공자별 건강 상태: 연속 실패가 기준 이상이면 대기 시간 동안 조회 대상에서 제외 (대기 후 다시 시도)
+ *   정상 제공자가 하나도 없으면 모든 제공자를 조회
+ * - 건강 점수(성공 1, 실패 0의 지수 이동 평균), 조회 결과, 제공자별 응답 시간은 메트릭으로 노출
+ */
+@Slf4j
+@Component
+public class RateProviderFailover {
+
+    private final List<RateProvider> providers;   // 우선순위 순
+    private final Map<String, ProviderHealth> healthByProvider = new LinkedHashMap<>();
+    private final Map<String, Counter> successCounters = new LinkedHashMap<>();
+    private final Map<String, Counter> failureCounters = new LinkedHashMap<>();
+    private final Map<String, Timer> latencyTimers = new LinkedHashMap<>();
+    private final RateIngestMetrics ingestMetrics;
+    private final ExecutorService fetchExecutor;
+
+    public RateProviderFailover(List<RateProvider> providers, MeterRegistry meterRegistry, RateIngestMetrics ingestMetrics) {
+        this.ingestMetrics = ingestMetrics;
+        this.providers = providers.stream()
+                .sorted(Comparator.comparingInt(RateProvider::getPriority))
+                .toList();
+        for (RateProvider provider : this.providers) {
+            ProviderHealth health = new ProviderHealth();
+            healthByProvider.put(provider.getName(), health);
+            successCounters.put(provider.getName(), fetchCounter(meterRegistry, provider, "success"));
+            failureCounters.put(provider.getName(), fetchCounter(meterRegistry, provider, "failure"));
+            latencyTimers.put(provider.getName(), Timer.builder("exchange.rate.provider.latency")
+                    .description("환율 제공자 응답 시간 (기한 초과로 취소된 조회 포함)")
+                    .tag("provider", provider.getName())
+                    .register(meterRegistry));
+            Gauge.builder("exchange.rate.provider.health", health, ProviderHealth::getScore)
+                    .description("환율 제공자 건강 점수 (0~1)")
+                    .tag("provider", provider.getName())
+                    .register(meterRegistry);
+        }
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.fetchExecutor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "RateProvider-Fetch-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        log.info("환율 제공자 등록: {}", this.providers.stream()
+                .map(provider -> provider.getName() + "(" + provider.getPriority() + (provider.isEnabled() ? "" : ", 비활성") + ")")
+                .toList());
+    }
+
+    private static Counter fetchCounter(MeterRegistry meterRegistry, RateProvider provider, String result) {
+        return Counter.builder("exchange.rate.provider.fetch")
+                .description("환율 제공자 조회 결과")
+                .tag("provider", provider.getName())
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        fetchExecutor.shutdownNow();
+    }
+
+    /**
+     * 최신 환율 조회 (장애 조치 포함)
+     * - 데이터가 있는 결과가 없으면 응답한 제공자 중 우선순위가 가장 높은 빈 결과 반환
+     * @throws CustomException 모든 제공자가 실패하거나 기한을 넘긴 경우
+     */
+    public Result fetchLatestRates() {
+        return ingestMetrics.timeStage(RateIngestMetrics.Stage.FETCH, this::fetchWithFailover);
+    }
+
+    private Result fetchWithFailover() {
+        List<RateProvider> candidates = selectCandidates();
+        if (candidates.isEmpty()) {
+            throw new CustomException(ErrorCode.EXCHANGE_RATE_API_ERROR, "사용 가능한 환율 제공자가 없습니다");
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Constants.Api.RATE_PROVIDER_DEADLINE_MS);
+        Map<RateProvider, Future<List<ExchangeResponseDTO>>> futures = new LinkedHashMap<>();
+        for (RateProvider provider : candidates) {
+            futures.put(provider, fetchExecutor.submit(() -> fetchTimed(provider)));
+        }
+
+        Result emptyResult = null;
+        List<String> failures = new ArrayList<>();
+        try {
+            for (Map.Entry<RateProvider, Future<List<ExchangeResponseDTO>>> entry : futures.entrySet()) {
+                RateProvider provider = entry.getKey();
+                try {
+                    List<ExchangeResponseDTO> rates = entry.getValue().get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                    recordSuccess(provider);
+                    if (!rates.isEmpty()) {
+                        log.info("환율 제공자 {} 조회 성공: {}개 통화", provider.getName(), rates.size());
+                        return new Result(provider.getName(), rates);
+                    }
+                    log.info("환율 제공자 {} 데이터 없음 - 다음 제공자 확인", provider.getName());
+                    if (emptyResult == null) {
+                        emptyResult = new Result(provider.getName(), rates);
+                    }
+                } catch (ExecutionException e) {
+                    recordFailure(provider, e.getCause().getMessage());
+                    failures.add(provider.getName() + ": " + e.getCause().getMessage());
+                } catch (TimeoutException e) {
+                    recordFailure(provider, "기한 초과");
+                    failures.add(provider.getName() + ": 기한 초과");
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(ErrorCode.EXCHANGE_RATE_API_ERROR, "환율 제공자 조회 중단", e);
+        } finally {
+            futures.values().forEach(future -> future.cancel(true));
+        }
+
+        if (emptyResult != null) {
+            return emptyResult;
+        }
+        throw new CustomException(ErrorCode.EXCHANGE_RATE_API_ERROR, "모든 환율 제공자 조회 실패: " + failures);
+    }
+
+    /**
+     * 제공자 조회 (응답 시간 기록)
+     */
+    private List<ExchangeResponseDTO> fetchTimed(RateProvider provider) throws Exception {
+        long start = System.nanoTime();
+        try {
+            return provider.fetchLatestRates();
+        } finally {
+            latencyTimers.get(provider.getName()).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 제공자별 건강 상태 조회 (관리자/모니터링용, 우선순위 순)
+     */
+    public List<HealthView> getHealth() {
+        List<HealthView> views = new ArrayList<>(providers.size());
+        for (RateProvider provider : providers) {
+            ProviderHealth health = healthByProvider.get(provider.getName());
+            synchronized (health) {
+                views.add(new HealthView(provider.getName(), provider.getPriority(), provider.isEnabled(),
+                        health.isAvailable(), health.getScore(), health.consecutiveFailures,
+                        health.lastSuccessAt, health.lastFailureAt, health.lastFailureMessage));
+            }
+        }
+        return views;
+    }
+
+    /**
+     * 이번 조회 대상 (활성 제공자 중 정상 제공자, 없으면 활성 제공자 전체, 우선순위 순)
+     */
+    private List<RateProvider> selectCandidates() {
+        List<RateProvider> enabled = providers.stream()
+                .filter(RateProvider::isEnabled)
+                .toList();
+        List<RateProvider> available = enabled.stream()
+                .filter(provider -> healthByProvider.get(provider.getName()).isAvailable())
+                .toList();
+        if (available.isEmpty() && !enabled.isEmpty()) {
+            log.warn("정상 환율 제공자 없음 - 모든 활성 제공자 조회");
+            return enabled;
+        }
+        return available;
+    }
+
+    private void recordSuccess(RateProvider provider) {
+        healthByProvider.get(provider.getName()).recordSuccess();
+        successCounters.get(provider.getName()).increment();
+    }
+
+    private void recordFailure(RateProvider provider, String message) {
+        log.warn("환율 제공자 {} 조회 실패: {}", provider.getName(), message);
+        healthByProvider.get(provider.getName()).recordFailure(message);
+        failureCounters.get(provider.getName()).increment();
+    }
+
+    /**
+     * 제공자 하나의 건강 상태
+     */
+    private static class ProviderHealth {
+        private double score = 1.0;
+        private int consecutiveFailures;
+        private long unavailableUntilNanos;
+        private LocalDateTime lastSuccessAt;
+        private LocalDateTime lastFailureAt;
+        private String lastFailureMessage;
+
+        synchronized double getScore() {
+            return score;
+        }
+
+        synchronized boolean isAvailable() {
+            return consecutiveFailures < Constants.Api.RATE_PROVIDER_FAILURE_THRESHOLD
+                    || System.nanoTime() - unavailableUntilNanos >= 0;
+        }
+
+        synchronized void recordSuccess() {
+            score = score * (1 - Constants.Api.RATE_PROVIDER_HEALTH_ALPHA) + Constants.Api.RATE_PROVIDER_HEALTH_ALPHA;
+            consecutiveFailures = 0;
+            lastSuccessAt = LocalDateTime.now();
+        }
+
+        synchronized void recordFailure(String message) {
+            score = score * (1 - Constants.Api.RATE_PROVIDER_HEALTH_ALPHA);
+            consecutiveFailures++;
+            lastFailureAt = LocalDateTime.now();
+            lastFailureMessage = message;
+            if (consecutiveFailures >= Constants.Api.RATE_PROVIDER_FAILURE_THRESHOLD) {
+                unavailableUntilNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Constants.Api.RATE_PROVIDER_COOLDOWN_MS);
+            }
+        }
+    }
+
+    /**
+     * 조회 결과
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class Result {
+        private final String providerName;              // 결과를 준 제공자 (source_api로 저장)
+        private final List<ExchangeResponseDTO> rates;
+    }
+
+    /**
+     * 제공자 건강 상태 (조회 시점 값)
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class HealthView {
+        private final String provider;
+        private final int priority;
+        private final boolean enabled;
+        private final boolean available;                // 이번 조회 대상 여부 (연속 실패로 대기 중이면 false)
+        private final double score;
+        private final int consecutiveFailures;
+        private final LocalDateTime lastSuccessAt;
+        private final LocalDateTime lastFailureAt;
+        private final String lastFailureMessage;
+    }
+}
@@ -0,0 +1,178 @@
+package com.swyp.api_server.domain.rate.push;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.swyp.api_server.common.constants.Constants;
+import com.swyp.api_server.common.util.ContentHash;
+import com.swyp.api_server.domain.rate.dto.response.RateDeltaMessageDTO;
+import com.swyp.api_server.domain.rate.event.RateDeltaDeliveredEvent;
+import com.swyp.api_server.domain.rate.event.RateSnapshotChangedEvent;
+import com.swyp.api_server.domain.rate.snapshot.RateSnapshot;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 실시간 환율 변경분 푸시
+ * - 스냅샷이 바뀌면 직전 스냅샷 대비 변경된 통화만 모아 Redis 채널로 발행
+ * - 모든 노드(발행 노드 포함)는 Redis 메시지를 받아 자기 노드의 STOMP 구독자에게 전달
+ * - 여러 노드가 같은 데이터를 수집해도 같은 변경(직전 버전 → 현재 버전)은 한 번만 전달
+ *   (내용 기반 버전만으로 거르면 A → B → A 처럼 이전 값으로 돌아가는 변경이 중복으로 버려지므로 전환 단위로 식별)
+ * - 전달한 변경분은 RateDeltaDeliveredEvent로 다시 발행 (SSE 스트림 등)
+ */
+@Slf4j
+@Component
+public class RatePushService implements MessageListener {
+
+    private final SimpMessageSendingOperations messagingTemplate;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final Counter deliveredCounter;
+    private final Counter duplicateCounter;
+
+    /** 최근 전달한 변경분 (직전 버전, 현재 버전) - 중복 전달 방지 */
+    private final Deque<RateDeltaMessageDTO> recentTransitions = new ArrayDeque<>();
+
+    public RatePushService(SimpMessageSendingOperations messagingTemplate,
+                           StringRedisTemplate redisTemplate,
+                           RedisMessageListenerContainer listenerContainer,
+                           ObjectMapper objectMapper,
+                           ApplicationEventPublisher eventPublisher,
+                           MeterRegistry meterRegistry) {
+        this.messagingTemplate = messagingTemplate;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.deliveredCounter = Counter.builder("websocket.rate.deltas")
+                .description("구독자에게 전달한 환율 변경분 수")
+                .tag("result", "delivered")
+                .register(meterRegistry);
+        this.duplicateCounter = Counter.builder("websocket.rate.deltas")
+                .description("구독자에게 전달한 환율 변경분 수")
+                .tag("result", "duplicate")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(Constants.WebSocket.RATE_DELTA_CHANNEL));
+    }
+
+    /**
+     * 스냅샷 교체 시 변경분을 Redis 채널로 발행
+     * - 시작 직후 최초 로딩은 변경분이 아니므로 발행하지 않음
+     */
+    @EventListener
+    public void onRateSnapshotChanged(RateSnapshotChangedEvent event) {
+        if (event.getPrevious().isEmpty()) {
+            return;
+        }
+
+        RateDeltaMessageDTO delta = toDelta(event.getPrevious(), event.getCurrent());
+        if (delta.getChanges().isEmpty()) {
+            return;
+        }
+
+        try {
+            redisTemplate.convertAndSend(Constants.WebSocket.RATE_DELTA_CHANNEL, objectMapper.writeValueAsString(delta));
+        } catch (Exception e) {
+            // Redis 발행 실패 시 최소한 자기 노드 구독자에게는 전달
+            log.warn("환율 변경분 Redis 발행 실패 - 로컬 구독자에게만 전달: {}", e.getMessage());
+            deliver(delta);
+        }
+    }
+
+    /**
+     * 다른 노드(또는 자기 노드)가 발행한 변경분 수신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            deliver(objectMapper.readValue(message.getBody(), RateDeltaMessageDTO.class));
+        } catch (Exception e) {
+            log.warn("환율 변경분 메시지 처리 실패: {}", e.getMessage());
+        }
+    }
+
+    private void deliver(RateDeltaMessageDTO delta) {
+        if (!markDelivered(delta)) {
+            duplicateCounter.increment();
+            return;
+        }
+
+        messagingTemplate.convertAndSend(Constants.WebSocket.RATES_TOPIC, delta);
+        for (RateDeltaMessageDTO.RateChange change : delta.getChanges()) {
+            messagingTemplate.convertAndSend(Constants.WebSocket.RATE_TOPIC_PREFIX + change.getCurrencyCode(),
+                    delta.only(change));
+        }
+        deliveredCounter.increment();
+        eventPublisher.publishEvent(new RateDeltaDeliveredEvent(delta));
+        log.info("환율 변경분 푸시 완료: version={} (이전 {}), {}개 통화",
+                delta.getVersion(), delta.getPreviousVersion(), delta.getChanges().size());
+    }
+
+    /**
+     * 처음 보는 변경이면 기록 후 true
+     * - 현재 버전에서 시작하는 이전 변경 기록은 제거 (그 버전으로 돌아왔으므로 같은 변경이 다시 일어나면 새 변경)
+     */
+    private synchronized boolean markDelivered(RateDeltaMessageDTO delta) {
+        String transitionId = delta.getTransitionId();
+        if (recentTransitions.stream().anyMatch(recent -> recent.getTransitionId().equals(transitionId))) {
+            return false;
+        }
+        recentTransitions.removeIf(recent -> Objects.equals(recent.getPreviousVersion(), delta.getVersion()));
+        recentTransitions.addLast(delta);
+        if (recentTransitions.size() > Constants.WebSocket.RECENT_DELTA_VERSIONS) {
+            recentTransitions.removeFirst();
+        }
+        return true;
+    }
+
+    private RateDeltaMessageDTO toDelta(RateSnapshot previous, RateSnapshot current) {
+        List<RateDeltaMessageDTO.RateChange> changes = new ArrayList<>();
+        for (RateSnapshot.RateEntry entry : current.getRates().values()) {
+            RateSnapshot.RateEntry before = previous.get(entry.getCurrencyCode());
+            if (before != null && !isChanged(before, entry)) {
+                continue;
+            }
+            changes.add(RateDeltaMessageDTO.RateChange.builder()
+                    .currencyCode(entry.getCurrencyCode())
+                    .rate(entry.getCurrentRate())
+                    .changeAmount(entry.getChangeAmount())
+                    .changeRate(entry.getChangeRate())
+                    .build());
+        }
+
+        return RateDeltaMessageDTO.builder()
+                .version(ContentHash.toHex(current.getVersion()))
+                .previousVersion(ContentHash.toHex(previous.getVersion()))
+                .baseDate(current.getBaseDate())
+                .changes(changes)
+                .build();
+    }
+
+    private boolean isChanged(RateSnapshot.RateEntry before, RateSnapshot.RateEntry after) {
+        return before.getCurrentRate().compareTo(after.getCurrentRate()) != 0
+                || before.getPreviousRate().compareTo(after.getPreviousRate()) != 0
+                || !before.getBaseDate().equals(after.getBaseDate());
+    }
+}
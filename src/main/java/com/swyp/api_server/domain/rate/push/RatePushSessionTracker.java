@@ -0,0 +1,76 @@
+package com.swyp.api_server.domain.rate.push;
+
+import com.swyp.api_server.config.websocket.RateSubscriptionInterceptor;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 환율 푸시 연결/구독 현황 추적
+ * - 세션별 구독 ID만 보관 (세션당 최대 13개: 전체 + 12개 통화)
+ * - websocket.rate.connections / websocket.rate.subscriptions 게이지 제공
+ */
+@Component
+public class RatePushSessionTracker {
+
+    private final ConcurrentMap<String, Set<String>> subscriptionsBySession = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriptionCount = new AtomicInteger();
+
+    public RatePushSessionTracker(MeterRegistry meterRegistry) {
+        Gauge.builder("websocket.rate.connections", subscriptionsBySession, ConcurrentMap::size)
+                .description("환율 푸시 WebSocket 연결 수")
+                .register(meterRegistry);
+        Gauge.builder("websocket.rate.subscriptions", subscriptionCount, AtomicInteger::get)
+                .description("환율 푸시 토픽 구독 수")
+                .register(meterRegistry);
+    }
+
+    @EventListener
+    public void onConnected(SessionConnectedEvent event) {
+        String sessionId = StompHeaderAccessor.wrap(event.getMessage()).getSessionId();
+        if (sessionId != null) {
+            subscriptionsBySession.putIfAbsent(sessionId, ConcurrentHashMap.newKeySet());
+        }
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        // 인터셉터에서 거부되는 구독은 집계하지 않음
+        if (!RateSubscriptionInterceptor.isAllowedDestination(accessor.getDestination())) {
+            return;
+        }
+        Set<String> subscriptions = subscriptionsBySession.get(accessor.getSessionId());
+        if (subscriptions != null && subscriptions.add(accessor.getSubscriptionId())) {
+            subscriptionCount.incrementAndGet();
+        }
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Set<String> subscriptions = subscriptionsBySession.get(accessor.getSessionId());
+        if (subscriptions != null && subscriptions.remove(accessor.getSubscriptionId())) {
+            subscriptionCount.decrementAndGet();
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        Set<String> subscriptions = subscriptionsBySession.remove(event.getSessionId());
+        if (subscriptions != null) {
+            subscriptionCount.addAndGet(-subscriptions.size());
+        }
+    }
+}
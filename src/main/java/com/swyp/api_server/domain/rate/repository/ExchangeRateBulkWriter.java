@@ -0,0 +1,159 @@
+package com.swyp.api_server.domain.rate.repository;
+
+import com.swyp.api_server.domain.rate.entity.ExchangeRateHistory;
+import com.swyp.api_server.entity.ExchangeRate;
+import lombok.Getter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * 환율/환율 히스토리 일괄 저장 (JDBC 배치)
+ * - IDENTITY 키 때문에 JPA saveAll이 행마다 INSERT를 실행하는 문제를 피해 한 번의 배치로 저장
+ * - (currency_code, base_date) 유니크 키 기준 INSERT ... ON DUPLICATE KEY UPDATE (MySQL)
+ * - 영속성 컨텍스트를 거치지 않으므로 호출 측 트랜잭션 안에서 실행
+ *   (저장 전 대기 중인 JPA 변경을 flush, 저장 후 영속성 컨텍스트를 비워 같은 트랜잭션과 커밋 후 리스너가
+ *    저장 전에 읽어 둔 엔티티 대신 DB 값을 다시 읽도록 함)
+ * - 행별 결과(삽입/갱신)는 호출 측이 저장 전에 읽은 기존 행 기준으로만 판단
+ *   (드라이버 영향 행 수는 useAffectedRows/rewriteBatchedStatements 설정에 따라 달라 사용하지 않음,
+ *    변경 없는 통화는 호출 측이 저장 전에 걸러내므로 전달된 행은 모두 반영 대상)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ExchangeRateBulkWriter {
+
+    // 기존 행은 환율만 갱신 (통화명/수집 소스/생성 일시는 최초 저장 값 유지)
+    private static final String UPSERT_CURRENT_RATE_SQL =
+            "INSERT INTO exchange_rates (currency_code, currency_name, exchange_rate, base_date, source_api, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE exchange_rate = VALUES(exchange_rate)";
+
+    // 실시간 수집: 같은 기준일 히스토리가 있으면 환율만 갱신
+    private static final String UPSERT_HISTORY_SQL =
+            "INSERT INTO exchange_rate_history (currency_code, currency_name, exchange_rate, base_date, created_at) " +
+            "VALUES (?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE exchange_rate = VALUES(exchange_rate)";
+
+    // 백필: 먼저 저장된 값을 유지 (이미 있는 행은 변경 없음)
+    private static final String INSERT_HISTORY_SQL =
+            "INSERT INTO exchange_rate_history (currency_code, currency_name, exchange_rate, base_date, created_at) " +
+            "VALUES (?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE id = id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * 행별 저장 결과
+     */
+    public enum Outcome {
+        INSERTED,
+        UPDATED
+    }
+
+    /**
+     * 현재 환율 일괄 저장 (통화/기준일이 같은 행이 있으면 환율 갱신)
+     * @param existing 통화/기준일이 같은 행이 이미 있는지 (호출 측이 저장 전에 읽은 값 기준)
+     * @return 입력 순서대로의 행별 결과
+     */
+    public Result upsertCurrentRates(List<ExchangeRate> rates, Predicate<ExchangeRate> existing) {
+        if (rates.isEmpty()) {
+            return Result.EMPTY;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        entityManager.flush();
+        jdbcTemplate.batchUpdate(UPSERT_CURRENT_RATE_SQL, rates, rates.size(), (ps, rate) -> {
+            ps.setString(1, rate.getCurrencyCode());
+            ps.setString(2, rate.getCurrencyName());
+            ps.setBigDecimal(3, rate.getExchangeRate());
+            ps.setString(4, rate.getBaseDate());
+            ps.setString(5, rate.getSourceApi());
+            ps.setTimestamp(6, now);
+        });
+        entityManager.clear();
+        return Result.of(rates, existing);
+    }
+
+    /**
+     * 환율 히스토리 일괄 저장 (통화/기준일이 같은 행이 있으면 환율 갱신)
+     * @param existing 통화/기준일이 같은 행이 이미 있는지 (호출 측이 저장 전에 읽은 값 기준)
+     * @return 입력 순서대로의 행별 결과
+     */
+    public Result upsertHistories(List<ExchangeRateHistory> histories, Predicate<ExchangeRateHistory> existing) {
+        return writeHistories(UPSERT_HISTORY_SQL, histories, existing);
+    }
+
+    /**
+     * 환율 히스토리 일괄 저장 (통화/기준일이 같은 행이 이미 있으면 건너뜀)
+     * - 히스토리가 없는 날짜만 호출하는 백필용이므로 모든 행을 삽입으로 집계
+     * @return 입력 순서대로의 행별 결과
+     */
+    public Result insertHistories(List<ExchangeRateHistory> histories) {
+        return writeHistories(INSERT_HISTORY_SQL, histories, history -> false);
+    }
+
+    private Result writeHistories(String sql, List<ExchangeRateHistory> histories, Predicate<ExchangeRateHistory> existing) {
+        if (histories.isEmpty()) {
+            return Result.EMPTY;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        entityManager.flush();
+        jdbcTemplate.batchUpdate(sql, histories, histories.size(), (ps, history) -> {
+            ps.setString(1, history.getCurrencyCode());
+            ps.setString(2, history.getCurrencyName());
+            ps.setBigDecimal(3, history.getExchangeRate());
+            ps.setDate(4, Date.valueOf(history.getBaseDate()));
+            ps.setTimestamp(5, now);
+        });
+        entityManager.clear();
+        return Result.of(histories, existing);
+    }
+
+    /**
+     * 일괄 저장 결과
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class Result {
+        static final Result EMPTY = new Result(List.of(), 0, 0);
+
+        private final List<Outcome> outcomes;   // 입력 순서
+        private final int inserted;
+        private final int updated;
+
+        static <T> Result of(List<T> rows, Predicate<T> existing) {
+            List<Outcome> outcomes = new ArrayList<>(rows.size());
+            int inserted = 0;
+            int updated = 0;
+            for (T row : rows) {
+                if (existing.test(row)) {
+                    outcomes.add(Outcome.UPDATED);
+                    updated++;
+                } else {
+                    outcomes.add(Outcome.INSERTED);
+                    inserted++;
+                }
+            }
+            return new Result(Collections.unmodifiableList(outcomes), inserted, updated);
+        }
+
+        /**
+         * 이번 저장으로 반영된 행 수
+         */
+        public int getApplied() {
+            return outcomes.size();
+        }
+    }
+}
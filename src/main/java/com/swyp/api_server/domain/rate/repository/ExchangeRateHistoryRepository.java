@@ -50,6 +50,12 @@ public interface ExchangeRateHistoryRepository extends JpaRepository<ExchangeRat
            "ORDER BY h.currencyCode")
     List<ExchangeRateHistory> findAllByPreviousDate(@Param("previousDate") LocalDate previousDate);
 
+    /**
+     * 특정 날짜 이전의 가장 최근 히스토리 날짜 조회 (주말/공휴일을 건너뛴 전 영업일)
+     */
+    @Query("SELECT MAX(h.baseDate) FROM ExchangeRateHistory h WHERE h.baseDate < :currentDate")
+    Optional<LocalDate> findLatestBaseDateBefore(@Param("currentDate") LocalDate currentDate);
+
     /**
      * 특정 날짜에 데이터가 있는지 확인
      */
@@ -64,6 +70,13 @@ public interface ExchangeRateHistoryRepository extends JpaRepository<ExchangeRat
                                           @Param("startDate") LocalDate startDate,
                                           @Param("endDate") LocalDate endDate);
     
+    /**
+     * 특정 날짜 이후 전체 통화 히스토리 일괄 조회 (메모리 시계열 적재용)
+     */
+    @Query("SELECT h FROM ExchangeRateHistory h WHERE h.baseDate >= :fromDate " +
+           "ORDER BY h.currencyCode ASC, h.baseDate ASC")
+    List<ExchangeRateHistory> findAllSince(@Param("fromDate") LocalDate fromDate);
+    
     /**
      * 특정 날짜 이전의 오래된 히스토리 데이터 조회 (삭제 전 카운트용)
      */
@@ -94,6 +107,12 @@ public interface ExchangeRateHistoryRepository extends JpaRepository<ExchangeRat
      */
     boolean existsByBaseDateAndCurrencyCode(LocalDate baseDate, String currencyCode);
     
+    /**
+     * 기간 내 히스토리가 있는 기준일 목록 (백필 대상 제외용)
+     */
+    @Query("SELECT DISTINCT h.baseDate FROM ExchangeRateHistory h WHERE h.baseDate BETWEEN :fromDate AND :toDate")
+    List<LocalDate> findDistinctBaseDatesBetween(@Param("fromDate") LocalDate fromDate, @Param("toDate") LocalDate toDate);
+    
     /**
      * 가장 오래된 히스토리 데이터 날짜 조회
      */
@@ -0,0 +1,30 @@
+package com.swyp.api_server.domain.rate.repository;
+
+import com.swyp.api_server.domain.rate.entity.HistoryBackfillCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 환율 히스토리 백필 체크포인트 리포지토리
+ */
+@Repository
+public interface HistoryBackfillCheckpointRepository extends JpaRepository<HistoryBackfillCheckpoint, Long> {
+
+    /**
+     * 기간 내 체크포인트 조회
+     */
+    List<HistoryBackfillCheckpoint> findByBaseDateBetween(LocalDate fromDate, LocalDate toDate);
+
+    /**
+     * 특정 날짜 이전의 체크포인트 삭제 (히스토리 보관 기간 정리와 함께 실행)
+     */
+    @Modifying
+    @Query("DELETE FROM HistoryBackfillCheckpoint c WHERE c.baseDate < :cutoffDate")
+    int deleteByBaseDateBefore(@Param("cutoffDate") LocalDate cutoffDate);
+}
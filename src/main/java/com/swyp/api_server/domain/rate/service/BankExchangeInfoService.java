@@ -56,6 +56,11 @@ public interface BankExchangeInfoService {
      */
     List<BankExchangeInfoResponseDTO> getOnlineAvailableBanks();
     
+    /**
+     * 활성 은행 정보 버전 (은행 정보가 바뀌면 달라지는 값)
+     */
+    String getBankInfoVersion();
+    
     /**
      * 은행명으로 정보 수정
      */
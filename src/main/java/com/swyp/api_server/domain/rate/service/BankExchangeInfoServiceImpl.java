@@ -3,8 +3,10 @@ package com.swyp.api_server.domain.rate.service;
 import com.swyp.api_server.common.constants.Constants;
 import com.swyp.api_server.domain.rate.dto.request.BankExchangeInfoRequestDTO;
 import com.swyp.api_server.domain.rate.dto.response.BankExchangeInfoResponseDTO;
+import com.swyp.api_server.domain.rate.event.BankExchangeInfoChangedEvent;
 import com.swyp.api_server.domain.rate.mapper.BankExchangeInfoMapper;
 import com.swyp.api_server.domain.rate.repository.BankExchangeInfoRepository;
+import com.swyp.api_server.domain.rate.snapshot.BankRegistry;
 import com.swyp.api_server.entity.BankExchangeInfo;
 import com.swyp.api_server.exception.CustomException;
 import com.swyp.api_server.exception.ErrorCode;
@@ -12,6 +14,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,6 +22,8 @@ import java.util.List;
 
 /**
  * 은행 환전 정보 관리 서비스 구현체
+ * - 조회 API 응답(DTO)은 Redis 캐시, 환전 계산용 엔티티 목록과 버전은 은행 레지스트리(메모리)에서 제공
+ * - 관리자 변경 시 캐시 무효화와 함께 BankExchangeInfoChangedEvent 발행 (커밋 후 레지스트리 재로딩)
  */
 @Slf4j
 @Service
@@ -28,6 +33,8 @@ public class BankExchangeInfoServiceImpl implements BankExchangeInfoService {
     
     private final BankExchangeInfoRepository bankRepository;
     private final BankExchangeInfoMapper bankMapper;
+    private final BankRegistry bankRegistry;
+    private final ApplicationEventPublisher eventPublisher;
     
     @Override
     @Cacheable(value = Constants.Cache.BANK_EXCHANGE_INFO, key = "'all_active'")
@@ -36,11 +43,12 @@ public class BankExchangeInfoServiceImpl implements BankExchangeInfoService {
         return bankMapper.toResponseDTOs(banks);
     }
     
+    /**
+     * 활성 은행 엔티티 목록 (은행 레지스트리의 불변 목록을 그대로 반환, 수정 금지)
+     */
     @Override
     public List<BankExchangeInfo> getAllActiveBankEntities() {
-        // DTO로 캐시된 데이터를 Entity로 변환
-        List<BankExchangeInfoResponseDTO> cachedDtos = getAllActiveBanks();
-        return bankMapper.toEntities(cachedDtos);
+        return bankRegistry.current().getList();
     }
     
     public List<BankExchangeInfo> getAllActiveBankEntitiesWithoutCache() {
@@ -71,6 +79,7 @@ public class BankExchangeInfoServiceImpl implements BankExchangeInfoService {
         BankExchangeInfo bank = bankMapper.toEntity(requestDTO);
         BankExchangeInfo savedBank = bankRepository.save(bank);
         
+        eventPublisher.publishEvent(new BankExchangeInfoChangedEvent());
         log.info("새 은행 정보 등록 완료: {}", savedBank.getBankName());
         return bankMapper.toResponseDTO(savedBank);
     }
@@ -88,6 +97,7 @@ public class BankExchangeInfoServiceImpl implements BankExchangeInfoService {
         // MapStruct를 사용한 업데이트
         bankMapper.updateEntityFromRequestDTO(requestDTO, bank);
         
+        eventPublisher.publishEvent(new BankExchangeInfoChangedEvent());
         log.info("은행 정보 수정 완료: {}", bank.getBankName());
         return bankMapper.toResponseDTO(bank);
     }
@@ -99,6 +109,7 @@ public class BankExchangeInfoServiceImpl implements BankExchangeInfoService {
         BankExchangeInfo bank = findBankById(id);
         
         bank.updateActiveStatus(!bank.getIsActive());
+        eventPublisher.publishEvent(new BankExchangeInfoChangedEvent());
         
         log.info("은행 상태 변경: {} - {}", bank.getBankName(), 
                 bank.getIsActive() ? "활성화" : "비활성화");
@@ -113,6 +124,7 @@ public class BankExchangeInfoServiceImpl implements BankExchangeInfoService {
         BankExchangeInfo bank = findBankById(id);
         
         bank.updateActiveStatus(false);
+        eventPublisher.publishEvent(new BankExchangeInfoChangedEvent());
         log.info("은행 정보 비활성화: {}", bank.getBankName());
     }
     
@@ -123,6 +135,15 @@ public class BankExchangeInfoServiceImpl implements BankExchangeInfoService {
         return bankMapper.toResponseDTOs(banks);
     }
     
+    /**
+     * 활성 은행 정보 버전 (ETag용)
+     * - 은행 레지스트리 버전 (은행 정보 변경 커밋 후 레지스트리 교체 시 함께 갱신됨)
+     */
+    @Override
+    public String getBankInfoVersion() {
+        return bankRegistry.current().getVersion();
+    }
+    
     /**
      * ID로 은행 정보 조회 (공통 메서드)
      */
@@ -190,6 +211,7 @@ public class BankExchangeInfoServiceImpl implements BankExchangeInfoService {
         // MapStruct를 사용한 업데이트
         bankMapper.updateEntityFromRequestDTO(requestDTO, bank);
         
+        eventPublisher.publishEvent(new BankExchangeInfoChangedEvent());
         log.info("은행 정보 수정 완료 (은행명으로): {} -> {}", bankName, bank.getBankName());
         return bankMapper.toResponseDTO(bank);
     }
@@ -200,6 +222,7 @@ public class BankExchangeInfoServiceImpl implements BankExchangeInfoService {
     @Override
     @CacheEvict(value = Constants.Cache.BANK_EXCHANGE_INFO, allEntries = true)
     public void evictAllBankCache() {
+        eventPublisher.publishEvent(new BankExchangeInfoChangedEvent());
         log.info("은행 정보 캐시 무효화 완료");
     }
 }
\ No newline at end of file
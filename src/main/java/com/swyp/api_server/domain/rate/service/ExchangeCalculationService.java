@@ -1,9 +1,12 @@
 package com.swyp.api_server.domain.rate.service;
 
 import com.swyp.api_server.domain.rate.dto.request.ExchangeCalculationRequestDTO;
+import com.swyp.api_server.domain.rate.dto.request.ExchangeReverseCalculationRequestDTO;
+import com.swyp.api_server.domain.rate.dto.response.ExchangeCalculationBatchItemResponseDTO;
 import com.swyp.api_server.domain.rate.dto.response.ExchangeResultResponseDTO;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * 환전 계산 서비스 인터페이스
@@ -26,4 +29,20 @@ public interface ExchangeCalculationService {
      * @return 해당 은행의 환전 결과
      */
     ExchangeResultResponseDTO calculateExchangeRate(ExchangeCalculationRequestDTO request, String bankName);
+    
+    /**
+     * 여러 항목의 환전 예상 금액 일괄 계산
+     * - 모든 항목을 같은 환율/은행 정보로 계산하며, 항목별 결과를 계산되는 순서대로 전달
+     * @param items 환전 계산 요청 목록
+     * @param sink 항목별 결과 수신 (실패한 항목은 error 포함)
+     */
+    void calculateExchangeRatesBatch(List<ExchangeCalculationRequestDTO> items,
+                                     Consumer<ExchangeCalculationBatchItemResponseDTO> sink);
+    
+    /**
+     * 목표 수령액에 필요한 은행별 입력 금액 역산
+     * @param request 역산 요청 정보 (목표 수령액, 방향)
+     * @return 은행별 환전 결과 리스트 (inputAmount가 필요 금액, 필요 금액 오름차순)
+     */
+    List<ExchangeResultResponseDTO> calculateRequiredAmounts(ExchangeReverseCalculationRequestDTO request);
 }
\ No newline at end of file
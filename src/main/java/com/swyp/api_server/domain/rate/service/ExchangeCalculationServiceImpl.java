@@ -3,20 +3,24 @@ package com.swyp.api_server.domain.rate.service;
 import com.swyp.api_server.domain.rate.service.BankExchangeInfoService;
 import com.swyp.api_server.entity.BankExchangeInfo;
 import com.swyp.api_server.domain.rate.dto.request.ExchangeCalculationRequestDTO;
+import com.swyp.api_server.domain.rate.dto.request.ExchangeReverseCalculationRequestDTO;
+import com.swyp.api_server.domain.rate.dto.response.ExchangeCalculationBatchItemResponseDTO;
 import com.swyp.api_server.domain.rate.dto.response.ExchangeResultResponseDTO;
 import com.swyp.api_server.domain.rate.dto.response.ExchangeResponseDTO;
+import com.swyp.api_server.domain.rate.policy.AppliedRateTable;
 import com.swyp.api_server.domain.rate.policy.ExchangeCalculationPolicy;
 import com.swyp.api_server.exception.CustomException;
 import com.swyp.api_server.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -32,9 +36,14 @@ public class ExchangeCalculationServiceImpl implements ExchangeCalculationServic
     private final ExchangeRateService exchangeRateService;
     private final BankExchangeInfoService bankInfoService;
     private final ExchangeCalculationPolicy calculationPolicy;
+    private final AppliedRateTable appliedRateTable;
     
+    /**
+     * 은행별 환전 결과 계산
+     * - 금액별 결과는 캐시하지 않음 (금액마다 키가 생겨 적중률이 거의 없음)
+     * - 금액과 무관한 입력(환율, 은행별 적용 환율표)만 메모리에 보관하고 금액 계산은 요청마다 수행
+     */
     @Override
-    @Cacheable(value = "exchangeCalculation", key = "#request.currencyCode + '_' + #request.amount + '_' + #request.direction")
     public List<ExchangeResultResponseDTO> calculateExchangeRates(ExchangeCalculationRequestDTO request) {
         return calculateExchangeRatesWithoutCache(request);
     }
@@ -44,6 +53,12 @@ public class ExchangeCalculationServiceImpl implements ExchangeCalculationServic
             // 통화 유효성 검증
             validateRequest(request);
             
+            // 미리 계산된 은행별 적용 환율표가 있으면 수수료 계산만 수행
+            AppliedRateTable.Quote quote = appliedRateTable.get(request.getCurrencyCode(), request.getDirection());
+            if (quote != null) {
+                return calculateWithAppliedRates(request, quote);
+            }
+            
             // 실시간 환율 및 기준 날짜 조회
             ExchangeRateInfo rateInfo = getCurrentExchangeRateWithDate(request.getCurrencyCode());
             
@@ -63,10 +78,11 @@ public class ExchangeCalculationServiceImpl implements ExchangeCalculationServic
             }
             
             // 은행별 환전 결과 계산
-            List<ExchangeResultResponseDTO> results = bankRates.stream()
-                .map(bankInfo -> calculateSingleExchange(request, bankInfo, rateInfo))
-                .sorted(Comparator.comparing(ExchangeResultResponseDTO::getFinalAmount).reversed())
-                .collect(Collectors.toList());
+            List<ExchangeResultResponseDTO> results = new ArrayList<>(bankRates.size());
+            for (BankExchangeInfo bankInfo : bankRates) {
+                results.add(calculateSingleExchange(request, bankInfo, rateInfo));
+            }
+            results.sort(Comparator.comparing(ExchangeResultResponseDTO::getFinalAmount).reversed());
             
             log.info("환전 계산 완료: {} {}, 결과 {}개", request.getCurrencyCode(), 
                 request.getAmount(), results.size());
@@ -94,6 +110,119 @@ public class ExchangeCalculationServiceImpl implements ExchangeCalculationServic
         return results.get(0);
     }
     
+    /**
+     * 여러 항목의 환전 예상 금액 일괄 계산
+     * - 적용 환율표를 한 번만 조회하여 모든 항목에 사용 (항목마다 환율/은행 목록을 다시 조회하지 않음)
+     * - 항목별 실패는 해당 항목의 error로만 전달하고 나머지 항목은 계속 계산
+     */
+    @Override
+    public void calculateExchangeRatesBatch(List<ExchangeCalculationRequestDTO> items,
+                                            Consumer<ExchangeCalculationBatchItemResponseDTO> sink) {
+        AppliedRateTable.Table table = appliedRateTable.current();
+        int failed = 0;
+        
+        for (int i = 0; i < items.size(); i++) {
+            ExchangeCalculationRequestDTO item = items.get(i);
+            ExchangeCalculationBatchItemResponseDTO.ExchangeCalculationBatchItemResponseDTOBuilder response =
+                ExchangeCalculationBatchItemResponseDTO.builder()
+                    .index(i)
+                    .currencyCode(item.getCurrencyCode())
+                    .amount(item.getAmount())
+                    .direction(item.getDirection());
+            try {
+                validateRequest(item);
+                AppliedRateTable.Quote quote = table.get(item.getCurrencyCode(), item.getDirection());
+                response.results(quote != null
+                    ? calculateWithAppliedRates(item, quote)
+                    : calculateExchangeRatesWithoutCache(item));
+            } catch (CustomException e) {
+                failed++;
+                response.error(toItemError(e));
+            } catch (Exception e) {
+                failed++;
+                log.error("일괄 환전 계산 항목 처리 중 오류 발생: index={}", i, e);
+                response.error(toItemError(new CustomException(ErrorCode.INTERNAL_SERVER_ERROR, "환전 계산 실패", e)));
+            }
+            sink.accept(response.build());
+        }
+        
+        log.info("일괄 환전 계산 완료: {}개 항목 (실패 {}개)", items.size(), failed);
+    }
+    
+    /**
+     * 목표 수령액에 필요한 은행별 입력 금액 역산
+     * - 적용 환율표의 은행별 최종 환율/수수료로 은행마다 역산 (스냅샷 로딩 전이면 DB 환율로 즉석 계산)
+     * - 수수료율 때문에 목표에 도달할 수 없는 은행은 결과에서 제외
+     * - 필요 금액이 적은 은행 순으로 정렬
+     */
+    @Override
+    public List<ExchangeResultResponseDTO> calculateRequiredAmounts(ExchangeReverseCalculationRequestDTO request) {
+        try {
+            if (request.getCurrencyCode() == null || request.getCurrencyCode().trim().isEmpty()) {
+                throw new CustomException(ErrorCode.INVALID_REQUEST, "통화 코드는 필수입니다.");
+            }
+            if (request.getTargetAmount() == null || request.getTargetAmount().compareTo(BigDecimal.ZERO) <= 0) {
+                throw new CustomException(ErrorCode.INVALID_REQUEST, "목표 수령액은 0보다 커야 합니다.");
+            }
+            String currencyCode = request.getCurrencyCode().trim().toUpperCase();
+            ExchangeCalculationRequestDTO.ExchangeDirection direction = request.getDirection() != null
+                ? request.getDirection() : ExchangeCalculationRequestDTO.ExchangeDirection.KRW_TO_FOREIGN;
+            
+            AppliedRateTable.Quote quote = appliedRateTable.get(currencyCode, direction);
+            if (quote == null) {
+                ExchangeRateInfo rateInfo = getCurrentExchangeRateWithDate(currencyCode);
+                quote = appliedRateTable.quoteOf(rateInfo.getRate(), rateInfo.getBaseDate(), direction,
+                    bankInfoService.getAllActiveBankEntities());
+            }
+            
+            String specificBank = request.getSpecificBank();
+            boolean filterBank = specificBank != null && !specificBank.trim().isEmpty();
+            boolean bankFound = false;
+            
+            List<ExchangeResultResponseDTO> results = new ArrayList<>(quote.getRates().size());
+            for (AppliedRateTable.AppliedRate appliedRate : quote.getRates()) {
+                BankExchangeInfo bankInfo = appliedRate.getBank();
+                if (filterBank && !bankInfo.getBankName().equals(specificBank)) {
+                    continue;
+                }
+                bankFound = true;
+                ExchangeCalculationPolicy.ReverseSolution solution = calculationPolicy.solveRequiredInput(
+                    appliedRate, request.getTargetAmount(), direction);
+                if (solution == null) {
+                    log.debug("필요 금액 역산 불가 (수수료율): {} {} {}", bankInfo.getBankName(), currencyCode,
+                        request.getTargetAmount());
+                    continue;
+                }
+                results.add(toResult(currencyCode, solution.getRequiredAmount(), bankInfo, quote.getBaseRate(),
+                    quote.getBaseDate(), solution.getResult()));
+            }
+            
+            if (filterBank && !bankFound) {
+                throw new CustomException(ErrorCode.UNSUPPORTED_BANK, 
+                    "지원하지 않는 은행입니다: " + specificBank);
+            }
+            results.sort(Comparator.comparing(ExchangeResultResponseDTO::getInputAmount));
+            
+            log.info("필요 금액 역산 완료: {} {} ({}), 결과 {}개", currencyCode, request.getTargetAmount(),
+                direction, results.size());
+            return results;
+            
+        } catch (CustomException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("필요 금액 역산 중 오류 발생", e);
+            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR, "필요 금액 역산 실패", e);
+        }
+    }
+    
+    private ExchangeCalculationBatchItemResponseDTO.ItemError toItemError(CustomException e) {
+        return ExchangeCalculationBatchItemResponseDTO.ItemError.builder()
+            .code(e.getErrorCode().getCode())
+            .message(e.getErrorCode().getMessage())
+            .detail(e.getDetail())
+            .build();
+    }
+    
     /**
      * 환율 및 기준 날짜 정보를 담는 내부 클래스
      */
@@ -115,6 +244,37 @@ public class ExchangeCalculationServiceImpl implements ExchangeCalculationServic
         }
     }
     
+    /**
+     * 적용 환율표 기반 은행별 환전 결과 계산 (스프레드/우대율 재계산 없음)
+     */
+    private List<ExchangeResultResponseDTO> calculateWithAppliedRates(ExchangeCalculationRequestDTO request,
+                                                                      AppliedRateTable.Quote quote) {
+        String specificBank = request.getSpecificBank();
+        boolean filterBank = specificBank != null && !specificBank.trim().isEmpty();
+        
+        List<ExchangeResultResponseDTO> results = new ArrayList<>(quote.getRates().size());
+        for (AppliedRateTable.AppliedRate appliedRate : quote.getRates()) {
+            BankExchangeInfo bankInfo = appliedRate.getBank();
+            if (filterBank && !bankInfo.getBankName().equals(specificBank)) {
+                continue;
+            }
+            ExchangeCalculationPolicy.CalculationResult result = calculationPolicy.calculate(
+                appliedRate, request.getAmount(), request.getDirection());
+            results.add(toResult(request.getCurrencyCode(), request.getAmount(), bankInfo, quote.getBaseRate(),
+                quote.getBaseDate(), result));
+        }
+        
+        if (filterBank && results.isEmpty()) {
+            throw new CustomException(ErrorCode.UNSUPPORTED_BANK, 
+                "지원하지 않는 은행입니다: " + specificBank);
+        }
+        results.sort(Comparator.comparing(ExchangeResultResponseDTO::getFinalAmount).reversed());
+        
+        log.debug("환전 계산 완료 (적용 환율표): {} {}, 결과 {}개", request.getCurrencyCode(), 
+            request.getAmount(), results.size());
+        return results;
+    }
+    
     /**
      * 단일 은행의 환전 결과 계산 (Policy 패턴 적용)
      */
@@ -127,6 +287,17 @@ public class ExchangeCalculationServiceImpl implements ExchangeCalculationServic
         ExchangeCalculationPolicy.CalculationResult result = calculationPolicy.calculate(
             marketRate, request.getAmount(), request.getDirection(), bankInfo);
         
+        return toResult(request.getCurrencyCode(), request.getAmount(), bankInfo, marketRate,
+            rateInfo.getBaseDate(), result);
+    }
+    
+    /**
+     * 계산 결과 → 응답 DTO 변환
+     */
+    private ExchangeResultResponseDTO toResult(String currencyCode, BigDecimal inputAmount, BankExchangeInfo bankInfo,
+                                               BigDecimal marketRate, String baseDate,
+                                               ExchangeCalculationPolicy.CalculationResult result) {
+        
         // 최소/최대 금액 검증 제거 - 모든 금액 허용
         // validateExchangeAmountWithFee(request.getAmount(), result.getExchangedAmount(), 
         //                             result.getTotalFee(), bankInfo, request.getCurrencyCode());
@@ -147,12 +318,12 @@ public class ExchangeCalculationServiceImpl implements ExchangeCalculationServic
             .totalFee(result.getTotalFee())
             .feeDetail(result.getFeeDetail())
             .finalAmount(result.getFinalAmount())
-            .inputAmount(request.getAmount())
-            .currencyCode(request.getCurrencyCode())
-            .flagImageUrl(getFlagImageUrl(request.getCurrencyCode()))
+            .inputAmount(inputAmount)
+            .currencyCode(currencyCode)
+            .flagImageUrl(getFlagImageUrl(currencyCode))
             .isOnlineAvailable(bankInfo.getIsOnlineAvailable())
             .description(description)
-            .baseDate(rateInfo.getBaseDate())
+            .baseDate(baseDate)
             .build();
     }
     
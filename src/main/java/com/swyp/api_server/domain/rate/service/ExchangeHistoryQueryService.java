@@ -0,0 +1,144 @@
+package com.swyp.api_server.domain.rate.service;
+
+import com.swyp.api_server.common.constants.Constants;
+import com.swyp.api_server.common.validator.CommonValidator;
+import com.swyp.api_server.domain.rate.HistoryResolution;
+import com.swyp.api_server.domain.rate.dto.response.ExchangeHistoryResponseDTO;
+import com.swyp.api_server.domain.rate.snapshot.RateHistoryColumnStore;
+import com.swyp.api_server.domain.rate.snapshot.RateHistoryColumns;
+import com.swyp.api_server.exception.CustomException;
+import com.swyp.api_server.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 기간/해상도 지정 환율 히스토리 조회 서비스
+ * - 히스토리 컬럼 저장소를 이진 탐색으로 잘라서 조회 (엔티티 조회 없음)
+ * - 주별/월별은 고정소수점 값 그대로 시가/고가/저가/종가 집계 후 마지막에 BigDecimal 변환
+ * - 평일 데이터만 사용 (기존 차트 API와 동일)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExchangeHistoryQueryService {
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private final CommonValidator validator;
+    private final RateHistoryColumnStore columnStore;
+
+    /**
+     * 환율 히스토리 조회
+     * @param currencyCode 통화 코드
+     * @param from 조회 시작일 (yyyyMMdd, 생략 시 종료일 30일 전)
+     * @param to 조회 종료일 (yyyyMMdd, 생략 시 어제)
+     * @param resolution 해상도 (day/week/month, 생략 시 day)
+     */
+    public ExchangeHistoryResponseDTO getHistory(String currencyCode, String from, String to, String resolution) {
+        validator.validateCurrencyCode(currencyCode);
+        String code = currencyCode.trim().toUpperCase();
+        HistoryResolution historyResolution = HistoryResolution.from(resolution);
+
+        LocalDate toDate = to != null ? parseDate(to, "to") : LocalDate.now().minusDays(1);
+        LocalDate fromDate = from != null ? parseDate(from, "from") : toDate.minusDays(Constants.Exchange.CHART_DEFAULT_DAYS);
+        if (fromDate.isAfter(toDate)) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST,
+                "from은 to보다 이후일 수 없습니다: " + from + " ~ " + to);
+        }
+        if (ChronoUnit.DAYS.between(fromDate, toDate) > Constants.Exchange.HISTORY_QUERY_MAX_DAYS) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST,
+                "조회 기간은 최대 " + Constants.Exchange.HISTORY_QUERY_MAX_DAYS + "일입니다: " + from + " ~ " + to);
+        }
+
+        RateHistoryColumns columns = columnStore.getRange(code, fromDate, toDate);
+        List<ExchangeHistoryResponseDTO.Candle> candles = aggregate(columns,
+                columns.lowerBound(fromDate.toEpochDay()), columns.upperBound(toDate.toEpochDay()), historyResolution);
+
+        return ExchangeHistoryResponseDTO.builder()
+                .currencyCode(code)
+                .resolution(historyResolution.name())
+                .from(fromDate.format(DATE_FORMAT))
+                .to(toDate.format(DATE_FORMAT))
+                .candles(candles)
+                .build();
+    }
+
+    /**
+     * 인덱스 범위 [start, end)를 구간별 시가/고가/저가/종가로 집계
+     */
+    private List<ExchangeHistoryResponseDTO.Candle> aggregate(RateHistoryColumns columns, int start, int end,
+                                                              HistoryResolution resolution) {
+        List<ExchangeHistoryResponseDTO.Candle> candles = new ArrayList<>();
+        LocalDate bucket = null;
+        long open = 0;
+        long high = 0;
+        long low = 0;
+        long close = 0;
+        int count = 0;
+
+        for (int i = start; i < end; i++) {
+            LocalDate baseDate = columns.dateAt(i);
+            if (!isBusinessDay(baseDate)) {
+                continue;
+            }
+            long rate = columns.fixedRateAt(i);
+            LocalDate bucketStart = resolution.bucketStart(baseDate);
+            if (!bucketStart.equals(bucket)) {
+                if (count > 0) {
+                    candles.add(toCandle(bucket, open, high, low, close, count));
+                }
+                bucket = bucketStart;
+                open = rate;
+                high = rate;
+                low = rate;
+                count = 0;
+            }
+            high = Math.max(high, rate);
+            low = Math.min(low, rate);
+            close = rate;
+            count++;
+        }
+        if (count > 0) {
+            candles.add(toCandle(bucket, open, high, low, close, count));
+        }
+        return candles;
+    }
+
+    private ExchangeHistoryResponseDTO.Candle toCandle(LocalDate bucket, long open, long high, long low, long close,
+                                                       int count) {
+        return ExchangeHistoryResponseDTO.Candle.builder()
+                .date(bucket.format(DATE_FORMAT))
+                .open(RateHistoryColumns.fromFixed(open))
+                .high(RateHistoryColumns.fromFixed(high))
+                .low(RateHistoryColumns.fromFixed(low))
+                .close(RateHistoryColumns.fromFixed(close))
+                .count(count)
+                .build();
+    }
+
+    private LocalDate parseDate(String value, String name) {
+        try {
+            return LocalDate.parse(value.trim(), DATE_FORMAT);
+        } catch (DateTimeParseException e) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST,
+                name + " 날짜 형식이 올바르지 않습니다 (yyyyMMdd): " + value);
+        }
+    }
+
+    /**
+     * 평일 여부 확인 (토, 일 제외)
+     */
+    private boolean isBusinessDay(LocalDate date) {
+        DayOfWeek dayOfWeek = date.getDayOfWeek();
+        return dayOfWeek != DayOfWeek.SATURDAY && dayOfWeek != DayOfWeek.SUNDAY;
+    }
+}
@@ -1,17 +1,29 @@
 package com.swyp.api_server.domain.rate.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.swyp.api_server.common.constants.Constants;
 import com.swyp.api_server.domain.rate.dto.ExchangeRateWithChangeDto;
+import com.swyp.api_server.domain.rate.event.ExchangeRateDataChangedEvent;
+import com.swyp.api_server.domain.rate.monitoring.RateIngestMetrics;
 import com.swyp.api_server.entity.ExchangeRate;
 import com.swyp.api_server.domain.rate.entity.ExchangeRateHistory;
+import com.swyp.api_server.domain.rate.repository.ExchangeRateBulkWriter;
 import com.swyp.api_server.domain.rate.repository.ExchangeRateHistoryRepository;
 import com.swyp.api_server.domain.rate.repository.ExchangeRateRepository;
+import com.swyp.api_server.domain.rate.repository.HistoryBackfillCheckpointRepository;
+import com.swyp.api_server.domain.rate.snapshot.RateSnapshot;
+import com.swyp.api_server.domain.rate.snapshot.RateSnapshotHolder;
+import com.swyp.api_server.exception.CustomException;
+import com.swyp.api_server.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.nio.ByteBuffer;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
@@ -31,40 +43,91 @@ public class ExchangeRateHistoryService {
 
     private final ExchangeRateHistoryRepository historyRepository;
     private final ExchangeRateRepository exchangeRateRepository;
+    private final HistoryBackfillCheckpointRepository checkpointRepository;
+    private final ExchangeRateBulkWriter bulkWriter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RateSnapshotHolder rateSnapshotHolder;
+    private final ObjectMapper objectMapper;
+    private final RateIngestMetrics ingestMetrics;
 
     /**
      * 현재 환율 데이터를 히스토리에 저장
+     * - 수집할 때마다 최신 기준일 히스토리를 최신 환율로 맞춤 (오후 수집이 오전 값을 보정)
+     * - 히스토리 기준일은 최신 환율의 고시일 (주말/공휴일에 직전 영업일 환율을 오늘 날짜로 저장하지 않음)
+     * - 해당 기준일 히스토리가 없거나 환율이 바뀐 통화만 upsert, 변경이 없으면 파생 데이터 갱신 이벤트도 발행하지 않음
+     * - 수집 실행 안에서 동기로 실행 (실패/소요 시간이 해당 실행 기록에 포함되도록)
      */
     @Transactional
-    @Async
     public void saveCurrentRatesAsHistory() {
-        LocalDate today = LocalDate.now();
-        
-        // 오늘 데이터가 이미 저장되었는지 확인
-        if (historyRepository.existsByBaseDate(today)) {
-            log.info("오늘({}) 환율 히스토리가 이미 존재합니다. 저장을 건너뜁니다.", today);
-            return;
-        }
-
         List<ExchangeRate> currentRates = exchangeRateRepository.findAllLatestRates();
         if (currentRates.isEmpty()) {
             log.warn("현재 환율 데이터가 없어서 히스토리 저장을 건너뜁니다.");
             return;
         }
 
+        // 통화마다 최신 기준일이 다를 수 있으므로 가장 최근 고시일의 환율만 저장
+        String latestBaseDate = currentRates.stream()
+                .map(ExchangeRate::getBaseDate)
+                .max(String::compareTo)
+                .orElseThrow();
+        LocalDate baseDate = LocalDate.parse(latestBaseDate, DateTimeFormatter.ofPattern("yyyyMMdd"));
+
+        Map<String, BigDecimal> savedRates = historyRepository.findByBaseDateOrderByCurrencyCode(baseDate).stream()
+                .collect(Collectors.toMap(ExchangeRateHistory::getCurrencyCode, ExchangeRateHistory::getExchangeRate, (a, b) -> a));
         List<ExchangeRateHistory> histories = currentRates.stream()
-                .map(rate -> ExchangeRateHistory.from(rate, today))
+                .filter(rate -> latestBaseDate.equals(rate.getBaseDate()))
+                .filter(rate -> {
+                    BigDecimal saved = savedRates.get(rate.getCurrencyCode());
+                    return saved == null || saved.compareTo(rate.getExchangeRate()) != 0;
+                })
+                .map(rate -> ExchangeRateHistory.from(rate, baseDate))
                 .collect(Collectors.toList());
+        if (histories.isEmpty()) {
+            log.info("{} 환율 히스토리 변경 없음: {} 건", baseDate, currentRates.size());
+            return;
+        }
 
-        historyRepository.saveAll(histories);
-        log.info("환율 히스토리 저장 완료: {} 건 (기준일: {})", histories.size(), today);
+        ExchangeRateBulkWriter.Result result = ingestMetrics.timeStage(RateIngestMetrics.Stage.HISTORY,
+                () -> bulkWriter.upsertHistories(histories, history -> savedRates.containsKey(history.getCurrencyCode())));
+        log.info("환율 히스토리 저장 완료: {} 건 (기준일: {}, 신규 {}, 갱신 {})", 
+                histories.size(), baseDate, result.getInserted(), result.getUpdated());
+        eventPublisher.publishEvent(ExchangeRateDataChangedEvent.historyAppended(baseDate));
     }
 
     /**
      * 변동률이 포함된 환율 목록 조회
+     * - 수집 시점에 미리 계산된 스냅샷 사용 (스냅샷 로딩 전에는 DB 조회)
      */
     @Transactional(readOnly = true)
     public List<ExchangeRateWithChangeDto> getRatesWithChange() {
+        RateSnapshot snapshot = rateSnapshotHolder.current();
+        if (!snapshot.isEmpty()) {
+            return snapshot.getChangeList();
+        }
+        return getRatesWithChangeFromDatabase();
+    }
+    
+    /**
+     * 변동률이 포함된 환율 목록 JSON 조회 (직렬화 완료된 응답 본문, 읽기 전용)
+     */
+    @Transactional(readOnly = true)
+    public ByteBuffer getRatesWithChangeJson() {
+        RateSnapshot snapshot = rateSnapshotHolder.current();
+        if (!snapshot.isEmpty()) {
+            return snapshot.getChangeListJson();
+        }
+        
+        try {
+            return ByteBuffer.wrap(objectMapper.writeValueAsBytes(getRatesWithChangeFromDatabase()));
+        } catch (JsonProcessingException e) {
+            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR, "환율 목록 직렬화 실패", e);
+        }
+    }
+    
+    /**
+     * 변동률이 포함된 환율 목록 DB 조회
+     */
+    private List<ExchangeRateWithChangeDto> getRatesWithChangeFromDatabase() {
         List<ExchangeRate> currentRates = exchangeRateRepository.findAllLatestRates();
         
         // 현재 환율 데이터의 실제 날짜를 기준으로 전일 데이터 조회
@@ -112,6 +175,14 @@ public class ExchangeRateHistoryService {
             return null;
         }
         
+        RateSnapshot snapshot = rateSnapshotHolder.current();
+        if (!snapshot.isEmpty()) {
+            return snapshot.getChangeList().stream()
+                    .filter(rate -> rate.getCurrencyCode().equalsIgnoreCase(currencyCode))
+                    .findFirst()
+                    .orElse(null);
+        }
+        
         Optional<ExchangeRate> currentOpt = exchangeRateRepository.findLatestByCurrencyCode(currencyCode);
         if (currentOpt.isEmpty()) {
             log.warn("통화 코드 {} 의 환율 데이터를 찾을 수 없습니다.", currencyCode);
@@ -131,25 +202,22 @@ public class ExchangeRateHistoryService {
 
     /**
      * 전일 환율 데이터 Map 조회
+     * - 기준일 이전의 가장 최근 히스토리 날짜를 한 번에 찾음 (주말, 공휴일 고려)
      */
     private Map<String, ExchangeRateHistory> getPreviousRatesMap(LocalDate currentDate) {
-        // 전일부터 최대 7일 전까지 조회 (주말, 공휴일 고려)
-        LocalDate searchDate = currentDate.minusDays(1);
-        for (int i = 0; i < 7; i++) {
-            List<ExchangeRateHistory> previousRates = historyRepository.findAllByPreviousDate(searchDate);
-            if (!previousRates.isEmpty()) {
-                log.info("전일 환율 데이터 조회 성공: {} ({} 건)", searchDate, previousRates.size());
-                return previousRates.stream()
-                        .collect(Collectors.toMap(
-                                ExchangeRateHistory::getCurrencyCode,
-                                history -> history
-                        ));
-            }
-            searchDate = searchDate.minusDays(1);
+        Optional<LocalDate> previousDate = historyRepository.findLatestBaseDateBefore(currentDate);
+        if (previousDate.isEmpty()) {
+            log.warn("전일 환율 데이터를 찾을 수 없습니다. 변동률은 0으로 표시됩니다.");
+            return Map.of();
         }
         
-        log.warn("전일 환율 데이터를 찾을 수 없습니다. 변동률은 0으로 표시됩니다.");
-        return Map.of();
+        List<ExchangeRateHistory> previousRates = historyRepository.findAllByPreviousDate(previousDate.get());
+        log.info("전일 환율 데이터 조회 성공: {} ({} 건)", previousDate.get(), previousRates.size());
+        return previousRates.stream()
+                .collect(Collectors.toMap(
+                        ExchangeRateHistory::getCurrencyCode,
+                        history -> history
+                ));
     }
 
     /**
@@ -169,8 +237,9 @@ public class ExchangeRateHistoryService {
     }
     
     /**
-     * 90일 이상 된 오래된 환율 히스토리 데이터 삭제
-     * @param retentionDays 보관할 일수 (기본 90일)
+     * 보관 기간이 지난 오래된 환율 히스토리 데이터 삭제
+     * - 같은 기간의 백필 체크포인트도 삭제 (이후 기간 확장 시 해당 날짜를 다시 수집하도록)
+     * @param retentionDays 보관할 일수 (기본 Constants.Exchange.HISTORY_RETENTION_DAYS)
      * @return 삭제된 데이터 건수
      */
     @Transactional
@@ -180,6 +249,11 @@ public class ExchangeRateHistoryService {
         log.info("환율 히스토리 정리 시작: {}일 이전 데이터 삭제 (기준일: {})", retentionDays, cutoffDate);
         
         try {
+            int deletedCheckpoints = checkpointRepository.deleteByBaseDateBefore(cutoffDate);
+            if (deletedCheckpoints > 0) {
+                log.info("백필 체크포인트 정리: {} 건 삭제", deletedCheckpoints);
+            }
+
             // 삭제 전 카운트 조회
             List<ExchangeRateHistory> oldHistories = historyRepository.findByBaseDateBefore(cutoffDate);
             int deleteCount = oldHistories.size();
@@ -193,6 +267,7 @@ public class ExchangeRateHistoryService {
             historyRepository.deleteByBaseDateBefore(cutoffDate);
             
             log.info("환율 히스토리 정리 완료: {} 건 삭제 ({}일 이전 데이터)", deleteCount, retentionDays);
+            eventPublisher.publishEvent(ExchangeRateDataChangedEvent.history());
             return deleteCount;
             
         } catch (Exception e) {
@@ -202,11 +277,11 @@ public class ExchangeRateHistoryService {
     }
     
     /**
-     * 90일 이상 된 오래된 환율 히스토리 데이터 삭제 (기본값)
+     * 보관 기간이 지난 오래된 환율 히스토리 데이터 삭제 (기본 보관 기간)
      */
     @Transactional
     public int deleteOldHistory() {
-        return deleteOldHistory(90);
+        return deleteOldHistory(Constants.Exchange.HISTORY_RETENTION_DAYS);
     }
     
 }
\ No newline at end of file
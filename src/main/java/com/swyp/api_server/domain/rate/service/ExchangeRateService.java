@@ -3,6 +3,7 @@ package com.swyp.api_server.domain.rate.service;
 import com.swyp.api_server.domain.rate.dto.response.ExchangeResponseDTO;
 import com.swyp.api_server.domain.rate.dto.response.ExchangeRealtimeResponseDTO;
 import com.swyp.api_server.domain.rate.dto.response.ExchangeChartResponseDTO;
+import com.swyp.api_server.domain.rate.dto.response.IntradayChartResponseDTO;
 
 import java.util.List;
 
@@ -33,6 +34,14 @@ public interface ExchangeRateService {
      */
     ExchangeRealtimeResponseDTO getRealtimeExchangeRate(String currencyCode);
     
+    /**
+     * 특정 통화의 장중 차트 조회 (장중 틱)
+     * @param currencyCode 통화 코드
+     * @param limit 최근 틱 수 (null이면 보관 중인 전체)
+     * @return 전일 종가와 장중 틱
+     */
+    IntradayChartResponseDTO getIntradayChart(String currencyCode, Integer limit);
+    
     /**
      * 특정 통화의 차트 데이터 조회 (최근 30일)
      * @param currencyCode 통화 코드
@@ -48,6 +57,15 @@ public interface ExchangeRateService {
      */
     List<ExchangeChartResponseDTO> getHistoricalExchangeRate(String currencyCode, int days);
     
+    /**
+     * 특정 통화의 과거 환율을 점 개수에 맞춰 다운샘플링하여 조회 (LTTB)
+     * @param currencyCode 통화 코드
+     * @param days 조회할 일수 (7일, 30일 등)
+     * @param points 남길 점 개수 (null이면 전체)
+     * @return 다운샘플링된 과거 환율 데이터
+     */
+    List<ExchangeChartResponseDTO> getHistoricalExchangeRate(String currencyCode, int days, Integer points);
+    
     /**
      * 환율 데이터 새로고침 (스케줄러용)
      */
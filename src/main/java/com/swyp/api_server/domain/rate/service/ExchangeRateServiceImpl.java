@@ -1,23 +1,24 @@
 package com.swyp.api_server.domain.rate.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.swyp.api_server.common.constants.Constants;
-import com.swyp.api_server.common.http.CommonHttpClient;
 import com.swyp.api_server.common.validator.CommonValidator;
 import com.swyp.api_server.domain.rate.ExchangeList;
 import com.swyp.api_server.domain.rate.dto.response.ExchangeChartResponseDTO;
 import com.swyp.api_server.domain.rate.dto.response.ExchangeRealtimeResponseDTO;
 import com.swyp.api_server.domain.rate.dto.response.ExchangeResponseDTO;
+import com.swyp.api_server.domain.rate.dto.response.IntradayChartResponseDTO;
 import com.swyp.api_server.domain.rate.entity.ExchangeRateHistory;
 import com.swyp.api_server.domain.rate.repository.ExchangeRateHistoryRepository;
 import com.swyp.api_server.domain.rate.repository.ExchangeRateRepository;
+import com.swyp.api_server.domain.rate.snapshot.ChartSeriesStore;
+import com.swyp.api_server.domain.rate.snapshot.IntradayTickStore;
+import com.swyp.api_server.domain.rate.snapshot.RateSnapshot;
+import com.swyp.api_server.domain.rate.snapshot.RateSnapshotHolder;
 import com.swyp.api_server.entity.ExchangeRate;
 import com.swyp.api_server.exception.CustomException;
 import com.swyp.api_server.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
@@ -28,13 +29,13 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * 환율 데이터 조회 서비스 구현체
- * - 한국 수출입은행 API 사용하여 공식 환율 정보 제공
- * - 캐싱 기능으로 API 호출 최적화 (하루 1000회 제한)
+ * - 스케줄러가 환율 제공자(RateProvider)로 수집해 저장한 공식 환율 정보 제공 (외부 API 호출 없음)
+ * - 메모리 스냅샷/차트 시계열 저장소로 DB 조회 최소화
  * - 12개국 통화 지원
  */
 @Slf4j
@@ -42,33 +43,50 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class ExchangeRateServiceImpl implements ExchangeRateService {
     
-    @Value("${custom.koreaexim-api-key:SAMPLE_API_KEY}")
-    private String apiKey;
+    private static final DateTimeFormatter CHART_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
     
-    private final CommonHttpClient httpClient;
     private final CommonValidator validator;
     private final ExchangeRateHistoryRepository historyRepository;
     private final ExchangeRateRepository exchangeRateRepository;
+    private final RateSnapshotHolder rateSnapshotHolder;
+    private final ChartSeriesStore chartSeriesStore;
+    private final IntradayTickStore intradayTickStore;
     
     /**
      * 모든 통화의 실시간 환율 목록 조회
      * - 한국 수출입은행 공식 환율 데이터 사용
-     * - 5분간 캐시하여 API 호출 최적화 (일 1000회 제한 고려)
+     * - 메모리 스냅샷에서 조회 (스냅샷 로딩 전에는 DB 조회)
      */
     @Override
-    @Cacheable(value = Constants.Cache.EXCHANGE_RATES, cacheManager = "cacheManager")
     public List<ExchangeResponseDTO> getAllExchangeRates() {
-        return getAllExchangeRatesWithoutCache();
+        RateSnapshot snapshot = rateSnapshotHolder.current();
+        if (snapshot.isEmpty()) {
+            return getAllExchangeRatesWithoutCache();
+        }
+        
+        return snapshot.getRates().values().stream()
+                .map(this::toExchangeResponse)
+                .collect(Collectors.toList());
     }
     
     /**
-     * 특정 통화의 환율 조회 (개별 캐시)
-     * - 통화별 세분화된 캐시로 효율성 향상
+     * 특정 통화의 환율 조회
+     * - 메모리 스냅샷에서 조회 (스냅샷 로딩 전에는 DB 조회)
      */
-    @Cacheable(value = "exchange_rate", key = "#currencyCode", cacheManager = "cacheManager")
+    @Override
     public ExchangeResponseDTO getSingleExchangeRate(String currencyCode) {
+        RateSnapshot snapshot = rateSnapshotHolder.current();
+        if (!snapshot.isEmpty()) {
+            RateSnapshot.RateEntry entry = snapshot.get(currencyCode);
+            if (entry == null) {
+                throw new CustomException(ErrorCode.EXCHANGE_RATE_NOT_FOUND, 
+                    "환율 정보를 찾을 수 없습니다: " + currencyCode);
+            }
+            return toExchangeResponse(entry);
+        }
+        
         try {
-            log.info("개별 통화 환율 조회: {}", currencyCode);
+            log.info("개별 통화 환율 조회 (DB): {}", currencyCode);
             
             List<ExchangeResponseDTO> allRates = getAllExchangeRatesFromDatabase();
             return allRates.stream()
@@ -102,166 +120,79 @@ public class ExchangeRateServiceImpl implements ExchangeRateService {
     }
     
     /**
-     * 수출입은행 API로 환율 조회 (스케줄러 전용)
-     * 클라이언트 요청에서는 사용 금지, 오직 스케줄러만 사용
+     * 특정 통화의 실시간 환율 및 등락률 조회 - API 호출 없음
+     * 장중 틱 저장소의 최신 틱과 전일 종가로 계산 (틱이 없으면 스냅샷, 스냅샷 로딩 전에는 DB 조회)
      */
-    public List<ExchangeResponseDTO> getExchangeRatesFromKoreaEximForScheduler() throws Exception {
-        String searchDate = getCurrentOrPreviousDate();
-        JsonNode responseData = fetchExchangeDataWithFallback(searchDate);
-        return parseExchangeRatesFromResponse(responseData, searchDate);
-    }
-    
-    /**
-     * 특정 날짜의 환율 조회 (히스토리 초기화 전용)
-     * 과거 날짜의 환율 데이터를 수집할 때 사용
-     */
-    public List<ExchangeResponseDTO> getExchangeRatesForSpecificDate(String searchDate) throws Exception {
-        JsonNode responseData = tryApiCall(searchDate);
-        
-        if (!hasValidData(responseData)) {
-            log.warn("날짜 {} 환율 데이터 없음", searchDate);
-            return new ArrayList<>();
-        }
-        
-        return parseExchangeRatesFromResponse(responseData, searchDate);
-    }
-    
-    /**
-     * 현재 날짜 또는 이전 날짜 조회
-     */
-    private String getCurrentOrPreviousDate() throws Exception {
-        String currentDate = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-        
-        try {
-            JsonNode currentData = tryApiCall(currentDate);
-            if (hasValidData(currentData)) {
-                return currentDate;
-            }
-        } catch (Exception e) {
-            log.warn("당일 환율 데이터 조회 실패: {}", e.getMessage());
-        }
-        
-        log.info("당일 환율 데이터 없음, 전일 데이터 조회 시도");
-        String previousDate = LocalDate.now().minusDays(1).format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-        return previousDate;
-    }
-    
-    /**
-     * 환율 데이터 조회 (폴백 포함)
-     */
-    private JsonNode fetchExchangeDataWithFallback(String searchDate) throws Exception {
-        JsonNode responseData = tryApiCall(searchDate);
+    @Override
+    public ExchangeRealtimeResponseDTO getRealtimeExchangeRate(String currencyCode) {
+        // 통화 코드 유효성 검증
+        validator.validateCurrencyCode(currencyCode);
         
-        if (!hasValidData(responseData)) {
-            log.info("환율 데이터 없음, 전일 데이터 조회 시도");
-            searchDate = LocalDate.now().minusDays(1).format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-            responseData = tryApiCall(searchDate);
+        IntradayTickStore.Quote quote = intradayTickStore.latest(currencyCode);
+        if (quote != null) {
+            BigDecimal currentRate = quote.getCurrentRate();
+            BigDecimal previousRate = quote.getPreviousClose() != null ? quote.getPreviousClose() : currentRate;
+            BigDecimal changeAmount = currentRate.subtract(previousRate);
+            // 등락률 계산 (현재환율 - 전일환율) / 전일환율 * 100
+            BigDecimal changeRate = quote.getPreviousClose() != null
+                    ? changeAmount.divide(previousRate, 6, RoundingMode.HALF_UP).multiply(BigDecimal.valueOf(100))
+                    : BigDecimal.ZERO;
+            
+            return ExchangeRealtimeResponseDTO.builder()
+                    .currencyCode(currencyCode.toUpperCase())
+                    .currencyName(getCurrencyName(currencyCode))
+                    .flagImageUrl(getFlagImageUrl(currencyCode))
+                    .currentRate(currentRate)
+                    .previousRate(previousRate)
+                    .changeAmount(changeAmount)
+                    .changeRate(changeRate)
+                    .updateTime(quote.getUpdatedAt())
+                    .build();
         }
         
-        return responseData;
-    }
-    
-    /**
-     * 응답 데이터에서 환율 정보 파싱
-     */
-    private List<ExchangeResponseDTO> parseExchangeRatesFromResponse(JsonNode responseData, String searchDate) {
-        List<ExchangeResponseDTO> exchangeRates = new ArrayList<>();
-        
-        for (ExchangeList.ExchangeType currency : ExchangeList.ExchangeType.values()) {
-            ExchangeResponseDTO exchangeDto = parseExchangeRateForCurrency(responseData, currency, searchDate);
-            if (exchangeDto != null) {
-                exchangeRates.add(exchangeDto);
-            }
+        // 틱이 아직 없으면 (재시작 직후 등) 스냅샷의 사전 계산 값 사용
+        RateSnapshot.RateEntry entry = rateSnapshotHolder.current().get(currencyCode);
+        if (entry != null) {
+            return ExchangeRealtimeResponseDTO.builder()
+                    .currencyCode(entry.getCurrencyCode())
+                    .currencyName(entry.getCurrencyName())
+                    .flagImageUrl(entry.getFlagImageUrl())
+                    .currentRate(entry.getCurrentRate())
+                    .previousRate(entry.getPreviousRate())
+                    .changeAmount(entry.getChangeAmount())
+                    .changeRate(entry.getChangeRate())
+                    .updateTime(LocalDateTime.now())
+                    .build();
         }
         
-        return exchangeRates;
+        return getRealtimeExchangeRateFromDatabase(currencyCode);
     }
     
     /**
-     * 개별 통화 환율 파싱
+     * 특정 통화의 장중 차트 조회 - 장중 틱 저장소 (DB 조회 없음)
      */
-    private ExchangeResponseDTO parseExchangeRateForCurrency(JsonNode responseData, 
-                                                           ExchangeList.ExchangeType currency, 
-                                                           String searchDate) {
-        String currencyCode = currency.getCode();
-        String mappedCurrencyCode = mapToKoreaEximCurrencyCode(currencyCode);
-        
-        JsonNode currencyData = findCurrencyInResponse(responseData, mappedCurrencyCode);
-        if (currencyData == null) {
-            log.warn("수출입은행에서 환율 정보를 찾을 수 없습니다: {}", currencyCode);
-            return null;
-        }
-        
-        String dealBasRStr = currencyData.get("deal_bas_r").asText().replace(",", "");
-        if (dealBasRStr.isEmpty() || dealBasRStr.equals("0")) {
-            log.warn("수출입은행 환율 데이터가 없습니다: {}", currencyCode);
-            return null;
+    @Override
+    public IntradayChartResponseDTO getIntradayChart(String currencyCode, Integer limit) {
+        validator.validateCurrencyCode(currencyCode);
+        int capacity = intradayTickStore.getCapacity();
+        if (limit != null && (limit < 1 || limit > capacity)) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST,
+                "limit은 1~" + capacity + " 사이여야 합니다: " + limit);
         }
         
-        BigDecimal exchangeRate = calculateActualExchangeRate(dealBasRStr, mappedCurrencyCode);
-        
-        return ExchangeResponseDTO.builder()
-                .currencyCode(currencyCode)
-                .currencyName(currency.getLabel())
-                .flagImageUrl(currency.getFlagImageUrl())
-                .exchangeRate(exchangeRate)
-                .baseDate(searchDate)
-                .build();
-    }
-    
-    /**
-     * 실제 환율 계산 (100 단위 통화 처리)
-     */
-    private BigDecimal calculateActualExchangeRate(String dealBasRStr, String mappedCurrencyCode) {
-        BigDecimal exchangeRate = new BigDecimal(dealBasRStr);
-        
-        // 현재 지원하는 통화는 모두 1 단위이므로 그대로 사용
-        
-        return exchangeRate;
-    }
-    
-    /**
-     * 응답 데이터 유효성 확인
-     */
-    private boolean hasValidData(JsonNode responseData) {
-        return responseData != null && responseData.isArray() && responseData.size() > 0;
-    }
-    
-    private JsonNode tryApiCall(String searchDate) throws Exception {
-        Map<String, String> params = Map.of(
-            "authkey", apiKey,
-            "searchdate", searchDate,
-            "data", Constants.Api.KOREA_EXIM_DATA_CODE
-        );
-        
-        String url = httpClient.buildUrl(Constants.Api.KOREA_EXIM_BASE_URL, params);
-        log.info("수출입은행 API 호출: {}", url);
-        
-        JsonNode responseData = httpClient.getJson(url);
-        log.info("API 응답 길이: {}", responseData.toString().length());
-        log.debug("수출입은행 API 응답 내용: {}", responseData);
-        
-        // 수출입은행 API 에러 응답 처리 (빈 배열은 여기서 처리하지 않음)
-        boolean isRateLimitExceeded = handleKoreaEximApiResponse(responseData);
-        if (isRateLimitExceeded) {
-            throw new CustomException(ErrorCode.EXCHANGE_RATE_API_LIMIT_EXCEEDED, 
-                "API 호출 한도 초과 - DB 데이터 사용 필요");
+        IntradayChartResponseDTO chart = intradayTickStore.getIntradayChart(currencyCode, limit);
+        if (chart == null) {
+            throw new CustomException(ErrorCode.EXCHANGE_RATE_NOT_FOUND, 
+                "장중 환율 데이터가 없습니다: " + currencyCode);
         }
-        
-        return responseData;
+        return chart;
     }
     
     /**
-     * 특정 통화의 실시간 환율 및 등락률 조회 - DB 전용 (API 호출 없음)
-     * 스케줄러가 정해진 시간에 수집한 DB 데이터만 사용
+     * 특정 통화의 실시간 환율 및 등락률 DB 조회 (스냅샷에 없는 경우)
      */
-    @Override
-    @Cacheable(value = Constants.Cache.REALTIME_RATE, key = "#currencyCode")
-    public ExchangeRealtimeResponseDTO getRealtimeExchangeRate(String currencyCode) {
+    private ExchangeRealtimeResponseDTO getRealtimeExchangeRateFromDatabase(String currencyCode) {
         try {
-            // 통화 코드 유효성 검증
-            validator.validateCurrencyCode(currencyCode);
-            
             log.info("DB에서 실시간 환율 조회: {}", currencyCode);
             
             // 1. DB에서 현재 환율 조회 (exchange_rates 테이블)
@@ -338,28 +269,42 @@ public class ExchangeRateServiceImpl implements ExchangeRateService {
      * 특정 통화의 과거 환율 조회 - DB 전용 (API 호출 없음)
      * 스케줄러가 정해진 시간에 API 호출 → DB 저장하므로 클라이언트는 DB에서만 조회
      * 평일 기준으로 조회
+     * - 히스토리 저장 시 미리 계산된 차트 시계열 저장소에서 응답
+     * - 저장소에 없는 기간이거나 저장소 재계산 실패 시 DB 직접 조회
      */
     @Override
     public List<ExchangeChartResponseDTO> getHistoricalExchangeRate(String currencyCode, int days) {
-        try {
-            // 캐시에서 조회 시도
-            return getHistoricalExchangeRateFromCache(currencyCode, days);
-        } catch (Exception e) {
-            log.warn("캐시 조회 실패, DB에서 직접 조회: {}, {} days, error: {}", currencyCode, days, e.getMessage());
-            // 캐시 실패 시 DB에서 직접 조회
-            return getHistoricalDataFromDatabaseSafely(currencyCode, days);
+        List<ExchangeChartResponseDTO> series = chartSeriesStore.getSeries(currencyCode, days);
+        if (series != null) {
+            return series;
         }
+        
+        log.info("차트 시계열 저장소 미적중, DB에서 직접 조회: {}, {} days", currencyCode, days);
+        return getHistoricalDataFromDatabaseSafely(currencyCode, days);
     }
     
     /**
-     * 캐시를 통한 환율 히스토리 조회 (평일 기준)
+     * 특정 통화의 과거 환율 다운샘플링 조회 (LTTB)
+     * - 저장소 적중 시 (통화, 기간, 점 개수) 단위로 캐시된 결과 응답
+     * - 저장소 미적중 시 DB 조회 결과를 그대로 다운샘플링
      */
-    @Cacheable(value = Constants.Cache.HISTORICAL_RATE, key = "#currencyCode + '_' + #days")
-    public List<ExchangeChartResponseDTO> getHistoricalExchangeRateFromCache(String currencyCode, int days) {
-        validator.validateCurrencyCode(currencyCode);
+    @Override
+    public List<ExchangeChartResponseDTO> getHistoricalExchangeRate(String currencyCode, int days, Integer points) {
+        if (points == null) {
+            return getHistoricalExchangeRate(currencyCode, days);
+        }
+        if (points < Constants.Exchange.CHART_MIN_POINTS || points > Constants.Exchange.CHART_MAX_POINTS) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST,
+                "points는 " + Constants.Exchange.CHART_MIN_POINTS + "~" + Constants.Exchange.CHART_MAX_POINTS + " 사이여야 합니다: " + points);
+        }
         
-        log.info("캐시를 통한 환율 히스토리 조회: {} (평일 {} days)", currencyCode, days);
-        return getHistoricalDataFromDatabaseSafely(currencyCode, days);
+        List<ExchangeChartResponseDTO> series = chartSeriesStore.getSeries(currencyCode, days, points);
+        if (series != null) {
+            return series;
+        }
+        
+        log.info("차트 시계열 저장소 미적중, DB에서 직접 조회 후 다운샘플링: {}, {} days, {} points", currencyCode, days, points);
+        return ChartSeriesStore.downsample(getHistoricalDataFromDatabaseSafely(currencyCode, days), points);
     }
     
     /**
@@ -389,94 +334,55 @@ public class ExchangeRateServiceImpl implements ExchangeRateService {
     
     /**
      * DB로부터 환율 히스토리 데이터 조회 (평일 기준)
+     * - 기간: 어제부터 달력 기준 N일 전까지 (평일 목록을 만들지 않고 기간 조회 후 주말만 제외)
      */
     private List<ExchangeChartResponseDTO> getHistoricalDataFromDatabase(String currencyCode, int days) {
         try {
-            // 평일 기준으로 날짜 범위 계산
-            List<LocalDate> businessDays = getRecentBusinessDays(days);
-            
-            if (businessDays.isEmpty()) {
-                log.warn("조회할 평일 날짜가 없습니다: {} days", days);
-                return new ArrayList<>();
-            }
-            
-            LocalDate startDate = businessDays.get(businessDays.size() - 1); // 가장 오래된 날짜
-            LocalDate endDate = businessDays.get(0); // 가장 최근 날짜
+            List<ExchangeChartResponseDTO> chartData = findBusinessDayHistory(currencyCode, days);
             
-            List<ExchangeRateHistory> historyList = historyRepository.findByPeriod(currencyCode, startDate, endDate);
-            
-            // 평일만 필터링
-            List<ExchangeChartResponseDTO> chartData = historyList.stream()
-                    .filter(history -> isBusinessDay(history.getBaseDate()))
-                    .map(history -> ExchangeChartResponseDTO.builder()
-                            .date(history.getBaseDate().format(DateTimeFormatter.ofPattern("yyyyMMdd")))
-                            .rate(history.getExchangeRate())
-                            .timestamp(history.getBaseDate().atStartOfDay())
-                            .build())
-                    .toList();
-            
-            log.info("DB 환율 데이터 조회 완료 (평일 기준): {} (요청: 평일 {} days, 조회: {} entries)", 
+            log.info("DB 환율 데이터 조회 완료 (평일 기준): {} (요청: 달력 {} days, 조회: {} entries)", 
                     currencyCode, days, chartData.size());
             
             // 데이터가 부족한 경우 최근 평일 7일 데이터로 재시도 (요청 기간 대비 데이터가 30% 미만이거나 5개 미만)
             int expectedMinData = Math.max(7, (int)(days * 0.5)); // 최소 7개 또는 요청 기간의 50%
             if (chartData.size() < expectedMinData && days > 7) {
-                log.info("요청된 기간(평일 {} days)에 데이터 부족({}/{}개)으로 최근 평일 7일 데이터로 재시도: {}", 
+                log.info("요청된 기간(달력 {} days)에 데이터 부족({}/{}개)으로 최근 평일 7일 데이터로 재시도: {}", 
                         days, chartData.size(), expectedMinData, currencyCode);
-                List<LocalDate> recentBusinessDays = getRecentBusinessDays(7);
+                chartData = findBusinessDayHistory(currencyCode, 7);
                 
-                if (!recentBusinessDays.isEmpty()) {
-                    LocalDate recentStartDate = recentBusinessDays.get(recentBusinessDays.size() - 1);
-                    LocalDate recentEndDate = recentBusinessDays.get(0);
-                    
-                    List<ExchangeRateHistory> recentHistoryList = historyRepository.findByPeriod(currencyCode, recentStartDate, recentEndDate);
-                    
-                    chartData = recentHistoryList.stream()
-                            .filter(history -> isBusinessDay(history.getBaseDate()))
-                            .map(history -> ExchangeChartResponseDTO.builder()
-                                    .date(history.getBaseDate().format(DateTimeFormatter.ofPattern("yyyyMMdd")))
-                                    .rate(history.getExchangeRate())
-                                    .timestamp(history.getBaseDate().atStartOfDay())
-                                    .build())
-                            .toList();
-                            
-                    if (!chartData.isEmpty()) {
-                        log.info("최근 평일 7일 데이터 조회 성공: {} ({} entries)", currencyCode, chartData.size());
-                    }
+                if (!chartData.isEmpty()) {
+                    log.info("최근 평일 7일 데이터 조회 성공: {} ({} entries)", currencyCode, chartData.size());
                 }
             }
             
             // 여전히 데이터가 없는 경우
             if (chartData.isEmpty()) {
-                log.warn("DB에서도 환율 데이터를 찾을 수 없습니다: {} (평일 {} days)", currencyCode, days);
+                log.warn("DB에서도 환율 데이터를 찾을 수 없습니다: {} (달력 {} days)", currencyCode, days);
             }
             
             return chartData;
             
         } catch (Exception e) {
-            log.error("DB에서 환율 히스토리 조회 실패: {}, 평일 {} days", currencyCode, days, e);
+            log.error("DB에서 환율 히스토리 조회 실패: {}, 달력 {} days", currencyCode, days, e);
             return new ArrayList<>(); // 빈 리스트 반환
         }
     }
     
     /**
-     * 최근 N일 기간 내 평일 날짜 리스트 생성 (달력 기준, 최신 순)
+     * 최근 N일(달력 기준, 어제까지) 평일 히스토리 조회
      */
-    private List<LocalDate> getRecentBusinessDays(int calendarDays) {
-        List<LocalDate> businessDays = new ArrayList<>();
-        LocalDate startDate = LocalDate.now().minusDays(calendarDays); // 달력 기준 시작일
-        LocalDate endDate = LocalDate.now().minusDays(1); // 어제까지
+    private List<ExchangeChartResponseDTO> findBusinessDayHistory(String currencyCode, int calendarDays) {
+        LocalDate startDate = LocalDate.now().minusDays(calendarDays);
+        LocalDate endDate = LocalDate.now().minusDays(1);
         
-        LocalDate currentDate = endDate;
-        while (!currentDate.isBefore(startDate)) {
-            if (isBusinessDay(currentDate)) {
-                businessDays.add(currentDate);
-            }
-            currentDate = currentDate.minusDays(1);
-        }
-        
-        log.info("평일 데이터 조회: 달력 {}일 기간에서 평일 {}개 찾음", calendarDays, businessDays.size());
-        return businessDays; // 최신 날짜가 첫 번째
+        return historyRepository.findByPeriod(currencyCode, startDate, endDate).stream()
+                .filter(history -> isBusinessDay(history.getBaseDate()))
+                .map(history -> ExchangeChartResponseDTO.builder()
+                        .date(history.getBaseDate().format(CHART_DATE_FORMAT))
+                        .rate(history.getExchangeRate())
+                        .timestamp(history.getBaseDate().atStartOfDay())
+                        .build())
+                .toList();
     }
     
     /**
@@ -511,85 +417,16 @@ public class ExchangeRateServiceImpl implements ExchangeRateService {
         }
     }
     
-    /**
-     * 수출입은행 API 응답에서 특정 통화 데이터 찾기
-     */
-    private JsonNode findCurrencyInResponse(JsonNode responseArray, String targetCurrencyCode) {
-        if (!responseArray.isArray()) {
-            return null;
-        }
-        
-        for (JsonNode item : responseArray) {
-            String curUnit = item.get("cur_unit").asText();
-            
-            // 수출입은행에서는 통화 단위가 다를 수 있음 (예: USD, EUR 등)
-            String cleanCurUnit = curUnit.replaceAll("\\(.*\\)", "").trim();
-            
-            if (cleanCurUnit.equalsIgnoreCase(targetCurrencyCode)) {
-                return item;
-            }
-        }
-        
-        return null;
-    }
-    
-    /**
-     * 수출입은행 통화 코드 매핑
-     * (수출입은행 응답 예시에 따른 실제 매핑)
-     */
-    private String mapToKoreaEximCurrencyCode(String standardCode) {
-        return switch (standardCode.toUpperCase()) {
-            case "CNY" -> Constants.Exchange.CNH_CODE;       // 중국 위안 (수출입은행에서는 CNH 사용)
-            default -> standardCode;
-        };
-    }
-    
-    /**
-     * 수출입은행 API 응답 에러 처리
-     * @return API 한도 초과 여부
-     */
-    private boolean handleKoreaEximApiResponse(JsonNode responseData) {
-        // 배열 응답에서 개별 아이템의 result 체크 (에러 응답만 처리)
-        if (responseData.isArray() && responseData.size() > 0) {
-            JsonNode firstItem = responseData.get(0);
-            if (firstItem.has("result")) {
-                int result = firstItem.get("result").asInt();
-                
-                switch (result) {
-                    case 1 -> {
-                        log.debug("수출입은행 API 정상 응답");  // 성공
-                        return false;
-                    }
-                    case 2 -> throw new CustomException(ErrorCode.INVALID_REQUEST, 
-                        "DATA 코드 오류 (" + Constants.Api.KOREA_EXIM_DATA_CODE + " 확인)");
-                    case 3 -> throw new CustomException(ErrorCode.INVALID_REQUEST, 
-                        "인증키 오류. 발급받은 인증키를 확인해주세요.");
-                    case 4 -> {
-                        log.warn("일일 호출 한도({})를 초과했습니다. DB 데이터로 폴백합니다.", Constants.Api.KOREA_EXIM_DAILY_LIMIT);
-                        return true; // 한도 초과
-                    }
-                    default -> {
-                        log.warn("알 수 없는 수출입은행 API 응답: {}", result);
-                        return false;
-                    }
-                }
-            }
-        }
-        // 빈 배열은 여기서 예외를 던지지 않음 - 호출하는 곳에서 fallback 처리
-        return false;
-    }
-    
     /**
      * 환율 데이터 새로고침 (스케줄러용)
-     * - 기존 메소드 호출하여 캐시 갱신 유도
+     * - DB 최신 데이터로 메모리 스냅샷 재구성
      */
     @Override
     public void refreshExchangeRates() {
         log.info("환율 데이터 새로고침 시작");
         try {
-            // 기존 캐시된 메소드를 호출하여 최신 데이터 가져오기
-            getAllExchangeRates();
-            log.info("환율 데이터 새로고침 완료");
+            RateSnapshot snapshot = rateSnapshotHolder.refresh();
+            log.info("환율 데이터 새로고침 완료 (스냅샷 버전: {})", Long.toHexString(snapshot.getVersion()));
         } catch (Exception e) {
             log.error("환율 데이터 새로고침 실패", e);
             throw e;
@@ -622,6 +459,19 @@ public class ExchangeRateServiceImpl implements ExchangeRateService {
         }
     }
     
+    /**
+     * 스냅샷 엔트리 -> 환율 응답 DTO 변환
+     */
+    private ExchangeResponseDTO toExchangeResponse(RateSnapshot.RateEntry entry) {
+        return ExchangeResponseDTO.builder()
+                .currencyCode(entry.getCurrencyCode())
+                .currencyName(entry.getCurrencyName())
+                .flagImageUrl(entry.getFlagImageUrl())
+                .exchangeRate(entry.getCurrentRate())
+                .baseDate(entry.getBaseDate())
+                .build();
+    }
+    
     /**
      * DB에서 전체 환율 데이터 조회 (최신 날짜 기준)
      */
@@ -1,17 +1,30 @@
 package com.swyp.api_server.domain.rate.service;
 
 import com.swyp.api_server.domain.rate.dto.response.ExchangeResponseDTO;
+import com.swyp.api_server.domain.rate.repository.ExchangeRateBulkWriter;
 import com.swyp.api_server.domain.rate.repository.ExchangeRateRepository;
 import com.swyp.api_server.domain.rate.ExchangeList;
+import com.swyp.api_server.common.constants.Constants;
+import com.swyp.api_server.domain.rate.event.ExchangeRateDataChangedEvent;
+import com.swyp.api_server.domain.rate.event.RateChangeSetEvent;
+import com.swyp.api_server.domain.rate.monitoring.RateIngestMetrics;
 import com.swyp.api_server.entity.ExchangeRate;
+import com.swyp.api_server.exception.CustomException;
+import com.swyp.api_server.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -27,44 +40,80 @@ import java.util.stream.Collectors;
 public class ExchangeRateStorageService {
     
     private final ExchangeRateRepository exchangeRateRepository;
+    private final ExchangeRateBulkWriter bulkWriter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RateIngestMetrics ingestMetrics;
     
     /**
      * 환율 데이터를 DB에 저장
+     * - 통화별 최신 환율과 비교해 새 기준일이거나 환율이 바뀐 통화만 일괄 upsert (한 번의 배치)
+     * - 기준일은 제공자가 돌려준 고시일 (없으면 오늘), 저장된 최신 기준일보다 이전 데이터는 저장하지 않음
+     * - 저장한 통화가 있을 때만 파생 데이터 갱신 이벤트와 변경분 이벤트 발행 (변경 없으면 스냅샷 재구성/알림 평가 없음)
+     * @return 저장한 통화별 결과 (입력 순서, 변경 없으면 빈 결과)
+     * @throws CustomException 저장 실패 시 (호출 측에서 실패를 알 수 있도록 전파)
      */
     @Transactional
-    public void saveExchangeRates(List<ExchangeResponseDTO> rates, String sourceApi) {
+    public ExchangeRateBulkWriter.Result saveExchangeRates(List<ExchangeResponseDTO> rates, String sourceApi) {
+        String today = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
+        
+        ExchangeRateBulkWriter.Result result;
+        List<RateChangeSetEvent.Change> changes = new ArrayList<>(rates.size());
+        String savedBaseDate = null;
         try {
-            String today = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
+            Map<String, ExchangeRate> latestRates = exchangeRateRepository.findAllLatestRates().stream()
+                    .collect(Collectors.toMap(ExchangeRate::getCurrencyCode, Function.identity(), (a, b) -> a));
             
+            List<ExchangeRate> entities = new ArrayList<>(rates.size());
             for (ExchangeResponseDTO rate : rates) {
-                // 기존 데이터 확인
-                Optional<ExchangeRate> existing = exchangeRateRepository
-                        .findByCurrencyCodeAndBaseDate(rate.getCurrencyCode(), today);
+                // DB 컬럼 자릿수로 맞춰 비교 (표기 자릿수 차이를 변경으로 보지 않음)
+                BigDecimal newRate = rate.getExchangeRate().setScale(Constants.Exchange.DECIMAL_SCALE, RoundingMode.HALF_UP);
+                String baseDate = rate.getBaseDate() != null ? rate.getBaseDate() : today;
+                ExchangeRate latest = latestRates.get(rate.getCurrencyCode());
+                if (latest != null && baseDate.compareTo(latest.getBaseDate()) < 0) {
+                    continue;   // 이미 저장된 기준일보다 이전 고시
+                }
+                if (latest != null && baseDate.equals(latest.getBaseDate())
+                        && latest.getExchangeRate().compareTo(newRate) == 0) {
+                    continue;   // 같은 기준일, 같은 환율
+                }
                 
-                if (existing.isPresent()) {
-                    // 기존 데이터 업데이트
-                    existing.get().updateRate(rate.getExchangeRate());
-                    log.debug("환율 데이터 업데이트: {} = {}", rate.getCurrencyCode(), rate.getExchangeRate());
-                } else {
-                    // 새 데이터 저장
-                    ExchangeRate entity = ExchangeRate.builder()
-                            .currencyCode(rate.getCurrencyCode())
-                            .currencyName(rate.getCurrencyName())
-                            .exchangeRate(rate.getExchangeRate())
-                            .baseDate(today)
-                            .sourceApi(sourceApi)
-                            .build();
-                    
-                    exchangeRateRepository.save(entity);
-                    log.debug("새 환율 데이터 저장: {} = {}", rate.getCurrencyCode(), rate.getExchangeRate());
+                entities.add(ExchangeRate.builder()
+                        .currencyCode(rate.getCurrencyCode())
+                        .currencyName(rate.getCurrencyName())
+                        .exchangeRate(newRate)
+                        .baseDate(baseDate)
+                        .sourceApi(sourceApi)
+                        .build());
+                changes.add(new RateChangeSetEvent.Change(rate.getCurrencyCode(),
+                        latest != null ? latest.getExchangeRate() : null, newRate));
+                if (savedBaseDate == null || baseDate.compareTo(savedBaseDate) > 0) {
+                    savedBaseDate = baseDate;
                 }
             }
             
-            log.info("환율 데이터 저장 완료: {}개 통화, 소스: {}", rates.size(), sourceApi);
-            
+            // 같은 기준일의 최신 행이 있으면 갱신, 없으면 삽입
+            result = ingestMetrics.timeStage(RateIngestMetrics.Stage.UPSERT, () -> bulkWriter.upsertCurrentRates(entities,
+                    entity -> {
+                        ExchangeRate latest = latestRates.get(entity.getCurrencyCode());
+                        return latest != null && entity.getBaseDate().equals(latest.getBaseDate());
+                    }));
         } catch (Exception e) {
-            log.error("환율 데이터 저장 실패", e);
+            log.error("환율 데이터 저장 실패: {}개 통화, 소스: {}", rates.size(), sourceApi, e);
+            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR, "환율 데이터 저장 실패: " + e.getMessage(), e);
+        }
+        
+        if (changes.isEmpty()) {
+            log.info("환율 데이터 변경 없음: {}개 통화, 소스: {}", rates.size(), sourceApi);
+            return result;
         }
+        
+        log.info("환율 데이터 저장 완료: {}개 통화 중 {}개 저장 (신규 {}, 갱신 {}), 소스: {}", 
+                rates.size(), changes.size(), result.getInserted(), result.getUpdated(), sourceApi);
+        
+        // 커밋 후 메모리 스냅샷 등 파생 데이터 갱신, 변경 통화 알림 평가
+        eventPublisher.publishEvent(ExchangeRateDataChangedEvent.currentRates());
+        eventPublisher.publishEvent(new RateChangeSetEvent(savedBaseDate, List.copyOf(changes)));
+        return result;
     }
     
     /**
@@ -0,0 +1,173 @@
+package com.swyp.api_server.domain.rate.snapshot;
+
+import com.swyp.api_server.common.constants.Constants;
+import com.swyp.api_server.common.util.ContentHash;
+import com.swyp.api_server.domain.rate.event.BankExchangeInfoChangedEvent;
+import com.swyp.api_server.domain.rate.event.BankRegistryChangedEvent;
+import com.swyp.api_server.domain.rate.repository.BankExchangeInfoRepository;
+import com.swyp.api_server.entity.BankExchangeInfo;
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 활성 은행 레지스트리
+ * - 활성 은행 엔티티 목록(표시 순서)을 불변 목록으로 보관하고 변경 시 통째로 교체
+ * - 환전 계산 경로는 AtomicReference 읽기만 수행 (Redis 조회, DTO → 엔티티 변환 없음)
+ * - 관리자 변경 커밋 후 DB에서 다시 로딩하고 Redis 채널로 다른 노드에 갱신 요청
+ * - version은 계산에 쓰이는 필드 기반 값으로, 같은 데이터를 가진 노드는 같은 버전을 가짐
+ * - 보관하는 엔티티는 영속성 컨텍스트와 분리된 읽기 전용 객체 (수정 금지)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BankRegistry implements MessageListener {
+
+    private final BankExchangeInfoRepository bankRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final AtomicReference<Banks> current = new AtomicReference<>(Banks.EMPTY);
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(Constants.Cache.BANK_REGISTRY_CHANNEL));
+    }
+
+    /**
+     * 현재 은행 목록 조회 (로딩 전이면 즉시 로딩)
+     */
+    public Banks current() {
+        Banks banks = current.get();
+        return banks.isLoaded() ? banks : refresh();
+    }
+
+    /**
+     * 애플리케이션 시작 시 최초 로딩
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        refresh();
+    }
+
+    /**
+     * 은행 정보 변경 커밋 후 재로딩 및 다른 노드에 전파
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBankExchangeInfoChanged(BankExchangeInfoChangedEvent event) {
+        refresh();
+        try {
+            redisTemplate.convertAndSend(Constants.Cache.BANK_REGISTRY_CHANNEL, nodeId);
+        } catch (Exception e) {
+            // 전파 실패 시 다른 노드는 재시작 또는 다음 변경 전까지 이전 은행 정보 사용
+            log.warn("은행 레지스트리 갱신 메시지 발행 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 노드의 갱신 요청 수신 (자기 노드가 보낸 메시지는 무시)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        if (nodeId.equals(new String(message.getBody(), StandardCharsets.UTF_8))) {
+            return;
+        }
+        refresh();
+    }
+
+    /**
+     * DB에서 활성 은행 목록을 다시 읽어 교체
+     * - 동시에 여러 재로딩이 겹치면 늦게 읽은 데이터가 이전 데이터로 덮이지 않도록 직렬화
+     * @return 교체된 목록 (실패 시 기존 목록)
+     */
+    public synchronized Banks refresh() {
+        try {
+            Banks banks = Banks.of(bankRepository.findAllActiveOrderByDisplayOrder());
+            Banks previous = current.getAndSet(banks);
+            if (!banks.getVersion().equals(previous.getVersion())) {
+                log.info("은행 레지스트리 교체 완료: version={}, {}개 은행", banks.getVersion(), banks.getList().size());
+                eventPublisher.publishEvent(new BankRegistryChangedEvent(previous, banks));
+            }
+            return banks;
+        } catch (Exception e) {
+            log.error("은행 레지스트리 로딩 실패 - 기존 목록 유지", e);
+            return current.get();
+        }
+    }
+
+    /**
+     * 특정 시점의 활성 은행 목록 (불변)
+     */
+    @Getter
+    public static final class Banks {
+
+        /** 아직 로딩되지 않은 상태를 나타내는 빈 목록 */
+        static final Banks EMPTY = new Banks("", List.of(), Map.of());
+
+        private final String version;
+        private final List<BankExchangeInfo> list;              // 표시 순서
+        private final Map<String, BankExchangeInfo> byName;     // 은행명 → 은행
+
+        private Banks(String version, List<BankExchangeInfo> list, Map<String, BankExchangeInfo> byName) {
+            this.version = version;
+            this.list = list;
+            this.byName = byName;
+        }
+
+        static Banks of(List<BankExchangeInfo> banks) {
+            Map<String, BankExchangeInfo> byName = new LinkedHashMap<>();
+            long hash = ContentHash.start();
+            for (BankExchangeInfo bank : banks) {
+                byName.put(bank.getBankName(), bank);
+                hash = ContentHash.update(hash, String.valueOf(bank.getId()));
+                hash = ContentHash.update(hash, bank.getBankName());
+                hash = ContentHash.update(hash, bank.getBankCode());
+                hash = ContentHash.update(hash, String.valueOf(bank.getSpreadRate()));
+                hash = ContentHash.update(hash, String.valueOf(bank.getPreferentialRate()));
+                hash = ContentHash.update(hash, String.valueOf(bank.getFixedFee()));
+                hash = ContentHash.update(hash, String.valueOf(bank.getFeeRate()));
+                hash = ContentHash.update(hash, String.valueOf(bank.getMinAmount()));
+                hash = ContentHash.update(hash, String.valueOf(bank.getMaxAmount()));
+                hash = ContentHash.update(hash, String.valueOf(bank.getIsOnlineAvailable()));
+                hash = ContentHash.update(hash, bank.getDescription());
+                hash = ContentHash.update(hash, String.valueOf(bank.getDisplayOrder()));
+                hash = ContentHash.update(hash, String.valueOf(bank.getUpdatedAt()));
+            }
+            return new Banks(ContentHash.toHex(ContentHash.finish(hash)), List.copyOf(banks),
+                    Collections.unmodifiableMap(byName));
+        }
+
+        /**
+         * 은행명으로 조회
+         * @return 활성 은행 (없으면 null)
+         */
+        public BankExchangeInfo get(String bankName) {
+            return byName.get(bankName);
+        }
+
+        boolean isLoaded() {
+            return this != EMPTY;
+        }
+    }
+}
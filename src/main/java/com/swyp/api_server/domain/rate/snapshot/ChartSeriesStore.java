@@ -0,0 +1,232 @@
+package com.swyp.api_server.domain.rate.snapshot;
+
+import com.swyp.api_server.common.constants.Constants;
+import com.swyp.api_server.common.util.ContentHash;
+import com.swyp.api_server.common.util.LttbDownsampler;
+import com.swyp.api_server.domain.rate.ExchangeList;
+import com.swyp.api_server.domain.rate.dto.response.ExchangeChartResponseDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 통화별 차트 시계열 저장소
+ * - 12개 통화 x 7/30/90/180/365일(평일 기준) 응답을 히스토리 컬럼 저장소에서 미리 계산
+ * - 차트 조회는 DB 조회 없이 저장소에서 바로 응답
+ * - 기간은 오늘 기준이므로 날짜가 바뀌거나 히스토리 컬럼이 바뀌면 첫 조회 시 재계산
+ * - 기준일과 원본 히스토리로 계산한 내용 기반 버전 제공 (차트 응답 ETag)
+ * - points 요청 시 LTTB 다운샘플링 결과를 시계열 버전별로 (통화, 기간, 점 개수) 단위 캐시
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChartSeriesStore {
+
+    /** 미리 계산하는 차트 기간 (달력 기준 일수) */
+    private static final int[] WINDOWS = {7, 30, 90, 180, 365};
+    /** 데이터 부족 시 대체 기간 */
+    private static final int FALLBACK_WINDOW = 7;
+    private static final DateTimeFormatter CHART_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private final RateHistoryColumnStore columnStore;
+
+    private final AtomicReference<Series> current = new AtomicReference<>(Series.EMPTY);
+
+    /**
+     * 통화/기간별 차트 시계열 조회
+     * @return 미리 계산된 시계열 (지원하지 않는 통화/기간이거나 히스토리 적재 전이면 null)
+     */
+    public List<ExchangeChartResponseDTO> getSeries(String currencyCode, int days) {
+        Map<Integer, List<ExchangeChartResponseDTO>> windows = currentSeries().byCurrency.get(currencyCode);
+        return windows != null ? windows.get(days) : null;
+    }
+
+    /**
+     * 통화/기간별 차트 시계열을 점 개수에 맞춰 다운샘플링하여 조회
+     * - 같은 시계열에 대한 결과는 재계산 전까지 캐시 (캐시 크기 초과 시 캐시하지 않고 계산만)
+     * @return 다운샘플링된 시계열 (지원하지 않는 통화/기간이거나 히스토리 적재 전이면 null)
+     */
+    public List<ExchangeChartResponseDTO> getSeries(String currencyCode, int days, int points) {
+        Series series = currentSeries();
+        Map<Integer, List<ExchangeChartResponseDTO>> windows = series.byCurrency.get(currencyCode);
+        List<ExchangeChartResponseDTO> chartData = windows != null ? windows.get(days) : null;
+        if (chartData == null || points >= chartData.size()) {
+            return chartData;
+        }
+
+        String key = currencyCode + ":" + days + ":" + points;
+        List<ExchangeChartResponseDTO> cached = series.downsampled.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        List<ExchangeChartResponseDTO> downsampled = downsample(chartData, points);
+        if (series.downsampled.size() < Constants.Exchange.CHART_DOWNSAMPLE_CACHE_MAX_SIZE) {
+            series.downsampled.putIfAbsent(key, downsampled);
+        }
+        return downsampled;
+    }
+
+    /**
+     * 차트 시계열 LTTB 다운샘플링 (x: 기준일, y: 환율)
+     * @param chartData 기준일 오름차순 시계열
+     * @param points 남길 점 개수 (원본 이하이면 원본 그대로 반환)
+     */
+    public static List<ExchangeChartResponseDTO> downsample(List<ExchangeChartResponseDTO> chartData, int points) {
+        if (points >= chartData.size()) {
+            return chartData;
+        }
+        double[] x = new double[chartData.size()];
+        double[] y = new double[chartData.size()];
+        for (int i = 0; i < chartData.size(); i++) {
+            ExchangeChartResponseDTO point = chartData.get(i);
+            x[i] = point.getTimestamp().toLocalDate().toEpochDay();
+            y[i] = point.getRate().doubleValue();
+        }
+
+        int[] selected = LttbDownsampler.select(x, y, points);
+        List<ExchangeChartResponseDTO> downsampled = new ArrayList<>(selected.length);
+        for (int index : selected) {
+            downsampled.add(chartData.get(index));
+        }
+        return List.copyOf(downsampled);
+    }
+
+    /**
+     * 현재 시계열의 내용 기반 버전
+     * @return 버전 (계산된 시계열이 없으면 0)
+     */
+    public long getVersion() {
+        return currentSeries().version;
+    }
+
+    private Series currentSeries() {
+        Series series = current.get();
+        if (!series.isCurrent(LocalDate.now(), columnStore.getVersion())) {
+            series = rebuildIfStale();
+        }
+        return series;
+    }
+
+    private synchronized Series rebuildIfStale() {
+        Series series = current.get();
+        LocalDate today = LocalDate.now();
+        long sourceVersion = columnStore.getVersion();
+        if (series.isCurrent(today, sourceVersion)) {
+            return series;
+        }
+        if (sourceVersion == 0L) {
+            // 히스토리 컬럼 적재 전 (DB 조회로 대체)
+            return Series.EMPTY;
+        }
+
+        series = build(today, sourceVersion);
+        current.set(series);
+        return series;
+    }
+
+    /**
+     * 통화별 컬럼을 기간별로 잘라서 응답 목록 생성
+     */
+    private Series build(LocalDate today, long sourceVersion) {
+        Map<String, Map<Integer, List<ExchangeChartResponseDTO>>> byCurrency = new HashMap<>();
+        for (ExchangeList.ExchangeType type : ExchangeList.ExchangeType.values()) {
+            RateHistoryColumns columns = columnStore.get(type.getCode());
+            if (columns != null) {
+                byCurrency.put(type.getCode(), buildWindows(columns, today));
+            }
+        }
+
+        long hash = ContentHash.update(ContentHash.start(), today.toString());
+        long version = ContentHash.finish(ContentHash.update(hash, ContentHash.toHex(sourceVersion)));
+        log.info("차트 시계열 재계산 완료: {}개 통화 x {}개 기간 (기준일: {})", byCurrency.size(), WINDOWS.length, today);
+        return new Series(today, sourceVersion, version, byCurrency);
+    }
+
+    /**
+     * 기간별 시계열 생성 (기존 DB 조회 경로와 동일한 규칙)
+     * - 기간: 어제부터 달력 기준 N일 전까지의 평일
+     * - 요청 기간 대비 데이터가 max(7, N의 50%) 미만이면 최근 7일 데이터로 대체
+     */
+    static Map<Integer, List<ExchangeChartResponseDTO>> buildWindows(RateHistoryColumns columns, LocalDate today) {
+        Map<Integer, List<ExchangeChartResponseDTO>> raw = new HashMap<>();
+        for (int window : WINDOWS) {
+            raw.put(window, sliceWindow(columns, today, window));
+        }
+
+        Map<Integer, List<ExchangeChartResponseDTO>> windows = new HashMap<>();
+        for (int window : WINDOWS) {
+            List<ExchangeChartResponseDTO> chartData = raw.get(window);
+            int expectedMinData = Math.max(7, (int) (window * 0.5));
+            if (chartData.size() < expectedMinData && window > FALLBACK_WINDOW) {
+                chartData = raw.get(FALLBACK_WINDOW);
+            }
+            windows.put(window, chartData);
+        }
+        return windows;
+    }
+
+    /**
+     * 이진 탐색으로 기간에 해당하는 인덱스 범위를 찾아 평일만 응답으로 변환
+     */
+    private static List<ExchangeChartResponseDTO> sliceWindow(RateHistoryColumns columns, LocalDate today, int window) {
+        int from = columns.lowerBound(today.minusDays(window).toEpochDay());
+        int to = columns.upperBound(today.minusDays(1).toEpochDay());
+
+        List<ExchangeChartResponseDTO> chartData = new ArrayList<>(Math.max(0, to - from));
+        for (int i = from; i < to; i++) {
+            LocalDate baseDate = columns.dateAt(i);
+            if (!isBusinessDay(baseDate)) {
+                continue;
+            }
+            chartData.add(ExchangeChartResponseDTO.builder()
+                    .date(baseDate.format(CHART_DATE_FORMAT))
+                    .rate(columns.rateAt(i))
+                    .timestamp(baseDate.atStartOfDay())
+                    .build());
+        }
+        return List.copyOf(chartData);
+    }
+
+    /**
+     * 평일 여부 확인 (토, 일 제외)
+     */
+    private static boolean isBusinessDay(LocalDate date) {
+        DayOfWeek dayOfWeek = date.getDayOfWeek();
+        return dayOfWeek != DayOfWeek.SATURDAY && dayOfWeek != DayOfWeek.SUNDAY;
+    }
+
+    /**
+     * 특정 날짜/히스토리 버전 기준으로 계산된 시계열 묶음 (불변)
+     */
+    private static final class Series {
+        static final Series EMPTY = new Series(null, 0L, 0L, Map.of());
+
+        final LocalDate builtFor;
+        final long sourceVersion;   // 계산에 사용한 히스토리 컬럼 버전
+        final long version;         // 기준일 + 히스토리 컬럼 버전 (차트 ETag)
+        final Map<String, Map<Integer, List<ExchangeChartResponseDTO>>> byCurrency;
+        final Map<String, List<ExchangeChartResponseDTO>> downsampled = new ConcurrentHashMap<>();  // 통화:기간:점 개수
+
+        Series(LocalDate builtFor, long sourceVersion, long version,
+               Map<String, Map<Integer, List<ExchangeChartResponseDTO>>> byCurrency) {
+            this.builtFor = builtFor;
+            this.sourceVersion = sourceVersion;
+            this.version = version;
+            this.byCurrency = byCurrency;
+        }
+
+        boolean isCurrent(LocalDate today, long columnVersion) {
+            return today.equals(builtFor) && sourceVersion == columnVersion;
+        }
+    }
+}
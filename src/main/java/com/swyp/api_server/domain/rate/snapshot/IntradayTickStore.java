@@ -0,0 +1,137 @@
+package com.swyp.api_server.domain.rate.snapshot;
+
+import com.swyp.api_server.common.constants.Constants;
+import com.swyp.api_server.domain.rate.dto.response.ExchangeChartResponseDTO;
+import com.swyp.api_server.domain.rate.dto.response.IntradayChartResponseDTO;
+import com.swyp.api_server.domain.rate.event.RateSnapshotChangedEvent;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 통화별 장중 틱 저장소
+ * - 스냅샷이 교체될 때마다 통화별 링 버퍼에 현재 환율 틱을 추가 (환율이 바뀐 통화만)
+ * - 전일 종가도 같은 링 버퍼에 보관하므로 실시간 환율 변동률 계산에 히스토리 조회가 필요 없음
+ * - 노드별 메모리 보관 (재시작 시 첫 스냅샷부터 다시 채움)
+ * - 링 버퍼 크기는 장중 시간(평일 9~18시)을 수집 간격으로 나눈 틱 수 + 정기/수동 수집 여유분
+ */
+@Slf4j
+@Component
+public class IntradayTickStore {
+
+    private final Map<String, TickRing> rings = new ConcurrentHashMap<>();
+    @Getter
+    private final int capacity;     // 통화별 보관 틱 수
+
+    public IntradayTickStore(@Value(Constants.Schedule.INTRADAY_TICK_INTERVAL) long intervalMs) {
+        this.capacity = capacityFor(intervalMs);
+        log.info("장중 틱 링 버퍼 크기: 통화별 {}개 (수집 간격 {}ms)", capacity, intervalMs);
+    }
+
+    /**
+     * 수집 간격에 맞춘 통화별 링 버퍼 크기 (장중 하루치 틱 + 여유분)
+     */
+    static int capacityFor(long intervalMs) {
+        if (intervalMs <= 0) {
+            throw new IllegalArgumentException("장중 틱 수집 간격은 0보다 커야 합니다: " + intervalMs);
+        }
+        long marketMillis = TimeUnit.HOURS.toMillis(Constants.Schedule.MARKET_CLOSE_HOUR - Constants.Schedule.MARKET_OPEN_HOUR);
+        long intervalTicks = (marketMillis + intervalMs - 1) / intervalMs;
+        return Math.toIntExact(intervalTicks + Constants.Exchange.INTRADAY_TICK_EXTRA_SLOTS);
+    }
+
+    /**
+     * 스냅샷 교체 시 틱 추가 (스냅샷 보관소가 직렬화된 순서로 발행)
+     */
+    @EventListener
+    public void onRateSnapshotChanged(RateSnapshotChangedEvent event) {
+        RateSnapshot snapshot = event.getCurrent();
+        long timeMillis = snapshot.getBuiltAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        int appended = 0;
+        for (RateSnapshot.RateEntry entry : snapshot.getRates().values()) {
+            TickRing ring = rings.computeIfAbsent(entry.getCurrencyCode(),
+                    code -> new TickRing(capacity));
+            ring.startSession(entry.getBaseDate(), entry.hasPrevious() ? entry.getPreviousRate() : null);
+            if (ring.append(timeMillis, entry.getCurrentRate())) {
+                appended++;
+            }
+        }
+        log.debug("장중 틱 추가: {}개 통화 (기준일: {})", appended, snapshot.getBaseDate());
+    }
+
+    /**
+     * 통화의 최신 틱과 전일 종가
+     * @return 최신 시세 (틱이 없으면 null)
+     */
+    public Quote latest(String currencyCode) {
+        TickRing ring = currencyCode == null ? null : rings.get(currencyCode.toUpperCase());
+        if (ring == null) {
+            return null;
+        }
+        TickRing.View view = ring.read(1);
+        if (view.size() == 0) {
+            return null;
+        }
+        return new Quote(view.rateAt(0), view.previousCloseRate(), view.getBaseDate(), toDateTime(view.getEpochMillis()[0]));
+    }
+
+    /**
+     * 통화의 장중 차트 (오래된 순)
+     * @param limit 최근 틱 수 (null이면 보관 중인 전체)
+     * @return 장중 차트 (틱이 없으면 null)
+     */
+    public IntradayChartResponseDTO getIntradayChart(String currencyCode, Integer limit) {
+        TickRing ring = currencyCode == null ? null : rings.get(currencyCode.toUpperCase());
+        if (ring == null) {
+            return null;
+        }
+        TickRing.View view = ring.read(limit != null ? limit : 0);
+        if (view.size() == 0) {
+            return null;
+        }
+
+        List<ExchangeChartResponseDTO> ticks = new ArrayList<>(view.size());
+        for (int i = 0; i < view.size(); i++) {
+            ticks.add(ExchangeChartResponseDTO.builder()
+                    .date(view.getBaseDate())
+                    .rate(view.rateAt(i))
+                    .timestamp(toDateTime(view.getEpochMillis()[i]))
+                    .build());
+        }
+        return IntradayChartResponseDTO.builder()
+                .currencyCode(currencyCode.toUpperCase())
+                .baseDate(view.getBaseDate())
+                .previousClose(view.previousCloseRate())
+                .ticks(ticks)
+                .build();
+    }
+
+    private static LocalDateTime toDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    /**
+     * 통화의 최신 시세
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class Quote {
+        private final BigDecimal currentRate;
+        private final BigDecimal previousClose;     // 전일 종가 (없으면 null)
+        private final String baseDate;              // yyyyMMdd
+        private final LocalDateTime updatedAt;      // 최신 틱 시각
+    }
+}
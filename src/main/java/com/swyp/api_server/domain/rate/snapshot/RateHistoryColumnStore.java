@@ -0,0 +1,171 @@
+package com.swyp.api_server.domain.rate.snapshot;
+
+import com.swyp.api_server.common.constants.Constants;
+import com.swyp.api_server.common.util.ContentHash;
+import com.swyp.api_server.domain.rate.entity.ExchangeRateHistory;
+import com.swyp.api_server.domain.rate.event.ExchangeRateDataChangedEvent;
+import com.swyp.api_server.domain.rate.repository.ExchangeRateHistoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 통화별 환율 히스토리 컬럼 저장소
+ * - 시작 시 최근 1년 히스토리를 한 번의 쿼리로 적재
+ * - 하루치 히스토리 저장 시 해당 날짜만 조회하여 추가, 그 외 히스토리 변경(초기화/확장/정리) 시 전체 재적재
+ * - 차트/기간 조회는 엔티티 조회 없이 이 저장소의 컬럼을 이진 탐색으로 잘라서 사용
+ * - 적재 범위보다 오래된 기간 조회는 DB에서 해당 기간만 컬럼으로 읽어서 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RateHistoryColumnStore {
+
+    private final ExchangeRateHistoryRepository historyRepository;
+
+    private final AtomicReference<State> current = new AtomicReference<>(State.EMPTY);
+
+    /**
+     * 통화별 컬럼 조회
+     * @return 컬럼 (적재 전이면 null, 데이터가 없는 통화는 빈 컬럼)
+     */
+    public RateHistoryColumns get(String currencyCode) {
+        State state = current.get();
+        if (state.version == 0L) {
+            return null;
+        }
+        RateHistoryColumns columns = state.byCurrency.get(currencyCode);
+        return columns != null ? columns : RateHistoryColumns.EMPTY;
+    }
+
+    /**
+     * 기간 조회용 컬럼 (반환된 컬럼을 lowerBound/upperBound로 잘라서 사용)
+     * - 적재된 범위 안이면 메모리 컬럼, 적재 전이거나 적재 범위보다 오래된 기간이면 DB 기간 조회
+     * @return 최소한 [from, to] 기간을 포함하는 컬럼
+     */
+    public RateHistoryColumns getRange(String currencyCode, LocalDate from, LocalDate to) {
+        State state = current.get();
+        if (state.version != 0L && !from.isBefore(state.coveredFrom)) {
+            RateHistoryColumns columns = state.byCurrency.get(currencyCode);
+            return columns != null ? columns : RateHistoryColumns.EMPTY;
+        }
+
+        log.info("환율 히스토리 컬럼 적재 범위 밖 조회, DB 기간 조회: {} ({} ~ {})", currencyCode, from, to);
+        RateHistoryColumns.Builder builder = new RateHistoryColumns.Builder();
+        for (ExchangeRateHistory history : historyRepository.findByPeriod(currencyCode, from, to)) {
+            builder.add((int) history.getBaseDate().toEpochDay(), RateHistoryColumns.toFixed(history.getExchangeRate()));
+        }
+        return builder.build();
+    }
+
+    /**
+     * 적재된 전체 컬럼의 내용 기반 버전
+     * @return 버전 (적재 전이면 0)
+     */
+    public long getVersion() {
+        return current.get().version;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        reload();
+    }
+
+    /**
+     * 히스토리 저장 커밋 후 반영
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onExchangeRateDataChanged(ExchangeRateDataChangedEvent event) {
+        if (event.getSource() != ExchangeRateDataChangedEvent.Source.HISTORY) {
+            return;
+        }
+        if (event.getAppendedDate() != null && current.get().version != 0L) {
+            append(event.getAppendedDate());
+        } else {
+            reload();
+        }
+    }
+
+    /**
+     * 전체 재적재
+     */
+    public synchronized void reload() {
+        try {
+            LocalDate fromDate = LocalDate.now().minusDays(Constants.Exchange.HISTORICAL_MAX_DAYS);
+            List<ExchangeRateHistory> histories = historyRepository.findAllSince(fromDate);
+
+            Map<String, RateHistoryColumns.Builder> builders = new HashMap<>();
+            for (ExchangeRateHistory history : histories) {
+                builders.computeIfAbsent(history.getCurrencyCode(), code -> new RateHistoryColumns.Builder())
+                        .add((int) history.getBaseDate().toEpochDay(), RateHistoryColumns.toFixed(history.getExchangeRate()));
+            }
+
+            Map<String, RateHistoryColumns> byCurrency = new HashMap<>();
+            builders.forEach((code, builder) -> byCurrency.put(code, builder.build()));
+            current.set(State.of(byCurrency, fromDate));
+            log.info("환율 히스토리 컬럼 적재 완료: {}개 통화, {} 건 ({} 이후)", byCurrency.size(), histories.size(), fromDate);
+        } catch (Exception e) {
+            log.error("환율 히스토리 컬럼 적재 실패 - 기존 데이터 유지", e);
+        }
+    }
+
+    /**
+     * 하루치 히스토리 추가
+     */
+    private synchronized void append(LocalDate baseDate) {
+        try {
+            List<ExchangeRateHistory> histories = historyRepository.findByBaseDateOrderByCurrencyCode(baseDate);
+            State state = current.get();
+            Map<String, RateHistoryColumns> byCurrency = new HashMap<>(state.byCurrency);
+            for (ExchangeRateHistory history : histories) {
+                RateHistoryColumns columns = byCurrency.getOrDefault(history.getCurrencyCode(), RateHistoryColumns.EMPTY);
+                byCurrency.put(history.getCurrencyCode(), columns.with(
+                        (int) baseDate.toEpochDay(), RateHistoryColumns.toFixed(history.getExchangeRate())));
+            }
+            current.set(State.of(byCurrency, state.coveredFrom));
+            log.info("환율 히스토리 컬럼 추가 완료: {} 건 (기준일: {})", histories.size(), baseDate);
+        } catch (Exception e) {
+            log.error("환율 히스토리 컬럼 추가 실패 - 전체 재적재로 대체", e);
+            reload();
+        }
+    }
+
+    /**
+     * 적재 상태 (불변)
+     */
+    private static final class State {
+        static final State EMPTY = new State(Map.of(), null, 0L);
+
+        final Map<String, RateHistoryColumns> byCurrency;
+        final LocalDate coveredFrom;    // 적재 시작일 (이 날짜 이후 히스토리는 모두 메모리에 있음)
+        final long version;
+
+        private State(Map<String, RateHistoryColumns> byCurrency, LocalDate coveredFrom, long version) {
+            this.byCurrency = byCurrency;
+            this.coveredFrom = coveredFrom;
+            this.version = version;
+        }
+
+        static State of(Map<String, RateHistoryColumns> byCurrency, LocalDate coveredFrom) {
+            long hash = ContentHash.start();
+            for (String code : byCurrency.keySet().stream().sorted().toList()) {
+                RateHistoryColumns columns = byCurrency.get(code);
+                hash = ContentHash.update(hash, code);
+                for (int i = 0; i < columns.size(); i++) {
+                    hash = ContentHash.update(hash, Integer.toString(columns.epochDayAt(i)));
+                    hash = ContentHash.update(hash, Long.toString(columns.fixedRateAt(i)));
+                }
+            }
+            return new State(Map.copyOf(byCurrency), coveredFrom, ContentHash.finish(hash));
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.swyp.api_server.domain.rate.snapshot;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * 통화 하나의 환율 히스토리 컬럼 (불변)
+ * - epochDays: 기준일 (LocalDate.toEpochDay, 오름차순, 중복 없음)
+ * - rates: 환율 고정소수점 값 (DB 컬럼과 같은 소수 4자리, 1385.2300 → 13852300)
+ * - 구간 조회는 이진 탐색으로 인덱스 범위만 계산 (조회 시 객체 생성 없음)
+ */
+public final class RateHistoryColumns {
+
+    /** 고정소수점 소수 자릿수 (exchange_rate_history.exchange_rate scale과 동일) */
+    public static final int RATE_SCALE = 4;
+
+    static final RateHistoryColumns EMPTY = new RateHistoryColumns(new int[0], new long[0]);
+
+    private final int[] epochDays;
+    private final long[] rates;
+
+    RateHistoryColumns(int[] epochDays, long[] rates) {
+        this.epochDays = epochDays;
+        this.rates = rates;
+    }
+
+    public int size() {
+        return epochDays.length;
+    }
+
+    public int epochDayAt(int index) {
+        return epochDays[index];
+    }
+
+    public LocalDate dateAt(int index) {
+        return LocalDate.ofEpochDay(epochDays[index]);
+    }
+
+    public long fixedRateAt(int index) {
+        return rates[index];
+    }
+
+    public BigDecimal rateAt(int index) {
+        return fromFixed(rates[index]);
+    }
+
+    /**
+     * 기준일이 epochDay 이상인 첫 인덱스 (없으면 size)
+     */
+    public int lowerBound(long epochDay) {
+        int low = 0;
+        int high = epochDays.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (epochDays[mid] < epochDay) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * 기준일이 epochDay 초과인 첫 인덱스 (없으면 size)
+     */
+    public int upperBound(long epochDay) {
+        int low = 0;
+        int high = epochDays.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (epochDays[mid] <= epochDay) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * 하루치 값을 반영한 새 컬럼 (같은 날짜가 있으면 교체, 없으면 정렬 위치에 삽입)
+     * - 일반적인 수집은 마지막 날짜 뒤에 추가되므로 복사 한 번으로 끝남
+     */
+    RateHistoryColumns with(int epochDay, long fixedRate) {
+        int index = lowerBound(epochDay);
+        if (index < epochDays.length && epochDays[index] == epochDay) {
+            long[] newRates = rates.clone();
+            newRates[index] = fixedRate;
+            return new RateHistoryColumns(epochDays, newRates);
+        }
+
+        int[] newDays = new int[epochDays.length + 1];
+        long[] newRates = new long[rates.length + 1];
+        System.arraycopy(epochDays, 0, newDays, 0, index);
+        System.arraycopy(rates, 0, newRates, 0, index);
+        newDays[index] = epochDay;
+        newRates[index] = fixedRate;
+        System.arraycopy(epochDays, index, newDays, index + 1, epochDays.length - index);
+        System.arraycopy(rates, index, newRates, index + 1, rates.length - index);
+        return new RateHistoryColumns(newDays, newRates);
+    }
+
+    /**
+     * 적재 중인 컬럼 빌더 (기준일 오름차순으로 추가)
+     */
+    static final class Builder {
+        private int[] epochDays = new int[64];
+        private long[] rates = new long[64];
+        private int size;
+
+        void add(int epochDay, long fixedRate) {
+            if (size > 0 && epochDays[size - 1] == epochDay) {
+                // 같은 날짜 중복 행은 마지막 값 사용
+                rates[size - 1] = fixedRate;
+                return;
+            }
+            if (size > 0 && epochDays[size - 1] > epochDay) {
+                throw new IllegalArgumentException("기준일 오름차순이 아닙니다: " + LocalDate.ofEpochDay(epochDay));
+            }
+            if (size == epochDays.length) {
+                epochDays = Arrays.copyOf(epochDays, size * 2);
+                rates = Arrays.copyOf(rates, size * 2);
+            }
+            epochDays[size] = epochDay;
+            rates[size] = fixedRate;
+            size++;
+        }
+
+        RateHistoryColumns build() {
+            return new RateHistoryColumns(Arrays.copyOf(epochDays, size), Arrays.copyOf(rates, size));
+        }
+    }
+
+    public static long toFixed(BigDecimal rate) {
+        return rate.setScale(RATE_SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    public static BigDecimal fromFixed(long fixedRate) {
+        return BigDecimal.valueOf(fixedRate, RATE_SCALE);
+    }
+}
@@ -0,0 +1,125 @@
+package com.swyp.api_server.domain.rate.snapshot;
+
+import com.swyp.api_server.common.util.ContentHash;
+import com.swyp.api_server.domain.rate.dto.ExchangeRateWithChangeDto;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 환율 스냅샷 (불변)
+ * - 수집 파이프라인이 DB 저장 후 한 번 생성하여 통째로 교체
+ * - 현재 환율, 전일 환율, 등락폭/등락률, 기준일, 통화명/국기를 통화별로 보관
+ * - 환율 목록(변동률 포함) 응답과 그 JSON 직렬화 결과도 함께 보관
+ * - version은 내용 기반 값으로, 같은 데이터를 가진 노드는 같은 버전을 가짐
+ */
+@Getter
+public final class RateSnapshot {
+
+    /** 아직 로딩되지 않은 상태를 나타내는 빈 스냅샷 */
+    public static final RateSnapshot EMPTY = new RateSnapshot(0L, null, null, Map.of(), List.of(), new byte[0]);
+
+    private final long version;
+    private final String baseDate;          // 최신 환율 기준일 (yyyyMMdd)
+    private final LocalDateTime builtAt;    // 스냅샷 생성 시각
+    private final Map<String, RateEntry> rates;
+    private final List<ExchangeRateWithChangeDto> changeList;   // /api/exchangeList 응답
+    @Getter(AccessLevel.NONE)
+    private final byte[] changeListJson;                        // changeList 직렬화 결과 (요청 간 공유, 외부에 배열 노출 금지)
+
+    private RateSnapshot(long version, String baseDate, LocalDateTime builtAt, Map<String, RateEntry> rates,
+                         List<ExchangeRateWithChangeDto> changeList, byte[] changeListJson) {
+        this.version = version;
+        this.baseDate = baseDate;
+        this.builtAt = builtAt;
+        this.rates = rates;
+        this.changeList = changeList;
+        this.changeListJson = changeListJson;
+    }
+
+    /**
+     * 통화별 환율 엔트리로부터 스냅샷 생성
+     * @param entries ExchangeType 순서대로 정렬된 엔트리 목록
+     * @param changeList entries로부터 만든 변동률 포함 환율 목록
+     * @param changeListJson changeList의 JSON 직렬화 결과
+     */
+    public static RateSnapshot of(Collection<RateEntry> entries, List<ExchangeRateWithChangeDto> changeList,
+                                  byte[] changeListJson, LocalDateTime builtAt) {
+        Map<String, RateEntry> rates = new LinkedHashMap<>();
+        String baseDate = null;
+        for (RateEntry entry : entries) {
+            rates.put(entry.getCurrencyCode(), entry);
+            if (baseDate == null || entry.getBaseDate().compareTo(baseDate) > 0) {
+                baseDate = entry.getBaseDate();
+            }
+        }
+        return new RateSnapshot(computeVersion(rates.values()), baseDate, builtAt,
+                Collections.unmodifiableMap(rates), List.copyOf(changeList), changeListJson);
+    }
+
+    /**
+     * 환율 목록 JSON (복사 없는 읽기 전용 뷰)
+     * - 모든 요청이 같은 배열을 공유하므로 호출자가 내용을 바꿀 수 없도록 읽기 전용 버퍼로만 제공
+     */
+    public ByteBuffer getChangeListJson() {
+        return ByteBuffer.wrap(changeListJson).asReadOnlyBuffer();
+    }
+
+    /**
+     * 특정 통화 엔트리 조회
+     * @return 엔트리 (없으면 null)
+     */
+    public RateEntry get(String currencyCode) {
+        return currencyCode == null ? null : rates.get(currencyCode.toUpperCase());
+    }
+
+    public boolean isEmpty() {
+        return rates.isEmpty();
+    }
+
+    /**
+     * 내용 기반 버전 계산
+     * - 통화 코드, 기준일, 현재/전일 환율이 같으면 노드와 무관하게 같은 값
+     */
+    private static long computeVersion(Collection<RateEntry> entries) {
+        long hash = ContentHash.start();
+        for (RateEntry entry : entries) {
+            hash = ContentHash.update(hash, entry.getCurrencyCode());
+            hash = ContentHash.update(hash, entry.getBaseDate());
+            hash = ContentHash.update(hash, entry.getCurrentRate().stripTrailingZeros().toPlainString());
+            hash = ContentHash.update(hash, entry.getPreviousRate().stripTrailingZeros().toPlainString());
+        }
+        return ContentHash.finish(hash);
+    }
+
+    /**
+     * 통화별 환율 엔트리
+     */
+    @Getter
+    @Builder
+    public static class RateEntry {
+        private final String currencyCode;
+        private final String currencyName;
+        private final String flagImageUrl;
+        private final BigDecimal currentRate;
+        private final BigDecimal previousRate;      // 전일 데이터가 없으면 현재 환율과 동일
+        private final BigDecimal changeAmount;      // 현재 - 전일
+        private final BigDecimal changeRate;        // (현재 - 전일) / 전일 * 100
+        private final String baseDate;              // yyyyMMdd
+        private final LocalDate previousBaseDate;   // 전일 데이터 기준일 (없으면 null)
+
+        public boolean hasPrevious() {
+            return previousBaseDate != null;
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.swyp.api_server.domain.rate.snapshot;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.swyp.api_server.domain.rate.ExchangeList;
+import com.swyp.api_server.domain.rate.dto.ExchangeRateWithChangeDto;
+import com.swyp.api_server.domain.rate.entity.ExchangeRateHistory;
+import com.swyp.api_server.domain.rate.event.ExchangeRateDataChangedEvent;
+import com.swyp.api_server.domain.rate.event.RateSnapshotChangedEvent;
+import com.swyp.api_server.domain.rate.monitoring.RateIngestMetrics;
+import com.swyp.api_server.domain.rate.repository.ExchangeRateHistoryRepository;
+import com.swyp.api_server.domain.rate.repository.ExchangeRateRepository;
+import com.swyp.api_server.entity.ExchangeRate;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 환율 스냅샷 보관소
+ * - 조회 경로는 AtomicReference 읽기만 수행 (락/네트워크 없음)
+ * - 환율/히스토리 저장 커밋 후 DB에서 새 스냅샷을 만들어 원자적으로 교체
+ * - 환율 목록(변동률 포함) 응답과 JSON 바이트도 이 시점에 한 번만 생성
+ * - 내용이 바뀐 경우 RateSnapshotChangedEvent 발행 (실시간 푸시 등)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RateSnapshotHolder {
+
+    private static final DateTimeFormatter BASE_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private final ExchangeRateRepository exchangeRateRepository;
+    private final ExchangeRateHistoryRepository historyRepository;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RateIngestMetrics ingestMetrics;
+
+    private final AtomicReference<RateSnapshot> current = new AtomicReference<>(RateSnapshot.EMPTY);
+
+    /**
+     * 현재 스냅샷 조회
+     */
+    public RateSnapshot current() {
+        return current.get();
+    }
+
+    /**
+     * 애플리케이션 시작 시 최초 로딩
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        refresh();
+    }
+
+    /**
+     * 환율/히스토리 저장 커밋 후 스냅샷 재구성
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onExchangeRateDataChanged(ExchangeRateDataChangedEvent event) {
+        log.debug("환율 데이터 변경 이벤트 수신: {}", event.getSource());
+        refresh();
+    }
+
+    /**
+     * DB에서 스냅샷을 새로 만들어 교체
+     * - 동시에 여러 재구성이 겹치면 늦게 읽은 데이터가 이전 데이터로 덮이지 않도록 직렬화
+     * - 재구성/교체 시간을 refresh 단계로 기록 (변경 이벤트 처리 시간 제외)
+     * @return 교체된 스냅샷 (실패 시 기존 스냅샷)
+     */
+    public synchronized RateSnapshot refresh() {
+        long start = System.nanoTime();
+        try {
+            RateSnapshot snapshot = buildFromDatabase();
+            RateSnapshot previous = current.getAndSet(snapshot);
+            ingestMetrics.recordStage(RateIngestMetrics.Stage.REFRESH, System.nanoTime() - start, true);
+            if (previous.getVersion() != snapshot.getVersion()) {
+                log.info("환율 스냅샷 교체 완료: version={} (기준일: {}, {}개 통화)",
+                        Long.toHexString(snapshot.getVersion()), snapshot.getBaseDate(), snapshot.getRates().size());
+                eventPublisher.publishEvent(new RateSnapshotChangedEvent(previous, snapshot));
+            }
+            return snapshot;
+        } catch (Exception e) {
+            ingestMetrics.recordStage(RateIngestMetrics.Stage.REFRESH, System.nanoTime() - start, false);
+            log.error("환율 스냅샷 재구성 실패 - 기존 스냅샷 유지", e);
+            return current.get();
+        }
+    }
+
+    private RateSnapshot buildFromDatabase() throws JsonProcessingException {
+        List<ExchangeRate> latestRateList = exchangeRateRepository.findAllLatestRates();
+        Map<String, ExchangeRate> latestRates = latestRateList.stream()
+                .collect(Collectors.toMap(ExchangeRate::getCurrencyCode, Function.identity(), (a, b) -> a));
+
+        // 현재 환율 데이터의 실제 날짜를 기준으로 전 영업일을 한 번만 찾아 일괄 조회
+        Map<String, ExchangeRateHistory> previousRates = latestRateList.isEmpty() ? Map.of()
+                : getPreviousRatesMap(LocalDate.parse(latestRateList.get(0).getBaseDate(), BASE_DATE_FORMAT));
+
+        List<RateSnapshot.RateEntry> entries = new ArrayList<>();
+        List<ExchangeRateWithChangeDto> changeList = new ArrayList<>();
+        for (ExchangeList.ExchangeType type : ExchangeList.ExchangeType.values()) {
+            ExchangeRate rate = latestRates.get(type.getCode());
+            if (rate == null) {
+                continue;   // 데이터가 없는 통화는 제외
+            }
+
+            ExchangeRateHistory previous = previousRates.get(type.getCode());
+            if (previous == null) {
+                // 전 영업일에 해당 통화만 누락된 경우 통화별로 보완 조회
+                previous = historyRepository.findPreviousDayRate(type.getCode(),
+                        LocalDate.parse(rate.getBaseDate(), BASE_DATE_FORMAT)).orElse(null);
+            }
+
+            entries.add(toEntry(type, rate, previous));
+            changeList.add(ExchangeRateWithChangeDto.of(rate, previous));
+        }
+
+        byte[] changeListJson = objectMapper.writeValueAsBytes(changeList);
+        return RateSnapshot.of(entries, changeList, changeListJson, LocalDateTime.now());
+    }
+
+    /**
+     * 전 영업일 환율 데이터 Map 조회
+     * - 기준일 이전의 가장 최근 히스토리 날짜를 한 번에 찾음 (주말, 공휴일 고려)
+     */
+    private Map<String, ExchangeRateHistory> getPreviousRatesMap(LocalDate currentDataDate) {
+        return historyRepository.findLatestBaseDateBefore(currentDataDate)
+                .map(previousDate -> historyRepository.findAllByPreviousDate(previousDate).stream()
+                        .collect(Collectors.toMap(ExchangeRateHistory::getCurrencyCode, Function.identity(), (a, b) -> a)))
+                .orElse(Map.of());
+    }
+
+    private RateSnapshot.RateEntry toEntry(ExchangeList.ExchangeType type, ExchangeRate rate, ExchangeRateHistory previous) {
+        BigDecimal currentRate = rate.getExchangeRate();
+        BigDecimal previousRate = previous != null ? previous.getExchangeRate() : currentRate;
+        BigDecimal changeAmount = previous != null ? currentRate.subtract(previousRate) : BigDecimal.ZERO;
+        // 등락률 계산 (현재환율 - 전일환율) / 전일환율 * 100
+        BigDecimal changeRate = previous != null
+                ? changeAmount.divide(previousRate, 6, RoundingMode.HALF_UP).multiply(BigDecimal.valueOf(100))
+                : BigDecimal.ZERO;
+
+        return RateSnapshot.RateEntry.builder()
+                .currencyCode(type.getCode())
+                .currencyName(type.getLabel())
+                .flagImageUrl(type.getFlagImageUrl())
+                .currentRate(currentRate)
+                .previousRate(previousRate)
+                .changeAmount(changeAmount)
+                .changeRate(changeRate)
+                .baseDate(rate.getBaseDate())
+                .previousBaseDate(previous != null ? previous.getBaseDate() : null)
+                .build();
+    }
+}
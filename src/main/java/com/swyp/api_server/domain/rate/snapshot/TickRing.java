@@ -0,0 +1,116 @@
+package com.swyp.api_server.domain.rate.snapshot;
+
+import com.swyp.api_server.common.constants.Constants;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 통화 하나의 장중 틱 링 버퍼
+ * - 틱 시각(epoch millis)과 환율(소수 DECIMAL_SCALE 자리 정수)을 원시 배열에 보관 (틱마다 객체를 만들지 않음)
+ * - 가득 차면 가장 오래된 틱부터 덮어씀
+ * - 전일 종가(변동률 기준)와 장 기준일을 함께 보관하고, 기준일이 바뀌면 틱을 비우고 새 장 시작
+ */
+final class TickRing {
+
+    private static final int SCALE = Constants.Exchange.DECIMAL_SCALE;
+    private static final long NONE = Long.MIN_VALUE;
+
+    private final long[] epochMillis;
+    private final long[] rates;
+    private int next;       // 다음에 쓸 위치
+    private int size;
+
+    private String baseDate;                // 장 기준일 (yyyyMMdd)
+    private long previousClose = NONE;      // 전일 종가 (없으면 NONE)
+
+    TickRing(int capacity) {
+        this.epochMillis = new long[capacity];
+        this.rates = new long[capacity];
+    }
+
+    /**
+     * 장 기준일과 전일 종가 설정 (기준일이 바뀌면 기존 틱 삭제)
+     * @param previousClose 전일 종가 (없으면 null)
+     */
+    synchronized void startSession(String baseDate, BigDecimal previousClose) {
+        if (this.baseDate != null && !this.baseDate.equals(baseDate)) {
+            next = 0;
+            size = 0;
+        }
+        this.baseDate = baseDate;
+        this.previousClose = previousClose != null ? toUnscaled(previousClose) : NONE;
+    }
+
+    /**
+     * 틱 추가 (직전 틱과 환율이 같으면 추가하지 않음)
+     * @return 추가 여부
+     */
+    synchronized boolean append(long timeMillis, BigDecimal rate) {
+        long unscaled = toUnscaled(rate);
+        if (size > 0 && rates[Math.floorMod(next - 1, rates.length)] == unscaled) {
+            return false;
+        }
+        epochMillis[next] = timeMillis;
+        rates[next] = unscaled;
+        next = (next + 1) % rates.length;
+        size = Math.min(size + 1, rates.length);
+        return true;
+    }
+
+    /**
+     * 최근 틱 복사본 조회 (오래된 순)
+     * @param limit 최대 틱 수 (0 이하이면 전체)
+     */
+    synchronized View read(int limit) {
+        int count = limit > 0 ? Math.min(limit, size) : size;
+        long[] times = new long[count];
+        long[] values = new long[count];
+        int start = Math.floorMod(next - count, rates.length);
+        for (int i = 0; i < count; i++) {
+            int index = (start + i) % rates.length;
+            times[i] = epochMillis[index];
+            values[i] = rates[index];
+        }
+        return new View(baseDate, previousClose, times, values);
+    }
+
+    private static long toUnscaled(BigDecimal rate) {
+        return rate.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    /**
+     * 링 버퍼 읽기 결과 (복사본)
+     */
+    @Getter
+    static final class View {
+        private final String baseDate;
+        private final long previousClose;
+        private final long[] epochMillis;
+        private final long[] rates;
+
+        private View(String baseDate, long previousClose, long[] epochMillis, long[] rates) {
+            this.baseDate = baseDate;
+            this.previousClose = previousClose;
+            this.epochMillis = epochMillis;
+            this.rates = rates;
+        }
+
+        int size() {
+            return rates.length;
+        }
+
+        boolean hasPreviousClose() {
+            return previousClose != NONE;
+        }
+
+        BigDecimal previousCloseRate() {
+            return hasPreviousClose() ? BigDecimal.valueOf(previousClose, SCALE) : null;
+        }
+
+        BigDecimal rateAt(int index) {
+            return BigDecimal.valueOf(rates[index], SCALE);
+        }
+    }
+}
@@ -0,0 +1,338 @@
+package com.swyp.api_server.domain.rate.stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.swyp.api_server.common.constants.Constants;
+import com.swyp.api_server.domain.alert.dto.AlertTriggerEventDTO;
+import com.swyp.api_server.domain.alert.event.AlertTriggeredEvent;
+import com.swyp.api_server.domain.rate.dto.response.RateDeltaMessageDTO;
+import com.swyp.api_server.domain.rate.event.RateDeltaDeliveredEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 환율/알림 SSE 스트림 허브
+ * - rate: 환율 변경분 (모든 연결), alert: 알림 발송 이벤트 (해당 사용자 연결만)
+ * - 최근 이벤트를 고정 크기 링 버퍼에 보관하여 Last-Event-ID 재연결 시 놓친 이벤트 재전송
+ *   (이벤트 ID는 내용 기반이라 다른 노드로 재연결해도 같은 ID로 이어받을 수 있음)
+ * - 환율 이벤트 ID는 변경 전후 버전 쌍이라, 같은 변경이 다시 일어나면 같은 ID가 버퍼에 여러 번 들어갈 수 있음
+ *   (재연결은 가장 최근 위치부터 이어받음 - ID가 변경 후 버전을 나타내므로 이후 이벤트만 받아도 최종 상태는 같음)
+ * - 전송은 연결별 대기열 + 전용 스레드 풀에서 처리하여 느린 클라이언트가 다른 연결을 막지 않음
+ * - 노드별 최대 연결 수 제한, 주기적 하트비트
+ */
+@Slf4j
+@Component
+public class ExchangeStreamHub implements MessageListener {
+
+    static final String EVENT_RATE = "rate";
+    static final String EVENT_ALERT = "alert";
+    static final String EVENT_RESYNC = "resync";
+
+    private final ObjectMapper objectMapper;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    private final ConcurrentMap<String, StreamConnection> connections = new ConcurrentHashMap<>();
+    private final ExecutorService sendExecutor;
+    private final Counter rejectedCounter;
+    private final Counter droppedCounter;
+
+    // 링 버퍼 (ringLock으로 보호)
+    private final Object ringLock = new Object();
+    private final StreamEvent[] ring = new StreamEvent[Constants.Stream.RING_BUFFER_SIZE];
+    private final Map<String, Long> sequenceById = new HashMap<>();
+    private long nextSequence = 0L;
+
+    public ExchangeStreamHub(ObjectMapper objectMapper,
+                             StringRedisTemplate redisTemplate,
+                             RedisMessageListenerContainer listenerContainer,
+                             MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.sendExecutor = Executors.newFixedThreadPool(Constants.Stream.SEND_THREADS, runnable -> {
+            Thread thread = new Thread(runnable, "ExchangeStream-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Gauge.builder("sse.exchange.connections", connections, Map::size)
+                .description("환율/알림 SSE 연결 수")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("sse.exchange.rejected")
+                .description("연결 수 제한으로 거부된 SSE 연결 수")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("sse.exchange.dropped")
+                .description("전송 대기열 초과로 종료된 SSE 연결 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(Constants.Stream.ALERT_EVENT_CHANNEL));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        connections.values().forEach(connection -> connection.emitter.complete());
+        sendExecutor.shutdown();
+    }
+
+    /**
+     * 스트림 연결
+     * @param userEmail 인증된 사용자 이메일 (비로그인 시 null, 알림 이벤트 미수신)
+     * @param lastEventId 클라이언트가 마지막으로 받은 이벤트 ID (최초 연결 시 null)
+     * @return SSE emitter (노드 연결 수 초과 시 null)
+     */
+    public SseEmitter connect(String userEmail, String lastEventId) {
+        if (connections.size() >= Constants.Stream.MAX_CONNECTIONS_PER_NODE) {
+            rejectedCounter.increment();
+            return null;
+        }
+
+        SseEmitter emitter = new SseEmitter(Constants.Stream.EMITTER_TIMEOUT_MS);
+        StreamConnection connection = new StreamConnection(UUID.randomUUID().toString(), userEmail, emitter);
+        emitter.onCompletion(() -> connections.remove(connection.id));
+        emitter.onTimeout(() -> connections.remove(connection.id));
+        emitter.onError(e -> connections.remove(connection.id));
+
+        connection.enqueue(SseEmitter.event().reconnectTime(Constants.Stream.RECONNECT_DELAY_MS).comment("connected"));
+
+        // 등록과 재전송 대상 수집을 같은 락 안에서 처리하여 사이에 들어온 이벤트가 누락/중복되지 않도록 함
+        synchronized (ringLock) {
+            connections.put(connection.id, connection);
+            if (lastEventId != null && !lastEventId.isBlank()) {
+                List<StreamEvent> missed = eventsAfter(lastEventId);
+                if (missed == null) {
+                    connection.enqueue(SseEmitter.event().name(EVENT_RESYNC).data("{}", MediaType.APPLICATION_JSON));
+                } else {
+                    missed.stream().filter(connection::accepts).forEach(event -> connection.enqueue(event.toSse()));
+                }
+            }
+        }
+        return emitter;
+    }
+
+    /**
+     * 환율 변경분 전달 (모든 노드에서 변경(직전 버전 → 현재 버전)당 한 번, 같은 순서로 수신)
+     * - 중복 제거는 RatePushService에서 끝났으므로 같은 ID라도 다시 버퍼에 추가
+     */
+    @EventListener
+    public void onRateDeltaDelivered(RateDeltaDeliveredEvent event) {
+        RateDeltaMessageDTO delta = event.getDelta();
+        append(new StreamEvent("r-" + delta.getTransitionId(), EVENT_RATE, null, delta), false);
+    }
+
+    /**
+     * 알림 발송 커밋 후 모든 노드로 전파 (사용자 연결이 어느 노드에 있는지 알 수 없으므로)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAlertTriggered(AlertTriggeredEvent event) {
+        AlertTriggerEventDTO payload = event.getPayload();
+        long triggeredAt = payload.getTriggeredAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        AlertStreamMessage message = new AlertStreamMessage(
+                "a-" + payload.getAlertId() + "-" + triggeredAt, event.getUserEmail(), payload);
+        try {
+            redisTemplate.convertAndSend(Constants.Stream.ALERT_EVENT_CHANNEL, objectMapper.writeValueAsString(message));
+        } catch (Exception e) {
+            log.warn("알림 이벤트 Redis 발행 실패 - 로컬 연결에만 전달: {}", e.getMessage());
+            appendAlert(message);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            appendAlert(objectMapper.readValue(message.getBody(), AlertStreamMessage.class));
+        } catch (Exception e) {
+            log.warn("알림 이벤트 메시지 처리 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 하트비트 (프록시 유휴 타임아웃 방지 및 끊긴 연결 정리)
+     */
+    @Scheduled(fixedRate = Constants.Stream.HEARTBEAT_INTERVAL_MS)
+    public void sendHeartbeat() {
+        for (StreamConnection connection : connections.values()) {
+            connection.enqueue(SseEmitter.event().comment("hb"));
+        }
+    }
+
+    private void appendAlert(AlertStreamMessage message) {
+        append(new StreamEvent(message.getId(), EVENT_ALERT, message.getUserEmail(), message.getPayload()), true);
+    }
+
+    /**
+     * 버퍼에 이벤트 추가 후 연결에 전송
+     * @param skipDuplicate 같은 ID가 버퍼에 있으면 추가하지 않음 (알림 이벤트)
+     */
+    private void append(StreamEvent event, boolean skipDuplicate) {
+        synchronized (ringLock) {
+            if (skipDuplicate && sequenceById.containsKey(event.id)) {
+                return;
+            }
+            long slotSequence = nextSequence - ring.length;
+            int slot = (int) (nextSequence % ring.length);
+            StreamEvent evicted = ring[slot];
+            if (evicted != null) {
+                // 같은 ID가 이후에 다시 추가됐으면 최근 위치는 유지
+                sequenceById.remove(evicted.id, slotSequence);
+            }
+            ring[slot] = event;
+            sequenceById.put(event.id, nextSequence);
+            nextSequence++;
+
+            for (StreamConnection connection : connections.values()) {
+                if (connection.accepts(event)) {
+                    connection.enqueue(event.toSse());
+                }
+            }
+        }
+    }
+
+    /**
+     * 특정 이벤트 이후의 버퍼 내 이벤트 (ringLock 보유 상태에서 호출)
+     * @return 이후 이벤트 목록 (ID를 버퍼에서 찾을 수 없으면 null - 클라이언트 재동기화 필요)
+     */
+    private List<StreamEvent> eventsAfter(String lastEventId) {
+        Long sequence = sequenceById.get(lastEventId);
+        if (sequence == null) {
+            return null;
+        }
+        List<StreamEvent> events = new ArrayList<>();
+        for (long seq = sequence + 1; seq < nextSequence; seq++) {
+            events.add(ring[(int) (seq % ring.length)]);
+        }
+        return events;
+    }
+
+    /**
+     * 버퍼에 보관되는 이벤트
+     */
+    private static final class StreamEvent {
+        final String id;
+        final String name;
+        final String userEmail;     // 알림 이벤트 대상 (환율 이벤트는 null)
+        final Object data;
+
+        StreamEvent(String id, String name, String userEmail, Object data) {
+            this.id = id;
+            this.name = name;
+            this.userEmail = userEmail;
+            this.data = data;
+        }
+
+        SseEmitter.SseEventBuilder toSse() {
+            return SseEmitter.event().id(id).name(name).data(data, MediaType.APPLICATION_JSON);
+        }
+    }
+
+    /**
+     * 연결별 전송 대기열
+     * - 이벤트 순서를 지키기 위해 연결당 한 번에 하나의 전송 작업만 실행
+     */
+    private final class StreamConnection {
+        final String id;
+        final String userEmail;
+        final SseEmitter emitter;
+        final Queue<SseEmitter.SseEventBuilder> pending = new ConcurrentLinkedQueue<>();
+        final AtomicInteger pendingCount = new AtomicInteger();
+        final AtomicBoolean draining = new AtomicBoolean();
+
+        StreamConnection(String id, String userEmail, SseEmitter emitter) {
+            this.id = id;
+            this.userEmail = userEmail;
+            this.emitter = emitter;
+        }
+
+        boolean accepts(StreamEvent event) {
+            return event.userEmail == null || Objects.equals(event.userEmail, userEmail);
+        }
+
+        void enqueue(SseEmitter.SseEventBuilder event) {
+            if (pendingCount.incrementAndGet() > Constants.Stream.MAX_PENDING_EVENTS_PER_CONNECTION) {
+                droppedCounter.increment();
+                close();
+                return;
+            }
+            pending.add(event);
+            if (draining.compareAndSet(false, true)) {
+                sendExecutor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                SseEmitter.SseEventBuilder event;
+                while ((event = pending.poll()) != null) {
+                    pendingCount.decrementAndGet();
+                    emitter.send(event);
+                }
+            } catch (Exception e) {
+                log.debug("SSE 전송 실패 - 연결 종료: {}", e.getMessage());
+                close();
+                return;
+            } finally {
+                draining.set(false);
+            }
+            // drain 종료 직전에 추가된 이벤트 처리
+            if (!pending.isEmpty() && draining.compareAndSet(false, true)) {
+                sendExecutor.execute(this::drain);
+            }
+        }
+
+        private void close() {
+            connections.remove(id);
+            pending.clear();
+            emitter.complete();
+        }
+    }
+
+    /**
+     * 노드 간 알림 이벤트 메시지
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class AlertStreamMessage {
+        private String id;
+        private String userEmail;
+        private AlertTriggerEventDTO payload;
+    }
+}
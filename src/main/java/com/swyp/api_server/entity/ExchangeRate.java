@@ -13,8 +13,8 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "exchange_rates", 
+       uniqueConstraints = @UniqueConstraint(name = "uk_exchange_rates_currency_date", columnNames = {"currency_code", "base_date"}),
        indexes = {
-           @Index(name = "idx_currency_date", columnList = "currency_code, base_date"),
            @Index(name = "idx_base_date", columnList = "base_date"),
            @Index(name = "idx_created_at", columnList = "created_at")
        })
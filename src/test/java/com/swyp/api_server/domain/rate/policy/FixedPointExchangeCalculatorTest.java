@@ -0,0 +1,316 @@
+package com.swyp.api_server.domain.rate.policy;
+
+import com.swyp.api_server.domain.rate.dto.request.ExchangeCalculationRequestDTO.ExchangeDirection;
+import com.swyp.api_server.entity.BankExchangeInfo;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 고정소수점 환전 계산기 동등성 테스트
+ * - 기준 구현(ExchangeCalculationPolicy.calculateWithBigDecimal)과 값/scale까지 같은 결과를 내는지 확인
+ * - 고정 시드 난수로 기준 환율/입력 금액/은행 정보를 넓게 생성하여 양방향 모두 비교
+ * - prepare/settle 분리 경로, HALF_UP 경계(.5, 음수), scale 경계, long 범위 초과 시 대체 경로 확인
+ */
+class FixedPointExchangeCalculatorTest {
+
+    private static final long SEED = 20250801L;
+    private static final int ITERATIONS = 20_000;
+    private static final int AMOUNTS_PER_RATE = 20;
+
+    /** 스프링 없이 생성하면 fixedPointEnabled = false → BigDecimal 기준 구현으로만 계산 */
+    private final ExchangeCalculationPolicy referencePolicy = new ExchangeCalculationPolicy();
+    private final ExchangeCalculationPolicy fixedPointPolicy = new ExchangeCalculationPolicy();
+
+    FixedPointExchangeCalculatorTest() {
+        ReflectionTestUtils.setField(fixedPointPolicy, "fixedPointEnabled", true);
+    }
+
+    @ParameterizedTest
+    @EnumSource(ExchangeDirection.class)
+    void calculateMatchesBigDecimalForRandomInputs(ExchangeDirection direction) {
+        Random random = new Random(SEED + direction.ordinal());
+        int compared = 0;
+        int fallback = 0;
+        int viable = 0;
+        int notViable = 0;
+
+        for (int i = 0; i < ITERATIONS; i++) {
+            BigDecimal baseRate = randomRate(random);
+            BigDecimal inputAmount = randomAmount(random);
+            BankExchangeInfo bank = randomBank(random);
+
+            String description = describe(direction, baseRate, inputAmount, bank);
+            ExchangeCalculationPolicy.CalculationResult expected =
+                    referencePolicy.calculateWithBigDecimal(baseRate, inputAmount, direction, bank);
+            // 정책 진입점은 범위 초과 여부와 관계없이 항상 기준 구현과 같은 결과
+            assertSameResult(fixedPointPolicy.calculate(baseRate, inputAmount, direction, bank), expected, description);
+
+            ExchangeCalculationPolicy.CalculationResult actual;
+            try {
+                actual = FixedPointExchangeCalculator.calculate(baseRate, inputAmount, direction, bank);
+            } catch (ArithmeticException e) {
+                fallback++;
+                continue;
+            }
+            assertSameResult(actual, expected, description);
+            compared++;
+            if (expected.isViable()) {
+                viable++;
+            } else {
+                notViable++;
+            }
+        }
+
+        // 절반 이상이 고정소수점 경로로 비교되었고, 대체 경로와 가능/불가능 결과가 모두 포함되었는지 확인
+        assertThat(compared).isGreaterThan(ITERATIONS / 2);
+        assertThat(fallback).isGreaterThan(0);
+        assertThat(viable).isGreaterThan(0);
+        assertThat(notViable).isGreaterThan(0);
+    }
+
+    @ParameterizedTest
+    @EnumSource(ExchangeDirection.class)
+    void prepareThenSettleMatchesBigDecimal(ExchangeDirection direction) {
+        Random random = new Random(SEED * 31 + direction.ordinal());
+
+        for (int i = 0; i < ITERATIONS / AMOUNTS_PER_RATE; i++) {
+            BigDecimal baseRate = randomRate(random);
+            BankExchangeInfo bank = randomBank(random);
+
+            FixedPointExchangeCalculator.PreparedRate prepared =
+                    FixedPointExchangeCalculator.prepare(baseRate, direction, bank);
+            BigDecimal finalRate = referencePolicy.calculateFinalRate(baseRate, direction, bank);
+            assertThat(BigDecimal.valueOf(prepared.finalRate, prepared.finalRateScale))
+                    .as("finalRate %s", describe(direction, baseRate, null, bank))
+                    .isEqualTo(finalRate);
+
+            // 적용 환율표처럼 한 번 준비한 환율을 여러 입력 금액에 재사용
+            AppliedRateTable.AppliedRate bigDecimalRate = new AppliedRateTable.AppliedRate(bank, finalRate, null);
+            for (int j = 0; j < AMOUNTS_PER_RATE; j++) {
+                BigDecimal inputAmount = randomAmount(random);
+                ExchangeCalculationPolicy.CalculationResult actual;
+                try {
+                    actual = FixedPointExchangeCalculator.settle(prepared, inputAmount, direction, bank);
+                } catch (ArithmeticException e) {
+                    continue;
+                }
+                String description = describe(direction, baseRate, inputAmount, bank);
+                assertSameResult(actual,
+                        referencePolicy.calculateWithBigDecimal(baseRate, inputAmount, direction, bank), description);
+                assertSameResult(actual,
+                        referencePolicy.calculate(bigDecimalRate, inputAmount, direction), description);
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(ExchangeDirection.class)
+    void resultScalesFollowInputScale(ExchangeDirection direction) {
+        BankExchangeInfo bank = bank("1.75", "50.00", "0.00", "0.00");
+        BankExchangeInfo feeBank = bank("1.50", "30.00", "5000.00", "0.15");
+        String[] amounts = {"1", "1.0", "1000", "1000.00", "0.01", "0.0001", "12345.6789", "100000000", "5000.00"};
+        String[] rates = {"1385.5", "1385.50", "9.2345", "0.0001", "1000", "142000.1234"};
+
+        for (String rate : rates) {
+            for (String amount : amounts) {
+                for (BankExchangeInfo b : new BankExchangeInfo[]{bank, feeBank}) {
+                    BigDecimal baseRate = new BigDecimal(rate);
+                    BigDecimal inputAmount = new BigDecimal(amount);
+                    assertSameResult(FixedPointExchangeCalculator.calculate(baseRate, inputAmount, direction, b),
+                            referencePolicy.calculateWithBigDecimal(baseRate, inputAmount, direction, b),
+                            describe(direction, baseRate, inputAmount, b));
+                }
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(ExchangeDirection.class)
+    void feeExceedingAmountIsNotViable(ExchangeDirection direction) {
+        BankExchangeInfo bank = bank("1.75", "0.00", "5000.00", "1.00");
+        BigDecimal baseRate = new BigDecimal("1385.50");
+        BigDecimal inputAmount = BigDecimal.ONE;
+
+        ExchangeCalculationPolicy.CalculationResult actual =
+                FixedPointExchangeCalculator.calculate(baseRate, inputAmount, direction, bank);
+        assertSameResult(actual, referencePolicy.calculateWithBigDecimal(baseRate, inputAmount, direction, bank),
+                describe(direction, baseRate, inputAmount, bank));
+        assertThat(actual.isViable()).isFalse();
+        assertThat(actual.getWarningMessage()).isEqualTo(direction == ExchangeDirection.KRW_TO_FOREIGN
+                ? ExchangeCalculationPolicy.FEE_EXCEEDS_INPUT_MESSAGE
+                : ExchangeCalculationPolicy.FEE_EXCEEDS_EXCHANGED_MESSAGE);
+    }
+
+    @Test
+    void divideHalfUpMatchesBigDecimalIncludingTiesAndNegatives() {
+        long[] divisors = {-100, -8, -7, -4, -3, -2, -1, 1, 2, 3, 4, 7, 8, 100};
+        for (long dividend = -250; dividend <= 250; dividend++) {
+            for (long divisor : divisors) {
+                for (int dividendScale = 0; dividendScale <= 3; dividendScale++) {
+                    for (int divisorScale = 0; divisorScale <= 2; divisorScale++) {
+                        for (int targetScale = 0; targetScale <= 4; targetScale++) {
+                            long expected = BigDecimal.valueOf(dividend, dividendScale)
+                                    .divide(BigDecimal.valueOf(divisor, divisorScale), targetScale, RoundingMode.HALF_UP)
+                                    .unscaledValue().longValueExact();
+                            assertThat(FixedPointExchangeCalculator.divideHalfUp(
+                                    dividend, dividendScale, divisor, divisorScale, targetScale))
+                                    .as("%d(%d) / %d(%d) -> scale %d",
+                                            dividend, dividendScale, divisor, divisorScale, targetScale)
+                                    .isEqualTo(expected);
+                        }
+                    }
+                }
+            }
+        }
+
+        // .5는 0에서 먼 쪽으로 반올림
+        assertThat(FixedPointExchangeCalculator.divideHalfUp(5, 0, 2, 0, 0)).isEqualTo(3);
+        assertThat(FixedPointExchangeCalculator.divideHalfUp(-5, 0, 2, 0, 0)).isEqualTo(-3);
+        assertThat(FixedPointExchangeCalculator.divideHalfUp(5, 0, -2, 0, 0)).isEqualTo(-3);
+        assertThat(FixedPointExchangeCalculator.divideHalfUp(25, 2, 1, 0, 1)).isEqualTo(3);
+        assertThat(FixedPointExchangeCalculator.divideHalfUp(-25, 2, 1, 0, 1)).isEqualTo(-3);
+        assertThat(FixedPointExchangeCalculator.divideHalfUp(24, 2, 1, 0, 1)).isEqualTo(2);
+        assertThat(FixedPointExchangeCalculator.divideHalfUp(1, 0, 3, 0, 4)).isEqualTo(3333);
+        assertThat(FixedPointExchangeCalculator.divideHalfUp(2, 0, 3, 0, 4)).isEqualTo(6667);
+    }
+
+    @Test
+    void unsupportedInputThrowsArithmeticException() {
+        BankExchangeInfo bank = bank("1.75", "50.00", "0.00", "0.10");
+        BigDecimal baseRate = new BigDecimal("1385.50");
+
+        // long 범위 초과 (외화 → 원화 곱셈)
+        assertThatThrownBy(() -> FixedPointExchangeCalculator.calculate(baseRate,
+                new BigDecimal("9000000000000000.00"), ExchangeDirection.FOREIGN_TO_KRW, bank))
+                .isInstanceOf(ArithmeticException.class);
+        // unscaled 값 자체가 long 범위 초과
+        assertThatThrownBy(() -> FixedPointExchangeCalculator.calculate(baseRate,
+                new BigDecimal("99999999999999999999"), ExchangeDirection.KRW_TO_FOREIGN, bank))
+                .isInstanceOf(ArithmeticException.class);
+        // 음수 scale, 너무 큰 scale
+        assertThatThrownBy(() -> FixedPointExchangeCalculator.calculate(baseRate,
+                new BigDecimal("1E+3"), ExchangeDirection.KRW_TO_FOREIGN, bank))
+                .isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> FixedPointExchangeCalculator.calculate(baseRate,
+                new BigDecimal("1.0000000000000000000"), ExchangeDirection.KRW_TO_FOREIGN, bank))
+                .isInstanceOf(ArithmeticException.class);
+    }
+
+    @ParameterizedTest
+    @EnumSource(ExchangeDirection.class)
+    void policyFallsBackToBigDecimalWhenOutOfRange(ExchangeDirection direction) {
+        ExchangeCalculationPolicy policy = new ExchangeCalculationPolicy();
+        ReflectionTestUtils.setField(policy, "fixedPointEnabled", true);
+        BankExchangeInfo bank = bank("1.75", "50.00", "1000.00", "0.10");
+        BigDecimal baseRate = new BigDecimal("1385.50");
+
+        for (String amount : new String[]{"9000000000000000.00", "99999999999999999999", "1E+3", "1000"}) {
+            BigDecimal inputAmount = new BigDecimal(amount);
+            assertSameResult(policy.calculate(baseRate, inputAmount, direction, bank),
+                    referencePolicy.calculateWithBigDecimal(baseRate, inputAmount, direction, bank),
+                    describe(direction, baseRate, inputAmount, bank));
+
+            BigDecimal finalRate = policy.calculateFinalRate(baseRate, direction, bank);
+            AppliedRateTable.AppliedRate appliedRate = new AppliedRateTable.AppliedRate(bank, finalRate,
+                    FixedPointExchangeCalculator.prepare(baseRate, direction, bank));
+            assertSameResult(policy.calculate(appliedRate, inputAmount, direction),
+                    referencePolicy.calculateWithBigDecimal(baseRate, inputAmount, direction, bank),
+                    describe(direction, baseRate, inputAmount, bank));
+        }
+    }
+
+    /**
+     * 계산 결과 비교 (BigDecimal.equals로 값과 scale 모두 비교)
+     */
+    private static void assertSameResult(ExchangeCalculationPolicy.CalculationResult actual,
+                                         ExchangeCalculationPolicy.CalculationResult expected, String description) {
+        assertThat(actual.getAppliedRate()).as("appliedRate %s", description).isEqualTo(expected.getAppliedRate());
+        assertThat(actual.getExchangedAmount()).as("exchangedAmount %s", description)
+                .isEqualTo(expected.getExchangedAmount());
+        assertThat(actual.getTotalFee()).as("totalFee %s", description).isEqualTo(expected.getTotalFee());
+        assertThat(actual.getFeeDetail().getFixedFee()).as("fixedFee %s", description)
+                .isEqualTo(expected.getFeeDetail().getFixedFee());
+        assertThat(actual.getFeeDetail().getFeeRate()).as("feeRate %s", description)
+                .isEqualTo(expected.getFeeDetail().getFeeRate());
+        assertThat(actual.getFeeDetail().getRateBasedFee()).as("rateBasedFee %s", description)
+                .isEqualTo(expected.getFeeDetail().getRateBasedFee());
+        assertThat(actual.getFinalAmount()).as("finalAmount %s", description).isEqualTo(expected.getFinalAmount());
+        assertThat(actual.isViable()).as("isViable %s", description).isEqualTo(expected.isViable());
+        assertThat(actual.getWarningMessage()).as("warningMessage %s", description)
+                .isEqualTo(expected.getWarningMessage());
+    }
+
+    /**
+     * 기준 환율: 0.0001 ~ 10만 미만, scale 0~4 (수출입은행 응답의 쉼표 제거 후 값 범위)
+     */
+    private static BigDecimal randomRate(Random random) {
+        int scale = random.nextInt(5);
+        long bound = pow10(1 + random.nextInt(5) + scale);
+        return BigDecimal.valueOf(1 + random.nextLong(bound), scale);
+    }
+
+    /**
+     * 입력 금액: 0 ~ 10^12 미만, scale 0~4 (자릿수를 고르게 분포시켜 작은 금액부터 long 범위를 넘는 큰 금액까지 포함)
+     */
+    private static BigDecimal randomAmount(Random random) {
+        int scale = random.nextInt(5);
+        long bound = pow10(1 + random.nextInt(12) + scale);
+        return BigDecimal.valueOf(random.nextLong(bound), scale);
+    }
+
+    /**
+     * 은행 정보: DB 컬럼과 같은 scale 2 (스프레드 0~10%, 우대율 0~100%, 고정 수수료 0~10,000, 수수료율 0~5%)
+     */
+    private static BankExchangeInfo randomBank(Random random) {
+        return BankExchangeInfo.builder()
+                .bankName("테스트은행")
+                .bankCode("TEST")
+                .spreadRate(BigDecimal.valueOf(random.nextInt(1_001), 2))
+                .preferentialRate(BigDecimal.valueOf(random.nextInt(10_001), 2))
+                .fixedFee(random.nextBoolean() ? BigDecimal.valueOf(random.nextInt(1_000_001), 2)
+                        : new BigDecimal("0.00"))
+                .feeRate(BigDecimal.valueOf(random.nextInt(501), 2))
+                .minAmount(new BigDecimal("0.00"))
+                .maxAmount(new BigDecimal("9999999999.99"))
+                .isOnlineAvailable(true)
+                .build();
+    }
+
+    private static BankExchangeInfo bank(String spreadRate, String preferentialRate, String fixedFee, String feeRate) {
+        return BankExchangeInfo.builder()
+                .bankName("테스트은행")
+                .bankCode("TEST")
+                .spreadRate(new BigDecimal(spreadRate))
+                .preferentialRate(new BigDecimal(preferentialRate))
+                .fixedFee(new BigDecimal(fixedFee))
+                .feeRate(new BigDecimal(feeRate))
+                .minAmount(new BigDecimal("0.00"))
+                .maxAmount(new BigDecimal("9999999999.99"))
+                .isOnlineAvailable(true)
+                .build();
+    }
+
+    private static long pow10(int exponent) {
+        long value = 1L;
+        for (int i = 0; i < exponent; i++) {
+            value *= 10L;
+        }
+        return value;
+    }
+
+    private static String describe(ExchangeDirection direction, BigDecimal baseRate, BigDecimal inputAmount,
+                                   BankExchangeInfo bank) {
+        return String.format("[%s rate=%s amount=%s spread=%s pref=%s fixedFee=%s feeRate=%s]", direction,
+                baseRate, inputAmount, bank.getSpreadRate(), bank.getPreferentialRate(), bank.getFixedFee(),
+                bank.getFeeRate());
+    }
+}
@@ -0,0 +1,122 @@
+package com.swyp.api_server.domain.rate.provider;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 수출입은행 환율 API 응답 스트리밍 파싱 테스트
+ * - 고시 응답 형식 그대로의 본문(koreaexim/exchange-response.json)으로 고시 단위/통화 단위 정규화 확인
+ * - 에러 응답(result 코드), 빈 응답, 잘못된 값 처리 확인
+ */
+class KoreaEximResponseTest {
+
+    private static final String FIXTURE = "/koreaexim/exchange-response.json";
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    @Test
+    void parsesResultCodeAndItemCount() throws IOException {
+        KoreaEximResponse response = parseFixture();
+
+        assertThat(response.getResult()).isEqualTo(1);
+        assertThat(response.getItemCount()).isEqualTo(23);
+        assertThat(response.hasData()).isTrue();
+        assertThat(response.getRatesByUnit()).hasSize(23);
+    }
+
+    @Test
+    void keepsHundredUnitRatesAsQuotedWithTheirUnit() throws IOException {
+        KoreaEximResponse response = parseFixture();
+
+        // "JPY(100)" 939.56 → 저장 데이터/알림 목표 환율과 같은 100엔 기준 그대로, 단위는 따로 제공
+        assertThat(response.rateOf("JPY")).isEqualTo(new BigDecimal("939.56"));
+        assertThat(response.unitOf("JPY")).isEqualTo(100);
+        assertThat(response.rateOf("IDR")).isEqualTo(new BigDecimal("8.52"));
+        assertThat(response.unitOf("idr")).isEqualTo(100);
+        assertThat(response.unitOf("USD")).isEqualTo(1);
+        // 단위 표기가 붙은 원래 키로는 조회되지 않음
+        assertThat(response.getRatesByUnit()).doesNotContainKeys("JPY(100)", "IDR(100)");
+    }
+
+    @Test
+    void normalizesCurUnitAndRemovesThousandsSeparators() throws IOException {
+        KoreaEximResponse response = parseFixture();
+
+        assertThat(response.rateOf("USD")).isEqualTo(new BigDecimal("1387.9"));
+        assertThat(response.rateOf("usd")).isEqualTo(new BigDecimal("1387.9"));
+        assertThat(response.rateOf("EUR")).isEqualTo(new BigDecimal("1617.83"));
+        assertThat(response.rateOf("KWD")).isEqualTo(new BigDecimal("4541.23"));
+        // 위안화는 수출입은행 코드 CNH로 고시
+        assertThat(response.rateOf("CNH")).isEqualTo(new BigDecimal("193.32"));
+        assertThat(response.rateOf("CNY")).isNull();
+        assertThat(response.rateOf("KRW")).isEqualTo(BigDecimal.ONE);
+    }
+
+    @Test
+    void keepsFirstItemResultForErrorResponses() throws IOException {
+        // 일일 호출 한도 초과 (result 4, 숫자 대신 문자열로 오는 경우 포함)
+        KoreaEximResponse limitExceeded = parse("[{\"result\":4,\"cur_unit\":null,\"deal_bas_r\":null}]");
+        assertThat(limitExceeded.getResult()).isEqualTo(4);
+        assertThat(limitExceeded.getItemCount()).isEqualTo(1);
+        assertThat(limitExceeded.getRatesByUnit()).isEmpty();
+
+        KoreaEximResponse authError = parse("[{\"result\":\"3\"}]");
+        assertThat(authError.getResult()).isEqualTo(3);
+    }
+
+    @Test
+    void returnsEmptyResponseForEmptyOrNonArrayBody() throws IOException {
+        // 주말/공휴일은 빈 배열
+        KoreaEximResponse empty = parse("[]");
+        assertThat(empty.hasData()).isFalse();
+        assertThat(empty.getResult()).isNull();
+
+        assertThat(parse("{\"result\":1}")).isSameAs(KoreaEximResponse.EMPTY);
+        assertThat(parse("")).isSameAs(KoreaEximResponse.EMPTY);
+    }
+
+    @Test
+    void skipsItemsWithMissingZeroOrInvalidRates() throws IOException {
+        KoreaEximResponse response = parse("["
+                + "{\"result\":1,\"cur_unit\":\"USD\",\"deal_bas_r\":\"\"},"
+                + "{\"result\":1,\"cur_unit\":\"EUR\",\"deal_bas_r\":\"0\"},"
+                + "{\"result\":1,\"cur_unit\":\"GBP\",\"deal_bas_r\":\"-\"},"
+                + "{\"result\":1,\"cur_unit\":\"HKD\"},"
+                + "{\"result\":1,\"deal_bas_r\":\"176.78\"},"
+                + "{\"result\":1,\"cur_unit\":\" thb \",\"deal_bas_r\":\" 42.87 \",\"extra\":{\"nested\":[1,2]}}"
+                + "]");
+
+        assertThat(response.getItemCount()).isEqualTo(6);
+        assertThat(response.getRatesByUnit()).containsOnlyKeys("THB");
+        assertThat(response.rateOf("THB")).isEqualTo(new BigDecimal("42.87"));
+    }
+
+    @Test
+    void throwsOnMalformedJson() {
+        assertThatThrownBy(() -> parse("[{\"result\":1,\"cur_unit\":"))
+                .isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> parse("[{result:1}]"))
+                .isInstanceOf(JsonParseException.class);
+    }
+
+    private KoreaEximResponse parseFixture() throws IOException {
+        try (InputStream body = getClass().getResourceAsStream(FIXTURE)) {
+            assertThat(body).as(FIXTURE).isNotNull();
+            return KoreaEximResponse.parse(jsonFactory, body);
+        }
+    }
+
+    private KoreaEximResponse parse(String body) throws IOException {
+        return KoreaEximResponse.parse(jsonFactory, new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,305 @@
+package com.swyp.api_server.domain.rate.push;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.swyp.api_server.common.constants.Constants;
+import com.swyp.api_server.config.websocket.RateSubscriptionInterceptor;
+import com.swyp.api_server.domain.rate.ExchangeList;
+import com.swyp.api_server.domain.rate.dto.response.RateDeltaMessageDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 유휴 구독자 다수 상태의 환율 푸시 부하 테스트 (프로세스 내, 네트워크 없음)
+ * - 실제 구독 인터셉터/심플 브로커/세션 추적기/푸시 서비스로 수천 개 세션의 연결, 구독, 변경분 전달, 해제 확인
+ * - 변경분 하나당 세션별 전달 수, 구독/연결 게이지, 해제 후 브로커/추적기 정리 확인
+ * - 유휴 세션당 유지 힙(GC 후 사용량 차이)이 상한 이내이고, 변경분 전달/해제 후 남는 힙이 없는지 확인
+ *   (GC 기반 근사치이므로 상한은 여유 있게 설정)
+ * - 실제 소켓의 전송 버퍼/하트비트 비용은 배포 노드에서 별도 측정
+ */
+class RatePushLoadTest {
+
+    private static final int SESSIONS = 5_000;
+    private static final List<String> CHANGED_CURRENCIES = List.of("USD", "EUR", "GBP");
+    private static final long MAX_RETAINED_BYTES_PER_SESSION = 16 * 1024;   // 세션 2개 구독 기준 상한
+    private static final long MAX_RESIDUAL_BYTES = 8 * 1024 * 1024;         // 전달/해제 후 남아도 되는 힙 (측정 오차 포함)
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, AtomicInteger> deliveredBySession = new ConcurrentHashMap<>();
+    private final AtomicInteger delivered = new AtomicInteger();
+
+    private ExecutorSubscribableChannel clientInboundChannel;
+    private SimpleBrokerMessageHandler broker;
+    private RatePushSessionTracker tracker;
+    private RatePushService pushService;
+
+    @BeforeEach
+    void setUp() {
+        clientInboundChannel = new ExecutorSubscribableChannel();
+        clientInboundChannel.addInterceptor(new RateSubscriptionInterceptor());
+        ExecutorSubscribableChannel clientOutboundChannel = new ExecutorSubscribableChannel();
+        ExecutorSubscribableChannel brokerChannel = new ExecutorSubscribableChannel();
+
+        clientOutboundChannel.subscribe(message -> {
+            if (StompHeaderAccessor.getMessageType(message.getHeaders()) == SimpMessageType.MESSAGE) {
+                String sessionId = StompHeaderAccessor.getSessionId(message.getHeaders());
+                deliveredBySession.computeIfAbsent(sessionId, id -> new AtomicInteger()).incrementAndGet();
+                delivered.incrementAndGet();
+            }
+        });
+
+        broker = new SimpleBrokerMessageHandler(clientInboundChannel, clientOutboundChannel, brokerChannel,
+                List.of(Constants.WebSocket.TOPIC_PREFIX));
+        broker.start();
+
+        tracker = new RatePushSessionTracker(meterRegistry);
+        pushService = new RatePushService(new SimpMessagingTemplate(brokerChannel), mock(StringRedisTemplate.class),
+                mock(RedisMessageListenerContainer.class), objectMapper, mock(ApplicationEventPublisher.class),
+                meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        broker.stop();
+    }
+
+    @Test
+    @Timeout(value = 30, unit = TimeUnit.SECONDS)
+    void deliversEachDeltaOnceToThousandsOfIdleSubscribers() throws Exception {
+        ExchangeList.ExchangeType[] types = ExchangeList.ExchangeType.values();
+        int currencySubscribers = 0;
+        for (int i = 0; i < SESSIONS; i++) {
+            String sessionId = "session-" + i;
+            String currencyCode = types[i % types.length].getCode();
+            connect(sessionId);
+            subscribe(sessionId, "all", Constants.WebSocket.RATES_TOPIC);
+            subscribe(sessionId, "one", Constants.WebSocket.RATE_TOPIC_PREFIX + currencyCode);
+            if (CHANGED_CURRENCIES.contains(currencyCode)) {
+                currencySubscribers++;
+            }
+        }
+
+        assertThat(gauge("websocket.rate.connections")).isEqualTo(SESSIONS);
+        assertThat(gauge("websocket.rate.subscriptions")).isEqualTo(SESSIONS * 2);
+
+        // 변경분 하나 → 전체 토픽은 모든 세션, 통화 토픽은 해당 통화 구독 세션에만 한 번씩
+        RateDeltaMessageDTO delta = delta("v0", "v1");
+        pushService.onMessage(redisMessage(delta), null);
+
+        assertThat(delivered.get()).isEqualTo(SESSIONS + currencySubscribers);
+        assertThat(deliveredBySession).hasSize(SESSIONS);
+        assertThat(deliveredBySession.values()).allSatisfy(count -> assertThat(count.get()).isBetween(1, 2));
+        assertThat(counter("delivered")).isEqualTo(1.0);
+
+        // 여러 노드가 같은 버전을 발행해도 다시 전달하지 않음
+        pushService.onMessage(redisMessage(delta), null);
+        assertThat(delivered.get()).isEqualTo(SESSIONS + currencySubscribers);
+        assertThat(counter("duplicate")).isEqualTo(1.0);
+    }
+
+    @Test
+    @Timeout(value = 30, unit = TimeUnit.SECONDS)
+    void deliversReturnToEarlierVersion() throws Exception {
+        connect("session-0");
+        subscribe("session-0", "all", Constants.WebSocket.RATES_TOPIC);
+
+        // A → B → A → B: 내용 버전은 반복되지만 모두 새 변경
+        pushService.onMessage(redisMessage(delta("A", "B")), null);
+        pushService.onMessage(redisMessage(delta("B", "A")), null);
+        pushService.onMessage(redisMessage(delta("A", "B")), null);
+        assertThat(delivered.get()).isEqualTo(3);
+
+        // 다른 노드가 발행한 같은 변경은 전달하지 않음
+        pushService.onMessage(redisMessage(delta("A", "B")), null);
+        assertThat(delivered.get()).isEqualTo(3);
+        assertThat(counter("delivered")).isEqualTo(3.0);
+        assertThat(counter("duplicate")).isEqualTo(1.0);
+    }
+
+    @Test
+    @Timeout(value = 30, unit = TimeUnit.SECONDS)
+    void rejectedSubscriptionsAreNotRegisteredOrCounted() {
+        connect("session-0");
+
+        assertThatThrownBy(() -> subscribe("session-0", "bad-1", Constants.WebSocket.RATE_TOPIC_PREFIX + "XXX"))
+                .isInstanceOf(MessageDeliveryException.class);
+        assertThatThrownBy(() -> subscribe("session-0", "bad-2", Constants.WebSocket.TOPIC_PREFIX + "/other"))
+                .isInstanceOf(MessageDeliveryException.class);
+
+        // 인터셉터를 거치지 않은 구독 이벤트도 허용 토픽이 아니면 집계하지 않음
+        tracker.onSubscribe(new SessionSubscribeEvent(this,
+                stompMessage(StompCommand.SUBSCRIBE, "session-0", "bad-3", Constants.WebSocket.TOPIC_PREFIX + "/other")));
+
+        assertThat(gauge("websocket.rate.subscriptions")).isZero();
+        assertThat(broker.getSubscriptionRegistry().findSubscriptions(
+                brokerMessage(Constants.WebSocket.RATE_TOPIC_PREFIX + "XXX"))).isEmpty();
+    }
+
+    @Test
+    @Timeout(value = 30, unit = TimeUnit.SECONDS)
+    void disconnectReleasesAllSessionsAndSubscriptions() throws Exception {
+        for (int i = 0; i < SESSIONS; i++) {
+            String sessionId = "session-" + i;
+            connect(sessionId);
+            subscribe(sessionId, "all", Constants.WebSocket.RATES_TOPIC);
+        }
+        for (int i = 0; i < SESSIONS; i++) {
+            disconnect("session-" + i);
+        }
+
+        assertThat(gauge("websocket.rate.connections")).isZero();
+        assertThat(gauge("websocket.rate.subscriptions")).isZero();
+
+        pushService.onMessage(redisMessage(delta("v1", "v2")), null);
+        assertThat(delivered.get()).isZero();
+    }
+
+    @Test
+    @Timeout(value = 60, unit = TimeUnit.SECONDS)
+    void retainedHeapPerIdleSessionStaysBounded() throws Exception {
+        ExchangeList.ExchangeType[] types = ExchangeList.ExchangeType.values();
+        long baseline = usedHeapAfterGc();
+
+        for (int i = 0; i < SESSIONS; i++) {
+            String sessionId = "session-" + i;
+            connect(sessionId);
+            subscribe(sessionId, "all", Constants.WebSocket.RATES_TOPIC);
+            subscribe(sessionId, "one", Constants.WebSocket.RATE_TOPIC_PREFIX + types[i % types.length].getCode());
+        }
+        long connected = usedHeapAfterGc();
+        long perSession = Math.max(0, connected - baseline) / SESSIONS;
+        assertThat(perSession).isLessThanOrEqualTo(MAX_RETAINED_BYTES_PER_SESSION);
+
+        // 변경분을 여러 번 전달해도 세션별로 쌓이는 상태가 없어야 함 (최근 전환 기록은 고정 크기)
+        String previous = "v0";
+        for (int i = 1; i <= Constants.WebSocket.RECENT_DELTA_VERSIONS * 2; i++) {
+            pushService.onMessage(redisMessage(delta(previous, "v" + i)), null);
+            previous = "v" + i;
+        }
+        deliveredBySession.clear();
+        assertThat(usedHeapAfterGc() - connected).isLessThanOrEqualTo(MAX_RESIDUAL_BYTES);
+
+        // 해제 후에는 연결 전 수준으로 돌아와야 함
+        for (int i = 0; i < SESSIONS; i++) {
+            disconnect("session-" + i);
+        }
+        assertThat(usedHeapAfterGc() - baseline).isLessThanOrEqualTo(MAX_RESIDUAL_BYTES);
+    }
+
+    /**
+     * GC 후 사용 중인 힙 (여러 번 GC를 요청하여 가장 작은 값 사용)
+     */
+    private static long usedHeapAfterGc() throws InterruptedException {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        long used = Long.MAX_VALUE;
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            Thread.sleep(50);
+            used = Math.min(used, memory.getHeapMemoryUsage().getUsed());
+        }
+        return used;
+    }
+
+    private void connect(String sessionId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+        accessor.setSessionId(sessionId);
+        clientInboundChannel.send(MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()));
+        tracker.onConnected(new SessionConnectedEvent(this, stompMessage(StompCommand.CONNECTED, sessionId, null, null)));
+    }
+
+    private void subscribe(String sessionId, String subscriptionId, String destination) {
+        Message<byte[]> message = stompMessage(StompCommand.SUBSCRIBE, sessionId, subscriptionId, destination);
+        clientInboundChannel.send(message);
+        tracker.onSubscribe(new SessionSubscribeEvent(this, message));
+    }
+
+    private void disconnect(String sessionId) {
+        Message<byte[]> message = stompMessage(StompCommand.DISCONNECT, sessionId, null, null);
+        clientInboundChannel.send(message);
+        tracker.onDisconnect(new SessionDisconnectEvent(this, message, sessionId, CloseStatus.NORMAL));
+    }
+
+    private static Message<byte[]> stompMessage(StompCommand command, String sessionId, String subscriptionId,
+                                                String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setSessionId(sessionId);
+        if (subscriptionId != null) {
+            accessor.setSubscriptionId(subscriptionId);
+        }
+        if (destination != null) {
+            accessor.setDestination(destination);
+        }
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private static Message<byte[]> brokerMessage(String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SEND);
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private static RateDeltaMessageDTO delta(String previousVersion, String version) {
+        List<RateDeltaMessageDTO.RateChange> changes = CHANGED_CURRENCIES.stream()
+                .map(code -> RateDeltaMessageDTO.RateChange.builder()
+                        .currencyCode(code)
+                        .rate(new BigDecimal("1385.50"))
+                        .changeAmount(new BigDecimal("5.20"))
+                        .changeRate(new BigDecimal("0.38"))
+                        .build())
+                .toList();
+        return RateDeltaMessageDTO.builder()
+                .version(version)
+                .previousVersion(previousVersion)
+                .baseDate("20250115")
+                .changes(changes)
+                .build();
+    }
+
+    private DefaultMessage redisMessage(RateDeltaMessageDTO delta) throws Exception {
+        return new DefaultMessage(Constants.WebSocket.RATE_DELTA_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                objectMapper.writeValueAsBytes(delta));
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.get(name).gauge().value();
+    }
+
+    private double counter(String result) {
+        return meterRegistry.get("websocket.rate.deltas").tag("result", result).counter().count();
+    }
+}
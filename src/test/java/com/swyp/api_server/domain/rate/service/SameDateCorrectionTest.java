@@ -0,0 +1,150 @@
+package com.swyp.api_server.domain.rate.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.swyp.api_server.domain.rate.dto.response.ExchangeResponseDTO;
+import com.swyp.api_server.domain.rate.monitoring.RateIngestMetrics;
+import com.swyp.api_server.domain.rate.provider.KoreaEximRateProvider;
+import com.swyp.api_server.domain.rate.repository.ExchangeRateBulkWriter;
+import com.swyp.api_server.domain.rate.repository.ExchangeRateHistoryRepository;
+import com.swyp.api_server.domain.rate.repository.ExchangeRateRepository;
+import com.swyp.api_server.domain.rate.snapshot.RateHistoryColumnStore;
+import com.swyp.api_server.domain.rate.snapshot.RateHistoryColumns;
+import com.swyp.api_server.domain.rate.snapshot.RateSnapshotHolder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 기준일 환율 보정 반영 테스트 (H2 MySQL 호환 모드)
+ * - 오후/매시/장중 수집이 같은 기준일 환율을 바꾸면 커밋 후 스냅샷과 히스토리 컬럼에 보정 값이 보여야 함
+ * - 저장 전에 읽은 엔티티가 영속성 컨텍스트에 남아 있으면 커밋 후 리스너가 이전 값을 다시 읽게 되는 문제 확인용
+ * - 커밋 후 리스너 실행이 필요하므로 테스트 트랜잭션 없이 실행
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:same-date-correction;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({
+        ExchangeRateBulkWriter.class,
+        ExchangeRateStorageService.class,
+        ExchangeRateHistoryService.class,
+        RateSnapshotHolder.class,
+        RateHistoryColumnStore.class,
+        RateIngestMetrics.class,
+        SameDateCorrectionTest.Config.class
+})
+class SameDateCorrectionTest {
+
+    private static final String TODAY = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
+
+    @Autowired
+    private ExchangeRateStorageService storageService;
+
+    @Autowired
+    private ExchangeRateHistoryService historyService;
+
+    @Autowired
+    private RateSnapshotHolder snapshotHolder;
+
+    @Autowired
+    private RateHistoryColumnStore columnStore;
+
+    @Autowired
+    private ExchangeRateRepository exchangeRateRepository;
+
+    @Autowired
+    private ExchangeRateHistoryRepository historyRepository;
+
+    @TestConfiguration
+    static class Config {
+        @Bean
+        ObjectMapper objectMapper() {
+            return new ObjectMapper().findAndRegisterModules();
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        columnStore.reload();
+    }
+
+    @AfterEach
+    void tearDown() {
+        historyRepository.deleteAllInBatch();
+        exchangeRateRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void sameDateCorrectionReachesSnapshotAndColumns() {
+        storageService.saveExchangeRates(List.of(usd("1300.00")), KoreaEximRateProvider.NAME);
+        historyService.saveCurrentRatesAsHistory();
+
+        assertThat(snapshotHolder.current().get("USD").getCurrentRate()).isEqualByComparingTo("1300.00");
+        assertThat(columnStore.get("USD").rateAt(0)).isEqualByComparingTo("1300.00");
+
+        // 같은 기준일 보정: 최신 환율 행 갱신 → 스냅샷 재구성
+        ExchangeRateBulkWriter.Result saved = storageService.saveExchangeRates(List.of(usd("1310.50")), KoreaEximRateProvider.NAME);
+        assertThat(saved.getUpdated()).isEqualTo(1);
+        assertThat(snapshotHolder.current().get("USD").getCurrentRate()).isEqualByComparingTo("1310.50");
+        assertThat(snapshotHolder.current().get("USD").getBaseDate()).isEqualTo(TODAY);
+
+        // 같은 기준일 히스토리 갱신 → 컬럼에 해당 날짜 추가 반영
+        historyService.saveCurrentRatesAsHistory();
+        RateHistoryColumns columns = columnStore.get("USD");
+        assertThat(columns.size()).isEqualTo(1);
+        assertThat(columns.dateAt(0)).isEqualTo(LocalDate.now());
+        assertThat(columns.rateAt(0)).isEqualByComparingTo("1310.50");
+
+        // DB에도 통화/기준일당 한 행만 유지
+        assertThat(exchangeRateRepository.findAll()).singleElement()
+                .satisfies(rate -> assertThat(rate.getExchangeRate()).isEqualByComparingTo("1310.50"));
+        assertThat(historyRepository.findAll()).singleElement()
+                .satisfies(history -> assertThat(history.getExchangeRate()).isEqualByComparingTo("1310.50"));
+    }
+
+    @Test
+    void unchangedRateWritesNothing() {
+        storageService.saveExchangeRates(List.of(usd("1300.00")), KoreaEximRateProvider.NAME);
+        long version = snapshotHolder.current().getVersion();
+
+        ExchangeRateBulkWriter.Result saved = storageService.saveExchangeRates(List.of(usd("1300.0000")), KoreaEximRateProvider.NAME);
+
+        assertThat(saved.getOutcomes()).isEmpty();
+        assertThat(snapshotHolder.current().getVersion()).isEqualTo(version);
+    }
+
+    private static ExchangeResponseDTO usd(String rate) {
+        return ExchangeResponseDTO.builder()
+                .currencyCode("USD")
+                .currencyName("미국 달러")
+                .exchangeRate(new BigDecimal(rate))
+                .baseDate(TODAY)
+                .build();
+    }
+}
@@ -0,0 +1,212 @@
+package com.swyp.api_server.domain.rate.snapshot;
+
+import com.swyp.api_server.common.validator.CommonValidator;
+import com.swyp.api_server.domain.rate.ExchangeList;
+import com.swyp.api_server.domain.rate.dto.response.ExchangeChartResponseDTO;
+import com.swyp.api_server.domain.rate.entity.ExchangeRateHistory;
+import com.swyp.api_server.domain.rate.event.ExchangeRateDataChangedEvent;
+import com.swyp.api_server.domain.rate.repository.ExchangeRateHistoryRepository;
+import com.swyp.api_server.domain.rate.repository.ExchangeRateRepository;
+import com.swyp.api_server.domain.rate.service.ExchangeRateServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 차트 시계열 저장소 정확성 테스트
+ * - 같은 히스토리에 대해 저장소 응답과 기존 DB 조회 경로(findByPeriod + 평일 필터 + 7일 대체 규칙) 응답 비교
+ * - DB 조회 경로는 차트 저장소가 미적중(null)인 ExchangeRateServiceImpl로 실행
+ * - 주말 데이터, 누락일, 오늘 데이터, 데이터 부족으로 인한 7일 대체, 데이터 없는 통화 포함
+ */
+class ChartSeriesStoreTest {
+
+    private static final long SEED = 20250801L;
+    private static final int[] WINDOWS = {7, 30, 90, 180, 365};
+    private static final int HISTORY_DAYS = 400;
+
+    private final List<ExchangeRateHistory> histories = new ArrayList<>();
+
+    private RateHistoryColumnStore columnStore;
+    private ChartSeriesStore chartSeriesStore;
+    private ExchangeRateServiceImpl databasePath;
+
+    @BeforeEach
+    void setUp() {
+        ExchangeRateHistoryRepository historyRepository = mock(ExchangeRateHistoryRepository.class);
+        when(historyRepository.findAllSince(any(LocalDate.class))).thenAnswer(invocation -> {
+            LocalDate fromDate = invocation.getArgument(0);
+            return histories.stream()
+                    .filter(history -> !history.getBaseDate().isBefore(fromDate))
+                    .sorted(Comparator.comparing(ExchangeRateHistory::getCurrencyCode)
+                            .thenComparing(ExchangeRateHistory::getBaseDate))
+                    .toList();
+        });
+        when(historyRepository.findByPeriod(anyString(), any(LocalDate.class), any(LocalDate.class)))
+                .thenAnswer(invocation -> {
+                    String currencyCode = invocation.getArgument(0);
+                    LocalDate startDate = invocation.getArgument(1);
+                    LocalDate endDate = invocation.getArgument(2);
+                    return histories.stream()
+                            .filter(history -> history.getCurrencyCode().equals(currencyCode))
+                            .filter(history -> !history.getBaseDate().isBefore(startDate)
+                                    && !history.getBaseDate().isAfter(endDate))
+                            .sorted(Comparator.comparing(ExchangeRateHistory::getBaseDate))
+                            .toList();
+                });
+        when(historyRepository.findByBaseDateOrderByCurrencyCode(any(LocalDate.class))).thenAnswer(invocation -> {
+            LocalDate baseDate = invocation.getArgument(0);
+            return histories.stream()
+                    .filter(history -> history.getBaseDate().equals(baseDate))
+                    .sorted(Comparator.comparing(ExchangeRateHistory::getCurrencyCode))
+                    .toList();
+        });
+
+        columnStore = new RateHistoryColumnStore(historyRepository);
+        chartSeriesStore = new ChartSeriesStore(columnStore);
+
+        // 차트 저장소가 항상 미적중인 서비스 → DB 조회 경로만 실행
+        ChartSeriesStore missingStore = mock(ChartSeriesStore.class);
+        databasePath = new ExchangeRateServiceImpl(mock(CommonValidator.class), historyRepository,
+                mock(ExchangeRateRepository.class), mock(RateSnapshotHolder.class), missingStore,
+                mock(IntradayTickStore.class));
+    }
+
+    @Test
+    void seriesMatchDatabasePathForEveryCurrencyAndWindow() {
+        generateHistories(LocalDate.now());
+        columnStore.reload();
+
+        for (ExchangeList.ExchangeType type : ExchangeList.ExchangeType.values()) {
+            for (int window : WINDOWS) {
+                assertSameSeries(chartSeriesStore.getSeries(type.getCode(), window),
+                        databasePath.getHistoricalExchangeRate(type.getCode(), window),
+                        type.getCode() + " " + window + "일");
+            }
+        }
+
+        // 최근 20일만 있는 통화는 긴 기간이 최근 7일 데이터로 대체됨
+        String recentOnly = ExchangeList.ExchangeType.values()[2].getCode();
+        List<ExchangeChartResponseDTO> week = chartSeriesStore.getSeries(recentOnly, 7);
+        assertThat(week).isNotEmpty();
+        assertSameSeries(chartSeriesStore.getSeries(recentOnly, 365), week, recentOnly + " 365일 대체");
+    }
+
+    @Test
+    void downsampledSeriesMatchDownsampledDatabasePath() {
+        generateHistories(LocalDate.now());
+        columnStore.reload();
+
+        for (ExchangeList.ExchangeType type : ExchangeList.ExchangeType.values()) {
+            for (int window : WINDOWS) {
+                for (int points : new int[]{2, 10, 50, 500}) {
+                    List<ExchangeChartResponseDTO> expected = ChartSeriesStore.downsample(
+                            databasePath.getHistoricalExchangeRate(type.getCode(), window), points);
+                    String description = type.getCode() + " " + window + "일 " + points + "점";
+
+                    assertSameSeries(chartSeriesStore.getSeries(type.getCode(), window, points), expected, description);
+                    // 캐시된 결과도 같은 내용
+                    assertSameSeries(chartSeriesStore.getSeries(type.getCode(), window, points), expected, description);
+                }
+            }
+        }
+    }
+
+    @Test
+    void appendedHistoryIsReflectedInSeries() {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        generateHistories(yesterday.minusDays(1));
+        columnStore.reload();
+        long version = chartSeriesStore.getVersion();
+
+        // 어제 날짜 히스토리 저장 후 하루치 추가 이벤트로 반영
+        for (ExchangeList.ExchangeType type : ExchangeList.ExchangeType.values()) {
+            histories.add(history(type.getCode(), yesterday, new BigDecimal("1400.1234")));
+        }
+        columnStore.onExchangeRateDataChanged(ExchangeRateDataChangedEvent.historyAppended(yesterday));
+
+        assertThat(chartSeriesStore.getVersion()).isNotEqualTo(version);
+        for (ExchangeList.ExchangeType type : ExchangeList.ExchangeType.values()) {
+            for (int window : WINDOWS) {
+                assertSameSeries(chartSeriesStore.getSeries(type.getCode(), window),
+                        databasePath.getHistoricalExchangeRate(type.getCode(), window),
+                        type.getCode() + " " + window + "일 (추가 후)");
+            }
+        }
+    }
+
+    @Test
+    void unsupportedWindowAndUnloadedStoreReturnNull() {
+        generateHistories(LocalDate.now());
+
+        // 적재 전 → 저장소 미적중 (DB 조회로 대체)
+        assertThat(chartSeriesStore.getSeries("USD", 30)).isNull();
+        assertThat(chartSeriesStore.getVersion()).isZero();
+
+        columnStore.reload();
+        assertThat(chartSeriesStore.getSeries("USD", 30)).isNotNull();
+        // 미리 계산하지 않는 기간/지원하지 않는 통화 → 미적중
+        assertThat(chartSeriesStore.getSeries("USD", 14)).isNull();
+        assertThat(chartSeriesStore.getSeries("XXX", 30)).isNull();
+    }
+
+    /**
+     * 통화별로 다른 패턴의 히스토리 생성 (DB 컬럼과 같은 소수 4자리)
+     * - 매일 (주말 포함), 무작위 누락, 최근 20일만 (긴 기간은 7일 대체), 데이터 없음
+     */
+    private void generateHistories(LocalDate lastDate) {
+        Random random = new Random(SEED);
+        ExchangeList.ExchangeType[] types = ExchangeList.ExchangeType.values();
+        for (int index = 0; index < types.length; index++) {
+            String currencyCode = types[index].getCode();
+            int pattern = index % 4;
+            if (pattern == 3) {
+                continue;
+            }
+            int days = pattern == 2 ? 20 : HISTORY_DAYS;
+            long rate = 10_000L + random.nextInt(20_000_000);
+            for (int offset = days; offset >= 0; offset--) {
+                rate = Math.max(1L, rate + random.nextInt(20_001) - 10_000);
+                if (pattern == 1 && random.nextInt(10) < 3) {
+                    continue;
+                }
+                histories.add(history(currencyCode, lastDate.minusDays(offset), BigDecimal.valueOf(rate, 4)));
+            }
+        }
+    }
+
+    private static ExchangeRateHistory history(String currencyCode, LocalDate baseDate, BigDecimal exchangeRate) {
+        return ExchangeRateHistory.builder()
+                .currencyCode(currencyCode)
+                .currencyName(currencyCode)
+                .exchangeRate(exchangeRate)
+                .baseDate(baseDate)
+                .build();
+    }
+
+    /**
+     * 차트 응답 비교 (기준일, 환율 값/scale, 타임스탬프)
+     */
+    private static void assertSameSeries(List<ExchangeChartResponseDTO> actual, List<ExchangeChartResponseDTO> expected,
+                                         String description) {
+        assertThat(actual).as(description).isNotNull();
+        assertThat(actual).as(description).hasSameSizeAs(expected);
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(actual.get(i).getDate()).as("%s [%d] date", description, i).isEqualTo(expected.get(i).getDate());
+            assertThat(actual.get(i).getRate()).as("%s [%d] rate", description, i).isEqualTo(expected.get(i).getRate());
+            assertThat(actual.get(i).getTimestamp()).as("%s [%d] timestamp", description, i)
+                    .isEqualTo(expected.get(i).getTimestamp());
+        }
+    }
+}